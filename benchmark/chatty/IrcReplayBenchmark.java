@@ -0,0 +1,132 @@
+
+package chatty;
+
+import chatty.util.irc.IrcLineReader;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Replays IRC traffic through reading the lines and {@link Irc#received}, the
+ * way {@link Connection} does, once with the previous char by char reading and
+ * once with the {@link IrcLineReader}.
+ *
+ * <p>
+ * Recorded traffic (raw lines as received, CRLF separated) can be used by
+ * setting the "chatty.replay" system property to the file path, otherwise
+ * Twitch-like chat messages are generated.
+ * </p>
+ *
+ * @author tduva
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IrcReplayBenchmark {
+
+    private byte[] data;
+    private Irc irc;
+
+    @Setup
+    public void setup() throws IOException {
+        String file = System.getProperty("chatty.replay");
+        if (file != null) {
+            data = Files.readAllBytes(Paths.get(file));
+        }
+        else {
+            data = generate(10000);
+        }
+        irc = new Irc("replay") {
+
+            @Override
+            public void debug(String line) {
+                // Don't output anything
+            }
+        };
+    }
+
+    private static byte[] generate(int count) {
+        Random random = new Random(1);
+        String[] words = {"Kappa", "LUL", "hello", "chat", "äöü", "😀", "PogChamp", "what", "is", "this"};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < count; i++) {
+            StringBuilder b = new StringBuilder();
+            String user = "user" + random.nextInt(1000);
+            b.append("@badge-info=;badges=subscriber/12;color=#FF0000;display-name=").append(user);
+            b.append(";emotes=;flags=;id=").append(i).append("-a1b2c3d4;mod=0;room-id=12345");
+            b.append(";subscriber=1;tmi-sent-ts=").append(1600000000000L + i);
+            b.append(";turbo=0;user-id=").append(random.nextInt(1000000)).append(";user-type= :");
+            b.append(user).append("!").append(user).append("@").append(user).append(".tmi.twitch.tv");
+            b.append(" PRIVMSG #channel :");
+            int length = 1 + random.nextInt(20);
+            for (int w = 0; w < length; w++) {
+                b.append(words[random.nextInt(words.length)]).append(" ");
+            }
+            b.append("\r\n");
+            byte[] line = b.toString().getBytes(StandardCharsets.UTF_8);
+            out.write(line, 0, line.length);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public int charReader() throws IOException {
+        BufferedReader in = new BufferedReader(new InputStreamReader(
+                new ByteArrayInputStream(data), StandardCharsets.UTF_8));
+        StringBuilder b = new StringBuilder();
+        boolean previousWasCR = false;
+        int count = 0;
+        int c;
+        while ((c = in.read()) != -1) {
+            if (c == '\r') {
+                previousWasCR = true;
+            }
+            else if (c == '\n') {
+                if (previousWasCR) {
+                    irc.received(b.toString());
+                    b.setLength(0);
+                    previousWasCR = false;
+                    count++;
+                }
+            }
+            else {
+                b.append((char) c);
+                previousWasCR = false;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int lineReader() throws IOException {
+        IrcLineReader reader = new IrcLineReader(new ByteArrayInputStream(data));
+        int count = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            irc.received(line);
+            count++;
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,150 @@
+
+package chatty.gui;
+
+import chatty.Room;
+import chatty.User;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javax.swing.AbstractListModel;
+import javax.swing.JList;
+import javax.swing.ListModel;
+import javax.swing.SwingUtilities;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Joins a number of users to a userlist (like when the NAMES are received for
+ * a large channel) and then parts half of them, comparing the UserlistModel
+ * with the previous implementation (one sorted insert/indexOf and event per
+ * user).
+ *
+ * <p>
+ * The model is shown in a JList, so the list UI and selection model also
+ * process the events. Everything runs on the EDT, like in the program, so the
+ * batched model is only flushed when requested.
+ * </p>
+ *
+ * @author tduva
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class UserlistBenchmark {
+
+    @Param({"5000", "50000"})
+    public int users;
+
+    private List<User> join;
+    private List<User> part;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        join = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            User user = new User("user" + Integer.toString(random.nextInt(Integer.MAX_VALUE), 36) + i, Room.EMPTY);
+            // Some users with status, sorted before the others
+            if (i % 50 == 0) {
+                user.setModerator(true);
+            }
+            join.add(user);
+        }
+        part = new ArrayList<>(join);
+        Collections.shuffle(part, random);
+        part = part.subList(0, users / 2);
+    }
+
+    @Benchmark
+    public int batched() throws Exception {
+        int[] result = new int[1];
+        SwingUtilities.invokeAndWait(() -> {
+            UserlistModel<User> model = new UserlistModel<>();
+            JList<User> list = new JList<>(model);
+            for (User user : join) {
+                model.add(user);
+            }
+            model.flush();
+            for (User user : part) {
+                model.remove(user);
+            }
+            model.flush();
+            result[0] = size(list);
+        });
+        return result[0];
+    }
+
+    @Benchmark
+    public int previous() throws Exception {
+        int[] result = new int[1];
+        SwingUtilities.invokeAndWait(() -> {
+            PreviousModel<User> model = new PreviousModel<>();
+            JList<User> list = new JList<>(model);
+            for (User user : join) {
+                model.add(user);
+            }
+            for (User user : part) {
+                model.remove(user);
+            }
+            result[0] = size(list);
+        });
+        return result[0];
+    }
+
+    private static int size(JList<User> list) {
+        ListModel<User> model = list.getModel();
+        return model.getSize() + list.getPreferredScrollableViewportSize().height;
+    }
+
+    /**
+     * The UserlistModel before changes were batched.
+     */
+    private static class PreviousModel<T extends Comparable<T>> extends AbstractListModel<T> {
+
+        private final ArrayList<T> data = new ArrayList<>();
+
+        @Override
+        public int getSize() {
+            return data.size();
+        }
+
+        @Override
+        public T getElementAt(int index) {
+            return data.get(index);
+        }
+
+        public void add(T item) {
+            int insertionPoint = Collections.binarySearch(data, item, null);
+            if (insertionPoint < 0) {
+                insertionPoint = -(insertionPoint + 1);
+            }
+            data.add(insertionPoint, item);
+            super.fireIntervalAdded(this, insertionPoint, insertionPoint);
+        }
+
+        public void remove(T item) {
+            int index = data.indexOf(item);
+            if (index == -1) {
+                return;
+            }
+            data.remove(index);
+            super.fireIntervalRemoved(this, index, index);
+        }
+
+    }
+
+}
@@ -0,0 +1,176 @@
+
+package chatty.gui.components.textpane;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.swing.ImageIcon;
+import javax.swing.JTextPane;
+import javax.swing.SwingUtilities;
+import javax.swing.text.AttributeSet;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.SimpleAttributeSet;
+import javax.swing.text.StyleConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Prints emote-heavy chat lines (timestamp, badges, name and text with 20
+ * emotes) into a text pane with the chat EditorKit and Document, comparing
+ * inserting each part separately (like ChannelTextPane did before) with adding
+ * each line with a LineBatch.
+ *
+ * <p>
+ * A ChannelTextPane itself requires the MainGui, so this only uses the same
+ * Document, EditorKit (and thus Views) and the same kind of attributes. The
+ * pane has a size and the layout is updated after each line, like it would be
+ * when it's shown. Runs on the EDT, like in the program.
+ * </p>
+ *
+ * @author tduva
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class LineInsertBenchmark {
+
+    @Param({"500"})
+    public int messages;
+
+    private final List<List<Part>> lines = new ArrayList<>();
+    private final SimpleAttributeSet paragraph = new SimpleAttributeSet();
+    private final SimpleAttributeSet lineAttributes = new SimpleAttributeSet();
+
+    @Setup
+    public void setup() {
+        SimpleAttributeSet standard = new SimpleAttributeSet();
+        StyleConstants.setForeground(standard, java.awt.Color.BLACK);
+        SimpleAttributeSet name = new SimpleAttributeSet(standard);
+        StyleConstants.setBold(name, true);
+        StyleConstants.setLineSpacing(paragraph, 0.2f);
+        lineAttributes.addAttribute(ChannelTextPane.Attribute.EVEN, true);
+
+        ImageIcon[] emotes = new ImageIcon[8];
+        for (int i = 0; i < emotes.length; i++) {
+            emotes[i] = new ImageIcon(new BufferedImage(28, 28, BufferedImage.TYPE_INT_ARGB));
+        }
+        ImageIcon badge = new ImageIcon(new BufferedImage(18, 18, BufferedImage.TYPE_INT_ARGB));
+        for (int i = 0; i < messages; i++) {
+            List<Part> line = new ArrayList<>();
+            line.add(new Part("[12:34] ", standard));
+            line.add(new Part("b", icon(standard, badge)));
+            line.add(new Part("b", icon(standard, badge)));
+            line.add(new Part("user" + i, name));
+            line.add(new Part(":", name));
+            for (int j = 0; j < 20; j++) {
+                line.add(new Part(" ", standard));
+                line.add(new Part("Emote" + (j % emotes.length), icon(standard, emotes[j % emotes.length])));
+            }
+            line.add(new Part(" and some text at the end", standard));
+            lines.add(line);
+        }
+    }
+
+    private static AttributeSet icon(AttributeSet base, ImageIcon icon) {
+        SimpleAttributeSet attr = new SimpleAttributeSet(base);
+        StyleConstants.setIcon(attr, icon);
+        return attr;
+    }
+
+    /**
+     * Each part inserted separately, with the paragraph attributes set after
+     * each part.
+     *
+     * @return
+     * @throws Exception
+     */
+    @Benchmark
+    public int perPart() throws Exception {
+        return run((doc, pane) -> {
+            boolean newline = false;
+            for (List<Part> line : lines) {
+                for (Part part : line) {
+                    doc.insertString(doc.getLength(), (newline ? "\n" : "") + part.text, part.style);
+                    doc.setParagraphAttributes(doc.getLength(), 1, paragraph, true);
+                    newline = false;
+                }
+                doc.setParagraphAttributes(doc.getLength() - 1, 1, lineAttributes, false);
+                newline = true;
+                pane.getPreferredSize();
+            }
+        });
+    }
+
+    /**
+     * Each line added in a single edit.
+     *
+     * @return
+     * @throws Exception
+     */
+    @Benchmark
+    public int batched() throws Exception {
+        return run((doc, pane) -> {
+            LineBatch batch = new LineBatch();
+            boolean newline = false;
+            for (List<Part> line : lines) {
+                for (Part part : line) {
+                    batch.add((newline ? "\n" : "") + part.text, part.style, paragraph);
+                    newline = false;
+                }
+                batch.addParagraphAttributes(lineAttributes);
+                batch.apply(doc);
+                newline = true;
+                pane.getPreferredSize();
+            }
+        });
+    }
+
+    private int run(Printer printer) throws Exception {
+        int[] result = new int[1];
+        SwingUtilities.invokeAndWait(() -> {
+            JTextPane pane = new JTextPane();
+            pane.setEditorKit(new MyEditorKit(true));
+            MyDocument doc = new MyDocument();
+            pane.setDocument(doc);
+            pane.setSize(600, 400);
+            try {
+                printer.print(doc, pane);
+            }
+            catch (BadLocationException ex) {
+                throw new RuntimeException(ex);
+            }
+            result[0] = doc.getLength() + pane.getPreferredSize().height;
+        });
+        return result[0];
+    }
+
+    private interface Printer {
+        void print(MyDocument doc, JTextPane pane) throws BadLocationException;
+    }
+
+    private static class Part {
+
+        final String text;
+        final AttributeSet style;
+
+        Part(String text, AttributeSet style) {
+            this.text = text;
+            this.style = style;
+        }
+
+    }
+
+}
@@ -0,0 +1,119 @@
+
+package chatty.gui.components.textpane;
+
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JScrollPane;
+import javax.swing.JTextPane;
+import javax.swing.SwingUtilities;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.SimpleAttributeSet;
+import javax.swing.text.StyleConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time for one frame when resizing the chat with a large buffer: the text
+ * pane in a scroll pane (scrolled to the bottom) gets a different width, is
+ * laid out and the visible area is painted.
+ *
+ * <p>
+ * With lazy layout only lines near the visible area are wrapped again,
+ * otherwise all lines are. Memory use is the same either way.
+ * </p>
+ *
+ * @author tduva
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResizeBenchmark {
+
+    @Param({"20000"})
+    public int lines;
+
+    @Param({"true", "false"})
+    public boolean lazy;
+
+    private JTextPane pane;
+    private JScrollPane scroll;
+    private BufferedImage image;
+    private int resizes;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            pane = new JTextPane();
+            pane.setEditorKit(new MyEditorKit(true, lazy));
+            MyDocument doc = new MyDocument();
+            SimpleAttributeSet standard = new SimpleAttributeSet();
+            SimpleAttributeSet name = new SimpleAttributeSet();
+            StyleConstants.setBold(name, true);
+            SimpleAttributeSet paragraph = new SimpleAttributeSet();
+            StyleConstants.setLineSpacing(paragraph, 0.2f);
+            LineBatch batch = new LineBatch();
+            for (int i = 0; i < lines; i++) {
+                String newline = i > 0 ? "\n" : "";
+                batch.add(newline + "[12:34] ", standard, paragraph);
+                batch.add("user" + (i % 100), name, paragraph);
+                batch.add(": this is chat message number " + i
+                        + " which is long enough to be wrapped into more than one row when the chat is narrow", standard, paragraph);
+                try {
+                    batch.apply(doc);
+                }
+                catch (BadLocationException ex) {
+                    throw new RuntimeException(ex);
+                }
+            }
+            pane.setDocument(doc);
+            scroll = new JScrollPane(pane);
+            setWidth(600);
+            image = new BufferedImage(600, 400, BufferedImage.TYPE_INT_RGB);
+        });
+    }
+
+    @Benchmark
+    public int resize() throws Exception {
+        int[] result = new int[1];
+        SwingUtilities.invokeAndWait(() -> {
+            resizes++;
+            setWidth(resizes % 2 == 0 ? 600 : 450);
+            Rectangle visible = pane.getVisibleRect();
+            Graphics2D g = image.createGraphics();
+            g.translate(-visible.x, -visible.y);
+            g.setClip(visible);
+            pane.paint(g);
+            g.dispose();
+            result[0] = pane.getHeight();
+        });
+        return result[0];
+    }
+
+    /**
+     * Not shown, so layout the scroll pane and viewport manually.
+     */
+    private void setWidth(int width) {
+        scroll.setSize(width, 400);
+        scroll.doLayout();
+        scroll.getViewport().doLayout();
+        // Scroll down
+        scroll.getViewport().setViewPosition(new Point(0, pane.getHeight() - scroll.getViewport().getHeight()));
+    }
+
+}
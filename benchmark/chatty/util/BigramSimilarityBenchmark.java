@@ -0,0 +1,96 @@
+
+package chatty.util;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a new message to a user's previous messages, like the repeated
+ * message detection does, using the String based similarity methods (which
+ * prepare the text and create the bigrams for every comparison) and the
+ * signatures (which are created once per message).
+ *
+ * @author tduva
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BigramSimilarityBenchmark {
+
+    private static final char[] IGNORED_CHARS = new char[0];
+
+    @Param({"1", "2"})
+    public int method;
+
+    @Param({"100", "500"})
+    public int lines;
+
+    private String message;
+    private String[] previous;
+    private BigramSignature[] previousSignatures;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1);
+        message = createMessage(random);
+        previous = new String[lines];
+        previousSignatures = new BigramSignature[lines];
+        for (int i = 0; i < lines; i++) {
+            // Mix of similar and different messages
+            previous[i] = i % 2 == 0 ? message + " " + i : createMessage(random);
+            previousSignatures[i] = new BigramSignature(
+                    StringUtil.prepareForSimilarityComparison(previous[i], IGNORED_CHARS));
+        }
+    }
+
+    private static String createMessage(Random random) {
+        String[] words = {"Kappa", "LUL", "hello", "spam", "this", "is", "a", "message", "PogChamp", "!!!"};
+        StringBuilder b = new StringBuilder();
+        int count = 5 + random.nextInt(20);
+        for (int i = 0; i < count; i++) {
+            b.append(words[random.nextInt(words.length)]).append(" ");
+        }
+        return b.toString();
+    }
+
+    @Benchmark
+    public int strings() {
+        String compare = StringUtil.prepareForSimilarityComparison(message, IGNORED_CHARS);
+        int result = 0;
+        for (String line : previous) {
+            String text = StringUtil.prepareForSimilarityComparison(line, IGNORED_CHARS);
+            if (StringUtil.checkSimilarity(compare, text, 0.8f, method) > 0) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int signatures() {
+        BigramSignature compare = new BigramSignature(
+                StringUtil.prepareForSimilarityComparison(message, IGNORED_CHARS));
+        int result = 0;
+        for (BigramSignature line : previousSignatures) {
+            if (compare.checkSimilarity(line, 0.8f, method) > 0) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+}
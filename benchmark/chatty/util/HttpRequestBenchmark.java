@@ -0,0 +1,121 @@
+
+package chatty.util;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Requests a gzipped JSON response from a local HTTP server, comparing a
+ * HttpURLConnection that is disconnected afterwards (like the requests did
+ * before) with the SharedHttpClient.
+ *
+ * <p>
+ * Since the response is read completely and the stream closed before
+ * disconnecting, the HttpURLConnection is also kept alive by the JDK in most
+ * cases, so this mostly shows the overhead of the respective client.
+ * SharedHttpClient.getStats() shows how many requests reused a connection.
+ * </p>
+ *
+ * @author tduva
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HttpRequestBenchmark {
+
+    private HttpServer server;
+    private String url;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        StringBuilder json = new StringBuilder("{\"data\":[");
+        for (int i = 0; i < 200; i++) {
+            json.append(i > 0 ? "," : "").append("{\"id\":\"").append(i)
+                    .append("\",\"user_login\":\"user").append(i)
+                    .append("\",\"title\":\"Some stream title\",\"viewer_count\":").append(i * 10).append("}");
+        }
+        json.append("]}");
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(json.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] body = compressed.toByteArray();
+
+        // Otherwise each response is delayed by Nagle's algorithm
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/helix/streams";
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public int urlConnection() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        try {
+            connection.setRequestProperty("Accept-Encoding", "gzip");
+            InputStream input = connection.getInputStream();
+            if ("gzip".equals(connection.getContentEncoding())) {
+                input = new GZIPInputStream(input);
+            }
+            StringBuilder b = new StringBuilder();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    b.append(line);
+                }
+            }
+            return b.length();
+        }
+        finally {
+            connection.disconnect();
+        }
+    }
+
+    @Benchmark
+    public int sharedClient() throws IOException {
+        return SharedHttpClient.execute(new HttpGet(url), 10000, 10000, (response, encoding) -> {
+            return SharedHttpClient.readText(response).length();
+        });
+    }
+
+}
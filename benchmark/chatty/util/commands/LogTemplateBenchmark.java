@@ -0,0 +1,87 @@
+
+package chatty.util.commands;
+
+import chatty.Room;
+import chatty.User;
+import chatty.util.Timestamp;
+import chatty.util.chatlog.ChatLog;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Formats chat log lines like ChatLog.message() does, using the default
+ * "logMessageTemplate" and "logTimestamp" settings, in log lines per second.
+ *
+ * @author tduva
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogTemplateBenchmark {
+
+    @Param({"$if(timestamp,$(timestamp) )<$(full-nick2)>$if(action,*) $(msg)"})
+    public String template;
+
+    private CustomCommand command;
+    private boolean hasTimestamp;
+    private Timestamp timestamp;
+    private User[] users;
+    private String[] messages;
+    private int i;
+
+    @Setup
+    public void setup() {
+        command = CustomCommand.parse(template);
+        hasTimestamp = command.getIdentifiersWithPrefix("").contains("timestamp");
+        timestamp = new Timestamp("[yyyy-MM-dd HH:mm:ss]", "");
+        Room room = Room.createRegular("#channel");
+        users = new User[16];
+        for (int j = 0; j < users.length; j++) {
+            users[j] = new User("user" + j, room);
+            if (j % 4 == 0) {
+                users[j].setDisplayNick("User" + j);
+            }
+            if (j % 8 == 0) {
+                users[j].setModerator(true);
+            }
+        }
+        messages = new String[]{
+            "Hello World",
+            "this is a somewhat longer chat message with a few more words in it",
+            "Kappa",
+            "!command argument"
+        };
+    }
+
+    /**
+     * Creating Parameters and running the CustomCommand for every line.
+     *
+     * @return
+     */
+    @Benchmark
+    public String format() {
+        i++;
+        User user = users[i & 15];
+        String timestampValue = null;
+        if (hasTimestamp) {
+            timestampValue = timestamp.make(-1, user.getRoom());
+        }
+        Parameters param = ChatLog.messageParam(user, messages[i & 3],
+                i % 10 == 0, null, timestampValue);
+        return command.replace(param);
+    }
+
+}
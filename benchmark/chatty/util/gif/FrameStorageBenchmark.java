@@ -0,0 +1,101 @@
+
+package chatty.util.gif;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Advances an animated emote frame by frame, like AnimatedImageSource does,
+ * with the frames stored in the different modes.
+ *
+ * <p>
+ * The result is the time per frame, so the CPU time per second for one emote
+ * is that multiplied by the frames per second (e.g. 20 for a delay of 50ms).
+ * The number of bytes the emote is stored in is output during setup.
+ * </p>
+ *
+ * @author tduva
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrameStorageBenchmark {
+
+    @Param({"RAW", "DELTA", "PNG"})
+    public String mode;
+
+    @Param({"28", "112"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean cache;
+
+    private ListAnimatedImage image;
+    private int[] pixels;
+    private int frame;
+
+    @Setup
+    public void setup() throws IOException {
+        DecodedFrameCache.setBudget(cache ? 16*1024*1024 : 0);
+        int frameCount = 30;
+        FrameEncoder encoder = new FrameEncoder(FrameEncoder.Mode.valueOf(mode), size, size);
+        List<ListAnimatedImageFrame> frames = new ArrayList<>();
+        long bytes = 0;
+        for (int i = 0; i < frameCount; i++) {
+            ListAnimatedImageFrame f = encoder.encode(createFrame(i, frameCount), 50);
+            bytes += f.getCompressedSize();
+            frames.add(f);
+        }
+        image = new ListAnimatedImage(frames, size, size, "benchmark");
+        pixels = new int[size * size];
+        System.out.println(String.format("%s %dx%d: %d bytes per emote (%d uncompressed)",
+                mode, size, size, bytes, size * size * 4 * frameCount));
+    }
+
+    /**
+     * A rotating line on a transparent background, with a static circle.
+     */
+    private BufferedImage createFrame(int index, int frameCount) {
+        BufferedImage result = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = result.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setColor(Color.ORANGE);
+        g.fillOval(size / 8, size / 8, size * 3 / 4, size * 3 / 4);
+        g.setColor(Color.BLUE);
+        g.setStroke(new BasicStroke(Math.max(1, size / 14f)));
+        double angle = 2 * Math.PI * index / frameCount;
+        int c = size / 2;
+        g.drawLine(c, c, c + (int) (Math.cos(angle) * c), c + (int) (Math.sin(angle) * c));
+        g.dispose();
+        return result;
+    }
+
+    @Benchmark
+    public int nextFrame() throws Exception {
+        frame = (frame + 1) % image.getFrameCount();
+        image.getFrame(frame, pixels);
+        return pixels[0];
+    }
+
+}
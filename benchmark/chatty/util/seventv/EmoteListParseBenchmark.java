@@ -0,0 +1,130 @@
+
+package chatty.util.seventv;
+
+import chatty.util.api.Emoticon;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses a 7TV channel emote list (in the format of the v3 API user response)
+ * from the response bytes, comparing reading it into a String and parsing the
+ * whole document (like before) with parsing the emotes while reading.
+ *
+ * <p>
+ * The payload is made up of copies of an emote like it is returned by the
+ * API. Run with "-prof gc" to see the allocation per payload
+ * (gc.alloc.rate.norm).
+ * </p>
+ *
+ * @author tduva
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmoteListParseBenchmark {
+
+    private static final String EMOTE = "{\"id\":\"60ae958e229664e8667a%04d\",\"name\":\"emote%d\",\"flags\":0,\"timestamp\":1622000000000,\"actor_id\":null,"
+            + "\"data\":{\"id\":\"60ae958e229664e8667a%04d\",\"name\":\"emote%d\",\"flags\":0,\"tags\":[\"tag\"],\"lifecycle\":3,\"state\":[\"LISTED\",\"PERSONAL\"],\"listed\":true,\"animated\":false,"
+            + "\"owner\":{\"id\":\"60867b015e01df61570ab900\",\"username\":\"emoteauthor\",\"display_name\":\"EmoteAuthor\",\"avatar_url\":\"//cdn.7tv.app/user/60867b015e01df61570ab900/avatar.webp\",\"style\":{\"color\":-5635841,\"paint_id\":null},\"roles\":[\"62b48deb791a15a25c2a0354\",\"6076a86b09a4c63a38ebe801\"]},"
+            + "\"host\":{\"url\":\"//cdn.7tv.app/emote/60ae958e229664e8667a%04d\",\"files\":["
+            + "{\"name\":\"1x.avif\",\"static_name\":\"1x_static.avif\",\"width\":28,\"height\":28,\"frame_count\":1,\"size\":1034,\"format\":\"AVIF\"},"
+            + "{\"name\":\"1x.webp\",\"static_name\":\"1x_static.webp\",\"width\":28,\"height\":28,\"frame_count\":1,\"size\":1196,\"format\":\"WEBP\"},"
+            + "{\"name\":\"2x.avif\",\"static_name\":\"2x_static.avif\",\"width\":56,\"height\":56,\"frame_count\":1,\"size\":2214,\"format\":\"AVIF\"},"
+            + "{\"name\":\"2x.webp\",\"static_name\":\"2x_static.webp\",\"width\":56,\"height\":56,\"frame_count\":1,\"size\":2814,\"format\":\"WEBP\"},"
+            + "{\"name\":\"3x.avif\",\"static_name\":\"3x_static.avif\",\"width\":84,\"height\":84,\"frame_count\":1,\"size\":3480,\"format\":\"AVIF\"},"
+            + "{\"name\":\"3x.webp\",\"static_name\":\"3x_static.webp\",\"width\":84,\"height\":84,\"frame_count\":1,\"size\":4610,\"format\":\"WEBP\"},"
+            + "{\"name\":\"4x.avif\",\"static_name\":\"4x_static.avif\",\"width\":112,\"height\":112,\"frame_count\":1,\"size\":4812,\"format\":\"AVIF\"},"
+            + "{\"name\":\"4x.webp\",\"static_name\":\"4x_static.webp\",\"width\":112,\"height\":112,\"frame_count\":1,\"size\":6662,\"format\":\"WEBP\"}]}},"
+            + "\"origin_id\":null}";
+
+    @Param({"1000"})
+    public int emotes;
+
+    private byte[] payload;
+
+    @Setup
+    public void setup() {
+        StringBuilder b = new StringBuilder();
+        b.append("{\"id\":\"01F0VN1T3G000C1F8EB0X9GR8S\",\"platform\":\"TWITCH\",\"username\":\"somechannel\",\"emote_capacity\":1000,");
+        b.append("\"emote_set\":{\"id\":\"60b3f5a8b3b5b1c2e1d2c3a4\",\"name\":\"Emotes\",\"flags\":0,\"tags\":[],\"emotes\":[");
+        for (int i = 0; i < emotes; i++) {
+            if (i > 0) {
+                b.append(",");
+            }
+            b.append(String.format(EMOTE, i, i, i, i, i));
+        }
+        b.append("],\"emote_count\":").append(emotes).append("},\"user\":{\"id\":\"01F0VN1T3G000C1F8EB0X9GR8S\",\"username\":\"somechannel\"}}");
+        payload = b.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reading the response into a String like UrlRequest does, then parsing
+     * the whole document.
+     *
+     * @return
+     * @throws IOException
+     * @throws ParseException
+     */
+    @Benchmark
+    public Set<Emoticon> document() throws IOException, ParseException {
+        StringBuilder b = new StringBuilder();
+        try (BufferedReader reader = reader()) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                b.append(line).append("\n");
+            }
+        }
+        Set<Emoticon> result = new HashSet<>();
+        JSONObject root = (JSONObject) new JSONParser().parse(b.toString());
+        JSONObject set = (JSONObject) root.get("emote_set");
+        for (Object o : (JSONArray) set.get("emotes")) {
+            Emoticon emote = SevenTV.parseEmote("somechannel", (JSONObject) o);
+            if (emote != null) {
+                result.add(emote);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Parsing while reading the response.
+     *
+     * @return
+     * @throws IOException
+     */
+    @Benchmark
+    public Set<Emoticon> streamed() throws IOException {
+        try (BufferedReader reader = reader()) {
+            return SevenTV.parseEmoteList(SevenTV.Type.CHANNEL, "somechannel", reader);
+        }
+    }
+
+    private BufferedReader reader() {
+        return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(payload), StandardCharsets.UTF_8));
+    }
+
+}
@@ -1,6 +1,7 @@
 
 package chatty;
 
+import chatty.util.BatchAction;
 import chatty.util.FileWatcher;
 import chatty.util.MiscUtil;
 import chatty.util.StringUtil;
@@ -13,15 +14,18 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -30,6 +34,18 @@ import java.util.regex.Pattern;
  * This class stores {@code AddressbookEntry}s (which associate a username with
  * categories) and provides text commands and methods to modify/save/load those
  * entries.
+ * 
+ * <p>
+ * Changes are synchronized, while getting entries (e.g. when checking the
+ * categories of a user for every message) can happen concurrently without
+ * locking. Entries are immutable and a category index is kept, so names with a
+ * category can be retrieved without going through all entries.
+ * </p>
+ * 
+ * <p>
+ * When saving to file on change is enabled, changes are appended to a journal
+ * file, which is compacted into the regular addressbook file shortly after.
+ * </p>
  *
  * @author tduva
  */
@@ -41,12 +57,36 @@ public class Addressbook {
     
     private static final String SETTING_NAME = "abEntries";
     
+    /**
+     * How long after a change the journal is compacted into the addressbook
+     * file (in milliseconds).
+     */
+    private static final long COMPACT_DELAY = 30*1000;
+    
     private final Settings settings;
     
     /**
-     * Map of entries.
+     * Map of entries. Only changed while synchronized on this, but may be read
+     * concurrently.
+     */
+    private final Map<String, AddressbookEntry> entries = new ConcurrentHashMap<>();
+    
+    /**
+     * Names of the entries for each category, updated together with the
+     * entries.
+     */
+    private final Map<String, Set<String>> namesByCategory = new ConcurrentHashMap<>();
+    
+    /**
+     * Names of entries that were changed, but not written to the journal yet.
+     */
+    private final Set<String> unsavedChanges = new LinkedHashSet<>();
+    
+    /**
+     * Whether the entries have changed since they were last put into the
+     * settings (initially true, so they are always put in at least once).
      */
-    private final Map<String, AddressbookEntry> entries = new HashMap<>();
+    private boolean changedSinceSettings = true;
     
     /**
      * Each category that appears in any of the entries should be collected here
@@ -67,9 +107,16 @@ public class Addressbook {
      */
     private final String importFileName;
     
+    /**
+     * The complete path and name of the file changes are appended to, until
+     * they are written to the regular file.
+     */
+    private final String journalFileName;
+    
     public Addressbook(String fileName, String importFilename, Settings settings) {
         this.fileName = fileName;
         this.importFileName = importFilename;
+        this.journalFileName = fileName+"-journal";
         this.settings = settings;
         if (settings != null) {
             settings.addSettingsListener(new SettingsListener() {
@@ -429,7 +476,7 @@ public class Addressbook {
         } else {
             AddressbookEntry currentEntry = entries.get(name);
             AddressbookEntry changedEntry = new AddressbookEntry(currentEntry, categories);
-            entries.put(name, changedEntry);
+            putEntry(changedEntry);
             if (!changedEntry.equalsFully(currentEntry)) {
                 saveOnChange();
             }
@@ -456,7 +503,7 @@ public class Addressbook {
      */
     public synchronized void set(AddressbookEntry entry) {
         addPresetCategories(entry.getCategories());
-        AddressbookEntry previousEntry = entries.put(entry.getName(), entry);
+        AddressbookEntry previousEntry = putEntry(entry);
         if (!entry.equalsFully(previousEntry)) {
             saveOnChange();
         }
@@ -478,7 +525,7 @@ public class Addressbook {
      * @return The entry that was removed.
      */
     public synchronized AddressbookEntry remove(String name) {
-        AddressbookEntry removedEntry = entries.remove(StringUtil.toLowerCase(name));
+        AddressbookEntry removedEntry = removeEntry(StringUtil.toLowerCase(name));
         if (removedEntry != null) {
             saveOnChange();
         }
@@ -505,7 +552,7 @@ public class Addressbook {
                 currentCategories.remove(category);
             }
             AddressbookEntry changedEntry = new AddressbookEntry(name, currentCategories);
-            entries.put(name, changedEntry);
+            putEntry(changedEntry);
             if (!currentEntry.equalsFully(changedEntry)) {
                 saveOnChange();
             }
@@ -522,7 +569,7 @@ public class Addressbook {
      * @param entry 
      */
     public synchronized void rename(String name, AddressbookEntry entry) {
-        entries.remove(StringUtil.toLowerCase(name));
+        removeEntry(StringUtil.toLowerCase(name));
         set(entry);
     }
     
@@ -536,13 +583,11 @@ public class Addressbook {
      */
     public synchronized int renameCategory(String currentName, String newName) {
         int count = 0;
-        for (Map.Entry<String, AddressbookEntry> entry : entries.entrySet()) {
-            if (entry.getValue().hasCategory(currentName)) {
-                AddressbookEntry changedEntry
-                        = renameCategory(entry.getValue(), currentName, newName);
-                entry.setValue(changedEntry);
-                count++;
-            }
+        for (String name : getNamesByCategory(currentName)) {
+            AddressbookEntry changedEntry
+                    = renameCategory(entries.get(name), currentName, newName);
+            putEntry(changedEntry);
+            count++;
         }
         if (count > 0) {
             saveOnChange();
@@ -558,13 +603,11 @@ public class Addressbook {
      */
     public synchronized int removeCategory(String categoryName) {
         int count = 0;
-        for (Map.Entry<String, AddressbookEntry> entry : entries.entrySet()) {
-            if (entry.getValue().hasCategory(categoryName)) {
-                AddressbookEntry changedEntry
-                        = renameCategory(entry.getValue(), categoryName, null);
-                entry.setValue(changedEntry);
-                count++;
-            }
+        for (String name : getNamesByCategory(categoryName)) {
+            AddressbookEntry changedEntry
+                    = renameCategory(entries.get(name), categoryName, null);
+            putEntry(changedEntry);
+            count++;
         }
         if (count > 0) {
             saveOnChange();
@@ -599,7 +642,7 @@ public class Addressbook {
      * @return The <tt>AddressbookEntry</tt> or {@code null} if no entry for
      * this name exists.
      */
-    public synchronized AddressbookEntry get(String name) {
+    public AddressbookEntry get(String name) {
         return entries.get(StringUtil.toLowerCase(name));
     }
     
@@ -611,7 +654,7 @@ public class Addressbook {
      * @return true if an entry with the given name exists and has the given
      * category
      */
-    public synchronized boolean hasCategory(String name, String category) {
+    public boolean hasCategory(String name, String category) {
         AddressbookEntry entry = get(name);
         if (entry != null) {
             return entry.hasCategory(category);
@@ -619,14 +662,21 @@ public class Addressbook {
         return false;
     }
     
-    public synchronized Set<String> getNamesByCategory(String category) {
-        Set<String> result = new HashSet<>();
-        for (AddressbookEntry entry : entries.values()) {
-            if (entry.hasCategory(category)) {
-                result.add(entry.getName());
-            }
+    /**
+     * Get the names of all entries that have the given category.
+     * 
+     * @param category The category
+     * @return A new Set of names, may be empty
+     */
+    public Set<String> getNamesByCategory(String category) {
+        if (category == null) {
+            return new HashSet<>();
         }
-        return result;
+        Set<String> names = namesByCategory.get(StringUtil.toLowerCase(category));
+        if (names == null) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(names);
     }
     
     /**
@@ -634,7 +684,7 @@ public class Addressbook {
      * 
      * @return A list of all entries.
      */
-    public synchronized List<AddressbookEntry> getEntries() {
+    public List<AddressbookEntry> getEntries() {
         return new ArrayList<>(entries.values());
     }
     
@@ -712,7 +762,7 @@ public class Addressbook {
      * Loads the addressbook from file.
      */
     public synchronized void loadFromFile() {
-        entries.clear();
+        clearEntries();
         
         // DEBUG stuff
 //        for (int i=0;i<10000;i++) {
@@ -727,7 +777,7 @@ public class Addressbook {
                 line = reader.readLine();
                 AddressbookEntry parsedEntry = parseLine(line);
                 if (parsedEntry != null) {
-                    entries.put(parsedEntry.getName(), parsedEntry);
+                    putEntry(parsedEntry);
                 }
             } while (line != null);
         } catch (IOException ex) {
@@ -737,7 +787,58 @@ public class Addressbook {
             //LOGGER.log(Logging.USERINFO, "Error reading addressbook.");
         }
         LOGGER.info("Read "+entries.size()+" addressbook entries from "+fileName);
+        // Changes that haven't been written to the file yet
+        loadJournal();
         scanCategories();
+        unsavedChanges.clear();
+    }
+    
+    /**
+     * Apply the changes from the journal file, if it exists.
+     */
+    private void loadJournal() {
+        Path file = Paths.get(journalFileName);
+        if (!Files.exists(file)) {
+            return;
+        }
+        int count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, CHARSET)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (applyJournalLine(line)) {
+                    count++;
+                }
+            }
+        } catch (IOException ex) {
+            LOGGER.warning("Error reading addressbook journal: "+ex);
+        }
+        LOGGER.info("Applied "+count+" addressbook changes from "+journalFileName);
+    }
+    
+    /**
+     * Apply a single line from the journal file.
+     * 
+     * @param line The line in the form "<tt>set name cat1,cat2</tt>" or
+     * "<tt>remove name</tt>"
+     * @return true if the line was valid
+     */
+    private boolean applyJournalLine(String line) {
+        String[] split = line.split(" ", 2);
+        if (split.length != 2) {
+            return false;
+        }
+        if (split[0].equals("set")) {
+            AddressbookEntry entry = parseLine(split[1]);
+            if (entry != null) {
+                putEntry(entry);
+                return true;
+            }
+        }
+        else if (split[0].equals("remove")) {
+            removeEntry(StringUtil.toLowerCase(split[1].trim()));
+            return true;
+        }
+        return false;
     }
     
     public synchronized boolean loadFromSettings() {
@@ -745,19 +846,29 @@ public class Addressbook {
             LOGGER.info("Didn't load addressbook from settings");
             return false;
         }
-        entries.clear();
+        clearEntries();
         List values = settings.getList(SETTING_NAME);
         for (Object item : values) {
             if (item instanceof List) {
                 AddressbookEntry entry = listToEntry((List)item);
                 if (entry != null) {
-                    entries.put(entry.getName(), entry);
+                    putEntry(entry);
                 }
             }
         }
         LOGGER.info(String.format(Locale.ROOT, "Read %d addressbook entries from settings",
                 entries.size()));
         scanCategories();
+        unsavedChanges.clear();
+        changedSinceSettings = false;
+        if (Files.exists(Paths.get(journalFileName))
+                && settings.getBoolean("abSaveOnChange")) {
+            /**
+             * The journal wasn't compacted last time, so write the file based
+             * on the entries from the settings, which the program uses.
+             */
+            saveToFile();
+        }
         return true;
     }
     
@@ -778,6 +889,10 @@ public class Addressbook {
     }
     
     private synchronized void saveToSettings() {
+        if (!changedSinceSettings) {
+            return;
+        }
+        changedSinceSettings = false;
         List<Object> result = new ArrayList<>();
         for (AddressbookEntry entry : entries.values()) {
             List<Object> entryList = new ArrayList<>();
@@ -794,11 +909,12 @@ public class Addressbook {
      * @param newEntries 
      */
     public synchronized void setEntries(Collection<AddressbookEntry> newEntries) {
-        entries.clear();
+        clearEntries();
         for (AddressbookEntry entry : newEntries) {
-            entries.put(entry.getName(), entry);
+            putEntry(entry);
         }
         scanCategories();
+        unsavedChanges.clear();
     }
     
     public static class AddressbookParsedEntries {
@@ -861,14 +977,49 @@ public class Addressbook {
         return null;
     }
     
+    /**
+     * Appends the changed entries to the journal file, if enabled, and
+     * schedules writing the complete file.
+     */
     private void saveOnChange() {
-        if (settings != null && settings.getBoolean("abSaveOnChange")) {
+        if (settings != null && settings.getBoolean("abSaveOnChange")
+                && !unsavedChanges.isEmpty()) {
+            writeJournal();
+            BatchAction.queue(journalFileName, COMPACT_DELAY, false, false, () -> {
+                saveToFile();
+            });
+        }
+        unsavedChanges.clear();
+    }
+    
+    /**
+     * Appends the current state of the changed entries to the journal file. If
+     * that fails, the complete file is written instead.
+     */
+    private void writeJournal() {
+        Path file = Paths.get(journalFileName);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, CHARSET,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            for (String name : unsavedChanges) {
+                AddressbookEntry entry = entries.get(name);
+                if (entry != null) {
+                    writer.write("set "+makeLine(entry));
+                }
+                else {
+                    writer.write("remove "+name);
+                }
+                writer.newLine();
+            }
+        } catch (IOException ex) {
+            LOGGER.warning("Error writing addressbook journal: "+ex);
             saveToFile();
         }
     }
     
     /**
-     * Saves all entries to file.
+     * Saves all entries to file, which also makes the journal obsolete.
      */
     public synchronized void saveToFile() {
         Path file = Paths.get(fileName);
@@ -883,6 +1034,7 @@ public class Addressbook {
                 }
             }
             MiscUtil.moveFile(tempFile, file);
+            Files.deleteIfExists(Paths.get(journalFileName));
         } catch (IOException ex) {
             LOGGER.warning("Error writing addressbook: " + ex);
         }
@@ -898,6 +1050,64 @@ public class Addressbook {
         return entry.getName()+" "+getStringFromCategories(entry.getCategories());
     }
     
+    /**
+     * Sets the entry, replacing an entry with the same name, and updates the
+     * category index. Should only be called while synchronized on this.
+     * 
+     * @param entry The entry
+     * @return The previous entry with the same name, or null
+     */
+    private AddressbookEntry putEntry(AddressbookEntry entry) {
+        AddressbookEntry previous = entries.put(entry.getName(), entry);
+        if (previous != null) {
+            removeFromIndex(previous);
+        }
+        for (String category : entry.getCategories()) {
+            namesByCategory.computeIfAbsent(category, k -> ConcurrentHashMap.newKeySet()).add(entry.getName());
+        }
+        changed(entry.getName());
+        return previous;
+    }
+    
+    /**
+     * Removes the entry and updates the category index. Should only be called
+     * while synchronized on this.
+     * 
+     * @param name The name of the entry (lowercase)
+     * @return The removed entry, or null if none existed
+     */
+    private AddressbookEntry removeEntry(String name) {
+        AddressbookEntry removed = entries.remove(name);
+        if (removed != null) {
+            removeFromIndex(removed);
+            changed(name);
+        }
+        return removed;
+    }
+    
+    private void removeFromIndex(AddressbookEntry entry) {
+        for (String category : entry.getCategories()) {
+            Set<String> names = namesByCategory.get(category);
+            if (names != null) {
+                names.remove(entry.getName());
+                if (names.isEmpty()) {
+                    namesByCategory.remove(category);
+                }
+            }
+        }
+    }
+    
+    private void clearEntries() {
+        entries.clear();
+        namesByCategory.clear();
+        changedSinceSettings = true;
+    }
+    
+    private void changed(String name) {
+        unsavedChanges.add(name);
+        changedSinceSettings = true;
+    }
+    
     /**
      * Goes through all entries and adds all found categories to a Set.
      */
@@ -926,7 +1136,7 @@ public class Addressbook {
         return new ArrayList<>(presetCategories);
     }
     
-    public synchronized int getNumEntries() {
+    public int getNumEntries() {
         return entries.size();
     }
     
@@ -4,14 +4,15 @@ package chatty;
 import static chatty.Irc.SSL_ERROR;
 import chatty.util.DateTime;
 import chatty.util.Debugging;
-import chatty.util.RingBuffer;
 import chatty.util.StringUtil;
+import chatty.util.irc.IrcLineReader;
 import java.io.*;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 import javax.net.ssl.SSLException;
@@ -29,12 +30,12 @@ public class Connection implements Runnable {
     
     private final InetSocketAddress address;
     private final Irc irc;
-    private final RingBuffer<Msg> debugBuffer = new RingBuffer<>(20);
+    private final DebugBuffer debugBuffer = new DebugBuffer(20);
     private int debugCounter = -1;
     
     private Socket socket;
     private PrintWriter out;
-    private BufferedReader in;
+    private InputStream in;
     private boolean connected = false;
     
     private int disconnectReason = -1;
@@ -104,9 +105,7 @@ public class Connection implements Runnable {
             out = new PrintWriter(
                     new OutputStreamWriter(socket.getOutputStream(),charset)
                     );
-            in = new BufferedReader(
-                    new InputStreamReader(socket.getInputStream(),charset)
-                );
+            in = socket.getInputStream();
             socket.setSoTimeout(SOCKET_BLOCK_TIMEOUT);
         } catch (UnknownHostException ex) {
             irc.disconnected(Irc.ERROR_UNKNOWN_HOST);
@@ -128,48 +127,24 @@ public class Connection implements Runnable {
         connected = true;
         irc.connected(socket.getInetAddress().toString(),address.getPort());
         
-        StringBuilder b = new StringBuilder();
-        boolean previousWasCR = false;
-        String receivedLine = null;
+        IrcLineReader reader = new IrcLineReader(in);
         while (true) {
             try {
                 /**
                  * Read line ending with \r\n (blocks, but has a timeout set).
                  * 
                  * This also filters \r and \n characters from the parsed
-                 * messages, because they are not added to the buffer.
+                 * messages.
                  */
-                int c = in.read();
-                if (c == -1) {
+                String receivedLine = reader.readLine();
+                if (receivedLine == null) {
                     // End of stream
                     break;
                 }
-                if (c == '\r') {
-                    previousWasCR = true;
-                    //System.out.print("\\r");
-                } else if (c == '\n') {
-                    //System.out.println("\\n");
-                    if (previousWasCR) {
-                        // Take buffer as line and reset
-                        receivedLine = b.toString();
-                        b.setLength(0);
-                        previousWasCR = false;
-                    }
-                } else {
-                    b.append((char)c);
-                    previousWasCR = false;
-                    //System.out.print((char)c);
-                }
-                
-                if (receivedLine == null) {
-                    // Read more characters to get to end of line
-                    continue;
-                }
                 
                 // Line was received
-                debugBuffer.add(new Msg(System.currentTimeMillis(), receivedLine, false));
+                debugBuffer.add(System.currentTimeMillis(), receivedLine, false);
                 irc.received(receivedLine);
-                receivedLine = null;
                 activity();
             } catch (SocketTimeoutException ex) {
                 checkConnection();
@@ -251,7 +226,7 @@ public class Connection implements Runnable {
      */
     synchronized public void send(String data) {
         data = StringUtil.removeLinebreakCharacters(data);
-        debugBuffer.add(new Msg(System.currentTimeMillis(), data, true));
+        debugBuffer.add(System.currentTimeMillis(), data, true);
         irc.sent(data);
         out.print(data+"\r\n");
         out.flush();
@@ -299,4 +274,42 @@ public class Connection implements Runnable {
         }
     }
     
+    /**
+     * Keeps the most recent lines for debugging, without creating an object
+     * for every received line.
+     */
+    private static class DebugBuffer {
+        
+        private final long[] times;
+        private final String[] raws;
+        private final boolean[] sent;
+        private int next;
+        private int size;
+        
+        DebugBuffer(int capacity) {
+            times = new long[capacity];
+            raws = new String[capacity];
+            sent = new boolean[capacity];
+        }
+        
+        public synchronized void add(long time, String raw, boolean sent) {
+            times[next] = time;
+            raws[next] = raw;
+            this.sent[next] = sent;
+            next = (next + 1) % raws.length;
+            size = Math.min(size + 1, raws.length);
+        }
+        
+        public synchronized List<Msg> getItems() {
+            List<Msg> result = new ArrayList<>(size);
+            int first = (next - size + raws.length) % raws.length;
+            for (int i = 0; i < size; i++) {
+                int index = (first + i) % raws.length;
+                result.add(new Msg(times[index], raws[index], sent[index]));
+            }
+            return result;
+        }
+        
+    }
+    
 }
@@ -3,14 +3,15 @@ package chatty;
 
 import chatty.util.DateTime;
 import chatty.util.Debugging;
-import chatty.util.DelayedActionQueue;
-import chatty.util.DelayedActionQueue.DelayedActionListener;
+import chatty.util.irc.JoinQueue;
 import chatty.util.irc.MsgParameters;
 import chatty.util.irc.MsgTags;
 import chatty.util.irc.ParsedMsg;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
 import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
 
@@ -23,13 +24,19 @@ public abstract class Irc {
     private static final Logger LOGGER = Logger.getLogger(Irc.class.getName());
     
     /**
-     * Delay between JOINs (in milliseconds).
+     * How many channels may be joined in the JOIN_WINDOW (Twitch allows 20
+     * join attempts per 10 seconds, a bit of margin added).
      */
-    private static final int JOIN_DELAY = 750;
+    private static final int JOIN_LIMIT = 20;
+    
+    /**
+     * Time window for the JOIN_LIMIT (in milliseconds).
+     */
+    private static final int JOIN_WINDOW = 11*1000;
     
     private final AddressManager addressManager = new AddressManager();
-    private final DelayedActionQueue<String> joinQueue
-            = DelayedActionQueue.create(new DelayedJoinAction(), JOIN_DELAY);
+    private final JoinQueue joinQueue
+            = JoinQueue.create(this::joinChannelsImmediately, JOIN_LIMIT, JOIN_WINDOW);
     
     private final Object lock = new Object();
     
@@ -43,6 +50,7 @@ public abstract class Irc {
     private volatile String connectedIp = "";
     private volatile int connectedPort;
     private volatile long connectedSince = -1;
+    private volatile long receivedLines;
     
     private volatile int state = STATE_OFFLINE;
     
@@ -173,6 +181,24 @@ public abstract class Irc {
     public String getConnectedSince() {
         return DateTime.ago(connectedSince);
     }
+    
+    /**
+     * Statistics about the joins and the received messages of the current
+     * connection.
+     * 
+     * @return A single line of text
+     */
+    public String getStats() {
+        long duration = System.currentTimeMillis() - connectedSince;
+        double rate = 0;
+        if (connectedSince != -1 && duration > 0) {
+            rate = receivedLines / (duration / 60000.0);
+        }
+        return String.format(Locale.ROOT, "%s, received %d lines (%.1f/min)",
+                joinQueue.getStats(),
+                receivedLines,
+                rate);
+    }
  
     /**
      * Outputs the debug string
@@ -303,6 +329,7 @@ public abstract class Irc {
         if (data == null) {
             return;
         }
+        receivedLines++;
         raw(data);
         
         ParsedMsg p = ParsedMsg.parse(data);
@@ -383,6 +410,9 @@ public abstract class Irc {
         else if (command.equals("JOIN")) {
             if (parameters.has(0)) {
                 String channel = parameters.get(0);
+                if (nick != null && nick.equalsIgnoreCase(this.nick)) {
+                    joinQueue.joined(channel);
+                }
                 onJoin(channel, nick);
             }
         }
@@ -488,11 +518,15 @@ public abstract class Irc {
     }
     
     /**
-     * Joins {@code channel} on a queue, that puts some time between each join.
+     * Joins {@code channel} on a queue, that sends queued channels together
+     * as allowed by the join rate limit. This adds # in front if not there.
      * 
      * @param channel The name of the channel to join
      */
     public void joinChannel(String channel) {
+        if (!channel.startsWith("#")) {
+            channel = "#" + channel;
+        }
         info("JOINING: " + channel);
         joinQueue.add(channel);
     }
@@ -516,17 +550,20 @@ public abstract class Irc {
     }
     
     /**
-     * Listener for the join queue, which is called when the next channel can
-     * be joined.
+     * Join several channels with a single JOIN, called by the join queue when
+     * the next channels can be joined.
+     * 
+     * @param channels The channels, with leading #
      */
-    private class DelayedJoinAction implements DelayedActionListener<String> {
-
-        @Override
-        public void actionPerformed(String item) {
-            info("JOIN: "+item+" (delayed)");
-            joinChannelImmediately(item);
+    private void joinChannelsImmediately(List<String> channels) {
+        if (state >= STATE_REGISTERED) {
+            String joined = String.join(",", channels);
+            info("JOIN: " + joined + " (queued)");
+            send("JOIN " + joined);
+            for (String channel : channels) {
+                onJoinAttempt(channel);
+            }
         }
-        
     }
     
     /**
@@ -583,6 +620,7 @@ public abstract class Irc {
         this.connectedIp = ip;
         this.connectedPort = port;
         this.connectedSince = System.currentTimeMillis();
+        this.receivedLines = 0;
         setState(Irc.STATE_CONNECTED);
         onConnect();
         if (pass != null) {
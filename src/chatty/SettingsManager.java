@@ -112,6 +112,7 @@ public class SettingsManager {
         settings.addLong("autoSaveSettings", 15);
         settings.addBoolean("debugLogIrc", false);
         settings.addBoolean("debugLogIrcFile", false);
+        settings.addBoolean("edtProfiler", false);
         settings.addString("ignoreError", "");
         settings.addBoolean("autoRequestMods", false);
         
@@ -296,6 +297,8 @@ public class SettingsManager {
                 Setting.STRING);
         
         settings.addBoolean("imageCache", true);
+        settings.addLong("imageLoaderThreads", 4);
+        settings.addLong("imageMemoryBudget", 256);
         
         // Colors
         settings.addString("foregroundColor","#111111");
@@ -699,6 +702,7 @@ public class SettingsManager {
         settings.addList("matchingPresets", matchingPresetsDefault, Setting.STRING);
         settings.addList("matchingSubstitutes", new ArrayList(), Setting.STRING);
         settings.addBoolean("matchingSubstitutesEnabled", false);
+        settings.addBoolean("matchingPrefilter", true);
         
         // Repeated Messages
         settings.addBoolean("repeatMsg", false);
@@ -709,6 +713,13 @@ public class SettingsManager {
         settings.addLong("repeatMsgMethod", 1);
         settings.addString("repeatMsgIgnored", "");
         settings.addString("repeatMsgMatch", "!status:M");
+        
+        // Similar messages by different users
+        settings.addBoolean("spamWave", false);
+        settings.addLong("spamWaveSim", 70);
+        settings.addLong("spamWaveUsers", 3);
+        settings.addLong("spamWaveLen", 10);
+        settings.addLong("spamWaveTime", 120);
 
         // Chat Logging
         settings.addString("logMode", "always");
@@ -734,6 +745,8 @@ public class SettingsManager {
         settings.addBoolean("logSubdirectories", false);
         settings.addString("logTimestamp", "[yyyy-MM-dd HH:mm:ss]");
         settings.addBoolean("logLockFiles", true);
+        settings.addLong("logFlushDelay", 1000);
+        settings.addLong("logFlushLines", 500);
         
         // TAB Completion
         settings.addBoolean("completionEnabled", true);
@@ -13,6 +13,7 @@ import chatty.ChannelStateManager.ChannelStateListener;
 import chatty.Chatty.PathType;
 import chatty.Commands.CommandParsedArgs;
 import chatty.util.api.TwitchApiResultListener;
+import chatty.util.api.CachedImage;
 import chatty.util.api.Emoticon;
 import chatty.util.api.StreamInfoListener;
 import chatty.util.api.TokenInfo;
@@ -52,6 +53,7 @@ import chatty.util.ProcessManager;
 import chatty.util.Pronouns;
 import chatty.util.RawMessageTest;
 import chatty.util.ReplyManager;
+import chatty.util.SharedHttpClient;
 import chatty.util.Speedruncom;
 import chatty.util.StreamHighlightHelper;
 import chatty.util.StreamStatusWriter;
@@ -331,6 +333,8 @@ public class TwitchClient {
         
         ImageCache.setDefaultPath(Chatty.getPathCreate(PathType.CACHE).resolve("img"));
         ImageCache.setCachingEnabled(settings.getBoolean("imageCache"));
+        CachedImage.setLoaderThreads((int)settings.getLong("imageLoaderThreads"));
+        CachedImage.setMemoryBudget((int)settings.getLong("imageMemoryBudget"));
         ImageCache.deleteExpiredFiles();
         EmoticonSizeCache.loadFromFile();
 
@@ -1903,6 +1907,16 @@ public class TwitchClient {
             g.printLine("test" + spamProtection.getAllowance() + spamProtection.tryMessage());
         } else if (command.equals("spamprotectioninfo")) {
             g.printSystem("Spam Protection: "+spamProtection);
+        } else if (command.equals("httpinfo")) {
+            for (String line : SharedHttpClient.getStats().split("\n")) {
+                g.printSystem("HTTP "+line);
+            }
+        } else if (command.equals("imageinfo")) {
+            g.printSystem("Image Loader "+CachedImage.getLoaderStats());
+        } else if (command.equals("settingsinfo")) {
+            for (String line : settings.getFileManager().getStats().split("\n")) {
+                g.printSystem("Settings file "+line);
+            }
         } else if (command.equals("tsv")) {
             testStreamInfo.set("Title", new StreamCategory(null, "Game"), Integer.parseInt(parameter), -1, StreamType.LIVE);
         } else if (command.equals("tsvs")) {
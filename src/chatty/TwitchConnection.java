@@ -444,10 +444,11 @@ public class TwitchConnection {
         if (irc.getConnectionInfo() == null) {
             return "Not connected.";
         }
-        return String.format("Connected to: %s (%s, %s channels)",
+        return String.format("Connected to: %s (%s, %s channels) [%s]",
                 irc.getConnectionInfo(),
                 irc.getConnectedSince(),
-                irc.joinedChannels.size());
+                irc.joinedChannels.size(),
+                irc.getStats());
     }
     
     public boolean autoRequestModsEnabled() {
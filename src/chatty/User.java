@@ -8,6 +8,7 @@ import chatty.util.api.usericons.UsericonManager;
 import chatty.util.colors.HtmlColors;
 import chatty.gui.NamedColor;
 import chatty.gui.components.textpane.ModLogInfo;
+import chatty.util.BigramSignature;
 import chatty.util.Debugging;
 import chatty.util.StringUtil;
 import chatty.util.api.eventsub.payloads.ModActionPayload;
@@ -16,6 +17,7 @@ import chatty.util.irc.IrcBadges;
 import chatty.util.irc.MsgTags;
 import java.awt.Color;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
@@ -615,7 +617,7 @@ public class User implements Comparable<User> {
         if (lines == null) {
             return 0;
         }
-        compareMsg = StringUtil.prepareForSimilarityComparison(compareMsg, ignoredChars);
+        BigramSignature compareSignature = new BigramSignature(StringUtil.prepareForSimilarityComparison(compareMsg, ignoredChars));
         int result = 0;
         long checkUntilTime = System.currentTimeMillis() - timeframe * 1000;
         for (int i=lines.size() - 1; i>=0; i--) {
@@ -626,8 +628,8 @@ public class User implements Comparable<User> {
                     break;
                 }
                 if (msg.text.length() >= minLen) {
-                    String text = StringUtil.prepareForSimilarityComparison(msg.text, ignoredChars);
-                    if (StringUtil.checkSimilarity(compareMsg, text, minSimilarity, method) > 0) {
+                    BigramSignature signature = msg.getSimilaritySignature(ignoredChars);
+                    if (compareSignature.checkSimilarity(signature, minSimilarity, method) > 0) {
                         result++;
                     }
                 }
@@ -1032,45 +1034,44 @@ public class User implements Comparable<User> {
         return online;
     }
 
-    @Override
-    public synchronized int compareTo(User u) {
-        int broadcaster = 16;
-        int admin = 8;
-        int moderator = 4;
-        int vip = 2;
-        int subscriber = 1;
-        
+    /**
+     * Users with a higher rank are sorted first.
+     * 
+     * @return 
+     */
+    private synchronized int getSortRank() {
         int result = 0;
-        if (this.isAdmin() || this.isStaff()) {
-            result = result - admin;
-        }
-        if (u.isAdmin() || u.isStaff()) {
-            result = result + admin;
-        }
-        if (this.isBroadcaster()) {
-            result = result - broadcaster;
+        if (isAdmin || isStaff) {
+            result += 8;
         }
-        if (u.isBroadcaster()) {
-            result = result + broadcaster;
+        if (isBroadcaster) {
+            result += 16;
         }
-        if (this.isSubscriber()) {
-            result = result - subscriber;
+        if (isSubscriber) {
+            result += 1;
         }
-        if (u.isSubscriber()) {
-            result = result + subscriber;
+        if (isModerator) {
+            result += 4;
         }
-        if (this.isModerator()) {
-            result = result - moderator;
-        }
-        if (u.isModerator()) {
-            result = result + moderator;
-        }
-        if (this.isVip()) {
-            result = result - vip;
-        }
-        if (u.isVip()) {
-            result = result + vip;
+        if (isVip) {
+            result += 2;
         }
+        return result;
+    }
+    
+    /**
+     * Sorts by rank (broadcaster, admin/staff, moderator, vip, subscriber),
+     * then by name.
+     * 
+     * <p>Not synchronized, since only one user should be locked at a time
+     * (the rank of each user is retrieved separately).</p>
+     * 
+     * @param u
+     * @return 
+     */
+    @Override
+    public int compareTo(User u) {
+        int result = u.getSortRank() - getSortRank();
         if (result == 0) {
             return this.nick.compareTo(u.nick);
         }
@@ -1326,6 +1327,13 @@ public class User implements Comparable<User> {
         public final String id;
         public final SuspiciousMessagePayload lowTrust;
         
+        /**
+         * Cached for repeated message detection, which compares each new
+         * message to previous ones.
+         */
+        private BigramSignature signature;
+        private char[] signatureIgnoredChars;
+        
         public TextMessage(long time, String message, boolean action, String id, SuspiciousMessagePayload lowTrust) {
             super(time);
             this.text = message;
@@ -1342,6 +1350,22 @@ public class User implements Comparable<User> {
             return action;
         }
         
+        /**
+         * Get the bigrams of the text prepared for similarity comparison,
+         * which is only created again if the ignored characters change.
+         * Should only be used while synchronized on the User.
+         * 
+         * @param ignoredChars The characters to remove from the text
+         * @return The signature
+         */
+        public BigramSignature getSimilaritySignature(char[] ignoredChars) {
+            if (signature == null || !Arrays.equals(ignoredChars, signatureIgnoredChars)) {
+                signature = new BigramSignature(StringUtil.prepareForSimilarityComparison(text, ignoredChars));
+                signatureIgnoredChars = ignoredChars;
+            }
+            return signature;
+        }
+        
         public TextMessage addLowTrust(SuspiciousMessagePayload data) {
             return new TextMessage(getTime(), text, action, id, data);
         }
@@ -0,0 +1,121 @@
+
+package chatty.gui;
+
+import chatty.gui.Highlighter.HighlightItem;
+import chatty.gui.Highlighter.Match;
+import java.awt.Color;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of checking a message with a {@link Highlighter}. Can't be
+ * modified, so it can be passed between threads.
+ * 
+ * @author tduva
+ */
+public class HighlightResult {
+    
+    public static final HighlightResult NO_MATCH = new HighlightResult(null, null, null);
+    
+    private final HighlightItem item;
+    private final List<HighlightItem> items;
+    private final List<Match> textMatches;
+    
+    /**
+     * Create a new result.
+     * 
+     * @param item The item that matched first, if null this result represents
+     * no match
+     * @param items All items that matched (including the first one), if null
+     * only the first item is used
+     * @param textMatches The text matches, may be null
+     */
+    public HighlightResult(HighlightItem item, List<HighlightItem> items, List<Match> textMatches) {
+        this.item = item;
+        if (item == null) {
+            this.items = null;
+        }
+        else if (items == null) {
+            this.items = Collections.singletonList(item);
+        }
+        else {
+            this.items = Collections.unmodifiableList(items);
+        }
+        this.textMatches = textMatches != null ? Collections.unmodifiableList(textMatches) : null;
+    }
+    
+    public boolean matched() {
+        return item != null;
+    }
+    
+    /**
+     * The item that matched first (or the one from a previous message for
+     * follow-up highlighting).
+     * 
+     * @return The item, or null if there was no match
+     */
+    public HighlightItem getItem() {
+        return item;
+    }
+    
+    /**
+     * All items that contributed to the match. More than one item is only
+     * included if all text matches should be included.
+     * 
+     * @return An unmodifiable list, or null if there was no match
+     */
+    public List<HighlightItem> getItems() {
+        return items;
+    }
+    
+    /**
+     * Text matches of the item(s).
+     * 
+     * @return An unmodifiable list, or null if there are no text matches
+     * available (e.g. for follow-up highlighting)
+     */
+    public List<Match> getTextMatches() {
+        return textMatches;
+    }
+    
+    /**
+     * The first item, if it has a foreground and/or background color.
+     * 
+     * @return The item, or null
+     */
+    public HighlightItem getColorSource() {
+        if (item != null && (item.getColor() != null || item.getBackgroundColor() != null)) {
+            return item;
+        }
+        return null;
+    }
+    
+    public Color getColor() {
+        return item != null ? item.getColor() : null;
+    }
+    
+    public Color getBackgroundColor() {
+        return item != null ? item.getBackgroundColor() : null;
+    }
+    
+    public boolean noNotification() {
+        return item != null && item.noNotification();
+    }
+    
+    public boolean noSound() {
+        return item != null && item.noSound();
+    }
+    
+    public String getReplacement() {
+        return item != null ? item.getReplacement() : null;
+    }
+    
+    @Override
+    public String toString() {
+        if (item == null) {
+            return "No match";
+        }
+        return item.getRaw()+" "+textMatches;
+    }
+    
+}
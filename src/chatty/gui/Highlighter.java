@@ -6,12 +6,14 @@ import chatty.Addressbook;
 import chatty.Helper;
 import chatty.Logging;
 import chatty.User;
+import chatty.util.AhoCorasick;
 import chatty.util.DateTime;
 import chatty.util.Debugging;
 import chatty.util.MiscUtil;
 import chatty.util.Pair;
 import chatty.util.TimeoutPatternMatcher;
 import chatty.util.RepeatMsgHelper;
+import chatty.util.SpamWaveDetector;
 import chatty.util.Replacer2;
 import chatty.util.StringUtil;
 import chatty.util.api.StreamInfo;
@@ -22,15 +24,17 @@ import chatty.util.commands.Parameters;
 import chatty.util.irc.MsgTags;
 import java.awt.Color;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -55,28 +59,29 @@ public class Highlighter {
     
     private final String type;
     
-    private final Map<String, Long> lastHighlighted = new HashMap<>();
-    private final Map<String, HighlightItem> lastHighlightedItem = new HashMap<>();
-    private final List<HighlightItem> items = new ArrayList<>();
-    private final List<HighlightItem> blacklistItems = new ArrayList<>();
-    private HighlightItem usernameItem;
-    private HighlightItem lastMatchItem;
-    private List<HighlightItem> lastMatchItems;
-    private Color lastMatchColor;
-    private Color lastMatchBackgroundColor;
-    private boolean lastMatchNoNotification;
-    private boolean lastMatchNoSound;
-    private boolean includeAllTextMatches;
-    private List<Match> lastTextMatches;
-    private String lastReplacement;
-    private Replacer2 substitutes;
-    private boolean substitutesDefault;
+    /**
+     * Can be accessed by several threads at the same time, so the lists of
+     * items are never modified, but replaced with new ones when updated.
+     */
+    private final Map<String, RecentMatch> recentMatches = new ConcurrentHashMap<>();
+    private volatile List<HighlightItem> items = Collections.emptyList();
+    private volatile List<HighlightItem> blacklistItems = Collections.emptyList();
+    private volatile HighlightItem usernameItem;
+    private volatile boolean includeAllTextMatches;
+    private volatile Replacer2 substitutes;
+    private volatile boolean substitutesDefault;
+    private volatile boolean prefilterEnabled = true;
+    private volatile Prefilter prefilter;
     
     // Settings
-    private boolean highlightUsername;
-    private boolean highlightNextMessages;
-    private boolean hasOverrideIgnored;
-    private boolean hasSubstitutesEnabled;
+    private volatile boolean highlightUsername;
+    private volatile boolean highlightNextMessages;
+    private volatile boolean hasOverrideIgnored;
+    private volatile boolean hasSubstitutesEnabled;
+    
+    // Only for check(), which is not meant to be used by several threads
+    private HighlightResult lastResult = HighlightResult.NO_MATCH;
+    private List<Match> lastTextMatches;
     
     public Highlighter(String type) {
         this.type = type;
@@ -89,18 +94,21 @@ public class Highlighter {
      * @throws NullPointerException if newItems is null
      */
     public void update(List<String> newItems) {
-        compile(newItems, items, "");
-        hasOverrideIgnored = false;
-        items.forEach(item -> {
+        List<HighlightItem> compiled = compile(newItems, "");
+        boolean overrideIgnored = false;
+        for (HighlightItem item : compiled) {
             if (item.overrideIgnored()) {
-                hasOverrideIgnored = true;
+                overrideIgnored = true;
             }
-        });
+        }
+        items = compiled;
+        hasOverrideIgnored = overrideIgnored;
         updateSubstitutesState();
+        updatePrefilter();
     }
     
     public void updateBlacklist(List<String> newItems) {
-        compile(newItems, blacklistItems, "Blacklist");
+        blacklistItems = compile(newItems, "Blacklist");
     }
     
     public void setSubstitutitesDefault(boolean value) {
@@ -109,29 +117,31 @@ public class Highlighter {
     }
     
     private void updateSubstitutesState() {
-        hasSubstitutesEnabled = false;
+        boolean enabled = false;
         for (HighlightItem item : items) {
             if (item.substitutesEnabled(substitutesDefault)) {
-                hasSubstitutesEnabled = true;
+                enabled = true;
                 break;
             }
         }
+        hasSubstitutesEnabled = enabled;
     }
     
     public void updateSubstitutes(Replacer2 replacer) {
         this.substitutes = replacer;
     }
     
-    private void compile(List<String> newItems, List<HighlightItem> into, String typeSuffix) {
-        into.clear();
+    private List<HighlightItem> compile(List<String> newItems, String typeSuffix) {
+        List<HighlightItem> result = new ArrayList<>();
         for (String item : newItems) {
             if (item != null && !item.isEmpty()) {
                 HighlightItem compiled = new HighlightItem(item, type+typeSuffix);
                 if (!compiled.hasError()) {
-                    into.add(compiled);
+                    result.add(compiled);
                 }
             }
         }
+        return Collections.unmodifiableList(result);
     }
     
     /**
@@ -170,12 +180,44 @@ public class Highlighter {
         this.includeAllTextMatches = all;
     }
     
+    /**
+     * Sets whether items should be pre-filtered by the literal text they
+     * require, so that the full item only has to be checked for items that
+     * can actually match. This doesn't change the result.
+     * 
+     * @param enabled 
+     */
+    public void setPrefilterEnabled(boolean enabled) {
+        this.prefilterEnabled = enabled;
+        updatePrefilter();
+    }
+    
+    private void updatePrefilter() {
+        List<HighlightItem> currentItems = items;
+        if (prefilterEnabled && !currentItems.isEmpty()) {
+            prefilter = new Prefilter(currentItems);
+        }
+        else {
+            prefilter = null;
+        }
+    }
+    
+    /**
+     * The item of the last match of {@link #check(User, String)} or
+     * {@link #check(HighlightItem.Type, String, int, int, String, Addressbook, User, User, MsgTags, boolean)}.
+     * The {@code getLast..()} methods are only meant to be used when this
+     * Highlighter is only used from a single thread, otherwise use the
+     * {@link HighlightResult} returned by
+     * {@link #match(HighlightItem.Type, String, int, int, String, Addressbook, User, User, MsgTags, boolean)}.
+     * 
+     * @return 
+     */
     public HighlightItem getLastMatchItem() {
-        return lastMatchItem;
+        return lastResult.getItem();
     }
     
     public List<HighlightItem> getLastMatchItems() {
-        return lastMatchItems;
+        return lastResult.getItems();
     }
     
     /**
@@ -184,13 +226,7 @@ public class Highlighter {
      * @return 
      */
     public HighlightItem getColorSource() {
-        if (lastMatchItem != null) {
-            boolean itemHasColor = lastMatchItem.getColor() != null || lastMatchItem.getBackgroundColor() != null;
-            if (itemHasColor) {
-                return lastMatchItem;
-            }
-        }
-        return null;
+        return lastResult.getColorSource();
     }
     
     /**
@@ -200,19 +236,19 @@ public class Highlighter {
      * @return The {@code Color} or {@code null} if no color was specified
      */
     public Color getLastMatchColor() {
-        return lastMatchColor;
+        return lastResult.getColor();
     }
     
     public Color getLastMatchBackgroundColor() {
-        return lastMatchBackgroundColor;
+        return lastResult.getBackgroundColor();
     }
     
     public boolean getLastMatchNoNotification() {
-        return lastMatchNoNotification;
+        return lastResult.noNotification();
     }
     
     public boolean getLastMatchNoSound() {
-        return lastMatchNoSound;
+        return lastResult.noSound();
     }
     
     /**
@@ -226,7 +262,7 @@ public class Highlighter {
     }
     
     public String getLastReplacement() {
-        return lastReplacement;
+        return lastResult.getReplacement();
     }
     
     /**
@@ -254,6 +290,46 @@ public class Highlighter {
         return check(HighlightItem.Type.REGULAR, text, -1, -1, null, null, user, null, MsgTags.EMPTY, false);
     }
     
+    /**
+     * Same as
+     * {@link #match(HighlightItem.Type, String, int, int, String, Addressbook, User, User, MsgTags, boolean)},
+     * except that the result is stored in this Highlighter and can be
+     * retrieved using the {@code getLast..()} methods. The last match item
+     * and related information is only changed when a match occurs, the text
+     * matches are reset every time.
+     * 
+     * <p>
+     * This should only be used if this Highlighter is only used from a single
+     * thread.
+     * </p>
+     * 
+     * @param type What kind of message this is, REGULAR, INFO or ANY (which
+     * means the type is ignored)
+     * @param text The text of the message to check
+     * @param msgStart
+     * @param msgEnd
+     * @param channel The channel of this message
+     * @param ab The Addressbook for checking channel category
+     * @param user The User associated with this message, for checking username
+     * and user Addressbook category
+     * @param localUser
+     * @param tags
+     * @param ignored When true items don't match if the "config:!ignore" prefix
+     * hasn't been set
+     * @return true if the message matches, false otherwise
+     */
+    public boolean check(HighlightItem.Type type,
+                         String text, int msgStart, int msgEnd,
+                         String channel, Addressbook ab, User user,
+                         User localUser, MsgTags tags, boolean ignored) {
+        HighlightResult result = match(type, text, msgStart, msgEnd, channel, ab, user, localUser, tags, ignored);
+        lastTextMatches = result.getTextMatches();
+        if (result.matched()) {
+            lastResult = result;
+        }
+        return result.matched();
+    }
+    
     /**
      * Check if the message with the given data matches the stored items and a
      * match is not prevented by the blacklist.
@@ -264,6 +340,9 @@ public class Highlighter {
      * <p>
      * Use {@link #update(List)} and {@link #updateBlacklist(List)} and other
      * setting methods to define what is being matched by this Highlighter.
+     * <p>
+     * This can be called from several threads at the same time. The only state
+     * that is changed is the one used for follow-up highlighting.
      * 
      * @param type What kind of message this is, REGULAR, INFO or ANY (which
      * means the type is ignored)
@@ -278,12 +357,24 @@ public class Highlighter {
      * @param tags
      * @param ignored When true items don't match if the "config:!ignore" prefix
      * hasn't been set
-     * @return true if the message matches, false otherwise
+     * @return The result, never null ({@link HighlightResult#NO_MATCH} if the
+     * message doesn't match)
      */
-    public boolean check(HighlightItem.Type type,
-                         String text, int msgStart, int msgEnd,
-                         String channel, Addressbook ab, User user,
-                         User localUser, MsgTags tags, boolean ignored) {
+    public HighlightResult match(HighlightItem.Type type,
+                                 String text, int msgStart, int msgEnd,
+                                 String channel, Addressbook ab, User user,
+                                 User localUser, MsgTags tags, boolean ignored) {
+        // Use the same state for the entire check, even if updated meanwhile
+        List<HighlightItem> items = this.items;
+        List<HighlightItem> blacklistItems = this.blacklistItems;
+        HighlightItem usernameItem = this.usernameItem;
+        Replacer2 substitutes = this.substitutes;
+        boolean substitutesDefault = this.substitutesDefault;
+        boolean includeAllTextMatches = this.includeAllTextMatches;
+        Prefilter prefilter = this.prefilter;
+        if (prefilter != null && !prefilter.isFor(items)) {
+            prefilter = null;
+        }
         
         Replacer2.Result subResult = null;
         if (substitutes != null && hasSubstitutesEnabled) {
@@ -302,26 +393,25 @@ public class Highlighter {
             }
         }
         
-        /**
-         * All last match variables filled in case of match, except for text
-         * matches, so reset here.
-         */
-        lastTextMatches = null;
-        
         // Try to match own name first (if enabled)
         if (highlightUsername
                 && usernameItem != null
                 && (blacklist == null || !blacklist.block)
                 && !ignored
                 && usernameItem.matches(type, text, -1, -1, blacklist, channel, ab, user, localUser, tags)) {
-            fillLastMatchVariables(usernameItem, text, -1, -1, null);
             addMatch(user, usernameItem);
-            return true;
+            return new HighlightResult(usernameItem, null,
+                    usernameItem.getTextMatches(text, -1, -1, null));
         }
         
         // Then try to match against the items
-        boolean alreadyMatched = false;
-        for (HighlightItem item : items) {
+        HighlightItem firstMatch = null;
+        List<HighlightItem> matchItems = null;
+        List<Match> textMatches = null;
+        BitSet candidates = null;
+        BitSet subCandidates = null;
+        for (int i = 0; i < items.size(); i++) {
+            HighlightItem item = items.get(i);
             // On what does matching take place (changed text or not)
             boolean subEnabled = item.substitutesEnabled(substitutesDefault) && subResult != null;
             String itemText = text;
@@ -332,6 +422,26 @@ public class Highlighter {
                 itemMsgStart = subResult.indexToChanged(msgStart);
                 itemMsgEnd = subResult.indexToChanged(msgEnd);
             }
+            
+            // Skip items that can't match anyway
+            if (prefilter != null && itemText != null) {
+                BitSet itemCandidates;
+                if (subEnabled) {
+                    if (subCandidates == null) {
+                        subCandidates = prefilter.getCandidates(itemText);
+                    }
+                    itemCandidates = subCandidates;
+                }
+                else {
+                    if (candidates == null) {
+                        candidates = prefilter.getCandidates(itemText);
+                    }
+                    itemCandidates = candidates;
+                }
+                if (!itemCandidates.get(i)) {
+                    continue;
+                }
+            }
             Replacer2.Result itemSubResult = subEnabled ? subResult : null;
             Blacklist itemBlacklist = subEnabled ? subBlacklist : blacklist;
             
@@ -343,56 +453,46 @@ public class Highlighter {
                     && !ignoredBlocks
                     && item.matches(type, itemText, itemMsgStart, itemMsgEnd, item.overrideBlacklist ? null : itemBlacklist, channel, ab, user, localUser, tags)) {
                 // Item matched
-                if (!alreadyMatched) {
+                if (firstMatch == null) {
                     // Only for the first match
-                    fillLastMatchVariables(item, itemText, itemMsgStart, itemMsgEnd, itemSubResult);
+                    firstMatch = item;
+                    matchItems = new ArrayList<>();
+                    matchItems.add(item);
+                    textMatches = item.getTextMatches(itemText, itemMsgStart, itemMsgEnd, itemSubResult);
                     addMatch(user, item);
-                    alreadyMatched = true;
                 }
                 else if (includeAllTextMatches) {
                     List<Match> matches = item.getTextMatches(itemText, itemMsgStart, itemMsgEnd, itemSubResult);
-                    if (lastTextMatches == null && matches != null) {
+                    if (textMatches == null && matches != null) {
                         // Can happen if first match has no pattern
-                        lastTextMatches = new ArrayList<>();
+                        textMatches = new ArrayList<>();
                     }
-                    if (Match.addAllIfNotAlreadyMatched(lastTextMatches, matches)) {
-                        lastMatchItems.add(item);
+                    if (Match.addAllIfNotAlreadyMatched(textMatches, matches)) {
+                        matchItems.add(item);
                     }
                 }
                 if (!includeAllTextMatches) {
                     // Finish here if not all text matches should be included
-                    return true;
+                    return new HighlightResult(firstMatch, matchItems, textMatches);
                 }
             }
         }
-        if (alreadyMatched) {
+        if (firstMatch != null) {
             // Only applies if all text matches should be included
-            if (lastTextMatches != null) {
-                Collections.sort(lastTextMatches);
+            if (textMatches != null) {
+                Collections.sort(textMatches);
             }
-            return true;
+            return new HighlightResult(firstMatch, matchItems, textMatches);
         }
         
         // Then see if there is a recent match ("Highlight follow-up")
-        if (user != null && hasRecentMatch(user.getName())) {
-            fillLastMatchVariables(lastHighlightedItem.get(user.getName()), null, -1, -1, null);
-            return true;
-        }
-        return false;
-    }
-    
-    private void fillLastMatchVariables(HighlightItem item, String text, int msgStart, int msgEnd, Replacer2.Result subResult) {
-        lastMatchItem = item;
-        lastMatchItems = new ArrayList<>();
-        lastMatchItems.add(item);
-        lastMatchColor = item.getColor();
-        lastMatchBackgroundColor = item.getBackgroundColor();
-        lastMatchNoNotification = item.noNotification();
-        lastMatchNoSound = item.noSound();
-        lastReplacement = item.getReplacement();
-        if (text != null) {
-            lastTextMatches = item.getTextMatches(text, msgStart, msgEnd, subResult);
+        if (user != null) {
+            HighlightItem recentItem = getRecentMatch(user.getName());
+            if (recentItem != null) {
+                return new HighlightResult(recentItem, null, null);
+            }
         }
+        return HighlightResult.NO_MATCH;
     }
     
     /**
@@ -401,13 +501,7 @@ public class Highlighter {
      * some other situations.
      */
     public void resetLastMatchVariables() {
-        lastMatchItem = null;
-        lastMatchItems = null;
-        lastMatchColor = null;
-        lastMatchBackgroundColor = null;
-        lastMatchNoNotification = false;
-        lastMatchNoSound = false;
-        lastReplacement = null;
+        lastResult = HighlightResult.NO_MATCH;
         lastTextMatches = null;
     }
     
@@ -421,29 +515,47 @@ public class Highlighter {
         if (!highlightNextMessages && item.followUp <= 0) {
             return;
         }
-        String username = user.getName();
-        lastHighlighted.put(username, MiscUtil.ems());
-        lastHighlightedItem.put(username, item);
+        recentMatches.put(user.getName(), new RecentMatch(item, MiscUtil.ems()));
     }
     
-    private boolean hasRecentMatch(String fromUsername) {
+    /**
+     * Whether a message by the given user that doesn't match any item itself
+     * would currently be highlighted as a "Highlight follow-up".
+     *
+     * @param user The user, may be null
+     * @return
+     */
+    public boolean hasFollowUp(User user) {
+        return user != null && getRecentMatch(user.getName()) != null;
+    }
+
+    private HighlightItem getRecentMatch(String fromUsername) {
         clearRecentMatches();
-        HighlightItem item = lastHighlightedItem.get(fromUsername);
-        if (item == null) {
-            return false;
+        RecentMatch recent = recentMatches.get(fromUsername);
+        if (recent == null) {
+            return null;
+        }
+        if (highlightNextMessages || recent.item.followUp > 0) {
+            return recent.item;
         }
-        return highlightNextMessages || item.followUp > 0;
+        return null;
     }
     
     private void clearRecentMatches() {
-        Iterator<Map.Entry<String, Long>> it = lastHighlighted.entrySet().iterator();
-        while (it.hasNext()) {
-            Map.Entry<String, Long> entry = it.next();
-            if (MiscUtil.ems() - entry.getValue() > LAST_HIGHLIGHTED_TIMEOUT) {
-                it.remove();
-                lastHighlightedItem.remove(entry.getKey());
-            }
+        long now = MiscUtil.ems();
+        recentMatches.values().removeIf(recent -> now - recent.time > LAST_HIGHLIGHTED_TIMEOUT);
+    }
+    
+    private static class RecentMatch {
+        
+        private final HighlightItem item;
+        private final long time;
+        
+        RecentMatch(HighlightItem item, long time) {
+            this.item = item;
+            this.time = time;
         }
+        
     }
     
     /**
@@ -505,14 +617,59 @@ public class Highlighter {
                                             Blacklist blacklist,
                                             String channel, Addressbook ab,
                                             User user, User localUser,
-                                            MsgTags tags);
+                                            MsgTags tags, MatchInfo info);
         }
-        
+
+        /**
+         * Information about a single match, mainly why it failed, for testing
+         * items. Kept separate from the item, so that matching doesn't change
+         * the item.
+         */
+        public static class MatchInfo {
+
+            private Item failedItem;
+            /**
+             * A prevented match only means that at least one part of a text
+             * match failed due to the blacklist, it is mostly relevant as a
+             * reason if the overall match actually failed.
+             */
+            private boolean blacklistPreventedTextMatch;
+            private boolean blockedByBlacklist;
+            private String matchingError;
+
+            public String getFailedReason() {
+                if (failedItem != null) {
+                    return failedItem.toString();
+                }
+                if (blockedByBlacklist) {
+                    return "Blocked by blacklist";
+                }
+                if (blacklistPreventedTextMatch) {
+                    return "Blacklist prevented text match";
+                }
+                return null;
+            }
+
+            public boolean hasMatchingError() {
+                return matchingError != null;
+            }
+
+            /**
+             * An error that occured when matching.
+             *
+             * @return
+             */
+            public String getMatchingError() {
+                return matchingError;
+            }
+
+        }
+
         private void addUserItem(String info, Object infoData, Function<User, Boolean> m) {
             Item item = new Item(info, infoData) {
 
                 @Override
-                public boolean matches(Type type, String text, int msgStart, int msgEnd, Blacklist blacklist, String channel, Addressbook ab, User user, User localUser, MsgTags tags) {
+                public boolean matches(Type type, String text, int msgStart, int msgEnd, Blacklist blacklist, String channel, Addressbook ab, User user, User localUser, MsgTags tags, MatchInfo info) {
                     return user != null && m.apply(user);
                 }
             };
@@ -523,7 +680,7 @@ public class Highlighter {
             Item item = new Item(info, infoData) {
 
                 @Override
-                public boolean matches(Type type, String text, int msgStart, int msgEnd, Blacklist blacklist, String channel, Addressbook ab, User user, User localUser, MsgTags tags) {
+                public boolean matches(Type type, String text, int msgStart, int msgEnd, Blacklist blacklist, String channel, Addressbook ab, User user, User localUser, MsgTags tags, MatchInfo info) {
                     return localUser != null && m.apply(localUser);
                 }
             };
@@ -534,7 +691,7 @@ public class Highlighter {
             Item item = new Item(info, infoData) {
 
                 @Override
-                public boolean matches(Type type, String text, int msgStart, int msgEnd, Blacklist blacklist, String channel, Addressbook ab, User user, User localUser, MsgTags tags) {
+                public boolean matches(Type type, String text, int msgStart, int msgEnd, Blacklist blacklist, String channel, Addressbook ab, User user, User localUser, MsgTags tags, MatchInfo info) {
                     return channel != null && m.apply(channel);
                 }
             };
@@ -545,7 +702,7 @@ public class Highlighter {
             Item item = new Item(info, infoData) {
 
                 @Override
-                public boolean matches(Type type, String text, int msgStart, int msgEnd, Blacklist blacklist, String channel, Addressbook ab, User user, User localUser, MsgTags tags) {
+                public boolean matches(Type type, String text, int msgStart, int msgEnd, Blacklist blacklist, String channel, Addressbook ab, User user, User localUser, MsgTags tags, MatchInfo info) {
                     if (channel == null || ab == null) {
                         return false;
                     }
@@ -559,7 +716,7 @@ public class Highlighter {
             Item item = new Item(info, infoData) {
 
                 @Override
-                public boolean matches(Type type, String text, int msgStart, int msgEnd, Blacklist blacklist, String channel, Addressbook ab, User user, User localUser, MsgTags tags) {
+                public boolean matches(Type type, String text, int msgStart, int msgEnd, Blacklist blacklist, String channel, Addressbook ab, User user, User localUser, MsgTags tags, MatchInfo info) {
                     return tags != null && m.apply(tags);
                 }
             };
@@ -573,7 +730,7 @@ public class Highlighter {
         private static final Item NO_MATCH_ITEM = new Item("Never Match", null) {
 
             @Override
-            public boolean matches(Type type, String text, int msgStart, int msgEnd, Blacklist blacklist, String channel, Addressbook ab, User user, User localUser, MsgTags tags) {
+            public boolean matches(Type type, String text, int msgStart, int msgEnd, Blacklist blacklist, String channel, Addressbook ab, User user, User localUser, MsgTags tags, MatchInfo info) {
                 return false;
             }
         };
@@ -644,22 +801,9 @@ public class Highlighter {
         private boolean invalidRegexLog;
         private String mainPrefix;
         private String error;
-        private String matchingError;
         private boolean patternWarning;
         private List<Modification> modifications = new ArrayList<>();
         
-        //==========================
-        // State (per match)
-        //==========================
-        private Item failedItem;
-        /**
-         * A prevented match only means that at least one part of a text match
-         * failed due to the blacklist, it is mostly relevant as a reason if the
-         * overall match actually failed.
-         */
-        private boolean blacklistPreventedTextMatch;
-        private boolean blockedByBlacklist;
-        
         private enum Status {
             MOD("m"), SUBSCRIBER("s"), BROADCASTER("b"), ADMIN("a"), STAFF("f"),
             TURBO("t"), ANY_MOD("M"), GLOBAL_MOD("g"), BOT("r"), VIP("v");
@@ -677,6 +821,13 @@ public class Highlighter {
          */
         private static final Map<String, Function<String, String>> patternPrefixes = new HashMap<>();
         
+        /**
+         * Prefixes whose pattern consists of a quoted literal text, possibly
+         * with additional anchors or word boundaries.
+         */
+        private static final Set<String> LITERAL_PREFIXES = new HashSet<>(Arrays.asList(
+                "w:", "wcs:", "cs:", "start:", "startw:", "text:"));
+        
         static {
             /**
              * Add text matching prefixes and their pattern builder functions
@@ -1120,11 +1271,25 @@ public class Highlighter {
                             matchItems.add(new Item("Repeated User Message", null, false) {
 
                                 @Override
-                                public boolean matches(Type type, String text, int msgStart, int msgEnd, Blacklist blacklist, String channel, Addressbook ab, User user, User localUser, MsgTags tags) {
+                                public boolean matches(Type type, String text, int msgStart, int msgEnd, Blacklist blacklist, String channel, Addressbook ab, User user, User localUser, MsgTags tags, MatchInfo info) {
                                     return tags != null && RepeatMsgHelper.getRepeatMsg(tags) >= requiredMsgNumber;
                                 }
                             });
                         }
+                        else if (part.startsWith("spamwave")) {
+                            String[] split = part.split("\\|");
+                            int requiredUsers;
+                            if (split.length == 2 && split[1].matches("[0-9]+")) {
+                                requiredUsers = Integer.parseInt(split[1]);
+                            }
+                            else {
+                                // Tag won't be set if general setting isn't satisified, so this is just no further requirement
+                                requiredUsers = 1;
+                            }
+                            addTagsItem("Spam Wave (similar messages by different users)", String.valueOf(requiredUsers), tags -> {
+                                return SpamWaveDetector.getClusterUsers(tags) >= requiredUsers;
+                            });
+                        }
                         else if (part.startsWith("live") || part.startsWith("!live")) {
                             parseLive(part);
                         }
@@ -1144,8 +1309,8 @@ public class Highlighter {
                             matchItems.add(new Item("Contains URL"+(part.startsWith("msg") ? " (msg)" : ""), null, true) {
                                 
                                 @Override
-                                public boolean matches(Type type, String text, int msgStart, int msgEnd, Blacklist blacklist, String channel, Addressbook ab, User user, User localUser, MsgTags tags) {
-                                    return matchesPattern(text, msgStart, msgEnd, part.startsWith("msg"), Helper.getUrlPattern(), blacklist);
+                                public boolean matches(Type type, String text, int msgStart, int msgEnd, Blacklist blacklist, String channel, Addressbook ab, User user, User localUser, MsgTags tags, MatchInfo info) {
+                                    return matchesPattern(text, msgStart, msgEnd, part.startsWith("msg"), Helper.getUrlPattern(), blacklist, info);
                                 }
                             });
                         }
@@ -1208,9 +1373,9 @@ public class Highlighter {
                     if (!items.isEmpty()) {
                         matchItems.add(new Item(successValue ? "If one matches" : "If none matches", "\n====\n"+StringUtil.join(items, "----\n", s -> ((HighlightItem) s).getMatchInfo())+"====", true) {
                             @Override
-                            public boolean matches(Type type, String text, int msgStart, int msgEnd, Blacklist blacklist, String channel, Addressbook ab, User user, User localUser, MsgTags tags) {
+                            public boolean matches(Type type, String text, int msgStart, int msgEnd, Blacklist blacklist, String channel, Addressbook ab, User user, User localUser, MsgTags tags, MatchInfo info) {
                                 for (HighlightItem item : items) {
-                                    if (item.matches(type, text, msgStart, msgEnd, blacklist, channel, ab, user, localUser, tags)) {
+                                    if (item.matches(type, text, msgStart, msgEnd, blacklist, channel, ab, user, localUser, tags, null)) {
                                         return successValue;
                                     }
                                 }
@@ -1340,7 +1505,7 @@ public class Highlighter {
             matchItems.add(new Item((!successResult ? "Not: " : "") + "Stream is live (Title:" + titlePattern + "/Game:" + categoryPattern + ")", null, false) {
 
                 @Override
-                public boolean matches(Type type, String text, int msgStart, int msgEnd, Blacklist blacklist, String channel, Addressbook ab, User user, User localUser, MsgTags tags) {
+                public boolean matches(Type type, String text, int msgStart, int msgEnd, Blacklist blacklist, String channel, Addressbook ab, User user, User localUser, MsgTags tags, MatchInfo matchInfo) {
                     if (api != null && !StringUtil.isNullOrEmpty(channel)) {
                         StreamInfo info = api.getCachedStreamInfo(Helper.toStream(channel));
                         if (info != null && info.isValid() && info.getOnline()) {
@@ -1664,8 +1829,8 @@ public class Highlighter {
                     matchItems.add(new Item("Additional regex (" + prefix.substring(0, prefix.length() - 1) + ")", compiled, true) {
 
                         @Override
-                        public boolean matches(Type type, String text, int msgStart, int msgEnd, Blacklist blacklist, String channel, Addressbook ab, User user, User localUser, MsgTags tags) {
-                            return matchesPattern(text, msgStart, msgEnd, prefix.startsWith("msg"), compiled, blacklist);
+                        public boolean matches(Type type, String text, int msgStart, int msgEnd, Blacklist blacklist, String channel, Addressbook ab, User user, User localUser, MsgTags tags, MatchInfo info) {
+                            return matchesPattern(text, msgStart, msgEnd, prefix.startsWith("msg"), compiled, blacklist, info);
                         }
                     });
                 }
@@ -1673,14 +1838,14 @@ public class Highlighter {
                     matchItems.add(new Item("Not matching regex (" + prefix.substring(0, prefix.length() - 1) + ")", compiled, true) {
 
                         @Override
-                        public boolean matches(Type type, String text, int msgStart, int msgEnd, Blacklist blacklist, String channel, Addressbook ab, User user, User localUser, MsgTags tags) {
+                        public boolean matches(Type type, String text, int msgStart, int msgEnd, Blacklist blacklist, String channel, Addressbook ab, User user, User localUser, MsgTags tags, MatchInfo info) {
                             /**
                              * Don't use blacklist for negated matches, which could actually prevent
                              * the negated match. A negated match already prevents matches, so it
                              * probably wouldn't make much sense to apply the blacklist, which also
                              * prevents matches.
                              */
-                            return !matchesPattern(text, msgStart, msgEnd, prefix.startsWith("msg"), compiled, null);
+                            return !matchesPattern(text, msgStart, msgEnd, prefix.startsWith("msg"), compiled, null, info);
                         }
                     });
                 }
@@ -1736,7 +1901,8 @@ public class Highlighter {
          */
         private boolean matchesPattern(String text, int msgStart, int msgEnd,
                                        boolean matchMessageTextLocal,
-                                       Pattern pattern, Blacklist blacklist) {
+                                       Pattern pattern, Blacklist blacklist,
+                                       MatchInfo info) {
             if (pattern == null) {
                 return true;
             }
@@ -1750,8 +1916,8 @@ public class Highlighter {
                     if (notBlacklisted) {
                         return true;
                     }
-                    else {
-                        blacklistPreventedTextMatch = true;
+                    else if (info != null) {
+                        info.blacklistPreventedTextMatch = true;
                     }
                 }
             } catch (Exception ex) {
@@ -1795,7 +1961,9 @@ public class Highlighter {
                      */
                     logRegexError(pattern, text, ex);
                 }
-                matchingError = ex.getLocalizedMessage();
+                if (info != null) {
+                    info.matchingError = ex.getLocalizedMessage();
+                }
             }
             return false;
         }
@@ -1898,7 +2066,6 @@ public class Highlighter {
                 if (Debugging.millisecondsElapsedLenient(LOG_MATCHING_ERROR_KEY, LOG_MATCHING_ERROR_DELAY)) {
                     logRegexError(pattern, text, ex);
                 }
-                matchingError = ex.getLocalizedMessage();
             }
             return result;
         }
@@ -1942,6 +2109,47 @@ public class Highlighter {
             return mainPrefix;
         }
         
+        /**
+         * Get text that has to occur in the checked text for the main pattern
+         * to match. This is only available for prefixes that match a literal
+         * text (e.g. "w:" or "cs:", but not "reg:").
+         * 
+         * @return The text, or null if no such text is known for this item
+         * @see #requiredTextIsCaseSensitive()
+         */
+        public String getRequiredText() {
+            if (pattern == null || StringUtil.isNullOrEmpty(textWithoutPrefix)) {
+                return null;
+            }
+            String expectedPattern;
+            if (mainPrefix == null) {
+                expectedPattern = "(?iu)" + Pattern.quote(textWithoutPrefix);
+            }
+            else {
+                String prefix = mainPrefix.startsWith("msg") ? mainPrefix.substring(3) : mainPrefix;
+                if (!LITERAL_PREFIXES.contains(prefix)) {
+                    return null;
+                }
+                expectedPattern = patternPrefixes.get(mainPrefix).apply(textWithoutPrefix);
+            }
+            // Make sure the pattern was actually built from the text
+            if (!pattern.pattern().equals(expectedPattern)) {
+                return null;
+            }
+            return textWithoutPrefix;
+        }
+        
+        /**
+         * Whether the text returned by {@link #getRequiredText()} has to occur
+         * exactly. Otherwise it has to occur case-insensitively (with Unicode
+         * case folding, same as the "(?iu)" regex flags).
+         * 
+         * @return 
+         */
+        public boolean requiredTextIsCaseSensitive() {
+            return mainPrefix != null && mainPrefix.endsWith("cs:");
+        }
+        
         /**
          * Get the section of the item that contains the meta prefixes, so the
          * part before the main text prefix, if present, otherwise just the full
@@ -2061,6 +2269,10 @@ public class Highlighter {
             return matches(Type.TEXT_MATCHING_ONLY, text, blacklist, null, null);
         }
         
+        public boolean matchesTextOnly(String text, Blacklist blacklist, MatchInfo info) {
+            return matches(Type.TEXT_MATCHING_ONLY, text, -2, -2, blacklist, null, null, null, null, MsgTags.EMPTY, info);
+        }
+        
         public boolean matches(Type type, String text, User user, User localUser, MsgTags tags) {
             return matches(type, text, -2, -2, null, null, null, user, localUser, tags);
         }
@@ -2115,14 +2327,27 @@ public class Highlighter {
                                Blacklist blacklist,
                                String channel, Addressbook ab, User user,
                                User localUser, MsgTags tags) {
-            failedItem = null;
-            blacklistPreventedTextMatch = false;
-            blockedByBlacklist = false;
-            matchingError = null;
-            
+            return matches(type, text, msgStart, msgEnd, blacklist, channel, ab, user, localUser, tags, null);
+        }
+        
+        /**
+         * Same as {@link #matches(Type, String, int, int, Blacklist, String, Addressbook, User, User, MsgTags)},
+         * but also stores why the match failed in the given MatchInfo (if not
+         * null), for testing items. The item itself is not changed by
+         * matching, so it can be used by several threads at the same time.
+         * 
+         * @param info Receives information about the match, can be null
+         * @return true if it matches, false otherwise
+         */
+        public boolean matches(Type type, String text, int msgStart, int msgEnd,
+                               Blacklist blacklist,
+                               String channel, Addressbook ab, User user,
+                               User localUser, MsgTags tags, MatchInfo info) {
             if (blacklist != null && blacklist.block) {
                 // This would only happen when using item individually, e.g. testing
-                blockedByBlacklist = true;
+                if (info != null) {
+                    info.blockedByBlacklist = true;
+                }
                 return false;
             }
             if (localBlacklistItems != null) {
@@ -2140,7 +2365,7 @@ public class Highlighter {
             //------
             // Text
             //------
-            if (pattern != null && !matchesPattern(text, msgStart, msgEnd, matchMessageText, pattern, blacklist)) {
+            if (pattern != null && !matchesPattern(text, msgStart, msgEnd, matchMessageText, pattern, blacklist, info)) {
                 return false;
             }
             
@@ -2172,10 +2397,12 @@ public class Highlighter {
                 if (type == Type.TEXT_MATCHING_ONLY && !item.matchesOnText) {
                     continue;
                 }
-                boolean match = item.matches(type, text, msgStart, msgEnd, blacklist, channel, ab, user, localUser, tags);
+                boolean match = item.matches(type, text, msgStart, msgEnd, blacklist, channel, ab, user, localUser, tags, info);
 //                System.out.println(item);
                 if (!match) {
-                    failedItem = item;
+                    if (info != null) {
+                        info.failedItem = item;
+                    }
                     return false;
                 }
             }
@@ -2290,19 +2517,6 @@ public class Highlighter {
             return routingTargets;
         }
         
-        public String getFailedReason() {
-            if (failedItem != null) {
-                return failedItem.toString();
-            }
-            if (blockedByBlacklist) {
-                return "Blocked by blacklist";
-            }
-            if (blacklistPreventedTextMatch) {
-                return "Blacklist prevented text match";
-            }
-            return null;
-        }
-        
         public boolean hasError() {
             return error != null;
         }
@@ -2316,19 +2530,6 @@ public class Highlighter {
             return error;
         }
         
-        public boolean hasMatchingError() {
-            return matchingError != null;
-        }
-        
-        /**
-         * The latest error that occured when matching. Reset with every match.
-         * 
-         * @return 
-         */
-        public String getMatchingError() {
-            return matchingError;
-        }
-        
         public String getReplacement() {
             return replacement;
         }
@@ -2364,6 +2565,125 @@ public class Highlighter {
         
     }
     
+    /**
+     * Finds the items that could possibly match a text, based on the literal
+     * text an item requires (see {@link HighlightItem#getRequiredText()}). The
+     * required texts of all items are searched for at the same time, so the
+     * text only has to be gone through once (or twice, if there are both
+     * case-sensitive and case-insensitive items). Items that don't require a
+     * specific text are always candidates.
+     * 
+     * Other requirements of an item (like the message type or user) are not
+     * checked here, so the full item still has to be checked for candidates.
+     */
+    static class Prefilter {
+        
+        private final List<HighlightItem> items;
+        private final BitSet always = new BitSet();
+        private final AhoCorasick caseSensitive;
+        private final int[] caseSensitiveItems;
+        private final AhoCorasick caseInsensitive;
+        private final int[] caseInsensitiveItems;
+        
+        Prefilter(List<HighlightItem> items) {
+            this.items = items;
+            List<String> csTexts = new ArrayList<>();
+            List<Integer> csItems = new ArrayList<>();
+            List<String> ciTexts = new ArrayList<>();
+            List<Integer> ciItems = new ArrayList<>();
+            for (int i = 0; i < items.size(); i++) {
+                HighlightItem item = items.get(i);
+                String text = item.getRequiredText();
+                if (text == null) {
+                    always.set(i);
+                }
+                else if (item.requiredTextIsCaseSensitive()) {
+                    csTexts.add(text);
+                    csItems.add(i);
+                }
+                else if (hasSurrogate(text)) {
+                    /**
+                     * The regex case folding works on chars instead of
+                     * codepoints if the pattern doesn't contain a valid
+                     * surrogate pair, so just always check these.
+                     */
+                    always.set(i);
+                }
+                else {
+                    ciTexts.add(foldCase(text));
+                    ciItems.add(i);
+                }
+            }
+            caseSensitive = csTexts.isEmpty() ? null : new AhoCorasick(csTexts);
+            caseSensitiveItems = csItems.stream().mapToInt(i -> i).toArray();
+            caseInsensitive = ciTexts.isEmpty() ? null : new AhoCorasick(ciTexts);
+            caseInsensitiveItems = ciItems.stream().mapToInt(i -> i).toArray();
+        }
+        
+        /**
+         * Whether this prefilter was created for exactly the given list.
+         * 
+         * @param items
+         * @return 
+         */
+        boolean isFor(List<HighlightItem> items) {
+            return this.items == items;
+        }
+        
+        /**
+         * Get the items that could match the given text.
+         * 
+         * @param text The text, not null
+         * @return The indices (in the list of items the prefilter was created
+         * with) of all items that may match
+         */
+        BitSet getCandidates(String text) {
+            BitSet result = (BitSet) always.clone();
+            if (caseSensitive != null) {
+                add(caseSensitive.findAll(text), caseSensitiveItems, result);
+            }
+            if (caseInsensitive != null) {
+                add(caseInsensitive.findAll(foldCase(text)), caseInsensitiveItems, result);
+            }
+            return result;
+        }
+        
+        private static void add(BitSet found, int[] items, BitSet result) {
+            for (int i = found.nextSetBit(0); i >= 0; i = found.nextSetBit(i + 1)) {
+                result.set(items[i]);
+            }
+        }
+        
+        private static boolean hasSurrogate(String text) {
+            for (int i = 0; i < text.length(); i++) {
+                if (Character.isSurrogate(text.charAt(i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        
+        /**
+         * Case folding for each codepoint the same way the regex does when
+         * using both the CASE_INSENSITIVE and UNICODE_CASE flags, so a
+         * case-insensitive literal match can only occur if the folded literal
+         * occurs in the folded text.
+         * 
+         * @param input
+         * @return 
+         */
+        static String foldCase(String input) {
+            StringBuilder b = new StringBuilder(input.length());
+            for (int i = 0; i < input.length();) {
+                int codePoint = input.codePointAt(i);
+                b.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint)));
+                i += Character.charCount(codePoint);
+            }
+            return b.toString();
+        }
+        
+    }
+    
     public static class Blacklist {
         
         private final Collection<Match> blacklisted;
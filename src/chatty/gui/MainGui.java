@@ -182,6 +182,8 @@ public class MainGui extends JFrame implements Runnable {
     private final Highlighter ignoreList = new Highlighter("ignore");
     private final Highlighter filter = new Highlighter("filter");
     public final RepeatMsgHelper repeatMsg;
+    private final SpamWaveDetector spamWaves;
+    private final MessagePipeline messagePipeline = new MessagePipeline("msg", MessagePipeline.getDefaultThreads());
     private final MsgColorManager msgColorManager;
     private StyleManager styleManager;
     private TrayIconManager trayIcon;
@@ -205,6 +207,7 @@ public class MainGui extends JFrame implements Runnable {
         msgColorManager = new MsgColorManager(client.settings);
         localEmotes = new LocalEmotesSetting(client.settings, this);
         repeatMsg = new RepeatMsgHelper(client.settings);
+        spamWaves = new SpamWaveDetector(client.settings);
         SwingUtilities.invokeLater(this);
     }
     
@@ -1111,6 +1114,7 @@ public class MainGui extends JFrame implements Runnable {
         updateConnectionDialog(null);
         userInfoDialog.setUserDefinedButtonsDef(client.settings.getString("timeoutButtons"));
         debugWindow.getLogIrcCheckBox().setSelected(client.settings.getBoolean("debugLogIrc"));
+        EdtProfiler.setEnabled(client.settings.getBoolean("edtProfiler"));
         updateLiveStreamsDialog(); 
         updateFollowerDialogs();
         
@@ -1126,7 +1130,14 @@ public class MainGui extends JFrame implements Runnable {
         updateChannelsSettings();
         updateHighlightNextMessages();
         updateHighlightIncludeAllMatches();
+        updateMatchingPrefilter();
         repeatMsg.loadSettings();
+        spamWaves.loadSettings();
+        spamWaves.setListener((channel, id, size, users, text) -> {
+            moderationLog.addInfo(Helper.toStream(channel),
+                    String.format("Spam wave #%d: %d messages by %d users: %s",
+                            id, size, users, StringUtil.shortenTo(text, 100)));
+        });
         
         msgColorManager.loadFromSettings();
         notificationManager.loadFromSettings();
@@ -1321,6 +1332,13 @@ public class MainGui extends JFrame implements Runnable {
         highlighter.setIncludeAllTextMatches(client.settings.getBoolean("highlightMatchesAllEntries"));
     }
     
+    private void updateMatchingPrefilter() {
+        boolean enabled = client.settings.getBoolean("matchingPrefilter");
+        highlighter.setPrefilterEnabled(enabled);
+        ignoreList.setPrefilterEnabled(enabled);
+        filter.setPrefilterEnabled(enabled);
+    }
+    
     private void updateNotificationSettings() {
         notificationWindowManager.setDisplayTime((int)client.settings.getLong("nDisplayTime"));
         notificationWindowManager.setMaxDisplayTime((int)client.settings.getLong("nMaxDisplayTime"));
@@ -3607,25 +3625,17 @@ public class MainGui extends JFrame implements Runnable {
         client.resolveSourceData(user, tags0, tags1 -> {
 
 
-        SwingUtilities.invokeLater(new Runnable() {
+        messagePipeline.submit(() -> prepareMessage(user, text2, action, tags1), new Consumer<PreparedMessage>() {
             @Override
-            public void run() {
-                /**
-                 * Replace the ZWF replacement (which consists of two chars)
-                 * with the ZFW before anything that relies on character
-                 * position (like Highlights or Emote parsing) is performed.
-                 * Twitch emote indices work with codepoint counts, so it's
-                 * fine.
-                 */
-                boolean decodeZWF = client.settings.getLong("emojiZWJ") > 0;
-                String text = decodeZWF ? EmojiUtil.decodeZWJ(text2) : text2;
+            public void accept(PreparedMessage prepared) {
+                String text = prepared.text;
                 
                 MsgTags tags = tags1;
                 Channel chan;
                 String channel = user.getChannel();
                 boolean whisper = false;
                 int bitsAmount = tags.getBits();
-                User localUser = client.getLocalUser(channel);
+                User localUser = prepared.localUser;
                 
                 // Disable Cheer emotes altogether if disabled in the settings
                 int bitsForEmotes = bitsAmount;
@@ -3659,6 +3669,23 @@ public class MainGui extends JFrame implements Runnable {
                 
                 // Adds a tag if repeated msg is detected according to settings
                 tags = repeatMsg.check(user, localUser, text, tags);
+                if (!whisper) {
+                    // Adds tags if similar messages by other users are detected
+                    tags = spamWaves.check(user, text, prepared.spamWaveSignature, tags);
+                }
+                
+                MessageMatches matches = prepared.matches;
+                if (tags != matches.checkedTags
+                        || (!matches.highlighted && highlighter.hasFollowUp(user))) {
+                    /**
+                     * Tags added by the repeated message or spam wave detection
+                     * may change the result, as well as a highlight follow-up
+                     * from a previous message (which may have been prepared
+                     * after this one), so check again.
+                     */
+                    matches = matchMessage(user, localUser, text, action, tags);
+                }
+                tags = matches.tags;
                 if (Chatty.DEBUG && !tags.hasValue("id")) {
                     /**
                      * Could be weird to add for non-testing since the message
@@ -3667,37 +3694,13 @@ public class MainGui extends JFrame implements Runnable {
                     tags = MsgTags.addTag(tags, "id", String.valueOf(User.MSG_ID++));
                 }
                 
-                boolean isOwnMessage = isOwnUsername(user.getName()) || (whisper && action);
-                boolean ignoredUser = (userIgnored(user, whisper) && !isOwnMessage);
-                // May be necessary to check even if ignoredUser, to get ignore matchings later on
-                boolean ignored = checkMsg(ignoreList, "ignore", text, -2, -2, user, localUser, tags, isOwnMessage, false) || ignoredUser;
-                if (!HistoryUtil.checkAllowMatch(tags, "Ignore", ignoreList.getLastMatchItem(), client.settings)) {
-                    ignored = false;
-                    ignoredUser = false;
-                }
-                
-                boolean highlighted = false;
+                boolean isOwnMessage = matches.isOwnMessage;
+                boolean ignoredUser = matches.ignoredUser;
+                HighlightResult ignoreResult = matches.ignoreResult;
+                boolean ignored = matches.ignored;
+                boolean highlighted = matches.highlighted;
+                HighlightResult highlightResult = matches.highlightResult;
                 List<Match> highlightMatches = null;
-                if ((client.settings.getBoolean("highlightIgnored")
-                        || client.settings.getBoolean("highlightOverrideIgnored")
-                        || highlighter.hasOverrideIgnored()
-                        || !ignored)
-                        && !client.settings.listContains("noHighlightUsers", user.getName())) {
-                    boolean rejectIgnoredWithoutPrefix = client.settings.getBoolean("highlightOverrideIgnored")
-                                              || client.settings.getBoolean("highlightIgnored")
-                                              ? false : ignored;
-                    highlighted = checkMsg(highlighter, "highlight", text, -2, -2, user, localUser, tags, isOwnMessage, rejectIgnoredWithoutPrefix);
-                    if (!HistoryUtil.checkAllowMatch(tags, "Highlight", highlighter.getLastMatchItem(), client.settings)) {
-                        highlighted = false;
-                    }
-                    if (highlighted) {
-                        if (client.settings.getBoolean("highlightOverrideIgnored")
-                                || highlighter.getLastMatchItem().overrideIgnored()) {
-                            ignored = false;
-                        }
-                        tags = MsgTags.addTag(tags, MsgTags.IS_HIGHLIGHTED, "true");
-                    }
-                }
                 
                 boolean allowLog = !tags.isHistoricMsg();
                 if ((!ignored || client.settings.getBoolean("logIgnored"))
@@ -3706,19 +3709,19 @@ public class MainGui extends JFrame implements Runnable {
                     client.chatLog.message(chan.getFilename(), user, text, action, null);
                 }
                 
-                TagEmotes tagEmotes = Emoticons.parseEmotesTag(tags.getRawEmotes());
+                TagEmotes tagEmotes = prepared.tagEmotes;
                 
                 // Do stuff if highlighted, without printing message
                 if (highlighted) {
-                    highlightMatches = highlighter.getLastTextMatches();
-                    if (!highlighter.getLastMatchNoNotification()) {
+                    highlightMatches = highlightResult.getTextMatches();
+                    if (!highlightResult.noNotification()) {
                         channels.setChannelHighlighted(chan);
                     } else {
                         channels.setChannelNewMessage(chan);
                     }
                     notificationManager.highlight(user, localUser, text, tags,
-                            highlighter.getLastMatchNoNotification(),
-                            highlighter.getLastMatchNoSound(),
+                            highlightResult.noNotification(),
+                            highlightResult.noSound(),
                             isOwnMessage, whisper, bitsAmount > 0);
                 } else if (!ignored) {
                     if (whisper) {
@@ -3741,22 +3744,22 @@ public class MainGui extends JFrame implements Runnable {
                     if (!ignoredUser) {
                         // Text matches might not be valid if ignore was through
                         // ignored users list
-                        ignoreMatches = ignoreList.getLastTextMatches();
-                        ignoreSource = ignoreList.getLastMatchItems();
-                        routingTargets.add(ignoreList.getLastMatchItem());
+                        ignoreMatches = ignoreResult.getTextMatches();
+                        ignoreSource = ignoreResult.getItems();
+                        routingTargets.add(ignoreResult.getItem());
                         UserMessage message = new UserMessage(user, text, tagEmotes, null, bitsForEmotes, ignoreMatches, null, null, tags);
                         message.whisper = whisper;
                         message.ignoreSource = ignoreSource;
                         routingManager.addUserMessage(routingTargets, message, localUser);
                     }
                     // No match item is set when ignored by "Ignored Users" list
-                    if (ignoredUser || !ignoreList.getLastMatchItem().hide()) {
+                    if (ignoredUser || !ignoreResult.getItem().hide()) {
                         ignoredMessages.addMessage(channel, user, text, action,
                                 tagEmotes, bitsForEmotes, whisper, ignoreMatches,
                                 ignoreSource, tags);
                         ignoredMessagesHelper.ignoredMessage(channel);
                     }
-                    if ((ignoredUser || !ignoreList.getLastMatchItem().noLog())
+                    if ((ignoredUser || !ignoreResult.getItem().noLog())
                             && allowLog) {
                         client.chatLog.message("ignored", user, text, action, channel);
                     }
@@ -3772,13 +3775,14 @@ public class MainGui extends JFrame implements Runnable {
                         printInfo(chan, InfoMessage.createInfo("Own message ignored."));
                     }
                 } else {
-                    boolean hasReplacements = checkMsg(filter, "filter", text, -2, -2, user, localUser, tags, isOwnMessage, false);
+                    HighlightResult filterResult = matches.filterResult;
+                    boolean hasReplacements = filterResult.matched();
 
                     // Print message, but determine how exactly
                     UserMessage message = new UserMessage(user, text, tagEmotes, tags.getId(), bitsForEmotes,
                             highlightMatches,
-                            hasReplacements ? filter.getLastTextMatches() : null,
-                            hasReplacements ? filter.getLastReplacement() : null,
+                            hasReplacements ? filterResult.getTextMatches() : null,
+                            hasReplacements ? filterResult.getReplacement() : null,
                             tags);
                     message.localUser = localUser;
 
@@ -3788,25 +3792,20 @@ public class MainGui extends JFrame implements Runnable {
                     }
 
                     // Custom color
-                    boolean hlByPoints = tags.isHighlightedMessage() && client.settings.getBoolean("highlightByPoints");
+                    boolean hlByPoints = matches.hlByPoints;
                     if (highlighted) {
-                        message.color = highlighter.getLastMatchColor();
-                        message.backgroundColor = highlighter.getLastMatchBackgroundColor();
-                        message.colorSource = highlighter.getColorSource();
-                        message.highlightSource = highlighter.getLastMatchItems();
-                        routingTargets.add(highlighter.getLastMatchItem());
+                        message.color = highlightResult.getColor();
+                        message.backgroundColor = highlightResult.getBackgroundColor();
+                        message.colorSource = highlightResult.getColorSource();
+                        message.highlightSource = highlightResult.getItems();
+                        routingTargets.add(highlightResult.getItem());
                     }
-                    if (!(highlighted || hlByPoints) || client.settings.getBoolean("msgColorsPrefer")) {
-                        MsgColorItem colorItem = msgColorManager.getMsgColor(user, localUser, text, -2, -2, tags);
-                        if (!HistoryUtil.checkAllowMatch(tags, "msgColors", colorItem.getMatcher(), client.settings)) {
-                            colorItem = MsgColorManager.EMPTY;
-                        }
-                        if (!colorItem.isEmpty()) {
-                            message.color = colorItem.getForegroundIfEnabled();
-                            message.backgroundColor = colorItem.getBackgroundIfEnabled();
-                            message.colorSource = colorItem;
-                            routingTargets.add(colorItem.getMatcher());
-                        }
+                    MsgColorItem colorItem = matches.colorItem;
+                    if (colorItem != null && !colorItem.isEmpty()) {
+                        message.color = colorItem.getForegroundIfEnabled();
+                        message.backgroundColor = colorItem.getBackgroundIfEnabled();
+                        message.colorSource = colorItem;
+                        routingTargets.add(colorItem.getMatcher());
                     }
                     
                     message.whisper = whisper;
@@ -3821,10 +3820,10 @@ public class MainGui extends JFrame implements Runnable {
                     }
                     chan.printMessage(message, timestamp);
                     if (highlighted) {
-                        if (!highlighter.getLastMatchItem().hide()) {
+                        if (!highlightResult.getItem().hide()) {
                             highlightedMessages.addMessage(channel, message);
                         }
-                        if (!highlighter.getLastMatchItem().noLog()
+                        if (!highlightResult.getItem().noLog()
                                 && allowLog) {
                             client.chatLog.message("highlighted", user, text, action, channel);
                         }
@@ -3844,14 +3843,14 @@ public class MainGui extends JFrame implements Runnable {
                 // Update User
                 String hypeChatAmount = tags.getHypeChatAmountText();
                 if (hypeChatAmount != null) {
-                    user.addSub(processMessage(text), tags.getHypeChatInfo(), tags.getId(), tags.getSourceId(), tags.getSourceChannel());
+                    user.addSub(prepared.processedText, tags.getHypeChatInfo(), tags.getId(), tags.getSourceId(), tags.getSourceChannel());
                 }
                 else {
                     // Stuff independent of highlight/ignore
                     if (timestamp == null) {
-                        user.addMessage(processMessage(text), action, tags.getId(), tags.getSourceId(), tags.getSourceChannel(), tags.getHistoricTimeStamp());
+                        user.addMessage(prepared.processedText, action, tags.getId(), tags.getSourceId(), tags.getSourceChannel(), tags.getHistoricTimeStamp());
                     } else {
-                        user.addMessage(processMessage(text), action, tags.getId(), timestamp);
+                        user.addMessage(prepared.processedText, action, tags.getId(), timestamp);
                     }
                 }
                 if (highlighted) {
@@ -3974,26 +3973,194 @@ public class MainGui extends JFrame implements Runnable {
         return Helper.filterCombiningCharacters(text, "****", mode);
     }
     
-    private boolean checkHighlight(HighlightItem.Type type, String text, int msgStart, int msgEnd,
+    /**
+     * The part of processing a chat message that doesn't depend on any GUI
+     * state or previous messages, so it can be performed outside the EDT.
+     */
+    private static class PreparedMessage {
+        
+        public final String text;
+        public final String processedText;
+        public final TagEmotes tagEmotes;
+        public final int[] spamWaveSignature;
+        public final User localUser;
+        public final MessageMatches matches;
+        
+        PreparedMessage(String text, String processedText, TagEmotes tagEmotes,
+                int[] spamWaveSignature, User localUser, MessageMatches matches) {
+            this.text = text;
+            this.processedText = processedText;
+            this.tagEmotes = tagEmotes;
+            this.spamWaveSignature = spamWaveSignature;
+            this.localUser = localUser;
+            this.matches = matches;
+        }
+        
+    }
+    
+    /**
+     * Called by the message pipeline, possibly outside the EDT.
+     * 
+     * @param user
+     * @param rawText
+     * @param action
+     * @param tags
+     * @return 
+     */
+    private PreparedMessage prepareMessage(User user, String rawText, boolean action, MsgTags tags) {
+        /**
+         * Replace the ZWF replacement (which consists of two chars) with the
+         * ZFW before anything that relies on character position (like
+         * Highlights or Emote parsing) is performed. Twitch emote indices work
+         * with codepoint counts, so it's fine.
+         */
+        boolean decodeZWF = client.settings.getLong("emojiZWJ") > 0;
+        String text = decodeZWF ? EmojiUtil.decodeZWJ(rawText) : rawText;
+        User localUser = client.getLocalUser(user.getChannel());
+        return new PreparedMessage(text, processMessage(text),
+                Emoticons.parseEmotesTag(tags.getRawEmotes()),
+                spamWaves.isEnabled() ? SpamWaveDetector.createSignature(text) : null,
+                localUser,
+                matchMessage(user, localUser, text, action, tags));
+    }
+    
+    /**
+     * The results of checking a chat message against the ignore, highlight,
+     * filter and msgColors lists.
+     */
+    private static class MessageMatches {
+        
+        /**
+         * The tags the message was checked with.
+         */
+        public final MsgTags checkedTags;
+        
+        /**
+         * The tags with the highlighted tag added, if highlighted.
+         */
+        public final MsgTags tags;
+        public final boolean isOwnMessage;
+        public final boolean ignoredUser;
+        public final HighlightResult ignoreResult;
+        public final boolean ignored;
+        public final boolean highlighted;
+        public final HighlightResult highlightResult;
+        public final boolean hlByPoints;
+        public final HighlightResult filterResult;
+        
+        /**
+         * Null if msgColors don't apply to this message.
+         */
+        public final MsgColorItem colorItem;
+        
+        MessageMatches(MsgTags checkedTags, MsgTags tags, boolean isOwnMessage,
+                boolean ignoredUser, HighlightResult ignoreResult, boolean ignored,
+                boolean highlighted, HighlightResult highlightResult,
+                boolean hlByPoints, HighlightResult filterResult,
+                MsgColorItem colorItem) {
+            this.checkedTags = checkedTags;
+            this.tags = tags;
+            this.isOwnMessage = isOwnMessage;
+            this.ignoredUser = ignoredUser;
+            this.ignoreResult = ignoreResult;
+            this.ignored = ignored;
+            this.highlighted = highlighted;
+            this.highlightResult = highlightResult;
+            this.hlByPoints = hlByPoints;
+            this.filterResult = filterResult;
+            this.colorItem = colorItem;
+        }
+        
+    }
+    
+    /**
+     * Check a chat message against the ignore, highlight, filter and msgColors
+     * lists. Usually called by the message pipeline outside the EDT, but
+     * called again on the EDT if the result may have changed meanwhile.
+     * 
+     * @param user
+     * @param localUser
+     * @param text
+     * @param action
+     * @param tags
+     * @return 
+     */
+    private MessageMatches matchMessage(User user, User localUser, String text, boolean action, MsgTags tags) {
+        MsgTags checkedTags = tags;
+        boolean whisper = user.getChannel().equals(WhisperManager.WHISPER_CHANNEL);
+        boolean isOwnMessage = isOwnUsername(user.getName()) || (whisper && action);
+        boolean ignoredUser = (userIgnored(user, whisper) && !isOwnMessage);
+        // May be necessary to check even if ignoredUser, to get ignore matchings later on
+        HighlightResult ignoreResult = checkMsg(ignoreList, "ignore", text, -2, -2, user, localUser, tags, isOwnMessage, false);
+        boolean ignored = ignoreResult.matched() || ignoredUser;
+        if (!HistoryUtil.checkAllowMatch(tags, "Ignore", ignoreResult.getItem(), client.settings)) {
+            ignored = false;
+            ignoredUser = false;
+        }
+        
+        boolean highlighted = false;
+        HighlightResult highlightResult = HighlightResult.NO_MATCH;
+        if ((client.settings.getBoolean("highlightIgnored")
+                || client.settings.getBoolean("highlightOverrideIgnored")
+                || highlighter.hasOverrideIgnored()
+                || !ignored)
+                && !client.settings.listContains("noHighlightUsers", user.getName())) {
+            boolean rejectIgnoredWithoutPrefix = client.settings.getBoolean("highlightOverrideIgnored")
+                                      || client.settings.getBoolean("highlightIgnored")
+                                      ? false : ignored;
+            highlightResult = checkMsg(highlighter, "highlight", text, -2, -2, user, localUser, tags, isOwnMessage, rejectIgnoredWithoutPrefix);
+            highlighted = highlightResult.matched();
+            if (!HistoryUtil.checkAllowMatch(tags, "Highlight", highlightResult.getItem(), client.settings)) {
+                highlighted = false;
+            }
+            if (highlighted) {
+                if (client.settings.getBoolean("highlightOverrideIgnored")
+                        || highlightResult.getItem().overrideIgnored()) {
+                    ignored = false;
+                }
+                tags = MsgTags.addTag(tags, MsgTags.IS_HIGHLIGHTED, "true");
+            }
+        }
+        
+        // Only used if the message is printed
+        HighlightResult filterResult = HighlightResult.NO_MATCH;
+        if (!ignored || client.settings.getLong("ignoreMode") > IgnoredMessages.MODE_COUNT) {
+            filterResult = checkMsg(filter, "filter", text, -2, -2, user, localUser, tags, isOwnMessage, false);
+        }
+        
+        boolean hlByPoints = tags.isHighlightedMessage() && client.settings.getBoolean("highlightByPoints");
+        MsgColorItem colorItem = null;
+        if (!(highlighted || hlByPoints) || client.settings.getBoolean("msgColorsPrefer")) {
+            colorItem = msgColorManager.getMsgColor(user, localUser, text, -2, -2, tags);
+            if (!HistoryUtil.checkAllowMatch(tags, "msgColors", colorItem.getMatcher(), client.settings)) {
+                colorItem = MsgColorManager.EMPTY;
+            }
+        }
+        return new MessageMatches(checkedTags, tags, isOwnMessage, ignoredUser,
+                ignoreResult, ignored, highlighted, highlightResult, hlByPoints,
+                filterResult, colorItem);
+    }
+    
+    private HighlightResult checkHighlight(HighlightItem.Type type, String text, int msgStart, int msgEnd,
             String channel, Addressbook ab, User user, User localUser, MsgTags tags, Highlighter hl,
             String setting, boolean isOwnMessage, boolean ignored) {
         if (client.settings.getBoolean(setting + "Enabled")) {
             if (client.settings.getBoolean(setting + "OwnText") ||
                     !isOwnMessage) {
-                return hl.check(type, text, msgStart, msgEnd, channel, ab, user, localUser, tags, ignored);
+                return hl.match(type, text, msgStart, msgEnd, channel, ab, user, localUser, tags, ignored);
             }
         }
-        return false;
+        return HighlightResult.NO_MATCH;
     }
     
-    private boolean checkMsg(Highlighter hl, String setting, String text, int msgStart, int msgEnd,
+    private HighlightResult checkMsg(Highlighter hl, String setting, String text, int msgStart, int msgEnd,
             User user, User localUser, MsgTags tags, boolean isOwnMessage,
             boolean ignored) {
         return checkHighlight(HighlightItem.Type.REGULAR, text, msgStart, msgEnd, null, null,
                 user, localUser, tags, hl, setting, isOwnMessage, ignored);
     }
     
-    private boolean checkInfoMsg(Highlighter hl, String setting, String text, int msgStart, int msgEnd,
+    private HighlightResult checkInfoMsg(Highlighter hl, String setting, String text, int msgStart, int msgEnd,
             User user, MsgTags tags, String channel, Addressbook ab,
             boolean ignored) {
         return checkHighlight(HighlightItem.Type.INFO, text, msgStart, msgEnd, channel, ab,
@@ -4202,17 +4369,20 @@ public class MainGui extends JFrame implements Runnable {
         MsgTags tags = message.tags;
         User localUser = client.getLocalUser(channel.getChannel());
         RoutingTargets routingTargets = new RoutingTargets();
-        boolean ignored = checkInfoMsg(ignoreList, "ignore", message.text, message.getMsgStart(), message.getMsgEnd(), user, tags, channel.getChannel(), client.addressbook, false);
+        HighlightResult ignoreResult = checkInfoMsg(ignoreList, "ignore", message.text, message.getMsgStart(), message.getMsgEnd(), user, tags, channel.getChannel(), client.addressbook, false);
+        boolean ignored = ignoreResult.matched();
         boolean highlighted = false;
+        HighlightResult highlightResult = HighlightResult.NO_MATCH;
         boolean ignoreCheck = !ignored
                 || highlighter.hasOverrideIgnored()
                 || client.settings.getBoolean("highlightOverrideIgnored");
         if (ignoreCheck && !message.isHidden() && !noHighlightUser) {
             boolean rejectIgnoredWithoutPrefix = client.settings.getBoolean("highlightOverrideIgnored") ? false : ignored;
-            highlighted = checkInfoMsg(highlighter, "highlight", message.text, message.getMsgStart(), message.getMsgEnd(), user, tags, channel.getChannel(), client.addressbook, rejectIgnoredWithoutPrefix);
+            highlightResult = checkInfoMsg(highlighter, "highlight", message.text, message.getMsgStart(), message.getMsgEnd(), user, tags, channel.getChannel(), client.addressbook, rejectIgnoredWithoutPrefix);
+            highlighted = highlightResult.matched();
             if (highlighted) {
                 if (client.settings.getBoolean("highlightOverrideIgnored")
-                        || highlighter.getLastMatchItem().overrideIgnored()) {
+                        || highlightResult.getItem().overrideIgnored()) {
                     ignored = false;
                 }
                 tags = MsgTags.addTag(tags, MsgTags.IS_HIGHLIGHTED, "true");
@@ -4225,21 +4395,21 @@ public class MainGui extends JFrame implements Runnable {
             if (!message.isHidden()) {
                 if (highlighted) {
                     message.highlighted = true;
-                    message.highlightMatches = highlighter.getLastTextMatches();
-                    message.color = highlighter.getLastMatchColor();
-                    message.bgColor = highlighter.getLastMatchBackgroundColor();
-                    message.colorSource = highlighter.getColorSource();
-                    message.highlightSource = highlighter.getLastMatchItems();
-                    routingTargets.add(highlighter.getLastMatchItem());
-
-                    if (!highlighter.getLastMatchNoNotification()) {
+                    message.highlightMatches = highlightResult.getTextMatches();
+                    message.color = highlightResult.getColor();
+                    message.bgColor = highlightResult.getBackgroundColor();
+                    message.colorSource = highlightResult.getColorSource();
+                    message.highlightSource = highlightResult.getItems();
+                    routingTargets.add(highlightResult.getItem());
+
+                    if (!highlightResult.noNotification()) {
                         channels.setChannelHighlighted(channel);
                     } else {
                         channels.setChannelNewMessage(channel);
                     }
                     notificationManager.infoHighlight(channel.getRoom(), message.text,
-                            highlighter.getLastMatchNoNotification(),
-                            highlighter.getLastMatchNoSound(), localUser);
+                            highlightResult.noNotification(),
+                            highlightResult.noSound(), localUser);
                 } else {
                     notificationManager.info(channel.getRoom(), message.text, localUser);
                 }
@@ -4255,10 +4425,10 @@ public class MainGui extends JFrame implements Runnable {
                 }
                 // After colors and everything is set
                 if (highlighted) {
-                    if (!highlighter.getLastMatchItem().hide()) {
+                    if (!highlightResult.getItem().hide()) {
                         highlightedMessages.addInfoMessage(channel.getChannel(), message);
                     }
-                    if (!highlighter.getLastMatchItem().noLog()) {
+                    if (!highlightResult.getItem().noLog()) {
                         client.chatLog.info("highlighted", message.text, channel.getChannel());
                     }
                 }
@@ -4268,12 +4438,12 @@ public class MainGui extends JFrame implements Runnable {
                 channels.setChannelNewMessage(channel);
             }
         } else if (!message.isHidden()) {
-            routingTargets.add(ignoreList.getLastMatchItem());
-            if (!ignoreList.getLastMatchItem().hide()) {
+            routingTargets.add(ignoreResult.getItem());
+            if (!ignoreResult.getItem().hide()) {
                 ignoredMessages.addInfoMessage(channel.getChannel(), message.text,
-                        ignoreList.getLastTextMatches(), ignoreList.getLastMatchItems());
+                        ignoreResult.getTextMatches(), ignoreResult.getItems());
             }
-            if (!ignoreList.getLastMatchItem().noLog()) {
+            if (!ignoreResult.getItem().noLog()) {
                 client.chatLog.info("ignored", message.text, channel.getChannel());
             }
         }
@@ -4319,10 +4489,23 @@ public class MainGui extends JFrame implements Runnable {
      * @return  
      */
     public boolean search(Channel chan, final String searchText) {
+        return search(chan, searchText, true);
+    }
+    
+    /**
+     * Perform search in the given channel, into the given direction. Should
+     * only be called from the EDT.
+     * 
+     * @param chan
+     * @param searchText
+     * @param older Search for older (true) or newer (false) messages
+     * @return 
+     */
+    public boolean search(Channel chan, String searchText, boolean older) {
         if (chan == null) {
             return false;
         }
-        return chan.search(searchText);
+        return chan.search(searchText, older);
     }
     
     public void resetSearch(Channel chan) {
@@ -5610,6 +5793,8 @@ public class MainGui extends JFrame implements Runnable {
                     hotkeyManager.setGlobalHotkeysEnabled((Boolean)value);
                 } else if (setting.equals("imageCache")) {
                     ImageCache.setCachingEnabled(bool);
+                } else if (setting.equals("edtProfiler")) {
+                    EdtProfiler.setEnabled(bool);
                 } else if (setting.equals("mainResizable")) {
                     setResizable(bool);
                 } else if (setting.equals("streamChatResizable")) {
@@ -5624,6 +5809,8 @@ public class MainGui extends JFrame implements Runnable {
                     emotesDialog.setEmoteImageType(Emoticon.makeImageType(bool));
                 } else if (setting.equals("matchingSubstitutesEnabled")) {
                     updateHighlight();
+                } else if (setting.equals("matchingPrefilter")) {
+                    updateMatchingPrefilter();
                 } else if (setting.equals("webp")) {
                     if (bool) {
                         WebPUtil.runIfWebPAvailable(() -> {});
@@ -5697,6 +5884,10 @@ public class MainGui extends JFrame implements Runnable {
                     emotesDialog.setEmoteScale(((Long)value).intValue());
                 } else if (setting.equals("smilies")) {
                     updateSmilies();
+                } else if (setting.equals("imageLoaderThreads")) {
+                    CachedImage.setLoaderThreads(((Long)value).intValue());
+                } else if (setting.equals("imageMemoryBudget")) {
+                    CachedImage.setMemoryBudget(((Long)value).intValue());
                 }
             }
             if (setting.equals("liveStreamsSorting")
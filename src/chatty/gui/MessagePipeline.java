@@ -0,0 +1,247 @@
+
+package chatty.gui;
+
+import chatty.util.Debugging;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import javax.swing.SwingUtilities;
+
+/**
+ * Splits message processing into a prepare stage that runs on a pool of
+ * worker threads and an EDT stage that receives the prepared result.
+ *
+ * <p>
+ * The EDT stage is queued with {@code invokeLater()} directly when the message
+ * is submitted, so messages stay in the same order relative to each other (and
+ * to anything else added to the EDT in the meantime) as if everything was done
+ * on the EDT. While the message waits in the EDT queue the prepare stage is
+ * already running on a worker thread. If the EDT gets to the message before a
+ * worker has even started preparing it, the EDT simply runs the prepare stage
+ * itself instead of waiting for a free worker.
+ * </p>
+ *
+ * <p>
+ * The prepare stage should only do work that doesn't depend on state changed by
+ * previous messages' EDT stage and that is safe to run outside the EDT.
+ * </p>
+ *
+ * @author tduva
+ */
+public class MessagePipeline {
+
+    private static final Logger LOGGER = Logger.getLogger(MessagePipeline.class.getName());
+
+    private static final int STATS_OUTPUT_DELAY = 1000;
+
+    private final String name;
+    private final ExecutorService executor;
+    private final Stats stats = new Stats();
+
+    public MessagePipeline(String name, int threads) {
+        this.name = name;
+        this.executor = Executors.newFixedThreadPool(threads, new DaemonThreadFactory(name));
+    }
+
+    /**
+     * Default number of worker threads, leaving some processing power for the
+     * EDT and connections.
+     *
+     * @return
+     */
+    public static int getDefaultThreads() {
+        return Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+    }
+
+    /**
+     * Submit a message for processing. Can be called from any thread.
+     *
+     * @param <T> The type of the prepared result
+     * @param prepareStage Called on a worker thread (or the EDT if no worker
+     * was free in time), must not return {@code null}
+     * @param edtStage Called on the EDT with the prepared result, in the order
+     * messages were submitted
+     */
+    public <T> void submit(Supplier<T> prepareStage, Consumer<T> edtStage) {
+        PrepareTask<T> task = new PrepareTask<>(prepareStage);
+        try {
+            executor.execute(task);
+        }
+        catch (RejectedExecutionException ex) {
+            // The EDT will run it instead
+            LOGGER.warning("Prepare stage rejected: "+ex);
+        }
+        SwingUtilities.invokeLater(() -> {
+            long edtStart = System.nanoTime();
+            T prepared = task.getResult();
+            long waited = System.nanoTime() - edtStart;
+            edtStage.accept(prepared);
+            long edtEnd = System.nanoTime();
+            stats.add(task, waited, edtEnd - edtStart - waited, edtEnd);
+            if (Debugging.isEnabled("pipeline")
+                    && Debugging.millisecondsElapsedLenient("pipeline"+name, STATS_OUTPUT_DELAY)) {
+                Debugging.printlnTimed("pipeline"+name, "["+name+"] "+stats.makeInfo());
+            }
+        });
+    }
+
+    public String getStats() {
+        return stats.makeInfo();
+    }
+
+    /**
+     * Runs the prepare stage and records when and where it ran.
+     */
+    private static class PrepareTask<T> extends FutureTask<T> {
+
+        private final long submitted = System.nanoTime();
+        private final PrepareStage<T> stage;
+        private volatile long finished;
+
+        PrepareTask(Supplier<T> prepareStage) {
+            this(new PrepareStage<>(prepareStage));
+        }
+
+        private PrepareTask(PrepareStage<T> stage) {
+            super(stage);
+            this.stage = stage;
+        }
+
+        @Override
+        protected void done() {
+            finished = System.nanoTime();
+        }
+
+        /**
+         * Get the result, running the prepare stage in the current thread if
+         * no worker has started it yet.
+         *
+         * @return
+         */
+        T getResult() {
+            // Does nothing if already running or done
+            run();
+            try {
+                return get();
+            }
+            catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(ex);
+            }
+            catch (ExecutionException ex) {
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ex.getCause();
+                }
+                throw new RuntimeException(ex.getCause());
+            }
+        }
+
+    }
+
+    /**
+     * The FutureTask only calls this once, from the thread that actually runs
+     * it, so that's where the start is recorded.
+     */
+    private static class PrepareStage<T> implements Callable<T> {
+
+        private final Supplier<T> prepareStage;
+        private volatile long started;
+        private volatile boolean onEdt;
+
+        PrepareStage(Supplier<T> prepareStage) {
+            this.prepareStage = prepareStage;
+        }
+
+        @Override
+        public T call() {
+            started = System.nanoTime();
+            onEdt = SwingUtilities.isEventDispatchThread();
+            return prepareStage.get();
+        }
+
+    }
+
+    /**
+     * Per-stage latency, accumulated since the last output.
+     */
+    private static class Stats {
+
+        private int count;
+        private int onEdt;
+        private long queueWait;
+        private long prepare;
+        private long edtWait;
+        private long edt;
+        private long total;
+        private long maxTotal;
+
+        private String lastInfo = "No messages yet";
+
+        /**
+         * Only called on the EDT.
+         */
+        synchronized void add(PrepareTask<?> task, long edtWait, long edt, long edtEnd) {
+            count++;
+            if (task.stage.onEdt) {
+                onEdt++;
+            }
+            this.queueWait += task.stage.started - task.submitted;
+            this.prepare += task.finished - task.stage.started;
+            this.edtWait += edtWait;
+            this.edt += edt;
+            long total = edtEnd - task.submitted;
+            this.total += total;
+            maxTotal = Math.max(maxTotal, total);
+        }
+
+        synchronized String makeInfo() {
+            if (count > 0) {
+                lastInfo = String.format("%d msgs (%d prepared on EDT), avg ms: queue %.3f, prepare %.3f, EDT wait %.3f, EDT %.3f, total %.3f (max %.3f)",
+                        count, onEdt,
+                        avg(queueWait), avg(prepare), avg(edtWait), avg(edt),
+                        avg(total), maxTotal / 1000000.0);
+                count = 0;
+                onEdt = 0;
+                queueWait = 0;
+                prepare = 0;
+                edtWait = 0;
+                edt = 0;
+                total = 0;
+                maxTotal = 0;
+            }
+            return lastInfo;
+        }
+
+        private double avg(long nanos) {
+            return nanos / (double) count / 1000000.0;
+        }
+
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+        private final String name;
+
+        DaemonThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "MessagePipeline-"+name+"-"+count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+}
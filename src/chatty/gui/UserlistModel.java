@@ -1,20 +1,67 @@
-
 package chatty.gui;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.swing.AbstractListModel;
+import javax.swing.Timer;
+import javax.swing.event.ListDataEvent;
 
 /**
  * The data model behind the userlist, sorts items.
- * 
+ *
+ * <p>
+ * Added and removed items are collected and applied together shortly after
+ * (or when the data is requested), by merging the sorted added items into the
+ * current items, so that e.g. the userlist of a large channel being received
+ * or many users leaving at once doesn't require an insert and event for each
+ * item. Items are compared by identity.
+ * </p>
+ *
+ * <p>
+ * Must only be used on the EDT.
+ * </p>
+ *
  * @author tduva
  */
 public class UserlistModel<T extends Comparable<T>> extends AbstractListModel<T> {
-    
-    ArrayList<T> data = new ArrayList<>();
+
+    /**
+     * About one frame, so changes still appear immediately.
+     */
+    private static final int FLUSH_DELAY = 15;
+
+    private ArrayList<T> data = new ArrayList<>();
+
+    /**
+     * Position of each item in data.
+     */
+    private final Map<T, Integer> positions = new IdentityHashMap<>();
+
+    /**
+     * Items to be inserted (the value is unused), may include items already in
+     * data, which are then also in pendingRemove. A LinkedHashMap, so that
+     * items that compare equal keep the order they were added in (User doesn't
+     * override equals(), so this is still by identity).
+     */
+    private final Map<T, Boolean> pendingAdd = new LinkedHashMap<>();
+
+    /**
+     * Items currently in data that should be removed.
+     */
+    private final Map<T, Boolean> pendingRemove = new IdentityHashMap<>();
+
+    private final Timer flushTimer;
+
+    public UserlistModel() {
+        flushTimer = new Timer(FLUSH_DELAY, e -> flush());
+        flushTimer.setRepeats(false);
+    }
 
     public ArrayList<T> getData() {
+        flush();
         return (ArrayList) data.clone();
     }
 
@@ -23,24 +70,181 @@ public class UserlistModel<T extends Comparable<T>> extends AbstractListModel<T>
         return data.size();
     }
 
+    /**
+     * The number of items including changes that haven't been applied yet.
+     *
+     * @return
+     */
+    public int getPendingSize() {
+        return data.size() - pendingRemove.size() + pendingAdd.size();
+    }
+
     @Override
     public T getElementAt(int index) {
         return data.get(index);
     }
 
+    /**
+     * Add an item, or move it to the correct position if it is already added.
+     *
+     * @param item
+     */
     public void add(T item) {
-        int insertionPoint = findInsertionPoint(item);
-        data.add(insertionPoint, item);
-        super.fireIntervalAdded(this, insertionPoint, insertionPoint);
+        pendingAdd.put(item, Boolean.TRUE);
+        if (positions.containsKey(item)) {
+            pendingRemove.put(item, Boolean.TRUE);
+        }
+        scheduleFlush();
     }
 
     public void remove(T item) {
-        int index = data.indexOf(item);
-        if (index == -1) {
+        pendingAdd.remove(item);
+        if (positions.containsKey(item)) {
+            pendingRemove.put(item, Boolean.TRUE);
+        }
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (!flushTimer.isRunning()) {
+            flushTimer.start();
+        }
+    }
+
+    /**
+     * Apply all pending adds and removes and inform listeners.
+     */
+    public void flush() {
+        flushTimer.stop();
+        if (pendingAdd.isEmpty() && pendingRemove.isEmpty()) {
             return;
         }
-        data.remove(index);
-        super.fireIntervalRemoved(this, index, index);
+        if (pendingAdd.size() == 1 && pendingRemove.isEmpty()) {
+            // Common case of a single join, only insert
+            T item = pendingAdd.keySet().iterator().next();
+            pendingAdd.clear();
+            int insertionPoint = findInsertionPoint(item);
+            data.add(insertionPoint, item);
+            updatePositions(insertionPoint);
+            super.fireIntervalAdded(this, insertionPoint, insertionPoint);
+            return;
+        }
+        if (pendingAdd.isEmpty() && pendingRemove.size() == 1) {
+            // Common case of a single part, only remove
+            T item = pendingRemove.keySet().iterator().next();
+            pendingRemove.clear();
+            int index = positions.remove(item);
+            data.remove(index);
+            updatePositions(index);
+            super.fireIntervalRemoved(this, index, index);
+            return;
+        }
+
+        ArrayList<T> added = new ArrayList<>(pendingAdd.keySet());
+        Collections.sort(added);
+        ArrayList<T> merged = new ArrayList<>(getPendingSize());
+        Changes changes = new Changes();
+        int a = 0;
+        for (T item : data) {
+            if (pendingRemove.containsKey(item)) {
+                changes.removed();
+                continue;
+            }
+            while (a < added.size() && added.get(a).compareTo(item) < 0) {
+                merged.add(added.get(a++));
+                changes.added();
+            }
+            merged.add(item);
+            changes.kept();
+        }
+        while (a < added.size()) {
+            merged.add(added.get(a++));
+            changes.added();
+        }
+        pendingAdd.clear();
+        pendingRemove.clear();
+        data = merged;
+        positions.clear();
+        updatePositions(0);
+        changes.fire();
+    }
+
+    /**
+     * Collects the ranges of items removed and added during a merge, so that
+     * listeners can be informed where exactly items were inserted or removed
+     * (e.g. so that JList can keep the selection on the same items).
+     */
+    private class Changes {
+
+        /**
+         * Each entry is the event type and the index range, relative to the
+         * list after the previous events have been applied.
+         */
+        private final ArrayList<int[]> events = new ArrayList<>();
+
+        /**
+         * The current index in the list after the previous events.
+         */
+        private int index;
+        private int added;
+        private int removed;
+
+        void added() {
+            finishRemoved();
+            added++;
+        }
+
+        void removed() {
+            finishAdded();
+            removed++;
+        }
+
+        void kept() {
+            finishAdded();
+            finishRemoved();
+            index++;
+        }
+
+        private void finishAdded() {
+            if (added > 0) {
+                events.add(new int[]{ListDataEvent.INTERVAL_ADDED, index, index + added - 1});
+                index += added;
+                added = 0;
+            }
+        }
+
+        private void finishRemoved() {
+            if (removed > 0) {
+                events.add(new int[]{ListDataEvent.INTERVAL_REMOVED, index, index + removed - 1});
+                removed = 0;
+            }
+        }
+
+        /**
+         * Inform listeners of the changes in order. The data has already been
+         * changed completely at this point, but since the events are in
+         * ascending index order the items up to an event's range are already
+         * where the event says they are.
+         */
+        void fire() {
+            finishAdded();
+            finishRemoved();
+            for (int[] event : events) {
+                if (event[0] == ListDataEvent.INTERVAL_ADDED) {
+                    fireIntervalAdded(UserlistModel.this, event[1], event[2]);
+                }
+                else {
+                    fireIntervalRemoved(UserlistModel.this, event[1], event[2]);
+                }
+            }
+        }
+
+    }
+
+    private void updatePositions(int from) {
+        for (int i = from; i < data.size(); i++) {
+            positions.put(data.get(i), i);
+        }
     }
 
     private int findInsertionPoint(T item) {
@@ -52,28 +256,35 @@ public class UserlistModel<T extends Comparable<T>> extends AbstractListModel<T>
     }
 
     public void updated(T item) {
-        int index = data.indexOf(item);
-        if (index == -1) {
+        Integer index = positions.get(item);
+        if (index == null) {
             return;
         }
         super.fireContentsChanged(this, index, index);
     }
 
     public void clear() {
+        flushTimer.stop();
+        pendingAdd.clear();
+        pendingRemove.clear();
+        positions.clear();
         if (!data.isEmpty()) {
-            super.fireIntervalRemoved(this, 0, data.size() - 1);
+            int size = data.size();
             data.clear();
+            super.fireIntervalRemoved(this, 0, size - 1);
         }
     }
-    
+
     /**
      * Manually sort entries. This may sometimes fix the sorting.
      */
     public void sort() {
+        flush();
         Collections.sort(data);
+        updatePositions(0);
         super.fireContentsChanged(this, 0, data.size() - 1);
     }
-    
+
     /**
      * Mark all entries as changed, so they get repainted.
      */
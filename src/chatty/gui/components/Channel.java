@@ -369,6 +369,14 @@ public final class Channel extends JPanel {
         return text.search(searchText);
     }
     
+    public boolean search(String searchText, boolean older) {
+        return text.search(searchText, older);
+    }
+    
+    public String getSearchInfo() {
+        return text.getSearchInfo();
+    }
+    
     public void resetSearch() {
         text.resetSearch();
     }
@@ -548,32 +548,37 @@ public class ChannelCompletion implements AutoCompletionServer {
     private final UserSorterAlphabetic userSorterAlphabetical = new UserSorterAlphabetic();
 
     private AutoCompletionServer.CompletionItems getCompletionItemsNames(String search, boolean preferUsernames) {
-        List<User> matchedUsers = new ArrayList<>();
+        Set<User> matched = new LinkedHashSet<>();
         Set<User> regularMatched = new HashSet<>();
         Set<User> customMatched = new HashSet<>();
         Set<User> localizedMatched = new HashSet<>();
 
-        String[] str = {rus(search), search};
-        for (String localSearch : str) {
-            for (User user : users.getData()) {
-                matchUser(user, localSearch, matchedUsers, regularMatched, localizedMatched, customMatched);
-            }
+        findUsers(search, matched, regularMatched, localizedMatched, customMatched);
+        /**
+         * Search entered with the wrong keyboard layout, characters that can't
+         * be converted are removed, so only use it if something is left (an
+         * empty search would match everyone).
+         */
+        String converted = rus(search);
+        if (!converted.isEmpty() && !converted.equals(search)) {
+            findUsers(converted, matched, regularMatched, localizedMatched, customMatched);
         }
         
         // Try to match current channel name if not matched yet
         if (channel.getRoom().hasStream()) {
             User channelUser = new User(channel.getStreamName(), Room.EMPTY);
             boolean channelUserMatched = false;
-            for (User user : matchedUsers) {
+            for (User user : matched) {
                 if (user.getName().equals(channelUser.getName())) {
                     channelUserMatched = true;
                 }
             }
             if (!channelUserMatched) {
-                matchUser(channelUser, search, matchedUsers, regularMatched, localizedMatched, customMatched);
-                matchUser(channelUser, str[0], matchedUsers, regularMatched, localizedMatched, customMatched);
+                matchUser(channelUser, search, matched, regularMatched, localizedMatched, customMatched);
+                matchUser(channelUser, converted, matched, regularMatched, localizedMatched, customMatched);
             }
         }
+        List<User> matchedUsers = new ArrayList<>(matched);
         switch (main.getSettings().getString("completionSorting")) {
             case "predictive":
                 Collections.sort(matchedUsers, userSorterNew);
@@ -643,9 +648,33 @@ public class ChannelCompletion implements AutoCompletionServer {
         return new CompletionItems(result, "");
     }
     
+    /**
+     * Find users in the userlist with a name starting with the given search.
+     */
+    private void findUsers(String search, Set<User> matched,
+            Set<User> regularMatched, Set<User> localizedMatched,
+            Set<User> customMatched) {
+        UserPrefixIndex index = users.getIndex();
+        index.find(UserPrefixIndex.Type.REGULAR, search, user -> {
+            matched.add(user);
+            regularMatched.add(user);
+        });
+        index.find(UserPrefixIndex.Type.LOCALIZED, search, user -> {
+            matched.add(user);
+            localizedMatched.add(user);
+        });
+        index.find(UserPrefixIndex.Type.CUSTOM, search, user -> {
+            matched.add(user);
+            customMatched.add(user);
+        });
+    }
+    
     private static void matchUser(User user, String search,
-            List<User> matchedUsers, Set<User> regularMatched,
+            Set<User> matchedUsers, Set<User> regularMatched,
             Set<User> localizedMatched, Set<User> customMatched) {
+        if (search.isEmpty()) {
+            return;
+        }
         boolean matched = false;
         if (user.getName().startsWith(search)) {
             matched = true;
@@ -2,12 +2,16 @@
 package chatty.gui.components;
 
 import chatty.gui.components.textpane.ChannelTextPane;
+import chatty.Chatty;
 import chatty.util.DateTime;
 import chatty.util.Debugging;
+import chatty.util.EdtProfiler;
 import java.awt.BorderLayout;
 import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.event.ItemListener;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.swing.*;
@@ -33,6 +37,7 @@ public class DebugWindow extends JFrame {
     private final JTextArea textEventSubLog;
     private final JTextArea otherLog;
     private final JTextArea timerLog;
+    private final JTextArea edtProfile;
     
     public DebugWindow(ItemListener listener) {
         setTitle("Debug");
@@ -61,6 +66,28 @@ public class DebugWindow extends JFrame {
         // Timer Log
         timerLog = createLogArea();
         
+        // EDT Profiler
+        edtProfile = createLogArea();
+        JPanel edtPanel = new JPanel(new BorderLayout());
+        edtPanel.add(new JScrollPane(edtProfile), BorderLayout.CENTER);
+        JPanel edtButtons = new JPanel();
+        JButton edtReset = new JButton("Reset");
+        edtReset.addActionListener(e -> {
+            EdtProfiler.reset();
+            updateEdtProfile();
+        });
+        JButton edtExport = new JButton("Export");
+        edtExport.addActionListener(e -> exportEdtProfile());
+        edtButtons.add(edtReset);
+        edtButtons.add(edtExport);
+        edtPanel.add(edtButtons, BorderLayout.SOUTH);
+        Timer edtTimer = new Timer(2000, e -> {
+            if (isVisible()) {
+                updateEdtProfile();
+            }
+        });
+        edtTimer.start();
+        
 
         // Tabs
         JTabbedPane tabs = new JTabbedPane();
@@ -71,6 +98,7 @@ public class DebugWindow extends JFrame {
         tabs.addTab("EventSub", new JScrollPane(textEventSubLog));
         tabs.addTab("Other", new JScrollPane(otherLog));
         tabs.addTab("Timers", new JScrollPane(timerLog));
+        tabs.addTab("EDT", edtPanel);
         
         // Settings (Checkboxes)
         logIrc.setToolTipText("Logging IRC traffic can reduce performance");
@@ -172,6 +200,31 @@ public class DebugWindow extends JFrame {
         }
    }
 
+    private void updateEdtProfile() {
+        String report = EdtProfiler.getReport();
+        if (report == null) {
+            report = "Not enabled (enable with: /set edtProfiler true)";
+        }
+        if (!report.equals(edtProfile.getText())) {
+            edtProfile.setText(report);
+        }
+    }
+    
+    private void exportEdtProfile() {
+        if (!EdtProfiler.isEnabled()) {
+            return;
+        }
+        Path file = Chatty.getPathCreate(Chatty.PathType.DEBUG).resolve(
+                "edt_profile_"+DateTime.currentTime("yyyy-MM-dd_HH-mm-ss")+".txt");
+        try {
+            EdtProfiler.export(file);
+            JOptionPane.showMessageDialog(this, "Exported to "+file);
+        }
+        catch (IOException ex) {
+            JOptionPane.showMessageDialog(this, "Failed to export: "+ex);
+        }
+    }
+
     public JCheckBox getLogIrcCheckBox() {
         return logIrc;
     }
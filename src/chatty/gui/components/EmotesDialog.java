@@ -671,7 +671,7 @@ public class EmotesDialog extends JDialog {
             CachedImage<Emoticon> emoteImage = emote.getIcon(scale, 0, imageType, emoteUser);
             this.code = emote.code;
             this.emote = emoteImage;
-            setIcon(emoteImage.getImageIcon());
+            setIcon(emoteImage.getImageIcon(false));
             setToolTipText(emote.code);
 
             if (ForkUtil.EMOTE_CODE) {
@@ -178,7 +178,24 @@ public class ModerationLog extends JDialog {
                 data.isShared() ? String.format("[%s]", data.getSourceChannel()) : "",
                 data.created_by,
                 data.getPseudoCommandString());
-        
+        addLine(channel, line);
+    }
+    
+    /**
+     * Add an info line that isn't a moderation action, but may still be
+     * relevant for moderation (e.g. detected spam).
+     * 
+     * @param channel The channel (without leading #)
+     * @param text The text of the line
+     */
+    public void addInfo(String channel, String text) {
+        if (channel == null) {
+            return;
+        }
+        addLine(channel, String.format("[%s] %s", DateTime.currentTime(), text));
+    }
+    
+    private void addLine(String channel, String line) {
         if (channel.equals(currentLoadedChannel)) {
             printLine(log, line);
             // Only set for current channel (automatically checks for visible)
@@ -19,6 +19,7 @@ import javax.swing.JButton;
 import javax.swing.JDialog;
 import javax.swing.JLabel;
 import javax.swing.JTextField;
+import javax.swing.KeyStroke;
 import javax.swing.Timer;
 
 /**
@@ -36,6 +37,7 @@ public class SearchDialog extends JDialog {
     private final Timer timer;
     private final JTextField searchText = new JTextField(20);
     private final JButton searchButton = new JButton(Language.getString("searchDialog.button.search"));
+    private final JLabel info = new JLabel();
     //private final JCheckBox highlightAll = new JCheckBox("Highlight all occurences");
     
     private Channel chan;
@@ -76,6 +78,9 @@ public class SearchDialog extends JDialog {
         GuiUtil.smallButtonInsets(searchButton);
         searchButton.setFocusable(false);
         add(searchButton, gbc);
+        gbc.gridx = 2;
+        add(info, gbc);
+        searchText.setToolTipText(Language.getString("searchDialog.searchText.tip"));
 
         timer = new Timer(NO_RESULT_COLOR_TIME, new ActionListener() {
 
@@ -89,13 +94,17 @@ public class SearchDialog extends JDialog {
 
             @Override
             public void actionPerformed(ActionEvent e) {
-                if (!g.search(chan, searchText.getText())) {
+                boolean older = (e.getModifiers() & ActionEvent.SHIFT_MASK) == 0;
+                if (!g.search(chan, searchText.getText(), older)) {
                     searchText.setBackground(COLOR_NO_RESULT);
                     timer.restart();
                 }
+                updateInfo();
             }
         };
         searchText.addActionListener(listener);
+        // Enter is already bound by default
+        searchText.getInputMap().put(KeyStroke.getKeyStroke("shift ENTER"), JTextField.notifyAction);
         searchButton.addActionListener(listener);
 
         addWindowListener(new WindowAdapter() {
@@ -104,6 +113,7 @@ public class SearchDialog extends JDialog {
                 g.resetSearch(chan);
                 searchText.setText(null);
                 searchText.setBackground(COLOR_NORMAL);
+                info.setText(null);
             }
         });
         
@@ -112,6 +122,14 @@ public class SearchDialog extends JDialog {
     
     public void setChannel(Channel chan) {
         this.chan = chan;
+        updateInfo();
+    }
+    
+    private void updateInfo() {
+        info.setText(chan != null ? chan.getSearchInfo() : null);
+        if (getPreferredSize().width > getWidth()) {
+            pack();
+        }
     }
     
 }
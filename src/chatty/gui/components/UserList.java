@@ -17,6 +17,7 @@ import java.awt.event.MouseListener;
 import java.util.ArrayList;
 import javax.swing.DefaultListCellRenderer;
 import javax.swing.JList;
+import javax.swing.ListSelectionModel;
 
 /**
  *
@@ -25,6 +26,7 @@ import javax.swing.JList;
 public class UserList extends JList<User> {
     
     private final UserlistModel<User> data;
+    private final UserPrefixIndex index = new UserPrefixIndex();
     private final ContextMenuListener contextMenuListener;
     private final UserListener userListener;
 
@@ -35,6 +37,11 @@ public class UserList extends JList<User> {
                     Settings settings) {
         data = new UserlistModel<>();
         this.setModel(data);
+        /**
+         * Only a single user is ever used, and with multiple selection JList
+         * also selects items inserted directly before a selected one.
+         */
+        this.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         this.setCellRenderer(new DefaultListCellRenderer() {
             
             @Override
@@ -104,15 +111,18 @@ public class UserList extends JList<User> {
     
     public void addUser(User user) {
         data.add(user);
+        index.add(user);
     }
     
     public void removeUser(User user) {
         data.remove(user);
+        index.remove(user);
     }
     
     public void updateUser(User user) {
         data.remove(user);
         data.add(user);
+        index.add(user);
         //TODO: this didnt sort the user correctly after opping, maybe it can be fixed?
         //userlistData.updated(user);
     }
@@ -123,16 +133,27 @@ public class UserList extends JList<User> {
     
     public void clearUsers() {
         data.clear();
+        index.clear();
     }
     
     public int getNumUsers() {
-        return data.getSize();
+        return data.getPendingSize();
     }
     
     public ArrayList<User> getData() {
         return data.getData();
     }
     
+    /**
+     * Index of the users currently in the list, for searching by name. Should
+     * only be used on the EDT.
+     * 
+     * @return 
+     */
+    public UserPrefixIndex getIndex() {
+        return index;
+    }
+    
     /**
      * Open context menu for this user, if the event points at one.
      * 
@@ -0,0 +1,164 @@
+
+package chatty.gui.components;
+
+import chatty.User;
+import chatty.util.StringUtil;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * Sorted index of the users in a channel, to find users whose username,
+ * localized display name or custom name starts with a given prefix without
+ * having to go through all users.
+ *
+ * <p>
+ * The names of a user are stored when the user is added, so a user has to be
+ * updated when one of the names changes. Matches are checked against the
+ * current names before they are returned.
+ * </p>
+ *
+ * <p>
+ * Not thread-safe, should only be used on the EDT, like the userlist.
+ * </p>
+ *
+ * @author tduva
+ */
+public class UserPrefixIndex {
+
+    public enum Type {
+        /**
+         * The username (always lowercase).
+         */
+        REGULAR,
+        /**
+         * The display name, only if it is not just a capitalized username.
+         */
+        LOCALIZED,
+        /**
+         * The custom name, if set.
+         */
+        CUSTOM
+    }
+
+    private static final Type[] TYPES = Type.values();
+
+    private static final Comparator<Entry> COMPARATOR = (a, b) -> {
+        int result = a.key.compareTo(b.key);
+        if (result != 0) {
+            return result;
+        }
+        // Lowest entry for the key is used to start searches
+        if (a.user == null || b.user == null) {
+            return a.user == null ? (b.user == null ? 0 : -1) : 1;
+        }
+        return a.user.getName().compareTo(b.user.getName());
+    };
+
+    private final Map<Type, TreeSet<Entry>> sets = new EnumMap<>(Type.class);
+
+    /**
+     * The entries that were added for each user, so they can be removed again
+     * even if the names of the user changed in the meantime.
+     */
+    private final Map<User, Entry[]> entries = new HashMap<>();
+
+    public UserPrefixIndex() {
+        for (Type type : TYPES) {
+            sets.put(type, new TreeSet<>(COMPARATOR));
+        }
+    }
+
+    public void add(User user) {
+        remove(user);
+        Entry[] userEntries = new Entry[TYPES.length];
+        for (Type type : TYPES) {
+            String key = getKey(user, type);
+            if (key != null) {
+                Entry entry = new Entry(key, user);
+                if (sets.get(type).add(entry)) {
+                    userEntries[type.ordinal()] = entry;
+                }
+            }
+        }
+        entries.put(user, userEntries);
+    }
+
+    public void remove(User user) {
+        Entry[] userEntries = entries.remove(user);
+        if (userEntries != null) {
+            for (Type type : TYPES) {
+                Entry entry = userEntries[type.ordinal()];
+                if (entry != null) {
+                    sets.get(type).remove(entry);
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        for (TreeSet<Entry> set : sets.values()) {
+            set.clear();
+        }
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Find all users with a name of the given type that starts with the given
+     * prefix, in order of that name.
+     *
+     * @param type The type of name to search
+     * @param prefix The prefix, lowercase
+     * @param result Receives the matching users
+     */
+    public void find(Type type, String prefix, Consumer<User> result) {
+        for (Entry entry : sets.get(type).tailSet(new Entry(prefix, null), true)) {
+            if (!entry.key.startsWith(prefix)) {
+                break;
+            }
+            // The name may have changed without the user being updated
+            String current = getKey(entry.user, type);
+            if (current != null && current.startsWith(prefix)) {
+                result.accept(entry.user);
+            }
+        }
+    }
+
+    private static String getKey(User user, Type type) {
+        switch (type) {
+            case REGULAR:
+                return user.getName();
+            case LOCALIZED:
+                if (!user.hasRegularDisplayNick()) {
+                    return StringUtil.toLowerCase(user.getDisplayNick());
+                }
+                return null;
+            case CUSTOM:
+                if (user.hasCustomNickSet()) {
+                    return StringUtil.toLowerCase(user.getCustomNick());
+                }
+                return null;
+        }
+        return null;
+    }
+
+    private static class Entry {
+
+        private final String key;
+        private final User user;
+
+        Entry(String key, User user) {
+            this.key = key;
+            this.user = user;
+        }
+
+    }
+
+}
@@ -653,7 +653,7 @@ public class EmoteSettings extends SettingsPanel {
             }
             
             Emoticon emote = (Emoticon) value;
-            setIcon(emote.getIcon(emoticonUser).getImageIcon());
+            setIcon(emote.getIcon(emoticonUser).getImageIcon(false));
             return this;
         }
 
@@ -472,22 +472,23 @@ public class HighlighterTester extends JDialog implements StringEditor {
             blacklist = new Highlighter.Blacklist(HighlightItem.Type.ANY, getTestText(), -2, -2, null,
                     null, null, null, MsgTags.EMPTY, Arrays.asList(new HighlightItem[]{blacklistItem}));
         }
+        HighlightItem.MatchInfo matchInfo = new HighlightItem.MatchInfo();
         if (highlightItem == null) {
             testResult.setText("Empty item.");
         } else if (highlightItem.hasError()) {
             testResult.setText("Error: "+highlightItem.getError());
-        } else if (highlightItem.matchesTextOnly(getTestText(), blacklist)) {
+        } else if (highlightItem.matchesTextOnly(getTestText(), blacklist, matchInfo)) {
             testResult.setText("Matched.");
         } else {
-            String failedReason = highlightItem.getFailedReason();
+            String failedReason = matchInfo.getFailedReason();
             if (failedReason == null) {
                 testResult.setText("No match.");
             }
             else {
                 testResult.setText("No match: "+failedReason);
             }
-            if (highlightItem.hasMatchingError()) {
-                testResult.setText("Error: "+highlightItem.getMatchingError());
+            if (matchInfo.hasMatchingError()) {
+                testResult.setText("Error: "+matchInfo.getMatchingError());
             }
         }
         if (blacklistItem != null && blacklistItem.hasError()) {
@@ -34,6 +34,7 @@ import chatty.util.StringUtil;
 import chatty.util.Timestamp;
 import chatty.util.api.CheerEmoticon;
 import chatty.util.api.Emoticon;
+import chatty.util.api.EmoticonIndex;
 import chatty.util.api.Emoticons;
 import chatty.util.api.Emoticons.TagEmotes;
 import chatty.util.api.CachedImage;
@@ -174,6 +175,12 @@ public class ChannelTextPane extends JTextPane implements LinkListener, CachedIm
      */
     private boolean newlineRequired = false;
     
+    /**
+     * The parts of the current line, added to the document when the line is
+     * finished.
+     */
+    private final LineBatch lineBatch = new LineBatch();
+    
     public enum Setting {
         TIMESTAMP_ENABLED, EMOTICONS_ENABLED, AUTO_SCROLL, USERICONS_ENABLED,
         
@@ -247,6 +254,7 @@ public class ChannelTextPane extends JTextPane implements LinkListener, CachedIm
         setEditorKit(kit);
         this.setDocument(new MyDocument());
         doc = (DefaultStyledDocument)getStyledDocument();
+        searchIndex = new SearchIndex(doc, this::getUserFromLine);
         setEditable(false);
         DefaultCaret caret = new NoScrollCaret();
         caret.setUpdatePolicy(DefaultCaret.NEVER_UPDATE);
@@ -1552,13 +1560,13 @@ public class ChannelTextPane extends JTextPane implements LinkListener, CachedIm
     private void setLineCommand(int offset, String command) {
         SimpleAttributeSet attr = new SimpleAttributeSet();
         attr.addAttribute(Attribute.COMMAND, command);
-        doc.setParagraphAttributes(offset, 1, attr, false);
+        addLineAttributes(offset, attr);
     }
     
     private void setObjectId(int offset, Object id) {
         SimpleAttributeSet attr = new SimpleAttributeSet();
         attr.addAttribute(Attribute.OBJECT_ID, id);
-        doc.setParagraphAttributes(offset, 1, attr, false);
+        addLineAttributes(offset, attr);
     }
     
     private void setVariableLineAttributes(int offset, boolean even, boolean updateTimestamp) {
@@ -1569,14 +1577,14 @@ public class ChannelTextPane extends JTextPane implements LinkListener, CachedIm
         SimpleAttributeSet attr = new SimpleAttributeSet();
         attr.addAttribute(Attribute.HIGHLIGHT_LINE, true);
         attr.addAttribute(Attribute.HIGHLIGHT_SOURCE, source);
-        doc.setParagraphAttributes(offset, 1, attr, false);
+        addLineAttributes(offset, attr);
     }
     
     private void setParagraphAttribute(int offset, Attribute attribute, Object source) {
         if (source != null) {
             SimpleAttributeSet attr = new SimpleAttributeSet();
             attr.addAttribute(attribute, source);
-            doc.setParagraphAttributes(offset, 1, attr, false);
+            addLineAttributes(offset, attr);
         }
     }
     
@@ -1587,7 +1595,24 @@ public class ChannelTextPane extends JTextPane implements LinkListener, CachedIm
             attr.addAttribute(Attribute.CUSTOM_BACKGROUND_ORIG, backgroundColor);
         }
         attr.addAttribute(Attribute.CUSTOM_COLOR_SOURCE, source);
-        doc.setParagraphAttributes(offset, 1, attr, false);
+        addLineAttributes(offset, attr);
+    }
+    
+    /**
+     * Add attributes to the line at the given offset. While a line is being
+     * printed, the end of the document refers to that line, so the attributes
+     * are added together with the line.
+     * 
+     * @param offset
+     * @param attr 
+     */
+    private void addLineAttributes(int offset, AttributeSet attr) {
+        if (!lineBatch.isEmpty() && offset >= doc.getLength()) {
+            lineBatch.addParagraphAttributes(attr);
+        }
+        else {
+            doc.setParagraphAttributes(offset, 1, attr, false);
+        }
     }
     
     private void updateCustomColorTransparency() {
@@ -1991,7 +2016,14 @@ public class ChannelTextPane extends JTextPane implements LinkListener, CachedIm
         
     }
     
+    private final SearchIndex searchIndex;
+    
+    /**
+     * The line of the current search result, null if the next search starts
+     * from the newest line.
+     */
     private Element lastSearchPos = null;
+    private String searchInfo = "";
     
     /**
      * Checks if the given line exists in this document.
@@ -2000,13 +2032,12 @@ public class ChannelTextPane extends JTextPane implements LinkListener, CachedIm
      * @return true if the line was found in the document, false otherwise
      */
     private boolean doesLineExist(Object line) {
-        int count = doc.getDefaultRootElement().getElementCount();
-        for (int i=0;i<count;i++) {
-            if (doc.getDefaultRootElement().getElement(i) == line) {
-                return true;
-            }
+        if (!(line instanceof Element)) {
+            return false;
         }
-        return false;
+        Element root = doc.getDefaultRootElement();
+        int index = root.getElementIndex(((Element) line).getStartOffset());
+        return index >= 0 && index < root.getElementCount() && root.getElement(index) == line;
     }
     
     /**
@@ -2017,65 +2048,86 @@ public class ChannelTextPane extends JTextPane implements LinkListener, CachedIm
      * @return  
      */
     public boolean search(String searchText) {
+        return search(searchText, true);
+    }
+    
+    /**
+     * Perform search in the chat buffer, starting from the last found
+     * position. If no further result is found, the search is reset.
+     * 
+     * <p>The search text may start with "user:name" to only search messages
+     * by that user, and "re:" to search with a regular expression.</p>
+     * 
+     * @param searchText The text to search for
+     * @param older Whether to search for older (true) or newer (false) lines
+     * @return true if a result was found
+     */
+    public boolean search(String searchText, boolean older) {
         if (searchText == null || searchText.isEmpty()) {
             return false;
         }
+        SearchIndex.Search search = new SearchIndex.Search(searchText);
+        if (search.isEmpty()) {
+            return false;
+        }
         clearSearchResult();
-        int count = doc.getDefaultRootElement().getElementCount();
         if (lastSearchPos != null && !doesLineExist(lastSearchPos)) {
-            //System.out.println(lastSearchPos+"doesnt exist");
             lastSearchPos = null;
         }
-        // Determine if search should start immediately.
-        boolean startSearch = lastSearchPos == null;
-        searchText = StringUtil.toLowerCase(searchText);
-        // Loop through all lines
-        for (int i=count-1;i>=0;i--) {
-            //System.out.println(i+"/"+count);
-            Element element = doc.getDefaultRootElement().getElement(i);
-            if (element == lastSearchPos) {
-                // If this lines contained the last result, start searching
-                // on next line
-                startSearch = true;
-                if (i == 0) {
-                    lastSearchPos = null;
+        int lastOffset = lastSearchPos != null ? lastSearchPos.getStartOffset() : 0;
+        java.util.List<SearchIndex.Line> result = searchIndex.find(search);
+        
+        // Find the next result in the chosen direction
+        SearchIndex.Line found = null;
+        int foundIndex = -1;
+        if (older) {
+            for (int i = result.size() - 1; i >= 0; i--) {
+                if (lastSearchPos == null || result.get(i).element.getStartOffset() < lastOffset) {
+                    found = result.get(i);
+                    foundIndex = i;
+                    break;
                 }
-                continue;
             }
-            if (!startSearch) {
-                continue;
-            }
-            int startOffset = element.getStartOffset();
-            int endOffset = element.getEndOffset() - 1;
-            int length = endOffset - startOffset;
-            try {
-                String text = doc.getText(startOffset, length);
-                if (StringUtil.toLowerCase(text).contains(searchText)) {
-                    //this.setCaretPosition(startOffset);
-                    //this.moveCaretPosition(endOffset);
-                    doc.setCharacterAttributes(startOffset, length, styles.searchResult(false), false);
-                    scrollManager.cancelScrollDownRequest();
-                    scrollManager.scrollToOffset(startOffset);
-                    //System.out.println(text);
-//                    if (i == 0) {
-//                        lastSearchPos = null;
-//                    } else {
-                        lastSearchPos = element;
-//                    }
+        }
+        else {
+            for (int i = 0; i < result.size(); i++) {
+                if (lastSearchPos == null || result.get(i).element.getStartOffset() > lastOffset) {
+                    found = result.get(i);
+                    foundIndex = i;
                     break;
                 }
-            } catch (BadLocationException ex) {
-                LOGGER.warning("Bad location");
             }
-            lastSearchPos = null;
         }
-        if (lastSearchPos == null) {
+        
+        if (found == null) {
+            lastSearchPos = null;
+            searchInfo = result.isEmpty() ? "" : String.valueOf(result.size());
             scrollManager.scrollDown();
             return false;
         }
+        Element element = found.element;
+        int startOffset = element.getStartOffset();
+        int length = element.getEndOffset() - 1 - startOffset;
+        doc.setCharacterAttributes(startOffset, length, styles.searchResult(false), false);
+        scrollManager.cancelScrollDownRequest();
+        scrollManager.scrollToOffset(startOffset);
+        lastSearchPos = element;
+        // Counted from newest, since that's where the search starts
+        searchInfo = (result.size() - foundIndex)+"/"+result.size();
         return true;
     }
     
+    /**
+     * The position of the current result and the number of results of the
+     * last search (e.g. "2/5"), or only the number of results if there is no
+     * current result.
+     * 
+     * @return The info, empty if there were no results
+     */
+    public String getSearchInfo() {
+        return searchInfo;
+    }
+    
     /**
      * Remove any highlighted search results and start the search from the
      * beginning next time.
@@ -2083,13 +2135,19 @@ public class ChannelTextPane extends JTextPane implements LinkListener, CachedIm
     public void resetSearch() {
         clearSearchResult();
         lastSearchPos = null;
+        searchInfo = "";
     }
     
     /**
-     * Removes any prior style changes used to highlight a search result.
+     * Removes any prior style changes used to highlight a search result (only
+     * the current result is highlighted).
      */
     private void clearSearchResult() {
-        doc.setCharacterAttributes(0, doc.getLength(), styles.clearSearchResult(), false);
+        if (lastSearchPos != null && doesLineExist(lastSearchPos)) {
+            int startOffset = lastSearchPos.getStartOffset();
+            int length = lastSearchPos.getEndOffset() - 1 - startOffset;
+            doc.setCharacterAttributes(startOffset, length, styles.clearSearchResult(), false);
+        }
     }
 
     /**
@@ -2533,6 +2591,8 @@ public class ChannelTextPane extends JTextPane implements LinkListener, CachedIm
         }
         print(seperator, styles.compact());
         print(user.getCustomNick(), styles.user(user, styles.compact()));
+        // Line stays open for the next compact print, but should be shown
+        flushLine();
         
         compactModeLength++;
         // If max number of compact prints happened, close compact mode to
@@ -2587,9 +2647,32 @@ public class ChannelTextPane extends JTextPane implements LinkListener, CachedIm
      */
     protected void finishLine() {
         newlineRequired = true;
-        lineSelection.onLineAdded(getLastLine(doc));
         even = !even;
-        setVariableLineAttributes(doc.getLength() - 1, even, true);
+        if (lineBatch.isEmpty()) {
+            setVariableLineAttributes(doc.getLength() - 1, even, true);
+        }
+        else {
+            lineBatch.addParagraphAttributes(styles.variableLineAttributes(even, true));
+            flushLine();
+        }
+        lineSelection.onLineAdded(getLastLine(doc));
+        searchIndex.update();
+    }
+    
+    /**
+     * Add the parts of the current line that have been printed so far to the
+     * document, as a single edit.
+     */
+    private void flushLine() {
+        if (lineBatch.isEmpty()) {
+            return;
+        }
+        try {
+            lineBatch.apply((MyDocument) doc);
+        } catch (BadLocationException e) {
+            System.err.println("BadLocationException");
+        }
+        scrollDownIfNecessary();
     }
     
     boolean even = false;
@@ -3189,6 +3272,13 @@ public class ChannelTextPane extends JTextPane implements LinkListener, CachedIm
     private void findEmoticons(User user, Set<Emoticon> emoticons, String text,
             Map<Integer, Integer> ranges, Map<Integer, MutableAttributeSet> rangesStyle,
             Set<String> accessToSets) {
+        EmoticonIndex index = main.emoticons.getEmoticonIndex(emoticons);
+        if (index != null) {
+            index.find(text, user, accessToSets,
+                    emote -> main.emoticons.isEmoteIgnored(emote, IgnoredEmotes.CHAT),
+                    (emote, start, end) -> addEmoticon(emote, start, end, ranges, rangesStyle, false));
+            return;
+        }
         // Find emoticons
         for (Emoticon emoticon : emoticons) {
             // Check the text for every single emoticon
@@ -3330,51 +3420,42 @@ public class ChannelTextPane extends JTextPane implements LinkListener, CachedIm
     private int lengthSinceNewline = 0;
 
     /**
-     * Prints the given text in the given style. Runs the function that actually
-     * adds the text in the Event Dispatch Thread.
+     * Prints the given text in the given style. The text is collected and
+     * added to the document when the line is finished (see
+     * {@link #finishLine()}), so a line with many parts (e.g. many emotes) only
+     * causes a single document change.
      * 
      * @param text
      * @param style 
      */
     private void print(final String text, final AttributeSet style) {
-        try {
-            String newline = "";
-            if (newlineRequired) {
-                lengthSinceNewline = 0;
-                newline = "\n";
-                newlineRequired = false;
-                clearSomeChat();
-            }
-            /**
-             * Split up long sections by a newline. See MAX_TEXT_LENGTH.
-             */
-            lengthSinceNewline += text.length();
-            if (lengthSinceNewline > MAX_TEXT_LENGTH) {
-                // How much is the current text above limit
-                int breakTarget = MAX_TEXT_LENGTH - (lengthSinceNewline - text.length());
-                // Prefer breaking at space, if within reasonable range
-                int firstSpace = text.indexOf(' ', breakTarget);
-                if (firstSpace != -1 && firstSpace - breakTarget < MAX_TEXT_LENGTH / 20) {
-                    breakTarget = firstSpace;
-                }
-                String part = text.substring(0, breakTarget);
-                String remaining = text.substring(breakTarget);
-                doc.insertString(doc.getLength(), newline+part, style);
-                doc.setParagraphAttributes(doc.getLength(), 1, styles.paragraph(), true);
-                newlineRequired = true;
-                print(remaining, style);
-            }
-            else {
-                //System.out.println("1:"+doc.getLength());
-                doc.insertString(doc.getLength(), newline+text, style);
-                //System.out.println("2:"+doc.getLength());
-                //this.getHighlighter().addHighlight(doc.getLength(), 10, null);
-                // TODO: check how this works
-                doc.setParagraphAttributes(doc.getLength(), 1, styles.paragraph(), true);
-                scrollDownIfNecessary();
-            }
-        } catch (BadLocationException e) {
-            System.err.println("BadLocationException");
+        String newline = "";
+        if (newlineRequired) {
+            lengthSinceNewline = 0;
+            newline = "\n";
+            newlineRequired = false;
+            clearSomeChat();
+        }
+        /**
+         * Split up long sections by a newline. See MAX_TEXT_LENGTH.
+         */
+        lengthSinceNewline += text.length();
+        if (lengthSinceNewline > MAX_TEXT_LENGTH) {
+            // How much is the current text above limit
+            int breakTarget = MAX_TEXT_LENGTH - (lengthSinceNewline - text.length());
+            // Prefer breaking at space, if within reasonable range
+            int firstSpace = text.indexOf(' ', breakTarget);
+            if (firstSpace != -1 && firstSpace - breakTarget < MAX_TEXT_LENGTH / 20) {
+                breakTarget = firstSpace;
+            }
+            String part = text.substring(0, breakTarget);
+            String remaining = text.substring(breakTarget);
+            lineBatch.add(newline+part, style, styles.paragraph());
+            newlineRequired = true;
+            print(remaining, style);
+        }
+        else {
+            lineBatch.add(newline+text, style, styles.paragraph());
         }
     }
 
@@ -3,24 +3,61 @@ package chatty.gui.components.textpane;
 
 import chatty.util.Debugging;
 import java.awt.Color;
+import java.awt.Component;
 import java.awt.Graphics;
 import java.awt.Rectangle;
 import java.awt.Shape;
+import javax.swing.JComponent;
 import javax.swing.text.BoxView;
 import javax.swing.text.Element;
+import javax.swing.text.Position;
+import javax.swing.text.View;
 
 /**
  * Starts adding text at the bottom instead of at the top.
  * 
+ * When the width changes (or the whole document is refreshed), only the lines
+ * in or near the visible area are wrapped again. Other lines keep their
+ * previous layout (and height) until they are painted or their position is
+ * requested (see {@link MyParagraphView}), so resizing with a large buffer
+ * doesn't have to go through all lines at once.
+ * 
+ * This only reduces layout time. The document and the views of all lines are
+ * still kept in memory (roughly 2 MB per 1000 lines), so the memory used is
+ * still only limited by the buffer size.
+ * 
  * @author tduva
  */
 class ChatBoxView extends BoxView {
     
+    /**
+     * Lines this far outside the visible area (relative to the height of the
+     * visible area) are still laid out immediately, so scrolling a bit doesn't
+     * change the layout of lines coming into view.
+     */
+    private static final float MARGIN = 1.0f;
+    
     private final boolean enabled;
+    private final boolean lazyLayout;
+    
+    /**
+     * The area in which lines are laid out immediately, updated before each
+     * layout, null if all lines should be laid out.
+     */
+    private Rectangle layoutArea;
     
-    public ChatBoxView(Element elem, int axis, boolean enabled) {
+    /**
+     * 
+     * @param elem
+     * @param axis
+     * @param enabled Start adding lines at the bottom
+     * @param lazyLayout Only lay out lines near the visible area when the
+     * width changes
+     */
+    public ChatBoxView(Element elem, int axis, boolean enabled, boolean lazyLayout) {
         super(elem,axis);
         this.enabled = enabled;
+        this.lazyLayout = lazyLayout;
     }
     
     // For testing
@@ -28,6 +65,7 @@ class ChatBoxView extends BoxView {
     
     @Override
     protected void layout(int width, int height) {
+        layoutArea = getLayoutArea();
         if (Debugging.isEnabled("layout")) {
             long start = System.currentTimeMillis();
             super.layout(width, height);
@@ -41,6 +79,86 @@ class ChatBoxView extends BoxView {
         }
     }
 
+    /**
+     * Whether the given child should be laid out immediately, because it's
+     * in or near the visible area.
+     * 
+     * @param child
+     * @return 
+     */
+    boolean isNearVisible(View child) {
+        if (layoutArea == null) {
+            return true;
+        }
+        int index = getViewIndex(child.getStartOffset(), Position.Bias.Forward);
+        if (index < 0 || getView(index) != child) {
+            return true;
+        }
+        return intersects(index, layoutArea.y, layoutArea.y + layoutArea.height);
+    }
+    
+    private Rectangle getLayoutArea() {
+        Component c = getContainer();
+        if (!lazyLayout || !(c instanceof JComponent)) {
+            return null;
+        }
+        Rectangle visible = ((JComponent) c).getVisibleRect();
+        int margin = (int) (visible.height * MARGIN);
+        visible.grow(0, margin);
+        return visible;
+    }
+    
+    private boolean intersects(int index, int start, int end) {
+        int y = getY(index);
+        return y + getSpan(Y_AXIS, index) >= start && y <= end;
+    }
+    
+    private int getY(int index) {
+        return getTopInset() + getOffset(Y_AXIS, index);
+    }
+    
+    /**
+     * Find the first child that ends at or after the given y, using a binary
+     * search, since the children are ordered by their offset.
+     * 
+     * @param y The y coordinate, relative to the allocation
+     * @return The index, or the view count if there is no such child
+     */
+    private int getViewIndexAtY(int y) {
+        int low = 0;
+        int high = getViewCount() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (getY(mid) + getSpan(Y_AXIS, mid) < y) {
+                low = mid + 1;
+            }
+            else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+    
+    @Override
+    public void paint(Graphics g, Shape allocation) {
+        Rectangle clip = g.getClipBounds();
+        if (clip != null) {
+            // Lines coming into view may not be laid out for the current width
+            Rectangle alloc = allocation.getBounds();
+            int margin = (int) (clip.height * MARGIN);
+            int start = clip.y - alloc.y - margin;
+            int end = clip.y + clip.height - alloc.y + margin;
+            int count = getViewCount();
+            for (int i = getViewIndexAtY(start); i < count && getY(i) <= end; i++) {
+                View v = getView(i);
+                if (v instanceof MyParagraphView) {
+                    ((MyParagraphView) v).layoutDeferred();
+                }
+            }
+        }
+        super.paint(g, allocation);
+    }
+    
 //    @Override
 //    public void paint(Graphics g, Shape a) {
 //        if (g.getClipBounds().width == 35) {
@@ -0,0 +1,175 @@
+
+package chatty.gui.components.textpane;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.text.AttributeSet;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.DefaultStyledDocument.ElementSpec;
+import javax.swing.text.MutableAttributeSet;
+import javax.swing.text.SimpleAttributeSet;
+
+/**
+ * Collects the text and styles of a line, so it can be added to the end of the
+ * Document in a single edit, instead of inserting each part (timestamp,
+ * badges, name, text, emotes, ..) separately, which causes a DocumentEvent and
+ * view update for each part.
+ *
+ * <p>
+ * A newline in the text starts a new paragraph. Like with setting the
+ * paragraph attributes after inserting each part, the paragraph the added
+ * text ends in gets its attributes replaced, so attributes for the line should
+ * be added after the text. Text before the first newline is added to the last
+ * paragraph of the Document, which has its attributes set separately, if
+ * necessary.
+ * </p>
+ *
+ * @author tduva
+ */
+class LineBatch {
+
+    private final List<ElementSpec> specs = new ArrayList<>();
+
+    /**
+     * Text not added to specs yet, all with the same style.
+     */
+    private final StringBuilder run = new StringBuilder();
+    private AttributeSet runStyle;
+
+    /**
+     * Attributes of the last paragraph the batch starts, referenced by an
+     * ElementSpec, null if no newline has been added yet.
+     */
+    private MutableAttributeSet paragraph;
+
+    /**
+     * Attributes of the paragraph the batch starts in (the last one in the
+     * Document), null if they aren't changed.
+     */
+    private MutableAttributeSet existingParagraph;
+
+    private boolean empty = true;
+
+    /**
+     * Add text with the given style.
+     *
+     * @param text The text, may contain newlines
+     * @param style The style of the text
+     * @param paragraphStyle The attributes of any new paragraph and that
+     * replace the attributes of the paragraph the text ends in
+     */
+    public void add(String text, AttributeSet style, AttributeSet paragraphStyle) {
+        empty = false;
+        if (!text.isEmpty()) {
+            if (runStyle != null && !runStyle.isEqual(style)) {
+                endRun();
+            }
+            if (runStyle == null) {
+                // Styles may be changed after being used, so copy
+                runStyle = style.copyAttributes();
+            }
+            int start = 0;
+            int newline;
+            while ((newline = text.indexOf('\n', start)) != -1) {
+                AttributeSet currentStyle = runStyle;
+                run.append(text, start, newline + 1);
+                endRun();
+                runStyle = currentStyle;
+                specs.add(new ElementSpec(null, ElementSpec.EndTagType));
+                paragraph = new SimpleAttributeSet();
+                specs.add(new ElementSpec(paragraph, ElementSpec.StartTagType));
+                start = newline + 1;
+            }
+            run.append(text, start, text.length());
+        }
+        MutableAttributeSet current = currentParagraph();
+        current.removeAttributes(current);
+        current.addAttributes(paragraphStyle);
+    }
+
+    private MutableAttributeSet currentParagraph() {
+        if (paragraph != null) {
+            return paragraph;
+        }
+        if (existingParagraph == null) {
+            existingParagraph = new SimpleAttributeSet();
+        }
+        return existingParagraph;
+    }
+
+    private void endRun() {
+        if (run.length() > 0) {
+            char[] chars = new char[run.length()];
+            run.getChars(0, chars.length, chars, 0);
+            specs.add(new ElementSpec(runStyle, ElementSpec.ContentType, chars, 0, chars.length));
+            run.setLength(0);
+        }
+        runStyle = null;
+    }
+
+    /**
+     * Add attributes to the last paragraph that the added text is in.
+     *
+     * @param attr The attributes
+     */
+    public void addParagraphAttributes(AttributeSet attr) {
+        empty = false;
+        currentParagraph().addAttributes(attr);
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * Add the collected text to the end of the Document and reset this, so it
+     * can be used for the next line.
+     *
+     * @param doc The Document
+     * @throws BadLocationException
+     */
+    public void apply(MyDocument doc) throws BadLocationException {
+        if (empty) {
+            return;
+        }
+        try {
+            endRun();
+            int offset = doc.getLength();
+            if (!specs.isEmpty()) {
+                ElementSpec first = specs.get(0);
+                if (offset > 0 && first.getType() == ElementSpec.ContentType
+                        && doc.getCharacterElement(offset - 1).getAttributes().isEqual(first.getAttributes())) {
+                    first.setDirection(ElementSpec.JoinPreviousDirection);
+                }
+                /**
+                 * The text is inserted before the implied newline at the end
+                 * of the Document, so the last new paragraph is joined with
+                 * the rest of the paragraph it was inserted in.
+                 */
+                for (int i = specs.size() - 1; i >= 0; i--) {
+                    if (specs.get(i).getType() == ElementSpec.StartTagType) {
+                        specs.get(i).setDirection(ElementSpec.JoinFractureDirection);
+                        break;
+                    }
+                }
+                doc.append(specs.toArray(new ElementSpec[specs.size()]));
+            }
+            if (existingParagraph != null) {
+                doc.setParagraphAttributes(offset, 1, existingParagraph, true);
+            }
+        }
+        finally {
+            clear();
+        }
+    }
+
+    public void clear() {
+        specs.clear();
+        run.setLength(0);
+        runStyle = null;
+        paragraph = null;
+        existingParagraph = null;
+        empty = true;
+    }
+
+}
@@ -4,6 +4,7 @@ package chatty.gui.components.textpane;
 import javax.swing.event.DocumentEvent;
 import javax.swing.text.AbstractDocument;
 import javax.swing.text.DefaultStyledDocument;
+import javax.swing.text.BadLocationException;
 import javax.swing.text.Element;
 
 /**
@@ -12,6 +13,8 @@ import javax.swing.text.Element;
  * This is currently used to display Icons after they are fully loaded, although
  * there should be a better way to do this.
  * 
+ * Also allows adding several elements at once, see {@link LineBatch}.
+ * 
  * @author tduva
  */
 class MyDocument extends DefaultStyledDocument {
@@ -29,5 +32,15 @@ class MyDocument extends DefaultStyledDocument {
         changes.end();
         fireChangedUpdate(changes);
     }
+    
+    /**
+     * Insert the given elements at the end of the document, in one edit.
+     * 
+     * @param data
+     * @throws BadLocationException 
+     */
+    public void append(ElementSpec[] data) throws BadLocationException {
+        insert(getLength(), data);
+    }
 
 }
\ No newline at end of file
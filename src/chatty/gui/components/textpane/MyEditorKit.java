@@ -34,7 +34,17 @@ class MyEditorKit extends StyledEditorKit {
     private final StyledViewFactory factory;
     
     public MyEditorKit(boolean startAtBottom) {
-        this.factory = new StyledViewFactory(startAtBottom);
+        this(startAtBottom, true);
+    }
+    
+    /**
+     * 
+     * @param startAtBottom Start adding lines at the bottom
+     * @param lazyLayout Only lay out lines near the visible area when the
+     * width changes (see {@link ChatBoxView})
+     */
+    public MyEditorKit(boolean startAtBottom, boolean lazyLayout) {
+        this.factory = new StyledViewFactory(startAtBottom, lazyLayout);
     }
     
     @Override
@@ -66,6 +76,7 @@ class MyEditorKit extends StyledEditorKit {
     static class StyledViewFactory implements ViewFactory {
         
         private final boolean startAtBottom;
+        private final boolean lazyLayout;
         
         /**
          * Store image views by image, so that the view and thus location can be
@@ -75,8 +86,9 @@ class MyEditorKit extends StyledEditorKit {
          */
         private final Map<Image, Map<Long, WeakReference<MyIconView>>> imageViews = new HashMap<>();
         
-        StyledViewFactory(boolean startAtBottom) {
+        StyledViewFactory(boolean startAtBottom, boolean lazyLayout) {
             this.startAtBottom = startAtBottom;
+            this.lazyLayout = lazyLayout;
         }
         
         public void changeImage(Image oldImage, Image newImage) {
@@ -192,7 +204,7 @@ class MyEditorKit extends StyledEditorKit {
                 } else if (kind.equals(AbstractDocument.ParagraphElementName)) {
                     return new MyParagraphView(elem);
                 } else if (kind.equals(AbstractDocument.SectionElementName)) {
-                    return new ChatBoxView(elem, View.Y_AXIS, startAtBottom);
+                    return new ChatBoxView(elem, View.Y_AXIS, startAtBottom, lazyLayout);
                 } else if (kind.equals(StyleConstants.ComponentElementName)) {
                     return new ComponentView(elem);
                 } else if (kind.equals(StyleConstants.IconElementName)) {
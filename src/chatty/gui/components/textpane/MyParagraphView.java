@@ -10,9 +10,11 @@ import java.util.Enumeration;
 import javax.swing.JComponent;
 import javax.swing.event.DocumentEvent;
 import javax.swing.text.AttributeSet;
+import javax.swing.text.BadLocationException;
 import javax.swing.text.Element;
 import javax.swing.text.FlowView;
 import javax.swing.text.ParagraphView;
+import javax.swing.text.Position;
 import static javax.swing.text.StyleConstants.LineSpacing;
 import javax.swing.text.View;
 import javax.swing.text.ViewFactory;
@@ -26,6 +28,10 @@ import javax.swing.text.ViewFactory;
  * 
  * Contains parts of https://stackoverflow.com/a/14230668/2375667 to fix a line
  * breaking bug in JTextPane.
+ * 
+ * Wrapping the line for a new width is deferred if the line isn't near the
+ * visible area (see {@link ChatBoxView}), until it is painted or a position in
+ * it is requested.
  *
  * @author tduva
  */
@@ -33,10 +39,72 @@ class MyParagraphView extends ParagraphView {
 
     public static int MAX_VIEW_SIZE = 50;
     
+    /**
+     * The size that should be applied, or -1 if the layout isn't deferred.
+     */
+    private float deferredWidth = -1;
+    private float deferredHeight;
+    
+    /**
+     * Text was added or removed since the last layout, in which case the
+     * layout isn't deferred, since the current rows may not fit the text
+     * anymore (unlike for a different width or changed attributes).
+     */
+    private boolean textChanged;
+    
     public MyParagraphView(Element elem) {
         super(elem);
         strategy = new MyParagraphView.MyFlowStrategy();
     }
+    
+    @Override
+    public void setSize(float width, float height) {
+        int span = (int) (width - getLeftInset() - getRightInset());
+        boolean laidOut = layoutSpan != Integer.MAX_VALUE;
+        if (laidOut && !textChanged
+                && (span != layoutSpan || !isLayoutValid(X_AXIS))
+                && getParent() instanceof ChatBoxView
+                && !((ChatBoxView) getParent()).isNearVisible(this)) {
+            deferredWidth = width;
+            deferredHeight = height;
+            return;
+        }
+        applySize(width, height);
+    }
+    
+    private void applySize(float width, float height) {
+        deferredWidth = -1;
+        textChanged = false;
+        super.setSize(width, height);
+    }
+    
+    /**
+     * Apply the size, if it has been deferred.
+     */
+    public void layoutDeferred() {
+        if (deferredWidth != -1) {
+            applySize(deferredWidth, deferredHeight);
+        }
+    }
+    
+    @Override
+    public Shape modelToView(int pos, Shape a, Position.Bias b) throws BadLocationException {
+        layoutDeferred();
+        return super.modelToView(pos, a, b);
+    }
+    
+    @Override
+    public int viewToModel(float x, float y, Shape a, Position.Bias[] bias) {
+        layoutDeferred();
+        return super.viewToModel(x, y, a, bias);
+    }
+    
+    @Override
+    public int getNextVisualPositionFrom(int pos, Position.Bias b, Shape a,
+            int direction, Position.Bias[] biasRet) throws BadLocationException {
+        layoutDeferred();
+        return super.getNextVisualPositionFrom(pos, b, a, direction, biasRet);
+    }
 
     public static class MyFlowStrategy extends FlowStrategy {
 
@@ -53,12 +121,14 @@ class MyParagraphView extends ParagraphView {
     
     @Override
     public void removeUpdate(DocumentEvent e, Shape a, ViewFactory f) {
+        textChanged = true;
         super.removeUpdate(e, a, f);
         resetBreakSpots();
     }
     
     @Override
     public void insertUpdate(DocumentEvent e, Shape a, ViewFactory f) {
+        textChanged = true;
         super.insertUpdate(e, a, f);
         resetBreakSpots();
     }
@@ -0,0 +1,344 @@
+
+package chatty.gui.components.textpane;
+
+import chatty.User;
+import chatty.util.StringUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.Element;
+
+/**
+ * Keeps the lowercase text of each line of a Document, so it can be searched
+ * without having to get the text of each line from the Document for every
+ * search.
+ *
+ * <p>
+ * Lines are added when they are finished, removed lines (e.g. when the buffer
+ * is trimmed) are removed from the index and lines that are changed are read
+ * again before the next search (based on Document events). For each line a
+ * 64-bit mask of the contained bigrams is stored, so most lines that can't
+ * contain the search text can be skipped without comparing the text.
+ * </p>
+ *
+ * <p>
+ * Must only be used on the EDT.
+ * </p>
+ *
+ * @author tduva
+ */
+class SearchIndex implements DocumentListener {
+
+    private final Document doc;
+    private final Function<Element, User> userProvider;
+
+    /**
+     * Indexed lines in the order they appear in the Document.
+     */
+    private ArrayList<Line> lines = new ArrayList<>();
+
+    /**
+     * Lines may have been replaced, so check all lines before the next search.
+     */
+    private boolean syncRequired;
+
+    SearchIndex(Document doc, Function<Element, User> userProvider) {
+        this.doc = doc;
+        this.userProvider = userProvider;
+        doc.addDocumentListener(this);
+    }
+
+    /**
+     * Add all lines that haven't been added yet.
+     */
+    public void update() {
+        Element root = doc.getDefaultRootElement();
+        int index = 0;
+        if (!lines.isEmpty()) {
+            index = getIndex(lines.get(lines.size() - 1).element);
+            if (index == -1) {
+                sync();
+                return;
+            }
+            index++;
+        }
+        for (; index < root.getElementCount(); index++) {
+            Element element = root.getElement(index);
+            if (!isEmpty(element)) {
+                lines.add(new Line(element));
+            }
+        }
+    }
+
+    /**
+     * Go through all lines of the Document, keeping lines that are already
+     * indexed and adding others.
+     */
+    private void sync() {
+        syncRequired = false;
+        Element root = doc.getDefaultRootElement();
+        ArrayList<Line> result = new ArrayList<>(root.getElementCount());
+        int j = 0;
+        for (int i = 0; i < root.getElementCount(); i++) {
+            Element element = root.getElement(i);
+            while (j < lines.size()
+                    && lines.get(j).element != element
+                    && getIndex(lines.get(j).element) == -1) {
+                j++;
+            }
+            if (j < lines.size() && lines.get(j).element == element) {
+                result.add(lines.get(j++));
+            }
+            else if (!isEmpty(element)) {
+                result.add(new Line(element));
+            }
+        }
+        lines = result;
+    }
+
+    private static boolean isEmpty(Element element) {
+        return element.getEndOffset() - element.getStartOffset() <= 1;
+    }
+
+    public int size() {
+        return lines.size();
+    }
+
+    /**
+     * Find all lines matching the search.
+     *
+     * @param search
+     * @return The matching lines, from oldest to newest
+     */
+    public List<Line> find(Search search) {
+        if (syncRequired) {
+            sync();
+        }
+        update();
+        List<Line> result = new ArrayList<>();
+        for (Line line : lines) {
+            if (getIndex(line.element) == -1) {
+                syncRequired = true;
+                continue;
+            }
+            if (line.dirty) {
+                line.read();
+            }
+            if (search.matches(line)) {
+                result.add(line);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The index of the element in the root element, or -1 if it's not in the
+     * Document anymore.
+     */
+    private int getIndex(Element element) {
+        Element root = doc.getDefaultRootElement();
+        int index = root.getElementIndex(element.getStartOffset());
+        if (index >= 0 && index < root.getElementCount() && root.getElement(index) == element) {
+            return index;
+        }
+        return -1;
+    }
+
+    /**
+     * The indexed line containing the offset (based on the current offsets of
+     * the lines), or null if none could be found.
+     */
+    private Line getLine(int offset) {
+        int low = 0;
+        int high = lines.size() - 1;
+        Line result = null;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            Line line = lines.get(mid);
+            if (line.element.getStartOffset() <= offset) {
+                result = line;
+                low = mid + 1;
+            }
+            else {
+                high = mid - 1;
+            }
+        }
+        return result;
+    }
+
+    //==========================
+    // Document changes
+    //==========================
+
+    @Override
+    public void insertUpdate(DocumentEvent e) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        int offset = e.getOffset();
+        if (offset + e.getLength() == doc.getLength() && startsWithNewline(offset)) {
+            // New line added at the end, doesn't change indexed lines
+            return;
+        }
+        Line line = getLine(offset);
+        if (line != null) {
+            line.dirty = true;
+        }
+    }
+
+    @Override
+    public void removeUpdate(DocumentEvent e) {
+        // Remove lines from the start that are not in the Document anymore
+        int removed = 0;
+        while (removed < lines.size() && getIndex(lines.get(removed).element) == -1) {
+            removed++;
+        }
+        lines.subList(0, removed).clear();
+        if (lines.isEmpty()) {
+            return;
+        }
+        /**
+         * The line after the removed lines may have been replaced by a new
+         * element, which has to be added again.
+         */
+        int firstIndex = getIndex(lines.get(0).element);
+        if (firstIndex > 0) {
+            Element root = doc.getDefaultRootElement();
+            List<Line> added = new ArrayList<>();
+            for (int i = 0; i < firstIndex; i++) {
+                if (!isEmpty(root.getElement(i))) {
+                    added.add(new Line(root.getElement(i)));
+                }
+            }
+            lines.addAll(0, added);
+        }
+        // Line may have been partially removed or merged with another
+        Line line = getLine(e.getOffset());
+        if (line != null) {
+            line.dirty = true;
+        }
+    }
+
+    @Override
+    public void changedUpdate(DocumentEvent e) {
+        // Only attributes changed
+    }
+
+    private boolean startsWithNewline(int offset) {
+        try {
+            return doc.getText(offset, 1).equals("\n");
+        }
+        catch (BadLocationException ex) {
+            return false;
+        }
+    }
+
+    //==========================
+    // Classes
+    //==========================
+
+    class Line {
+
+        final Element element;
+        private String text;
+        private long bigrams;
+        private String username;
+        private boolean dirty;
+
+        private Line(Element element) {
+            this.element = element;
+            read();
+        }
+
+        private void read() {
+            dirty = false;
+            int start = element.getStartOffset();
+            int length = element.getEndOffset() - 1 - start;
+            try {
+                text = StringUtil.toLowerCase(doc.getText(start, Math.max(0, length)));
+            }
+            catch (BadLocationException ex) {
+                text = "";
+            }
+            bigrams = getBigrams(text);
+            User user = userProvider.apply(element);
+            username = user != null ? user.getName() : null;
+        }
+
+    }
+
+    /**
+     * Each bigram sets one of the 64 bits.
+     */
+    private static long getBigrams(String text) {
+        long result = 0;
+        for (int i = 0; i < text.length() - 1; i++) {
+            int hash = text.charAt(i) * 31 + text.charAt(i + 1);
+            result |= 1L << (hash & 63);
+        }
+        return result;
+    }
+
+    /**
+     * What to search for, parsed from the text entered by the user, using the
+     * same prefixes as for Highlighting:
+     *
+     * <ul>
+     * <li>"user:name" at the start only matches messages by that user</li>
+     * <li>"re:" followed by a regular expression (case-insensitive)</li>
+     * <li>Otherwise the text is searched for, case-insensitive</li>
+     * </ul>
+     */
+    static class Search {
+
+        private final String text;
+        private final long bigrams;
+        private final Pattern pattern;
+        private final String username;
+
+        Search(String input) {
+            String search = input.trim();
+            String user = null;
+            if (search.startsWith("user:")) {
+                String[] split = search.split(" ", 2);
+                user = StringUtil.toLowerCase(split[0].substring("user:".length()));
+                search = split.length == 2 ? split[1].trim() : "";
+            }
+            Pattern p = null;
+            if (search.startsWith("re:") && search.length() > 3) {
+                try {
+                    p = Pattern.compile(search.substring(3), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+                }
+                catch (PatternSyntaxException ex) {
+                    // Just search for the text instead
+                }
+            }
+            this.username = user == null || user.isEmpty() ? null : user;
+            this.pattern = p;
+            this.text = p == null ? StringUtil.toLowerCase(search) : null;
+            this.bigrams = p == null ? getBigrams(text) : 0;
+        }
+
+        public boolean isEmpty() {
+            return username == null && pattern == null && text.isEmpty();
+        }
+
+        boolean matches(Line line) {
+            if (username != null && !username.equals(line.username)) {
+                return false;
+            }
+            if (pattern != null) {
+                return pattern.matcher(line.text).find();
+            }
+            return (line.bigrams & bigrams) == bigrams && line.text.contains(text);
+        }
+
+    }
+
+}
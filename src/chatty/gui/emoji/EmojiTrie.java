@@ -0,0 +1,185 @@
+
+package chatty.gui.emoji;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Finds Emoji in a text by going through it only once, following the
+ * characters of all Emoji codes at the same time, instead of searching for
+ * each Emoji separately.
+ *
+ * <p>
+ * At each position the longest Emoji is used (so e.g. a ZWJ sequence is found
+ * instead of the separate Emoji it consists of). A variation selector directly
+ * following an Emoji is included in the match, unless it's the text style
+ * selector (U+FE0E), in which case the next shorter Emoji is tried instead,
+ * same as when searching for each Emoji separately (longer ones first).
+ * </p>
+ *
+ * @author tduva
+ * @param <T> The values associated with the Emoji codes
+ */
+public class EmojiTrie<T> {
+
+    private static final char TEXT_STYLE = '\uFE0E';
+    private static final char EMOJI_STYLE = '\uFE0F';
+
+    private final Node<T> root = new Node<>();
+    private int maxLength;
+    private int size;
+
+    /**
+     * Add a value for the given Emoji code. Several values can be added for
+     * the same code, in which case the first one accepted by the filter is
+     * used.
+     *
+     * @param code The Emoji characters
+     * @param value The value
+     */
+    public void add(String code, T value) {
+        if (code.isEmpty()) {
+            return;
+        }
+        Node<T> node = root;
+        for (int i = 0; i < code.length(); i++) {
+            node = node.getOrAdd(code.charAt(i));
+        }
+        node.addValue(value);
+        maxLength = Math.max(maxLength, code.length());
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Find all Emoji in the given text.
+     *
+     * @param text The text to search in
+     * @param filter Only values accepted by this are used
+     * @param listener Receives the matches in order
+     */
+    public void find(String text, Predicate<T> filter, MatchListener<T> listener) {
+        if (size == 0) {
+            return;
+        }
+        Node<T>[] found = Node.newArray(maxLength);
+        int[] foundEnd = new int[maxLength];
+        int length = text.length();
+        int pos = 0;
+        while (pos < length) {
+            // Collect all Emoji starting at this position
+            int count = 0;
+            Node<T> node = root;
+            int end = pos;
+            while (end < length && (node = node.get(text.charAt(end))) != null) {
+                end++;
+                if (node.values != null) {
+                    found[count] = node;
+                    foundEnd[count] = end;
+                    count++;
+                }
+            }
+            // Use the longest one that is accepted
+            int next = pos + 1;
+            for (int i = count - 1; i >= 0; i--) {
+                int matchEnd = foundEnd[i];
+                char following = matchEnd < length ? text.charAt(matchEnd) : 0;
+                if (following == TEXT_STYLE) {
+                    continue;
+                }
+                T value = found[i].getValue(filter);
+                if (value == null) {
+                    continue;
+                }
+                if (following == EMOJI_STYLE) {
+                    matchEnd++;
+                }
+                listener.match(value, pos, matchEnd - 1);
+                next = matchEnd;
+                break;
+            }
+            pos = next;
+        }
+    }
+
+    public interface MatchListener<T> {
+
+        /**
+         * An Emoji was found.
+         *
+         * @param value The value associated with the Emoji
+         * @param start The start index (inclusive)
+         * @param end The end index (inclusive)
+         */
+        public void match(T value, int start, int end);
+    }
+
+    private static class Node<T> {
+
+        private static final char[] NO_KEYS = new char[0];
+
+        /**
+         * Sorted, for binary search.
+         */
+        private char[] keys = NO_KEYS;
+        private Node<T>[] children;
+        private Object[] values;
+
+        Node<T> get(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node<T> getOrAdd(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insert = -(index + 1);
+            char[] newKeys = new char[keys.length + 1];
+            Node<T>[] newChildren = newArray(keys.length + 1);
+            System.arraycopy(keys, 0, newKeys, 0, insert);
+            System.arraycopy(keys, insert, newKeys, insert + 1, keys.length - insert);
+            if (children != null) {
+                System.arraycopy(children, 0, newChildren, 0, insert);
+                System.arraycopy(children, insert, newChildren, insert + 1, keys.length - insert);
+            }
+            Node<T> node = new Node<>();
+            newKeys[insert] = c;
+            newChildren[insert] = node;
+            keys = newKeys;
+            children = newChildren;
+            return node;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T> Node<T>[] newArray(int length) {
+            return (Node<T>[]) new Node<?>[length];
+        }
+
+        void addValue(T value) {
+            if (values == null) {
+                values = new Object[]{value};
+            }
+            else {
+                values = Arrays.copyOf(values, values.length + 1);
+                values[values.length - 1] = value;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        T getValue(Predicate<T> filter) {
+            for (Object value : values) {
+                if (filter.test((T) value)) {
+                    return (T) value;
+                }
+            }
+            return null;
+        }
+
+    }
+
+}
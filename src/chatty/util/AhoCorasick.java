@@ -0,0 +1,179 @@
+
+package chatty.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Finds which of a fixed set of literal strings occur in a text, with a single
+ * pass over the text regardless of how many strings there are (Aho-Corasick).
+ *
+ * <p>
+ * Matching is done exactly on chars, so any case folding has to be done on
+ * both the patterns and the text beforehand. Once created the automaton isn't
+ * modified anymore, so it can be used from several threads.
+ * </p>
+ *
+ * @author tduva
+ */
+public class AhoCorasick {
+
+    private static final int[] NO_IDS = new int[0];
+
+    /**
+     * Per state, the chars with a transition (sorted) and the state they lead
+     * to.
+     */
+    private final char[][] chars;
+    private final int[][] targets;
+    private final int[] fail;
+
+    /**
+     * Per state, the ids of all patterns ending in this state (including ones
+     * found through the fail links).
+     */
+    private final int[][] output;
+    private final int patternCount;
+
+    /**
+     * Create a new automaton.
+     *
+     * @param patterns The patterns, the index in the list is the id that is
+     * returned when the pattern is found, empty patterns are never found
+     */
+    public AhoCorasick(List<String> patterns) {
+        patternCount = patterns.size();
+
+        //--------------------------
+        // Trie
+        //--------------------------
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> ids = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        ids.add(new ArrayList<>());
+        for (int id = 0; id < patterns.size(); id++) {
+            String pattern = patterns.get(id);
+            if (pattern == null || pattern.isEmpty()) {
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    ids.add(new ArrayList<>());
+                    trie.get(state).put(c, next);
+                }
+                state = next;
+            }
+            ids.get(state).add(id);
+        }
+
+        int size = trie.size();
+        chars = new char[size][];
+        targets = new int[size][];
+        for (int state = 0; state < size; state++) {
+            TreeMap<Character, Integer> transitions = trie.get(state);
+            chars[state] = new char[transitions.size()];
+            targets[state] = new int[transitions.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> entry : transitions.entrySet()) {
+                chars[state][i] = entry.getKey();
+                targets[state][i] = entry.getValue();
+                i++;
+            }
+        }
+
+        //--------------------------
+        // Fail links (breadth-first, so shorter states are done first)
+        //--------------------------
+        fail = new int[size];
+        output = new int[size][];
+        output[0] = NO_IDS;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int target : targets[0]) {
+            fail[target] = 0;
+            queue.add(target);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            List<Integer> stateIds = ids.get(state);
+            int[] inherited = output[fail[state]];
+            int[] result = new int[stateIds.size() + inherited.length];
+            for (int i = 0; i < stateIds.size(); i++) {
+                result[i] = stateIds.get(i);
+            }
+            System.arraycopy(inherited, 0, result, stateIds.size(), inherited.length);
+            output[state] = result.length == 0 ? NO_IDS : result;
+
+            for (int i = 0; i < chars[state].length; i++) {
+                char c = chars[state][i];
+                int target = targets[state][i];
+                int f = fail[state];
+                int next = next(f, c);
+                while (next == -1 && f != 0) {
+                    f = fail[f];
+                    next = next(f, c);
+                }
+                fail[target] = next == -1 ? 0 : next;
+                queue.add(target);
+            }
+        }
+    }
+
+    private int next(int state, char c) {
+        int index = Arrays.binarySearch(chars[state], c);
+        return index < 0 ? -1 : targets[state][index];
+    }
+
+    /**
+     * Set the ids of all patterns that occur in the given text.
+     *
+     * @param text The text to search in
+     * @param result The ids of found patterns are set in this (other bits are
+     * not changed)
+     */
+    public void findAll(CharSequence text, BitSet result) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next = next(state, c);
+            while (next == -1 && state != 0) {
+                state = fail[state];
+                next = next(state, c);
+            }
+            state = next == -1 ? 0 : next;
+            for (int id : output[state]) {
+                result.set(id);
+            }
+        }
+    }
+
+    /**
+     * Get the ids of all patterns that occur in the given text.
+     *
+     * @param text The text to search in
+     * @return A new {@code BitSet}
+     */
+    public BitSet findAll(CharSequence text) {
+        BitSet result = new BitSet(patternCount);
+        findAll(text, result);
+        return result;
+    }
+
+    public int getPatternCount() {
+        return patternCount;
+    }
+
+    public int getStateCount() {
+        return fail.length;
+    }
+
+}
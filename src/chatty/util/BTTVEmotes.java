@@ -5,12 +5,15 @@ import chatty.Helper;
 import chatty.util.api.Emoticon;
 import chatty.util.api.EmoticonUpdate;
 import chatty.util.api.TwitchApi;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.logging.Logger;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 
 /**
@@ -28,6 +31,13 @@ public class BTTVEmotes {
     
     public static final String GLOBAL = "$global$";
     
+    /**
+     * The emote objects are parsed one by one while reading.
+     */
+    private static final JSONStream GLOBAL_EMOTES = new JSONStream();
+    private static final List<String> BOTS = Arrays.asList("bots");
+    private static final JSONStream CHANNEL_EMOTES = new JSONStream("channelEmotes").and("sharedEmotes").and("bots");
+    
     private final EmoticonListener listener;
     private final TwitchApi api;
     
@@ -67,9 +77,10 @@ public class BTTVEmotes {
     private void requestNow(String url, String stream) {
         UrlRequest request = new UrlRequest(url);
         request.setLabel("BTTV");
-        request.async((result, responseCode) -> {
+        String streamRestriction = GLOBAL.equals(stream) ? null : stream;
+        request.asyncParsed(reader -> parse(reader, streamRestriction), (result, responseCode) -> {
             if (responseCode == 200 && result != null) {
-                loadEmotes(result, stream);
+                loadEmotes(result, streamRestriction);
                 RetryManager.getInstance().setSuccess(url);
             }
             else if (String.valueOf(responseCode).startsWith("4")) {
@@ -89,121 +100,62 @@ public class BTTVEmotes {
     }
     
     /**
-     * Load stuff from the given JSON in the context of the given channel
-     * restriction. The channel restriction can be "$global$" which means all
-     * channels.
+     * Send the parsed emotes and bots to the listener.
      * 
-     * @param json The JSON
-     * @param streamRestriction
-     * @return 
+     * @param result The parsed emotes and bots
+     * @param streamRestriction The stream, or null for global emotes
      */
-    private int loadEmotes(String json, String streamRestriction) {
-        Set<Emoticon> emotes;
-        Set<String> bots = new HashSet<>();
-        if (streamRestriction != null && streamRestriction.equals(GLOBAL)) {
-            streamRestriction = null;
-        }
-        
-        if (streamRestriction == null) {
-            emotes = parseGlobalEmotes(json);
-        }
-        else {
-            emotes = parseChannelEmotes(json, streamRestriction);
-            bots = parseBots(json);
-        }
-        LOGGER.info("|[BTTV] Found " + emotes.size() + " emotes / "+bots.size()+" bots");
-        EmoticonUpdate.Builder updateBuilder = new EmoticonUpdate.Builder(emotes);
+    private void loadEmotes(EmoteList result, String streamRestriction) {
+        LOGGER.info("|[BTTV] Found " + result.emotes.size() + " emotes / "+result.bots.size()+" bots");
+        EmoticonUpdate.Builder updateBuilder = new EmoticonUpdate.Builder(result.emotes);
         updateBuilder.setTypeToRemove(Emoticon.Type.BTTV);
         updateBuilder.setRoomToRemove(streamRestriction);
         listener.receivedEmoticons(updateBuilder.build());
-        listener.receivedBotNames(streamRestriction, bots);
-        return emotes.size();
+        listener.receivedBotNames(streamRestriction, result.bots);
     }
     
     /**
-     * Parse list of bots from the given JSON.
-     * 
-     * @param json
-     * @return 
+     * Emotes and bot names parsed from a response.
      */
-    private static Set<String> parseBots(String json) {
-        Set<String> result = new HashSet<>();
-        if (json == null) {
-            return result;
-        }
-        JSONParser parser = new JSONParser();
-        try {
-            JSONObject root = (JSONObject)parser.parse(json);
-            JSONArray botsArray = (JSONArray)root.get("bots");
-            if (botsArray == null) {
-                // No bots for this channel
-                return result;
-            }
-            for (Object o : botsArray) {
-                result.add((String)o);
-            }
-        } catch (ParseException | ClassCastException ex) {
-            LOGGER.warning("|[BTTV] Error parsing bots: "+ex);
-        }
-        return result;
-    }
-    
-    private static Set<Emoticon> parseGlobalEmotes(String json) {
-        try {
-            JSONParser parser = new JSONParser();
-            JSONArray root = (JSONArray)parser.parse(json);
-            if (root != null) {
-                return parseEmotes(root, null);
-            }
-        }
-        catch (Exception ex) {
-            LOGGER.warning("|[BTTV] Error parsing global emotes: "+ex);
-        }
-        return new HashSet<>();
-    }
-    
-    private static Set<Emoticon> parseChannelEmotes(String json, String streamRestriction) {
-        Set<Emoticon> result = new HashSet<>();
-        try {
-            JSONParser parser = new JSONParser();
-            JSONObject root = (JSONObject)parser.parse(json);
-            if (root != null) {
-                
-                result.addAll(parseEmotes((JSONArray)root.get("channelEmotes"), streamRestriction));
-                result.addAll(parseEmotes((JSONArray)root.get("sharedEmotes"), streamRestriction));
-            }
-        }
-        catch (Exception ex) {
-            LOGGER.warning("|[BTTV] Error parsing channel emotes: "+ex);
-        }
-        return result;
+    static class EmoteList {
+        
+        final Set<Emoticon> emotes = new HashSet<>();
+        final Set<String> bots = new HashSet<>();
+        
     }
     
     /**
-     * Parse emotes from the given JSON.
+     * Parse the global (an array of emotes) or channel (an object with emote
+     * lists and bots) JSON while reading it, one emote at a time.
      * 
-     * @param json
-     * @param channelRestriction
-     * @return 
+     * @param reader The JSON
+     * @param streamRestriction The stream, or null for global emotes
+     * @return The emotes and bots, may be incomplete if the JSON is invalid
+     * @throws IOException If reading fails
      */
-    private static Set<Emoticon> parseEmotes(JSONArray data, String channelRestriction) {
-        Set<Emoticon> emotes = new HashSet<>();
+    static EmoteList parse(Reader reader, String streamRestriction) throws IOException {
+        EmoteList result = new EmoteList();
+        JSONStream stream = streamRestriction == null ? GLOBAL_EMOTES : CHANNEL_EMOTES;
         try {
-            for (Object o : data) {
-                if (o instanceof JSONObject) {
-                    Emoticon emote = parseEmote((JSONObject)o, TEMPLATE,
-                            channelRestriction);
+            stream.parseWithPaths(reader, (path, o) -> {
+                if (path.equals(BOTS)) {
+                    if (o instanceof String) {
+                        result.bots.add((String) o);
+                    }
+                }
+                else if (o instanceof JSONObject) {
+                    Emoticon emote = parseEmote((JSONObject) o, TEMPLATE,
+                            streamRestriction);
                     if (emote != null) {
-                        emotes.add(emote);
+                        result.emotes.add(emote);
                     }
                 }
-            }
-        } catch (ClassCastException ex) {
-            // ClassCastException is also caught in parseEmote(), so it won't
-            // quit completely when one emote is invalid.
+            });
+        }
+        catch (ParseException | RuntimeException ex) {
             LOGGER.warning("|[BTTV] Error parsing emotes: "+ex);
         }
-        return emotes;
+        return result;
     }
     
     /**
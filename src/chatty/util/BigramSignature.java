@@ -0,0 +1,206 @@
+
+package chatty.util;
+
+import java.util.Arrays;
+
+/**
+ * The bigrams of a String, prepared for comparing it with many other Strings,
+ * without having to split both Strings into bigrams again for every
+ * comparison (or creating any objects while comparing).
+ *
+ * <p>
+ * The results are the same as {@link StringUtil#getSimilarity(String, String)},
+ * {@link StringUtil#getSimilarity2(String, String)} and
+ * {@link StringUtil#checkSimilarity(String, String, float, int)} for the
+ * Strings the signatures were created from.
+ * </p>
+ *
+ * @author tduva
+ */
+public class BigramSignature {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final String text;
+
+    /**
+     * Sorted, including duplicates.
+     */
+    private final int[] bigrams;
+
+    /**
+     * Number of different values in bigrams.
+     */
+    private final int distinct;
+
+    /**
+     * Create a signature for the given String. Whitespace removal or other
+     * preparation (see
+     * {@link StringUtil#prepareForSimilarityComparison(String, char[])}) has
+     * to be done beforehand.
+     *
+     * @param text The String (must not be null)
+     */
+    public BigramSignature(String text) {
+        this.text = text;
+        if (text.length() < 2) {
+            bigrams = EMPTY;
+            distinct = 0;
+        }
+        else {
+            bigrams = new int[text.length() - 1];
+            for (int i = 0; i < bigrams.length; i++) {
+                // Same encoding as in StringUtil
+                bigrams[i] = text.charAt(i) + (text.charAt(i + 1) << 16);
+            }
+            Arrays.sort(bigrams);
+            int count = 1;
+            for (int i = 1; i < bigrams.length; i++) {
+                if (bigrams[i] != bigrams[i - 1]) {
+                    count++;
+                }
+            }
+            distinct = count;
+        }
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public int length() {
+        return text.length();
+    }
+
+    /**
+     * Same as {@link StringUtil#checkSimilarity(String, String, float, int)}.
+     *
+     * @param other The other signature (must not be null)
+     * @param min The minimum similarity score the Strings need to reach
+     * @param method The comparison algorithm (1 or 2)
+     * @return The score if the Strings reach at least min similiarty score, 0
+     * otherwise
+     */
+    public float checkSimilarity(BigramSignature other, float min, int method) {
+        if (text.isEmpty() && other.text.isEmpty()) {
+            return 1;
+        }
+
+        float sim;
+        if (method == 2) {
+            sim = getSimilarity2(other);
+        }
+        else {
+            if (StringUtil.getLengthSimilarity(text, other.text) >= min) {
+                sim = getSimilarity(other);
+            }
+            else {
+                sim = 0;
+            }
+        }
+        return sim >= min ? sim : 0;
+    }
+
+    /**
+     * Same as {@link StringUtil#getSimilarity(String, String)}.
+     *
+     * @param other The other signature (must not be null)
+     * @return A float between 0 (not at all similiar) and 1.
+     */
+    public float getSimilarity(BigramSignature other) {
+        float special = checkSpecialCases(other);
+        if (!Float.isNaN(special)) {
+            return special;
+        }
+        int[] a = bigrams;
+        int[] b = other.bigrams;
+        // Each shared occurence of a bigram counts once
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            }
+            else if (a[i] > b[j]) {
+                j++;
+            }
+            else {
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return 2f * count / (text.length() + other.text.length() - 2);
+    }
+
+    /**
+     * Same as {@link StringUtil#getSimilarity2(String, String)}.
+     *
+     * @param other The other signature (must not be null)
+     * @return A float between 0 (not at all similiar) and 1.
+     */
+    public float getSimilarity2(BigramSignature other) {
+        float special = checkSpecialCases(other);
+        if (!Float.isNaN(special)) {
+            return special;
+        }
+        int[] a = bigrams;
+        int[] b = other.bigrams;
+        // Each bigram counts only once, no matter how often it occurs
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            int valueA = a[i];
+            int valueB = b[j];
+            if (valueA < valueB) {
+                i++;
+            }
+            else if (valueA > valueB) {
+                j++;
+            }
+            else {
+                count++;
+                while (i < a.length && a[i] == valueA) {
+                    i++;
+                }
+                while (j < b.length && b[j] == valueB) {
+                    j++;
+                }
+            }
+        }
+        return 2f * count / (distinct + other.distinct);
+    }
+
+    /**
+     * The checks both similarity methods do before actually comparing
+     * bigrams.
+     *
+     * @param other
+     * @return The result, or NaN if bigrams have to be compared
+     */
+    private float checkSpecialCases(BigramSignature other) {
+        String a = text;
+        String b = other.text;
+        if (a.isEmpty() && b.isEmpty()) {
+            return 1;
+        }
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0;
+        }
+        if (a.equals(b)) {
+            return 1;
+        }
+        if (a.length() < 2 || b.length() < 2) {
+            return 0;
+        }
+        return Float.NaN;
+    }
+
+    @Override
+    public String toString() {
+        return text+"/"+bigrams.length+"/"+distinct;
+    }
+
+}
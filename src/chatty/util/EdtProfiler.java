@@ -0,0 +1,319 @@
+
+package chatty.util;
+
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.awt.event.InputEvent;
+import java.awt.event.InvocationEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+import java.awt.event.PaintEvent;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Measures how long events on the EDT wait in the queue and how long they take
+ * to run, to find out what makes the GUI slow.
+ *
+ * <p>
+ * This is done by pushing an EventQueue that records each event it dispatches.
+ * The time waited is based on the event timestamp, so only available for
+ * events that have one (e.g. {@code invokeLater()} and input events). For some
+ * of the {@code invokeLater()} calls (1 in {@link #SAMPLE_INTERVAL}) the call
+ * site is retrieved from the stacktrace, so the time can be attributed to
+ * what submitted the event (getting the stacktrace for every event would be
+ * too slow to leave this enabled).
+ * </p>
+ *
+ * <p>
+ * The statistics are only modified and read on the EDT.
+ * </p>
+ *
+ * @author tduva
+ */
+public class EdtProfiler extends EventQueue {
+
+    private static final Logger LOGGER = Logger.getLogger(EdtProfiler.class.getName());
+
+    private static final int SAMPLE_INTERVAL = 32;
+
+    /**
+     * Events with at least this run time (in ms) are logged (at most once per
+     * minute).
+     */
+    private static final int SLOW_EVENT = 1000;
+
+    private static EdtProfiler instance;
+
+    /**
+     * Enable or disable the profiler. Must be called on the EDT.
+     *
+     * @param enabled
+     */
+    public static void setEnabled(boolean enabled) {
+        if (enabled && instance == null) {
+            instance = new EdtProfiler();
+            Toolkit.getDefaultToolkit().getSystemEventQueue().push(instance);
+            LOGGER.info("EDT profiler enabled");
+        }
+        else if (!enabled && instance != null) {
+            instance.remove();
+            instance = null;
+            LOGGER.info("EDT profiler disabled");
+        }
+    }
+
+    public static boolean isEnabled() {
+        return instance != null;
+    }
+
+    /**
+     * Get a summary of the recorded statistics. Must be called on the EDT.
+     *
+     * @return The summary, or null if the profiler isn't enabled
+     */
+    public static String getReport() {
+        return instance != null ? instance.makeReport() : null;
+    }
+
+    /**
+     * Remove all recorded statistics. Must be called on the EDT.
+     */
+    public static void reset() {
+        if (instance != null) {
+            instance.resetStats();
+        }
+    }
+
+    /**
+     * Write the current report to a file. Must be called on the EDT.
+     *
+     * @param file
+     * @throws IOException
+     */
+    public static void export(Path file) throws IOException {
+        String report = getReport();
+        if (report != null) {
+            Files.write(file, report.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    //==========================
+    // Queue
+    //==========================
+
+    private final AtomicInteger postCounter = new AtomicInteger();
+
+    /**
+     * Call site of sampled events, from posting until dispatched.
+     */
+    private final Map<AWTEvent, String> sampled = new ConcurrentHashMap<>();
+
+    private final Stats total = new Stats("All");
+    private final Stats waitTotal = new Stats("Wait");
+    private final Map<String, Stats> byType = new HashMap<>();
+    private final Map<String, Stats> bySite = new HashMap<>();
+    private long startedTime = System.currentTimeMillis();
+    private long lastSlowLogged;
+
+    private EdtProfiler() {
+    }
+
+    private void remove() {
+        pop();
+    }
+
+    @Override
+    public void postEvent(AWTEvent event) {
+        if (event instanceof InvocationEvent
+                && postCounter.incrementAndGet() % SAMPLE_INTERVAL == 0) {
+            if (sampled.size() > 1000) {
+                // Shouldn't happen, but events could get lost somehow
+                sampled.clear();
+            }
+            sampled.put(event, getCallSite(new Throwable().getStackTrace()));
+        }
+        super.postEvent(event);
+    }
+
+    @Override
+    protected void dispatchEvent(AWTEvent event) {
+        long start = System.nanoTime();
+        long startMillis = System.currentTimeMillis();
+        try {
+            super.dispatchEvent(event);
+        }
+        finally {
+            long duration = (System.nanoTime() - start) / 1000;
+            record(event, duration, startMillis);
+        }
+    }
+
+    private void record(AWTEvent event, long duration, long startMillis) {
+        total.record(duration);
+        getStats(byType, getType(event)).record(duration);
+        long when = getWhen(event);
+        if (when > 0) {
+            waitTotal.record((startMillis - when) * 1000);
+        }
+        if (!sampled.isEmpty()) {
+            String site = sampled.remove(event);
+            if (site != null) {
+                getStats(bySite, site).record(duration);
+            }
+        }
+        if (duration > SLOW_EVENT * 1000 && startMillis - lastSlowLogged > 60*1000) {
+            lastSlowLogged = startMillis;
+            LOGGER.warning(String.format("Slow EDT event (%dms): %s",
+                    duration / 1000, event.getClass().getName()));
+        }
+    }
+
+    private static long getWhen(AWTEvent event) {
+        if (event instanceof InvocationEvent) {
+            return ((InvocationEvent) event).getWhen();
+        }
+        if (event instanceof InputEvent) {
+            return ((InputEvent) event).getWhen();
+        }
+        return 0;
+    }
+
+    private static String getType(AWTEvent event) {
+        if (event instanceof InvocationEvent) {
+            return "Invocation";
+        }
+        if (event instanceof PaintEvent) {
+            return "Paint";
+        }
+        if (event instanceof MouseEvent) {
+            return "Mouse";
+        }
+        if (event instanceof KeyEvent) {
+            return "Key";
+        }
+        return "Other";
+    }
+
+    /**
+     * Get the first method in the stacktrace that isn't part of the JDK or
+     * only a helper for running something on the EDT.
+     *
+     * @param stack
+     * @return
+     */
+    static String getCallSite(StackTraceElement[] stack) {
+        StackTraceElement fallback = null;
+        for (StackTraceElement element : stack) {
+            String cls = element.getClassName();
+            if (cls.equals(EdtProfiler.class.getName())) {
+                continue;
+            }
+            if (fallback == null) {
+                fallback = element;
+            }
+            if (cls.startsWith("java.")
+                    || cls.startsWith("javax.")
+                    || cls.startsWith("sun.")
+                    || cls.startsWith("jdk.")
+                    || cls.equals("chatty.gui.GuiUtil")) {
+                continue;
+            }
+            return getName(element);
+        }
+        // E.g. Swing Timer or RepaintManager
+        return fallback != null ? getName(fallback) : "Unknown";
+    }
+
+    private static String getName(StackTraceElement element) {
+        String cls = element.getClassName();
+        cls = cls.substring(cls.lastIndexOf('.') + 1);
+        String method = element.getMethodName();
+        if (method.startsWith("lambda$")) {
+            // lambda$methodName$0
+            int end = method.indexOf('$', 7);
+            if (end != -1) {
+                method = method.substring(7, end);
+            }
+        }
+        return cls+"."+method;
+    }
+
+    private static Stats getStats(Map<String, Stats> map, String name) {
+        Stats stats = map.get(name);
+        if (stats == null) {
+            stats = new Stats(name);
+            map.put(name, stats);
+        }
+        return stats;
+    }
+
+    private void resetStats() {
+        total.histogram.reset();
+        waitTotal.histogram.reset();
+        byType.clear();
+        bySite.clear();
+        startedTime = System.currentTimeMillis();
+    }
+
+    private String makeReport() {
+        StringBuilder b = new StringBuilder();
+        long seconds = Math.max(1, (System.currentTimeMillis() - startedTime) / 1000);
+        b.append(String.format("EDT events in the last %s (times in ms, total is time spent on EDT)\n",
+                DateTime.duration(seconds * 1000)));
+        b.append(String.format("Busy: %.1f%%\n\n",
+                total.histogram.getTotal() / 10.0 / seconds / 1000));
+        b.append(total).append("\n");
+        b.append(waitTotal).append("\n\n");
+
+        b.append("By type:\n");
+        appendSorted(b, byType);
+
+        b.append("\nBy call site (sampled 1 in ").append(SAMPLE_INTERVAL).append(" invocations):\n");
+        appendSorted(b, bySite);
+        return b.toString();
+    }
+
+    /**
+     * Append stats, sorted by most time spent first.
+     */
+    private static void appendSorted(StringBuilder b, Map<String, Stats> map) {
+        List<Stats> list = new ArrayList<>(map.values());
+        Collections.sort(list, (a, o) -> Long.compare(o.histogram.getTotal(), a.histogram.getTotal()));
+        for (Stats stats : list) {
+            b.append(stats).append("\n");
+        }
+    }
+
+    private static class Stats {
+
+        private final String name;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        Stats(String name) {
+            this.name = name;
+        }
+
+        void record(long micros) {
+            histogram.record(micros);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-40s %s", name, histogram.toStringMicros());
+        }
+
+    }
+
+}
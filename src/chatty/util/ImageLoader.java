@@ -0,0 +1,241 @@
+
+package chatty.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Loads images on a dedicated pool of threads, so that loading a lot of images
+ * (e.g. when joining a channel with many emotes) doesn't block other
+ * background tasks.
+ *
+ * <p>
+ * Requests with the same key that are requested while the first one is still
+ * queued or loading share the same future, so the image is only loaded once.
+ * Requests with {@link Priority#VISIBLE} are loaded before ones with
+ * {@link Priority#BACKGROUND}, otherwise in the order they were requested.
+ * </p>
+ *
+ * @author tduva
+ * @param <T> The type of the loaded result
+ */
+public class ImageLoader<T> {
+
+    private static final Logger LOGGER = Logger.getLogger(ImageLoader.class.getName());
+
+    private static final int STATS_OUTPUT_DELAY = 2000;
+
+    public enum Priority {
+        /**
+         * Currently being shown (e.g. in chat).
+         */
+        VISIBLE,
+        /**
+         * May be shown at some point, but not in a hurry.
+         */
+        BACKGROUND
+    }
+
+    private final String name;
+    private final ThreadPoolExecutor executor;
+    private final Map<Object, Task> inFlight = new HashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    // Stats
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger coalesced = new AtomicInteger();
+    private final AtomicInteger loaded = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicLong waitTime = new AtomicLong();
+    private final AtomicLong loadTime = new AtomicLong();
+    private final AtomicLong maxLoadTime = new AtomicLong();
+
+    /**
+     * Create a new loader.
+     *
+     * @param name The name, used for thread names and debug output
+     * @param threads The number of threads to load images with
+     */
+    public ImageLoader(String name, int threads) {
+        this.name = name;
+        threads = Math.max(threads, 1);
+        executor = new ThreadPoolExecutor(threads, threads,
+                60, TimeUnit.SECONDS,
+                new PriorityBlockingQueue<>(),
+                new DaemonThreadFactory(name));
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Change the number of threads used for loading images.
+     *
+     * @param threads The number of threads (at least 1)
+     */
+    public void setThreads(int threads) {
+        threads = Math.max(threads, 1);
+        if (threads > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(threads);
+            executor.setCorePoolSize(threads);
+        }
+        else {
+            executor.setCorePoolSize(threads);
+            executor.setMaximumPoolSize(threads);
+        }
+    }
+
+    /**
+     * Request a result to be loaded. If a request with the same key is
+     * already queued or loading, then no new request is added and the future
+     * of the existing one is returned instead (if the new request has a
+     * higher priority, the existing one is moved up in the queue).
+     *
+     * @param key Identifies what is being loaded, requests with an equal key
+     * must return an equal result
+     * @param priority The priority
+     * @param loader Loads the result on one of the loader threads, may return
+     * null if loading failed
+     * @return The future that is completed when done loading
+     */
+    public CompletableFuture<T> load(Object key, Priority priority, Supplier<T> loader) {
+        requests.incrementAndGet();
+        Task task;
+        synchronized (inFlight) {
+            task = inFlight.get(key);
+            if (task != null) {
+                coalesced.incrementAndGet();
+                if (priority.compareTo(task.priority) < 0
+                        && executor.getQueue().remove(task)) {
+                    // Not started yet, so move up in the queue (keeping its
+                    // order relative to other requests of the same priority)
+                    task.priority = priority;
+                    executor.execute(task);
+                }
+                return task.future;
+            }
+            task = new Task(key, priority, loader);
+            inFlight.put(key, task);
+        }
+        executor.execute(task);
+        return task.future;
+    }
+
+    /**
+     * Number of requests currently waiting to be loaded (not including the
+     * ones currently loading).
+     *
+     * @return
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    public String getStats() {
+        int loadedCount = loaded.get();
+        return String.format("[%s] Queue: %d, Active: %d, Requests: %d (coalesced: %d), Loaded: %d (failed: %d), avg ms: wait %.1f, load %.1f (max %d)",
+                name,
+                getQueueSize(),
+                executor.getActiveCount(),
+                requests.get(),
+                coalesced.get(),
+                loadedCount,
+                failed.get(),
+                loadedCount > 0 ? waitTime.get() / (double) loadedCount : 0,
+                loadedCount > 0 ? loadTime.get() / (double) loadedCount : 0,
+                maxLoadTime.get());
+    }
+
+    private void outputStats() {
+        if (Debugging.isEnabled("imageloader")
+                && Debugging.millisecondsElapsedLenient("imageloader"+name, STATS_OUTPUT_DELAY)) {
+            Debugging.printlnTimed("imageloader"+name, getStats());
+        }
+    }
+
+    private class Task implements Runnable, Comparable<Task> {
+
+        private final Object key;
+        private final Supplier<T> loader;
+        private final long seq = sequence.incrementAndGet();
+        private final long created = System.currentTimeMillis();
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private volatile Priority priority;
+
+        Task(Object key, Priority priority, Supplier<T> loader) {
+            this.key = key;
+            this.priority = priority;
+            this.loader = loader;
+        }
+
+        @Override
+        public void run() {
+            long start = System.currentTimeMillis();
+            T result = null;
+            try {
+                result = loader.get();
+            }
+            catch (Exception ex) {
+                LOGGER.warning("Error loading "+key+": "+ex);
+            }
+            finally {
+                /**
+                 * Also done if an Error (like OutOfMemoryError) occured, so
+                 * the image can be requested again and anyone waiting for it
+                 * is notified (with a null result).
+                 */
+                long end = System.currentTimeMillis();
+                loaded.incrementAndGet();
+                if (result == null) {
+                    failed.incrementAndGet();
+                }
+                waitTime.addAndGet(start - created);
+                loadTime.addAndGet(end - start);
+                maxLoadTime.accumulateAndGet(end - start, Math::max);
+
+                // Remove first, so that a new request after this loads again
+                synchronized (inFlight) {
+                    inFlight.remove(key, this);
+                }
+                future.complete(result);
+            }
+            outputStats();
+        }
+
+        @Override
+        public int compareTo(Task o) {
+            int result = priority.compareTo(o.priority);
+            if (result == 0) {
+                result = Long.compare(seq, o.seq);
+            }
+            return result;
+        }
+
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+        private final String name;
+
+        DaemonThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "ImageLoader-"+name+"-"+count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+}
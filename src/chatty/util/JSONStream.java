@@ -0,0 +1,420 @@
+
+package chatty.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.ContentHandler;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+/**
+ * Parses JSON while reading it and only creates JSONObjects/JSONArrays for the
+ * elements of some arrays in the document (like the emotes in an emote list),
+ * which are handed to a listener one by one. The rest of the document is read,
+ * but not kept, except for values specifically requested.
+ *
+ * <p>
+ * Compared to parsing the whole document first, this means that the response
+ * doesn't have to be read into a String and only one element has to be in
+ * memory at a time. Values for some keys (like large nested objects that
+ * aren't used) can be skipped entirely.
+ * </p>
+ *
+ * <p>
+ * Paths are given as the keys of the objects leading to the array or value,
+ * starting from the root object. A key of "*" matches any key (like the ids of
+ * the emote sets in an object).
+ * </p>
+ *
+ * @author tduva
+ */
+public class JSONStream {
+
+    public static final String ANY_KEY = "*";
+
+    private final List<Target> targets;
+    private final Set<String> skipKeys;
+
+    private JSONStream(List<Target> targets, Set<String> skipKeys) {
+        this.targets = targets;
+        this.skipKeys = skipKeys;
+    }
+
+    /**
+     * Create a new instance, which can be used for parsing several documents
+     * (but only one at a time).
+     *
+     * @param path The keys of the objects leading to the array, starting from
+     * the root object (empty if the root is the array)
+     */
+    public JSONStream(String... path) {
+        this(Collections.singletonList(new Target(path, true)), Collections.emptySet());
+    }
+
+    /**
+     * Also send the elements of the array at the given path to the listener.
+     *
+     * @param path
+     * @return A new instance
+     */
+    public JSONStream and(String... path) {
+        return add(new Target(path, true));
+    }
+
+    /**
+     * Also send the value at the given path (as a whole) to the listener.
+     *
+     * @param path
+     * @return A new instance
+     */
+    public JSONStream value(String... path) {
+        return add(new Target(path, false));
+    }
+
+    /**
+     * Keys of object entries in the elements or values that should not be
+     * included.
+     *
+     * @param keys
+     * @return A new instance
+     */
+    public JSONStream skip(String... keys) {
+        return new JSONStream(targets, new HashSet<>(Arrays.asList(keys)));
+    }
+
+    private JSONStream add(Target target) {
+        List<Target> result = new ArrayList<>(targets);
+        result.add(target);
+        return new JSONStream(result, skipKeys);
+    }
+
+    /**
+     * Parse the JSON and send the elements of the array to the listener. The
+     * listener isn't called if the array doesn't exist at the path.
+     *
+     * @param reader The JSON
+     * @param listener Receives the elements (usually JSONObject, but may also
+     * be other types)
+     * @throws IOException When reading fails
+     * @throws ParseException When the JSON is invalid
+     */
+    public void parse(Reader reader, ElementListener listener) throws IOException, ParseException {
+        parseWithPaths(reader, (path, element) -> listener.element(element));
+    }
+
+    /**
+     * Parse the JSON and send the elements of the arrays and the values to the
+     * listener, in the order they appear in the document.
+     *
+     * @param reader The JSON
+     * @param listener Receives the elements and values, along with the path
+     * they were found at (with the actual keys instead of "*")
+     * @throws IOException When reading fails
+     * @throws ParseException When the JSON is invalid
+     */
+    public void parseWithPaths(Reader reader, PathListener listener) throws IOException, ParseException {
+        new JSONParser().parse(reader, new Handler(listener));
+    }
+
+    public interface ElementListener {
+
+        public void element(Object element);
+    }
+
+    public interface PathListener {
+
+        /**
+         * An element of an array or a value.
+         *
+         * @param path The keys leading to the array or value, the same object
+         * for all elements of an array
+         * @param element The element or value
+         */
+        public void element(List<String> path, Object element);
+    }
+
+    private static class Target {
+
+        private final List<String> path;
+
+        /**
+         * Whether the elements of the array are sent, instead of the value.
+         */
+        private final boolean elements;
+
+        Target(String[] path, boolean elements) {
+            this.path = Arrays.asList(path);
+            this.elements = elements;
+        }
+
+        boolean matches(int level, String key) {
+            String pathKey = path.get(level);
+            return pathKey.equals(ANY_KEY) || pathKey.equals(key);
+        }
+
+        boolean hasWildcard() {
+            return path.contains(ANY_KEY);
+        }
+
+    }
+
+    private class Handler implements ContentHandler {
+
+        private final PathListener listener;
+
+        /**
+         * The containers outside of the elements, with the current entry key
+         * (for objects).
+         */
+        private final ArrayDeque<Frame> frames = new ArrayDeque<>();
+
+        /**
+         * The element currently being created (containers and keys).
+         */
+        private final ArrayDeque<Object> values = new ArrayDeque<>();
+        private final ArrayDeque<String> keys = new ArrayDeque<>();
+
+        /**
+         * The path the element currently being created is sent with.
+         */
+        private List<String> valuePath;
+
+        /**
+         * Greater than 0 while skipping a value, the number of containers
+         * entered in the skipped value + 1.
+         */
+        private int skipping;
+
+        /**
+         * With only a single array to look for, nothing else of interest comes
+         * after it.
+         */
+        private final boolean stopAfterArray;
+
+        Handler(PathListener listener) {
+            this.listener = listener;
+            this.stopAfterArray = targets.size() == 1
+                    && targets.get(0).elements
+                    && !targets.get(0).hasWildcard();
+        }
+
+        @Override
+        public void startJSON() {
+        }
+
+        @Override
+        public void endJSON() {
+        }
+
+        @Override
+        public boolean startObject() {
+            return startContainer(new JSONObject());
+        }
+
+        @Override
+        public boolean startArray() {
+            return startContainer(new JSONArray());
+        }
+
+        private boolean startContainer(Object container) {
+            if (skipping > 0) {
+                skipping++;
+                return true;
+            }
+            if (!values.isEmpty() || startValue()) {
+                values.push(container);
+                return true;
+            }
+            // Outside of elements/values
+            Frame parent = frames.peek();
+            int level = frames.size();
+            List<Target> matching = new ArrayList<>();
+            Target elementsOf = null;
+            for (Target target : parent == null ? targets : parent.matching) {
+                if (parent != null && (parent.key == null || !target.matches(level - 1, parent.key))) {
+                    continue;
+                }
+                if (target.path.size() > level) {
+                    matching.add(target);
+                }
+                else if (target.elements && container instanceof JSONArray && elementsOf == null) {
+                    elementsOf = target;
+                }
+            }
+            Frame frame = new Frame(matching, elementsOf);
+            frames.push(frame);
+            if (elementsOf != null) {
+                frame.path = getPath();
+            }
+            return true;
+        }
+
+        @Override
+        public boolean endObject() {
+            return endContainer();
+        }
+
+        @Override
+        public boolean endArray() {
+            return endContainer();
+        }
+
+        private boolean endContainer() {
+            if (skipping > 0) {
+                skipping--;
+            }
+            else if (!values.isEmpty()) {
+                add(values.pop());
+            }
+            else {
+                Frame frame = frames.pop();
+                if (frame.elementsOf != null && stopAfterArray) {
+                    // Nothing else of interest in the document
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean startObjectEntry(String key) {
+            if (skipping > 0) {
+                return true;
+            }
+            if (!values.isEmpty()) {
+                if (skipKeys.contains(key)) {
+                    skipping = 1;
+                }
+                else {
+                    keys.push(key);
+                }
+            }
+            else if (!frames.isEmpty()) {
+                frames.peek().key = key;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean endObjectEntry() {
+            if (skipping == 1) {
+                skipping = 0;
+            }
+            else if (skipping == 0 && !values.isEmpty()) {
+                keys.pop();
+            }
+            return true;
+        }
+
+        @Override
+        public boolean primitive(Object value) {
+            if (skipping == 0 && (!values.isEmpty() || startValue())) {
+                add(value);
+            }
+            return true;
+        }
+
+        /**
+         * Check whether a value starting outside of elements/values should be
+         * kept, because it is an element of an array or a value that was asked
+         * for. If so, the path to send it with is set.
+         *
+         * @return true if the value should be kept
+         */
+        private boolean startValue() {
+            Frame parent = frames.peek();
+            if (parent == null) {
+                // Root value
+                for (Target target : targets) {
+                    if (!target.elements && target.path.isEmpty()) {
+                        valuePath = Collections.emptyList();
+                        return true;
+                    }
+                }
+                return false;
+            }
+            if (parent.elementsOf != null) {
+                valuePath = parent.path;
+                return true;
+            }
+            if (parent.key == null) {
+                return false;
+            }
+            int level = frames.size() - 1;
+            for (Target target : parent.matching) {
+                if (!target.elements && target.path.size() == level + 1
+                        && target.matches(level, parent.key)) {
+                    valuePath = getPath();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * The keys of the frames, starting at the root.
+         *
+         * @return
+         */
+        private List<String> getPath() {
+            List<String> result = new ArrayList<>(frames.size());
+            Iterator<Frame> it = frames.descendingIterator();
+            while (it.hasNext()) {
+                String key = it.next().key;
+                if (key != null) {
+                    result.add(key);
+                }
+            }
+            return Collections.unmodifiableList(result);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void add(Object value) {
+            Object parent = values.peek();
+            if (parent == null) {
+                listener.element(valuePath, value);
+            }
+            else if (parent instanceof JSONArray) {
+                ((JSONArray) parent).add(value);
+            }
+            else {
+                ((JSONObject) parent).put(keys.peek(), value);
+            }
+        }
+
+    }
+
+    private static class Frame {
+
+        /**
+         * The targets that have a longer path that starts with the keys up to
+         * this container.
+         */
+        private final List<Target> matching;
+
+        /**
+         * Not null if the elements of this array are sent.
+         */
+        private final Target elementsOf;
+
+        private String key;
+        private List<String> path;
+
+        Frame(List<Target> matching, Target elementsOf) {
+            this.matching = matching;
+            this.elementsOf = elementsOf;
+        }
+
+    }
+
+}
@@ -0,0 +1,152 @@
+
+package chatty.util;
+
+/**
+ * Counts durations in buckets that get wider as the values get larger (a few
+ * buckets for each power of two), so that a wide range of values can be
+ * recorded with a fixed amount of memory, while percentiles are still accurate
+ * to within about 12%.
+ *
+ * <p>
+ * Not thread-safe.
+ * </p>
+ *
+ * @author tduva
+ */
+public class LatencyHistogram {
+
+    /**
+     * Number of buckets per power of two (as bits), values below
+     * 2^(SUB_BITS+1) get an exact bucket each.
+     */
+    private static final int SUB_BITS = 3;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int LINEAR = SUB_COUNT * 2;
+
+    private final long[] counts = new long[LINEAR + (64 - SUB_BITS - 1) * SUB_COUNT];
+    private long count;
+    private long total;
+    private long max;
+
+    /**
+     * Record a value.
+     *
+     * @param value The value, negative values are counted as 0
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        counts[getIndex(value)]++;
+        count++;
+        total += value;
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    static int getIndex(long value) {
+        if (value < LINEAR) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >> (exponent - SUB_BITS)) & (SUB_COUNT - 1);
+        return LINEAR + (exponent - SUB_BITS - 1) * SUB_COUNT + sub;
+    }
+
+    /**
+     * The highest value that would go into the bucket with the given index.
+     *
+     * @param index
+     * @return
+     */
+    static long getUpperBound(int index) {
+        if (index < LINEAR) {
+            return index;
+        }
+        int exponent = (index - LINEAR) / SUB_COUNT + SUB_BITS + 1;
+        int sub = (index - LINEAR) % SUB_COUNT;
+        long lower = (1L << exponent) + ((long) sub << (exponent - SUB_BITS));
+        return lower + (1L << (exponent - SUB_BITS)) - 1;
+    }
+
+    /**
+     * Get the value that the given percentage of recorded values are lower
+     * than or equal to (the upper bound of the bucket, but not higher than
+     * the highest recorded value).
+     *
+     * @param percentile Between 0 and 100
+     * @return The value, or 0 if nothing was recorded
+     */
+    public long getPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(getUpperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count > 0 ? (double) total / count : 0;
+    }
+
+    /**
+     * Add all values recorded in the given histogram to this one.
+     *
+     * @param other
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        total += other.total;
+        max = Math.max(max, other.max);
+    }
+
+    public void reset() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = 0;
+        }
+        count = 0;
+        total = 0;
+        max = 0;
+    }
+
+    /**
+     * Summary of the values, with the values given in microseconds and output
+     * in milliseconds.
+     *
+     * @return
+     */
+    public String toStringMicros() {
+        return String.format("n=%d mean=%.2f p50=%.2f p90=%.2f p99=%.2f max=%.2f total=%.0f",
+                count,
+                getMean() / 1000,
+                getPercentile(50) / 1000.0,
+                getPercentile(90) / 1000.0,
+                getPercentile(99) / 1000.0,
+                max / 1000.0,
+                total / 1000.0);
+    }
+
+}
@@ -0,0 +1,279 @@
+
+package chatty.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Keeps track of the approximate memory used by a number of values (e.g.
+ * loaded images) and evicts the least recently used ones when the total
+ * exceeds the budget.
+ *
+ * <p>
+ * Values are only weakly referenced, so adding a value doesn't prevent it from
+ * being garbage collected, in which case it is removed from the total without
+ * being evicted. Evicting a value means the evict function is called, which
+ * should release whatever uses the memory, so it can be loaded again later if
+ * necessary.
+ * </p>
+ * 
+ * <p>
+ * Several values can share the memory they use (e.g. the same image shown by
+ * several objects), in which case it is counted only once and only freed when
+ * all of them have been removed.
+ * </p>
+ *
+ * @author tduva
+ * @param <T> The type of the values
+ */
+public class MemoryBudget<T> {
+
+    private static final int STATS_OUTPUT_DELAY = 10*1000;
+
+    private final String name;
+    private final Consumer<T> evictFunction;
+    private final ReferenceQueue<T> collected = new ReferenceQueue<>();
+
+    /**
+     * Ordered from least to most recently used.
+     */
+    private final LinkedHashMap<Entry<T>, Boolean> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * How many entries there are for each shared key.
+     */
+    private final Map<Object, Integer> shared = new IdentityHashMap<>();
+
+    private long budget;
+    private long bytes;
+    private long evictedCount;
+    private long evictedBytes;
+    private long collectedCount;
+    private long lastStatsEvicted;
+    private long lastStatsTime = System.currentTimeMillis();
+
+    /**
+     * Create a new budget.
+     *
+     * @param name Used for debug output
+     * @param budget The budget in bytes, 0 or lower for no limit
+     * @param evictFunction Called for values that are evicted, without any
+     * locks held
+     */
+    public MemoryBudget(String name, long budget, Consumer<T> evictFunction) {
+        this.name = name;
+        this.budget = budget;
+        this.evictFunction = evictFunction;
+    }
+
+    /**
+     * Add a value, which may cause others to be evicted (but never the added
+     * one itself, even if it alone is already larger than the budget).
+     *
+     * @param value The value
+     * @param size The number of bytes the value uses
+     * @return The entry, which is needed for other methods
+     */
+    public Entry<T> add(T value, long size) {
+        return add(value, null, size);
+    }
+
+    /**
+     * Add a value, which may cause others to be evicted (but never the added
+     * one itself, even if it alone is already larger than the budget).
+     *
+     * @param value The value
+     * @param sharedKey What uses the memory, if it may be shared with other
+     * values (the size is only counted once for all values with the same key,
+     * compared by identity), may be null
+     * @param size The number of bytes the value uses
+     * @return The entry, which is needed for other methods
+     */
+    public Entry<T> add(T value, Object sharedKey, long size) {
+        Entry<T> entry = new Entry<>(value, sharedKey, size, collected);
+        List<T> evicted;
+        synchronized (this) {
+            entries.put(entry, Boolean.TRUE);
+            if (sharedKey == null || shared.merge(sharedKey, 1, Integer::sum) == 1) {
+                bytes += size;
+            }
+            evicted = checkBudget();
+        }
+        evict(evicted);
+        outputStats();
+        return entry;
+    }
+
+    /**
+     * Mark the value of the given entry as used, which means it will be
+     * evicted after values that have been used less recently.
+     *
+     * @param entry The entry, may be null
+     */
+    public synchronized void touch(Entry<T> entry) {
+        if (entry != null) {
+            entries.get(entry);
+        }
+    }
+
+    /**
+     * Remove the given entry without evicting it (e.g. because the value has
+     * been replaced).
+     *
+     * @param entry The entry, may be null
+     */
+    public synchronized void remove(Entry<T> entry) {
+        if (entry != null && entries.remove(entry) != null) {
+            removed(entry);
+        }
+    }
+
+    /**
+     * Change the budget, which may cause values to be evicted.
+     *
+     * @param budget The budget in bytes, 0 or lower for no limit
+     */
+    public void setBudget(long budget) {
+        List<T> evicted;
+        synchronized (this) {
+            this.budget = budget;
+            evicted = checkBudget();
+        }
+        evict(evicted);
+    }
+
+    public synchronized long getBytes() {
+        removeCollected();
+        return bytes;
+    }
+
+    public synchronized int size() {
+        removeCollected();
+        return entries.size();
+    }
+
+    public synchronized long getEvictedCount() {
+        return evictedCount;
+    }
+
+    /**
+     * Must be called while synchronized.
+     *
+     * @return The values that should be evicted, may be null
+     */
+    private List<T> checkBudget() {
+        removeCollected();
+        if (budget <= 0 || bytes <= budget) {
+            return null;
+        }
+        List<T> result = new ArrayList<>();
+        Iterator<Entry<T>> it = entries.keySet().iterator();
+        // Keep at least the most recently added/used one
+        while (bytes > budget && entries.size() > 1) {
+            Entry<T> entry = it.next();
+            it.remove();
+            long freed = removed(entry);
+            T value = entry.get();
+            if (value != null) {
+                result.add(value);
+                evictedCount++;
+                evictedBytes += freed;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Must be called while synchronized.
+     */
+    private void removeCollected() {
+        Reference<? extends T> ref;
+        while ((ref = collected.poll()) != null) {
+            Entry<?> entry = (Entry<?>) ref;
+            if (entries.remove(entry) != null) {
+                removed(entry);
+                collectedCount++;
+            }
+        }
+    }
+
+    /**
+     * Must be called while synchronized, after the entry has been removed.
+     *
+     * @param entry The removed entry
+     * @return The number of bytes freed (0 if the memory is still used by
+     * other entries with the same shared key)
+     */
+    private long removed(Entry<?> entry) {
+        if (entry.sharedKey != null
+                && shared.computeIfPresent(entry.sharedKey, (k, v) -> v > 1 ? v - 1 : null) != null) {
+            return 0;
+        }
+        bytes -= entry.size;
+        return entry.size;
+    }
+
+    private void evict(List<T> evicted) {
+        if (evicted != null) {
+            for (T value : evicted) {
+                evictFunction.accept(value);
+            }
+        }
+    }
+
+    public synchronized String getStats() {
+        removeCollected();
+        long now = System.currentTimeMillis();
+        double minutes = Math.max(now - lastStatsTime, 1) / 60000.0;
+        String result = String.format("[%s] %d entries, %.1f/%s MB, evicted: %d (%.1f MB, %.1f/min), collected: %d",
+                name,
+                entries.size(),
+                bytes / 1024.0 / 1024.0,
+                budget > 0 ? String.format("%.0f", budget / 1024.0 / 1024.0) : "-",
+                evictedCount,
+                evictedBytes / 1024.0 / 1024.0,
+                (evictedCount - lastStatsEvicted) / minutes,
+                collectedCount);
+        lastStatsEvicted = evictedCount;
+        lastStatsTime = now;
+        return result;
+    }
+
+    private void outputStats() {
+        if (Debugging.isEnabled("memorybudget")
+                && Debugging.millisecondsElapsedLenient("memorybudget"+name, STATS_OUTPUT_DELAY)) {
+            Debugging.printlnTimed("memorybudget"+name, getStats());
+        }
+    }
+
+    /**
+     * Identifies a value added to the budget. Uses identity for equals.
+     *
+     * @param <T>
+     */
+    public static class Entry<T> extends WeakReference<T> {
+
+        private final Object sharedKey;
+        private final long size;
+
+        private Entry(T value, Object sharedKey, long size, ReferenceQueue<T> queue) {
+            super(value, queue);
+            this.sharedKey = sharedKey;
+            this.size = size;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+    }
+
+}
@@ -0,0 +1,289 @@
+
+package chatty.util;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EndpointDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+/**
+ * A single HTTP client shared by the API, emote and other requests, so that
+ * connections to the same host are kept alive and reused, instead of
+ * connecting (and doing the TLS handshake) again for each request.
+ *
+ * <p>
+ * The number of concurrent connections per host is limited, additional
+ * requests to the same host wait for a connection to become available. Gzip
+ * responses are decoded while reading.
+ * </p>
+ *
+ * @author tduva
+ */
+public class SharedHttpClient {
+
+    private static final Charset CHARSET = Charset.forName("UTF-8");
+
+    private static final int MAX_CONNECTIONS = 40;
+    private static final int MAX_CONNECTIONS_PER_HOST = 6;
+
+    /**
+     * How long to wait for a connection from the pool, in milliseconds.
+     */
+    private static final int CONNECTION_REQUEST_TIMEOUT = 60*1000;
+
+    /**
+     * Context attribute for the Content-Encoding header, which is removed when
+     * the response is decoded.
+     */
+    private static final String ENCODING_ATTRIBUTE = "chatty.contentEncoding";
+
+    /**
+     * Maximum number of different endpoints to keep stats for.
+     */
+    private static final int MAX_ENDPOINTS = 100;
+
+    private static final CloseableHttpClient CLIENT = createClient();
+
+    private static final Map<String, EndpointStats> stats = new HashMap<>();
+    private static int requests;
+    private static int reused;
+
+    static CloseableHttpClient createClient() {
+        PoolingHttpClientConnectionManager connectionManager
+                = PoolingHttpClientConnectionManagerBuilder.create()
+                        .useSystemProperties()
+                        .setMaxConnTotal(MAX_CONNECTIONS)
+                        .setMaxConnPerRoute(MAX_CONNECTIONS_PER_HOST)
+                        .build();
+        return HttpClientBuilder.create()
+                .useSystemProperties()
+                .setConnectionManager(connectionManager)
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .disableCookieManagement()
+                // Callers handle 429/503 themselves (e.g. for POST requests)
+                .disableAutomaticRetries()
+                .addResponseInterceptorFirst((response, entity, context) -> {
+                    Header encoding = response.getFirstHeader(HttpHeaders.CONTENT_ENCODING);
+                    context.setAttribute(ENCODING_ATTRIBUTE, encoding != null ? encoding.getValue() : null);
+                })
+                .build();
+    }
+
+    /**
+     * Perform the request and read the response with the given handler. The
+     * handler is also called for error responses (status code 4xx etc.).
+     *
+     * @param <T> The type of the result
+     * @param request The request
+     * @param connectTimeout Timeout for connecting, in milliseconds
+     * @param readTimeout Timeout for reading from the connection, in
+     * milliseconds
+     * @param handler Reads the response
+     * @return The result of the handler
+     * @throws IOException If an error occured while performing the request or
+     * reading the response
+     */
+    public static <T> T execute(ClassicHttpRequest request, int connectTimeout,
+            int readTimeout, ResponseHandler<T> handler) throws IOException {
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(CONNECTION_REQUEST_TIMEOUT))
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeout))
+                .build());
+        long start = System.nanoTime();
+        int code = -1;
+        try {
+            T result = CLIENT.execute(request, context, response -> {
+                return handler.handle(response, (String) context.getAttribute(ENCODING_ATTRIBUTE));
+            });
+            HttpResponse response = context.getResponse();
+            code = response != null ? response.getCode() : 0;
+            return result;
+        }
+        finally {
+            EndpointDetails endpoint = context.getEndpointDetails();
+            addStats(getEndpoint(request),
+                    System.nanoTime() - start,
+                    endpoint != null && endpoint.getRequestCount() > 1,
+                    code);
+        }
+    }
+
+    /**
+     * Read the response body as UTF-8 text.
+     *
+     * @param response The response
+     * @return The text, empty if there is no body
+     * @throws IOException
+     */
+    public static String readText(ClassicHttpResponse response) throws IOException {
+        HttpEntity entity = response.getEntity();
+        if (entity == null) {
+            return "";
+        }
+        StringBuilder b = new StringBuilder();
+        try (Reader reader = new InputStreamReader(entity.getContent(), CHARSET)) {
+            char[] buffer = new char[8192];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                b.append(buffer, 0, read);
+            }
+        }
+        return b.toString();
+    }
+
+    /**
+     * Create a request body with the text encoded as UTF-8.
+     *
+     * @param data The text
+     * @param contentType The Content-Type header value
+     * @return The entity
+     */
+    public static HttpEntity createEntity(String data, String contentType) {
+        return new ByteArrayEntity(data.getBytes(CHARSET), ContentType.parse(contentType));
+    }
+
+    /**
+     * The host and the first two path segments, which should usually be
+     * enough to identify which API a request is for.
+     *
+     * @param request
+     * @return
+     */
+    private static String getEndpoint(ClassicHttpRequest request) {
+        try {
+            URI uri = request.getUri();
+            String path = uri.getPath() != null ? uri.getPath() : "";
+            int end = -1;
+            for (int i = 0; i < 3; i++) {
+                end = path.indexOf('/', end + 1);
+                if (end == -1) {
+                    break;
+                }
+            }
+            if (end != -1) {
+                path = path.substring(0, end);
+            }
+            return uri.getHost() + path;
+        }
+        catch (Exception ex) {
+            return "invalid";
+        }
+    }
+
+    /**
+     * Add a performed request to the stats.
+     *
+     * @param endpoint
+     * @param time How long the request took, in nanoseconds
+     * @param wasReused Whether the connection was reused
+     * @param code The HTTP status code, -1 if an exception occured (counted as
+     * error, same as 4xx/5xx responses)
+     */
+    private static synchronized void addStats(String endpoint, long time, boolean wasReused, int code) {
+        requests++;
+        if (wasReused) {
+            reused++;
+        }
+        EndpointStats s = stats.get(endpoint);
+        if (s == null) {
+            if (stats.size() >= MAX_ENDPOINTS) {
+                endpoint = "other";
+                s = stats.get(endpoint);
+            }
+            if (s == null) {
+                s = new EndpointStats();
+                stats.put(endpoint, s);
+            }
+        }
+        s.add(time, code < 0 || code >= 400);
+    }
+
+    /**
+     * Statistics about the requests performed so far.
+     *
+     * @return One line for the connection reuse and one line per endpoint
+     */
+    public static synchronized String getStats() {
+        StringBuilder b = new StringBuilder();
+        b.append(String.format(Locale.ROOT, "%d requests, %d on reused connections (%.0f%%)",
+                requests, reused, requests > 0 ? reused * 100.0 / requests : 0));
+        for (Map.Entry<String, EndpointStats> entry : new TreeMap<>(stats).entrySet()) {
+            b.append("\n").append(entry.getKey()).append(": ").append(entry.getValue());
+        }
+        return b.toString();
+    }
+
+    static synchronized void resetStats() {
+        stats.clear();
+        requests = 0;
+        reused = 0;
+    }
+
+    private static class EndpointStats {
+
+        private int count;
+        private int errors;
+        private long totalTime;
+        private long maxTime;
+
+        private void add(long time, boolean error) {
+            count++;
+            if (error) {
+                errors++;
+            }
+            totalTime += time;
+            maxTime = Math.max(maxTime, time);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%d requests (avg %dms, max %dms), %d errors",
+                    count,
+                    TimeUnit.NANOSECONDS.toMillis(totalTime / count),
+                    TimeUnit.NANOSECONDS.toMillis(maxTime),
+                    errors);
+        }
+
+    }
+
+    public interface ResponseHandler<T> {
+
+        /**
+         * Read the response. The entity (if present) is already decoded if it
+         * was gzip encoded.
+         *
+         * @param response The response
+         * @param encoding The original Content-Encoding of the response, may
+         * be null
+         * @return The result
+         * @throws IOException
+         */
+        T handle(ClassicHttpResponse response, String encoding) throws IOException;
+    }
+
+}
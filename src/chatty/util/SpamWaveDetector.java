@@ -0,0 +1,447 @@
+
+package chatty.util;
+
+import chatty.User;
+import chatty.gui.GuiUtil;
+import chatty.util.irc.MsgTags;
+import chatty.util.settings.Settings;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Detects similar messages sent by different users in the same channel within
+ * a short time (e.g. copy-paste raids), so they can be treated as one event.
+ *
+ * <p>
+ * Each message gets a MinHash signature of its character trigrams. The
+ * signature is split into bands, and messages that share a band are compared
+ * (LSH). So only messages that are likely similar are compared, instead of
+ * every recent message. Similar messages are put into the same cluster. Once a
+ * cluster contains messages by enough different users, the messages get tags
+ * with the cluster id and size.
+ * </p>
+ *
+ * <p>
+ * Per channel only messages within the configured timeframe (and only up to a
+ * maximum number) are kept, and each bucket only references the most recent
+ * messages, so memory and time per message are bounded, no matter how many
+ * users are chatting.
+ * </p>
+ *
+ * @author tduva
+ */
+public class SpamWaveDetector {
+
+    private static final String TAGS_KEY_ID = "chatty-spamwave-id";
+    private static final String TAGS_KEY_SIZE = "chatty-spamwave-size";
+    private static final String TAGS_KEY_USERS = "chatty-spamwave-users";
+
+    private static final int NUM_HASHES = 32;
+    private static final int ROWS_PER_BAND = 4;
+    private static final int NUM_BANDS = NUM_HASHES / ROWS_PER_BAND;
+
+    /**
+     * How many messages a bucket references, the most recent ones.
+     */
+    private static final int BUCKET_SIZE = 4;
+
+    /**
+     * Max number of messages kept per channel, even if they are within the
+     * timeframe.
+     */
+    private static final int MAX_ENTRIES = 3000;
+
+    private static final int SHINGLE_LENGTH = 3;
+
+    private static final int[] HASH_MULT = new int[NUM_HASHES];
+    private static final int[] HASH_ADD = new int[NUM_HASHES];
+
+    static {
+        Random random = new Random(4817);
+        for (int i = 0; i < NUM_HASHES; i++) {
+            HASH_MULT[i] = random.nextInt() | 1;
+            HASH_ADD[i] = random.nextInt();
+        }
+    }
+
+    public interface Listener {
+
+        /**
+         * A cluster has reached the number of users to be considered a spam
+         * wave, or has grown considerably since the last time. Called in the
+         * same thread as {@link #check(User, String, int[], MsgTags)}.
+         *
+         * @param channel The channel
+         * @param id The cluster id
+         * @param size The number of messages in the cluster
+         * @param users The number of different users in the cluster
+         * @param text The text of the first message in the cluster
+         */
+        public void spamWave(String channel, int id, int size, int users, String text);
+    }
+
+    private final Settings settings;
+    private final Map<String, Window> channels = new HashMap<>();
+
+    private volatile boolean enabled;
+    private long time;
+    private int minUsers;
+    private float minSim;
+    private int minLen;
+    private Listener listener;
+
+    private int clusterIdCounter;
+    private long lastCleanUp;
+
+    public SpamWaveDetector(Settings settings) {
+        this.settings = settings;
+        if (settings != null) {
+            settings.addSettingChangeListener((setting, type, value) -> {
+                if (setting.startsWith("spamWave")) {
+                    GuiUtil.edt(() -> {
+                        loadSettings();
+                    });
+                }
+            });
+        }
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    public void loadSettings() {
+        setOptions(settings.getBoolean("spamWave"),
+                settings.getLong("spamWaveTime"),
+                settings.getInt("spamWaveUsers"),
+                settings.getLong("spamWaveSim") / 100f,
+                settings.getInt("spamWaveLen"));
+    }
+
+    /**
+     * Must be used in EDT.
+     *
+     * @param enabled
+     * @param time Timeframe in seconds
+     * @param minUsers Number of different users a cluster needs for messages
+     * to be tagged
+     * @param minSim The minimum estimated similarity (0-1)
+     * @param minLen The minimum length of messages to be checked
+     */
+    public void setOptions(boolean enabled, long time, int minUsers, float minSim, int minLen) {
+        this.enabled = enabled;
+        this.time = time * 1000;
+        this.minUsers = Math.max(minUsers, 2);
+        this.minSim = minSim;
+        this.minLen = minLen;
+        if (!enabled) {
+            channels.clear();
+        }
+    }
+
+    /**
+     * Whether signatures should be created. Can be used outside the EDT.
+     *
+     * @return
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Create the MinHash signature for the given message text. This doesn't
+     * depend on any state, so it can be done outside the EDT, before calling
+     * {@link #check(User, String, int[], MsgTags)}.
+     *
+     * @param text The message text
+     * @return The signature, or null if the text is too short
+     */
+    public static int[] createSignature(String text) {
+        String prepared = StringUtil.removeWhitespaceAndMore(text, null).toLowerCase(Locale.ROOT);
+        if (prepared.length() < SHINGLE_LENGTH) {
+            return null;
+        }
+        int[] result = new int[NUM_HASHES];
+        for (int i = 0; i < NUM_HASHES; i++) {
+            result[i] = Integer.MAX_VALUE;
+        }
+        for (int pos = 0; pos + SHINGLE_LENGTH <= prepared.length(); pos++) {
+            int shingle = prepared.charAt(pos) * 31 * 31
+                    + prepared.charAt(pos + 1) * 31
+                    + prepared.charAt(pos + 2);
+            for (int i = 0; i < NUM_HASHES; i++) {
+                int h = hash(shingle * HASH_MULT[i] + HASH_ADD[i]);
+                if (h < result[i]) {
+                    result[i] = h;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static int hash(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * The estimated Jaccard similarity of the trigrams of both messages.
+     *
+     * @param a
+     * @param b
+     * @return Between 0 and 1
+     */
+    static float estimateSimilarity(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            if (a[i] == b[i]) {
+                same++;
+            }
+        }
+        return same / (float) NUM_HASHES;
+    }
+
+    /**
+     * Add the message to the channel's recent messages and add tags if it is
+     * part of a spam wave. Must be used in EDT.
+     *
+     * @param user The user that sent the message
+     * @param text The message text
+     * @param signature The signature created by {@link #createSignature(String)}
+     * for the text, may be null
+     * @param tags The tags of the message
+     * @return The tags, with the spam wave tags added if necessary
+     */
+    public MsgTags check(User user, String text, int[] signature, MsgTags tags) {
+        return check(user.getChannel(), user.getName(), text, signature, tags, System.currentTimeMillis());
+    }
+
+    MsgTags check(String channel, String username, String text, int[] signature, MsgTags tags, long now) {
+        if (!enabled || signature == null || text.length() < minLen) {
+            return tags;
+        }
+        cleanUp(now);
+        Window window = channels.get(channel);
+        if (window == null) {
+            window = new Window();
+            channels.put(channel, window);
+        }
+        window.expire(now - time);
+        Cluster cluster = window.add(signature, username, text, now);
+        int users = cluster.users.size();
+        if (users >= minUsers) {
+            if (listener != null && users >= cluster.notifiedUsers * 2) {
+                cluster.notifiedUsers = users;
+                listener.spamWave(channel, cluster.id, cluster.size, users, cluster.text);
+            }
+            tags = MsgTags.addTag(tags, TAGS_KEY_ID, String.valueOf(cluster.id));
+            tags = MsgTags.addTag(tags, TAGS_KEY_SIZE, String.valueOf(cluster.size));
+            tags = MsgTags.addTag(tags, TAGS_KEY_USERS, String.valueOf(users));
+        }
+        return tags;
+    }
+
+    /**
+     * Remove channels that haven't had any messages within the timeframe (e.g.
+     * because they have been left).
+     *
+     * @param now
+     */
+    private void cleanUp(long now) {
+        if (now - lastCleanUp > time) {
+            lastCleanUp = now;
+            Iterator<Window> it = channels.values().iterator();
+            while (it.hasNext()) {
+                Window window = it.next();
+                window.expire(now - time);
+                if (window.entries.isEmpty()) {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of messages currently kept for the given channel.
+     *
+     * @param channel
+     * @return
+     */
+    int getEntryCount(String channel) {
+        Window window = channels.get(channel);
+        return window != null ? window.entries.size() : 0;
+    }
+
+    public static int getClusterId(MsgTags tags) {
+        return getInt(tags, TAGS_KEY_ID);
+    }
+
+    public static int getClusterSize(MsgTags tags) {
+        return getInt(tags, TAGS_KEY_SIZE);
+    }
+
+    public static int getClusterUsers(MsgTags tags) {
+        return getInt(tags, TAGS_KEY_USERS);
+    }
+
+    private static int getInt(MsgTags tags, String key) {
+        String value = tags.get(key);
+        if (value != null) {
+            try {
+                return Integer.parseInt(value);
+            }
+            catch (NumberFormatException ex) {
+                return 0;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * The recent messages of a single channel.
+     */
+    private class Window {
+
+        private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+        private final Map<Long, Entry[]> buckets = new HashMap<>();
+
+        Cluster add(int[] signature, String username, String text, long now) {
+            long[] keys = new long[NUM_BANDS];
+            Entry best = null;
+            float bestSim = 0;
+            for (int band = 0; band < NUM_BANDS; band++) {
+                long key = band;
+                for (int row = 0; row < ROWS_PER_BAND; row++) {
+                    key = key * 1000003 + signature[band * ROWS_PER_BAND + row];
+                }
+                keys[band] = key;
+                Entry[] bucket = buckets.get(key);
+                if (bucket != null) {
+                    for (Entry candidate : bucket) {
+                        float sim = estimateSimilarity(signature, candidate.signature);
+                        if (sim >= minSim && sim > bestSim) {
+                            best = candidate;
+                            bestSim = sim;
+                        }
+                    }
+                }
+            }
+            Cluster cluster = best != null ? best.cluster : new Cluster(++clusterIdCounter, text);
+            Entry entry = new Entry(signature, keys, username, cluster, now);
+            cluster.add(username);
+            entries.add(entry);
+            for (long key : keys) {
+                addToBucket(key, entry);
+            }
+            if (entries.size() > MAX_ENTRIES) {
+                remove(entries.poll());
+            }
+            return cluster;
+        }
+
+        void expire(long before) {
+            while (!entries.isEmpty() && entries.peek().time < before) {
+                remove(entries.poll());
+            }
+        }
+
+        private void addToBucket(long key, Entry entry) {
+            Entry[] bucket = buckets.get(key);
+            Entry[] updated;
+            if (bucket == null) {
+                updated = new Entry[]{entry};
+            }
+            else {
+                // Most recent first, so the ones removed first drop out first
+                updated = new Entry[Math.min(bucket.length + 1, BUCKET_SIZE)];
+                updated[0] = entry;
+                System.arraycopy(bucket, 0, updated, 1, updated.length - 1);
+            }
+            buckets.put(key, updated);
+        }
+
+        private void remove(Entry entry) {
+            entry.cluster.remove(entry.username);
+            for (long key : entry.keys) {
+                Entry[] bucket = buckets.get(key);
+                if (bucket == null) {
+                    continue;
+                }
+                int index = -1;
+                for (int i = 0; i < bucket.length; i++) {
+                    if (bucket[i] == entry) {
+                        index = i;
+                    }
+                }
+                if (index != -1) {
+                    if (bucket.length == 1) {
+                        buckets.remove(key);
+                    }
+                    else {
+                        Entry[] updated = new Entry[bucket.length - 1];
+                        System.arraycopy(bucket, 0, updated, 0, index);
+                        System.arraycopy(bucket, index + 1, updated, index, bucket.length - index - 1);
+                        buckets.put(key, updated);
+                    }
+                }
+            }
+        }
+
+    }
+
+    private static class Entry {
+
+        private final int[] signature;
+        private final long[] keys;
+        private final String username;
+        private final Cluster cluster;
+        private final long time;
+
+        Entry(int[] signature, long[] keys, String username, Cluster cluster, long time) {
+            this.signature = signature;
+            this.keys = keys;
+            this.username = username;
+            this.cluster = cluster;
+            this.time = time;
+        }
+
+    }
+
+    private static class Cluster {
+
+        private final int id;
+        private final String text;
+
+        /**
+         * Number of messages per user currently in the window.
+         */
+        private final Map<String, Integer> users = new HashMap<>();
+        private int size;
+        private int notifiedUsers;
+
+        Cluster(int id, String text) {
+            this.id = id;
+            this.text = text;
+        }
+
+        void add(String username) {
+            users.merge(username, 1, Integer::sum);
+            size++;
+        }
+
+        void remove(String username) {
+            users.computeIfPresent(username, (k, v) -> v > 1 ? v - 1 : null);
+            size--;
+        }
+
+    }
+
+}
@@ -55,6 +55,17 @@ public class Timestamp {
      */
     private final boolean hasUptime;
     
+    /**
+     * Whether the format doesn't contain milliseconds, so the formatted time
+     * can be reused for the same second.
+     */
+    private final boolean cacheBySecond;
+    
+    /**
+     * The most recently formatted time (may be null).
+     */
+    private volatile FormattedTime lastFormatted;
+    
     /**
      * Optional CustomCommand to format the timestamp further (may be null).
      */
@@ -95,6 +106,7 @@ public class Timestamp {
         }
         format = parsedTimestamp;
         hasUptime = UPTIME.matcher(timestampInput).find();
+        cacheBySecond = format != null && format.toPattern().indexOf('S') == -1;
 
         CustomCommand parsedCommand = null;
         if (customCommandInput != null) {
@@ -158,7 +170,7 @@ public class Timestamp {
         if (format == null) {
             return null;
         }
-        String result = time > 0 ? DateTime.format(time, format) : DateTime.currentTime(format);
+        String result = format(time > 0 ? time : System.currentTimeMillis());
 
         // Uptime
         if (hasUptime) {
@@ -179,6 +191,39 @@ public class Timestamp {
         return result;
     }
 
+    /**
+     * Format the time, reusing the previous result if it's the same second
+     * (which is common, since the timestamp is often created for the current
+     * time, e.g. for every chat message).
+     * 
+     * @param time
+     * @return 
+     */
+    private String format(long time) {
+        long second = Math.floorDiv(time, 1000);
+        FormattedTime last = lastFormatted;
+        if (last != null && last.second == second) {
+            return last.text;
+        }
+        String text = DateTime.format(time, format);
+        if (cacheBySecond) {
+            lastFormatted = new FormattedTime(second, text);
+        }
+        return text;
+    }
+    
+    private static class FormattedTime {
+        
+        private final long second;
+        private final String text;
+        
+        FormattedTime(long second, String text) {
+            this.second = second;
+            this.text = text;
+        }
+        
+    }
+
     private static void handleUptime(StringBuffer b, Matcher m, long time, StreamInfo info) {
         boolean uptimeAdded = false;
         if (info != null
@@ -3,17 +3,20 @@ package chatty.util;
 
 import chatty.Chatty;
 import java.io.BufferedReader;
-import java.io.FileNotFoundException;
+import java.io.ByteArrayInputStream;
+import java.io.FilterReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.io.Reader;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
-import java.util.zip.GZIPInputStream;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.core5.http.HttpEntity;
 
 /**
  * General URL Request that just reads the whole file into a String.
@@ -28,6 +31,17 @@ public class UrlRequest {
     
     private static final String VERSION = "Chatty "+Chatty.VERSION;
     
+    /**
+     * Runs async requests, reusing threads instead of starting a new one for
+     * each request. The number of concurrent connections is limited by the
+     * SharedHttpClient.
+     */
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "UrlRequest");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
     private String url;
     
     /**
@@ -74,22 +88,40 @@ public class UrlRequest {
     }
 
     public void async(ResultListener listener) {
-        new Thread(() -> {
+        EXECUTOR.execute(() -> {
             FullResult result = new FullResult();
             performRequest(result);
             if (Debugging.isEnabled("requestresponse") && result.result != null) {
                 LOGGER.info(result.result);
             }
             listener.result(result.getResult(), result.getResponseCode());
-        }).start();
+        });
     }
     
     public void asyncLines(ResultLinesListener listener) {
-        new Thread(() -> {
+        EXECUTOR.execute(() -> {
             LinesResult result = new LinesResult();
             performRequest(result);
             listener.result(result.getResult(), result.getResponseCode());
-        }).start();
+        });
+    }
+    
+    /**
+     * Parse the response while it is being read, instead of reading it into
+     * a String first.
+     * 
+     * @param <T> The type of the parsed result
+     * @param parser Parses the response text, called in the request thread
+     * while the connection is still open
+     * @param listener Receives the parsed result, or null if an error occured
+     * (including an exception thrown by the parser)
+     */
+    public <T> void asyncParsed(ResultParser<T> parser, ParsedResultListener<T> listener) {
+        EXECUTOR.execute(() -> {
+            ParsedResult<T> result = new ParsedResult<>(parser);
+            performRequest(result);
+            listener.result(result.getResult(), result.getResponseCode());
+        });
     }
     
     public FullResult sync() {
@@ -112,44 +144,32 @@ public class UrlRequest {
      */
     private void performRequest(Result result) {
         LOGGER.info("<"+label+" "+url);
-        HttpURLConnection connection = null;
         try {
-            connection = (HttpURLConnection) new URL(url).openConnection();
-            connection.setRequestProperty("User-Agent", VERSION);
-            connection.setRequestProperty("Accept-Encoding", "gzip");
-            
-            connection.setConnectTimeout(connectTimeout);
-            connection.setReadTimeout(readTimeout);
-            String encoding = connection.getContentEncoding();
-            
-            // Read response
-            InputStream input = connection.getInputStream();
-            if ("gzip".equals(connection.getContentEncoding())) {
-                input = new GZIPInputStream(input);
-            }
-
-            int responseCode = connection.getResponseCode();
-            
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, CHARSET))) {
-                result.fill(reader, responseCode);
-            }
+            HttpGet request = new HttpGet(url);
+            request.addHeader("User-Agent", VERSION);
+            String encoding = SharedHttpClient.execute(request, connectTimeout, readTimeout, (response, contentEncoding) -> {
+                int responseCode = response.getCode();
+                if (responseCode >= 400) {
+                    result.responseCode = responseCode;
+                    throw new IOException("Server returned HTTP response code: "+responseCode);
+                }
+                HttpEntity entity = response.getEntity();
+                InputStream input = entity != null ? entity.getContent() : new ByteArrayInputStream(new byte[0]);
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, CHARSET))) {
+                    result.fill(reader, responseCode);
+                }
+                return contentEncoding;
+            });
             LOGGER.info(String.format(">%s (%s, %,d%s): %s",
                     label,
-                    responseCode,
+                    result.getResponseCode(),
                     result.getLength(),
                     (encoding != null ? ", " + encoding : ""),
                     url));
-        } catch (IOException ex) {
-            if (ex instanceof FileNotFoundException) {
-                result.responseCode = 404;
-            }
+        } catch (IOException | IllegalArgumentException ex) {
             LOGGER.warning(String.format("!%s (%s): %s",
                     label, ex, url));
             result.error = ex.getClass().getSimpleName()+" ("+ex.getLocalizedMessage()+")";
-        } finally {
-            if (connection != null) {
-                connection.disconnect();
-            }
         }
     }
     
@@ -162,6 +182,14 @@ public class UrlRequest {
         public void result(List<String> lines, int responseCode);
     }
     
+    public interface ResultParser<T> {
+        public T parse(Reader reader) throws Exception;
+    }
+    
+    public interface ParsedResultListener<T> {
+        public void result(T result, int responseCode);
+    }
+    
     
     public static abstract class Result {
         
@@ -240,6 +268,77 @@ public class UrlRequest {
     }
     
     
+    public static class ParsedResult<T> extends Result {
+        
+        private final ResultParser<T> parser;
+        private T result;
+        
+        public ParsedResult(ResultParser<T> parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public void fill(BufferedReader reader, int responseCode) throws IOException {
+            this.responseCode = responseCode;
+            
+            CountingReader countingReader = new CountingReader(reader);
+            try {
+                result = parser.parse(countingReader);
+            }
+            catch (IOException ex) {
+                throw ex;
+            }
+            catch (Exception ex) {
+                throw new IOException("Error parsing response: "+ex, ex);
+            }
+            finally {
+                length = countingReader.count;
+            }
+        }
+        
+        /**
+         * The result of the parser.
+         * 
+         * @return the result, or null if an error occured
+         */
+        public T getResult() {
+            return result;
+        }
+        
+    }
+    
+    /**
+     * Counts the characters read, for the debug output.
+     */
+    private static class CountingReader extends FilterReader {
+        
+        private int count;
+        
+        CountingReader(Reader in) {
+            super(in);
+        }
+        
+        @Override
+        public int read() throws IOException {
+            int c = super.read();
+            if (c != -1) {
+                count++;
+            }
+            return c;
+        }
+        
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+        
+    }
+    
+    
     public static void main(String[] args) {
         //UrlRequest request = new UrlRequest("http://tduva.com/res/emotesetinfo.txt");
         //UrlRequest request = new UrlRequest("https://google.de");
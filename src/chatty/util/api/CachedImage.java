@@ -4,8 +4,14 @@ package chatty.util.api;
 import chatty.util.ImageCache;
 import chatty.util.ImageCache.ImageRequest;
 import chatty.util.ImageCache.ImageResult;
+import chatty.util.ImageLoader;
+import chatty.util.ImageLoader.Priority;
+import chatty.util.MemoryBudget;
+import chatty.util.gif.AnimatedImage;
 import chatty.util.gif.AnimatedImageSource;
+import chatty.util.gif.FrameEncoder;
 import java.awt.Color;
+import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
@@ -15,11 +21,10 @@ import java.awt.image.BufferedImage;
 import java.util.Collections;
 import java.util.Set;
 import java.util.WeakHashMap;
-import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.logging.Logger;
 import javax.swing.ImageIcon;
-import javax.swing.SwingWorker;
+import javax.swing.SwingUtilities;
 
 /**
  * Used for loading an image concurrently for Emoticon and Usericon.
@@ -144,6 +149,12 @@ public class CachedImage<T> {
     private boolean loading = false;
     private boolean loadingError = false;
     private boolean isLoaded = false;
+    /**
+     * The loaded image was removed to free up memory and should be loaded again
+     * when it is used.
+     */
+    private boolean evicted = false;
+    private MemoryBudget.Entry<CachedImage<?>> memoryEntry;
     private volatile int loadingAttempts = 0;
     private long lastLoadingAttempt;
     private long lastUsed;
@@ -170,6 +181,18 @@ public class CachedImage<T> {
      * @return
      */
     public ImageIcon getImageIcon() {
+        return getImageIcon(true);
+    }
+
+    /**
+     * Same as {@link #getImageIcon()}, but with the option to load the image
+     * with a lower priority, if it isn't immediately shown in chat.
+     *
+     * @param visible true if the image is shown right away, false if it can
+     * be loaded after images that are
+     * @return
+     */
+    public ImageIcon getImageIcon(boolean visible) {
         lastUsed = System.currentTimeMillis();
         if (icon == null) {
             /**
@@ -177,16 +200,20 @@ public class CachedImage<T> {
              * as a key for GIF handling in ChannelTextPane, so it is important
              * not to reuse the same temporary image across different emotes.
              */
-            icon = getDefaultIcon(false);
+            icon = new CachedImageIcon(getDefaultIcon(false));
             if (requester.loadImage()) {
-                loadImage();
+                loadImage(visible);
             }
         }
+        else if (evicted) {
+            reload(visible);
+        }
         else if (loadingError) {
-            if (loadImage()) {
+            if (loadImage(visible)) {
                 LOGGER.warning("Trying to load " + object + " again (" + sourceUrl + ")");
             }
         }
+        MEMORY.touch(memoryEntry);
         return icon;
     }
 
@@ -225,16 +252,17 @@ public class CachedImage<T> {
      * Try to load the image, if it's not already loading and if the max loading
      * attempts are not exceeded.
      *
+     * @param visible Whether to load with a higher priority
      * @return true if the image will be attempted to be loaded, false otherwise
      */
-    private boolean loadImage() {
+    private boolean loadImage(boolean visible) {
         if (!loading && loadingAttempts < MAX_LOADING_ATTEMPTS
                 && System.currentTimeMillis() - lastLoadingAttempt > LOADING_ATTEMPT_DELAY) {
             loading = true;
             loadingError = false;
             loadingAttempts++;
             lastLoadingAttempt = System.currentTimeMillis();
-            (new IconLoader(this)).execute();
+            startLoading(visible ? Priority.VISIBLE : Priority.BACKGROUND);
             return true;
         }
         return false;
@@ -249,6 +277,9 @@ public class CachedImage<T> {
         if (icon == null) {
             setDefaultIcon();
         }
+        // Any previous image is replaced
+        MEMORY.remove(memoryEntry);
+        memoryEntry = null;
         boolean sizeChanged = icon.getIconWidth() != newIcon.getIconWidth()
                 || icon.getIconHeight() != newIcon.getIconHeight();
         Image oldImage = icon.getImage();
@@ -327,7 +358,7 @@ public class CachedImage<T> {
     }
 
     public void setDefaultIcon() {
-        icon = getDefaultIcon(false);
+        icon = new CachedImageIcon(getDefaultIcon(false));
     }
 
     /**
@@ -385,83 +416,241 @@ public class CachedImage<T> {
     // Load Image
     //==========================
     /**
-     * A Worker class to load the Icon. Not doing this in it's own thread can
-     * lead to lag when a lot of new icons are being loaded.
+     * Shared by all images, so that the number of threads loading images is
+     * limited and the same image requested by several CachedImage objects
+     * (e.g. the same emote in different emote sets) is only loaded once at a
+     * time.
      */
-    private class IconLoader extends SwingWorker<ImageIcon, Object> {
-
-        private final CachedImage<T> image;
+    private static final ImageLoader<LoadResult> LOADER = new ImageLoader<>("Images", 4);
 
-        public IconLoader(CachedImage<T> image) {
-            this.image = image;
-        }
-
-        @Override
-        protected ImageIcon doInBackground() throws Exception {
-
-            // Get the assumed size or size loaded from the size cache
-            Dimension defaultSize = requester.getBaseSize();
+    /**
+     * Set the number of threads used for loading images.
+     *
+     * @param threads 
+     */
+    public static void setLoaderThreads(int threads) {
+        LOADER.setThreads(threads);
+    }
 
-            /**
-             * Especially Emoji need this, since their emote images aren't the
-             * intended size, this forces the set width/height to be used.
-             */
-            boolean forceBaseSize = requester.forceBaseSize();
+    /**
+     * Get the stats of the image loader, for debugging ("/debug imageinfo").
+     *
+     * @return 
+     */
+    public static String getLoaderStats() {
+        return LOADER.getStats();
+    }
 
-            ImageRequest request = new ImageCache.ImageRequest(
-                    scale -> requester.getImageUrl(scale, image.imageType),
-                    image.scaleFactor,
-                    image.maxHeight,
-                    defaultSize,
-                    forceBaseSize);
+    /**
+     * Request the image to be loaded on the loader threads. Not doing this in
+     * it's own thread can lead to lag when a lot of new icons are being loaded.
+     *
+     * @param priority
+     */
+    private void startLoading(Priority priority) {
+        // Get the assumed size or size loaded from the size cache
+        Dimension defaultSize = requester.getBaseSize();
 
-            if (!request.valid) {
-                return null;
-            }
+        /**
+         * Especially Emoji need this, since their emote images aren't the
+         * intended size, this forces the set width/height to be used.
+         */
+        boolean forceBaseSize = requester.forceBaseSize();
+
+        ImageRequest request = new ImageCache.ImageRequest(
+                scale -> requester.getImageUrl(scale, imageType),
+                scaleFactor,
+                maxHeight,
+                defaultSize,
+                forceBaseSize);
+
+        if (!request.valid) {
+            // Still inform users later, like when actually loading
+            SwingUtilities.invokeLater(() -> loadingDone(null));
+            return;
+        }
 
+        // Same request parameters result in the same image
+        String key = String.format("%s|%s|%s|%d|%dx%d|%s",
+                prefix, request.getRequestedURL(), scaleFactor, maxHeight,
+                defaultSize.width, defaultSize.height, forceBaseSize);
+        LOADER.load(key, priority, () -> {
             ImageResult result = ImageCache.getImage(request, prefix, CACHE_TIME);
-            image.setSourceUrl(request.getRequestedURL().toString());
-            image.setLoadedFromUrl(request.getLoadFromURL().toString());
-
+            return new LoadResult(request, result);
+        }).whenComplete((loadResult, ex) -> {
             /**
-             * If an error occured loading the image, return null.
+             * Still on the loader thread (or whichever thread requested it if
+             * it was already done), but separately for every CachedImage.
              */
-            if (result == null || !result.isValidImage()) {
-                return null;
+            ImageIcon loadedIcon = null;
+            if (loadResult != null) {
+                setSourceUrl(loadResult.request.getRequestedURL().toString());
+                setLoadedFromUrl(loadResult.request.getLoadFromURL().toString());
+                loadedIcon = makeIcon(loadResult.result);
             }
+            ImageIcon finalIcon = loadedIcon;
+            SwingUtilities.invokeLater(() -> loadingDone(finalIcon));
+        });
+    }
 
-            /**
-             * Max size fallback, just in case.
-             */
-            if (result.icon.getIconWidth() > ImageRequest.MAX_SCALED_WIDTH
-                    || result.icon.getIconHeight() > ImageRequest.MAX_SCALED_HEIGHT) {
-                return null;
-            }
+    /**
+     * Create the icon for this image from the loaded result.
+     *
+     * @param result The result, may be null
+     * @return The icon, or null if an error occured
+     */
+    private ImageIcon makeIcon(ImageResult result) {
+        /**
+         * If an error occured loading the image, return null.
+         */
+        if (result == null || !result.isValidImage()) {
+            return null;
+        }
 
-            requester.imageLoaded(result);
-            return modifyIconIfNecessary(result.icon);
+        /**
+         * Max size fallback, just in case.
+         */
+        if (result.icon.getIconWidth() > ImageRequest.MAX_SCALED_WIDTH
+                || result.icon.getIconHeight() > ImageRequest.MAX_SCALED_HEIGHT) {
+            return null;
         }
 
+        requester.imageLoaded(result);
         /**
-         * The image should be done loading, replace the defaulticon with the
-         * actual loaded icon and tell the user that it's loaded.
+         * The result may be shared with other CachedImage objects, so don't
+         * modify the loaded icon itself.
          */
+        ImageIcon icon = new ImageIcon(result.icon.getImage(), result.icon.getDescription());
+        return modifyIconIfNecessary(icon);
+    }
+
+    /**
+     * The image should be done loading, replace the defaulticon with the
+     * actual loaded icon and tell the user that it's loaded. Run in the EDT.
+     *
+     * @param loadedIcon The icon, null if an error occured
+     */
+    private void loadingDone(ImageIcon loadedIcon) {
+        if (loadedIcon == null) {
+            setLoadingError();
+        }
+        else {
+            setImageIcon(loadedIcon, true);
+            // The loaded image may be shared with other CachedImage objects
+            memoryEntry = MEMORY.add(this, loadedIcon.getImage(), getMemorySize(loadedIcon));
+        }
+        setLoadingDone();
+    }
+
+    //==========================
+    // Memory
+    //==========================
+    /**
+     * Images loaded by CachedImage objects (not ones set from the outside) that
+     * can be removed when too much memory is used, since they can be loaded
+     * again (usually from the cache on disk).
+     */
+    private static final MemoryBudget<CachedImage<?>> MEMORY = new MemoryBudget<>("Images", 256*1024*1024, CachedImage::evict);
+
+    /**
+     * Set how much memory loaded images may use, before the least recently
+     * used ones are removed.
+     *
+     * <p>
+     * A quarter of it may be used for animated images that are not stored
+     * compressed, which is faster to animate.
+     * </p>
+     *
+     * @param megabytes The number of MB, 0 for no limit
+     */
+    public static void setMemoryBudget(int megabytes) {
+        MEMORY.setBudget(megabytes * 1024L * 1024L);
+        FrameEncoder.setUncompressedBudget(megabytes > 0 ? megabytes * 1024L * 1024L / 4 : 64*1024*1024);
+    }
+
+    public static String getMemoryStats() {
+        return MEMORY.getStats()+" "+FrameEncoder.getStats();
+    }
+
+    /**
+     * Estimate how much memory the image uses.
+     *
+     * @param icon
+     * @return The number of bytes
+     */
+    private static long getMemorySize(ImageIcon icon) {
+        // At least the decoded image being displayed
+        long result = (long) icon.getIconWidth() * icon.getIconHeight() * 4;
+        if (icon.getImage().getSource() instanceof AnimatedImageSource) {
+            AnimatedImage animated = ((AnimatedImageSource) icon.getImage().getSource()).getAnimatedImage();
+            result += animated.getMemorySize();
+        }
+        return result;
+    }
+
+    /**
+     * Replace the loaded image with the default image, so it can be garbage
+     * collected, and load it again the next time it's used. Run in the EDT.
+     */
+    private static void evict(CachedImage<?> image) {
+        image.memoryEntry = null;
+        if (image.loading || !image.isLoaded) {
+            return;
+        }
+        image.setImageIcon(image.getDefaultIcon(false), false);
+        image.isLoaded = false;
+        image.evicted = true;
+        // Not an error, so don't count previous attempts
+        image.loadingAttempts = 0;
+        image.lastLoadingAttempt = 0;
+    }
+
+    private void reload(boolean visible) {
+        if (loadImage(visible)) {
+            evicted = false;
+        }
+    }
+
+    /**
+     * The icon that is given out, so it's always the same object even if the
+     * image changes. Keeps track of when it is actually painted, so that images
+     * that are still shown are kept in memory.
+     */
+    private class CachedImageIcon extends ImageIcon {
+
+        private static final long serialVersionUID = 1L;
+
+        CachedImageIcon(ImageIcon icon) {
+            super(icon.getImage(), icon.getDescription());
+        }
+
         @Override
-        protected void done() {
-            try {
-                // This is null if an error occured
-                ImageIcon loadedIcon = get();
-                if (loadedIcon == null) {
-                    image.setLoadingError();
-                }
-                else {
-                    image.setImageIcon(loadedIcon, true);
-                }
-                image.setLoadingDone();
+        public synchronized void paintIcon(Component c, Graphics g, int x, int y) {
+            if (evicted && SwingUtilities.isEventDispatchThread()) {
+                reload(true);
             }
-            catch (InterruptedException | ExecutionException ex) {
-                LOGGER.warning("Unexpected error when loading emoticon: " + ex);
+            else {
+                MEMORY.touch(memoryEntry);
             }
+            super.paintIcon(c, g, x, y);
+        }
+
+    }
+
+    private static class LoadResult {
+
+        /**
+         * The request that was actually used for loading, which contains the
+         * URL the image was loaded from.
+         */
+        private final ImageRequest request;
+        private final ImageResult result;
+
+        LoadResult(ImageRequest request, ImageResult result) {
+            this.request = request;
+            this.result = result;
         }
+
     }
+
 }
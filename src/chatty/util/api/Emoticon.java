@@ -126,6 +126,8 @@ public class Emoticon {
     private volatile int height;
 
     private Matcher matcher;
+    private String literalWord;
+    private boolean literalWordChecked;
     
     private CachedImageManager<Emoticon> images;
 
@@ -431,10 +433,78 @@ public class Emoticon {
         "8-)", ":|", ";)", ">(", ":\\", ":)", ":-)", "R)", ":(", ":-(", "B)", "B-)"
     }));
     
+    private static final Pattern REGEX_SPECIAL_CHARS = Pattern.compile("[\\\\^$.|?*+()\\[\\]{}\\s]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s");
+    
+    /**
+     * Get the regex (or literal) used to find this emote, without the parts
+     * that ensure it's surrounded by whitespace.
+     * 
+     * @return The search, may be quoted
+     */
+    private String getSearch() {
+        // Use separate regex if available (e.g. for smilies)
+        String search = !StringUtil.isNullOrEmpty(regex) ? regex : code;
+        if (type == Type.EMOJI) {
+            return search;
+        }
+        if (search.length() < 4) {
+            // Turn some of the "smiley" emotes back into regex (they
+            // still seem to be parsed with the regex serverside)
+            // This is only the fallback for smilies that still come
+            // from the Twitch API for now
+            search = Emoticons.toRegex(search);
+        }
+        // Any regular emotes should be separated by spaces
+        if (literal || LITERAL.contains(search)) {
+            // Literal emotes come from a source that doesn't provide
+            // regex, but may contain regex special characters
+            search = Pattern.quote(search);
+        }
+        return search;
+    }
+    
+    /**
+     * Get the exact whitespace-separated word the pattern returned by
+     * {@link #getMatcher(String)} matches, if it can only match that one word.
+     * This allows looking up the emote by word instead of running the regex.
+     * 
+     * @return The word, or {@code null} if the emote has to be found by regex
+     * (e.g. Emoji or actual regex emotes)
+     */
+    public String getLiteralWord() {
+        if (!literalWordChecked) {
+            literalWord = makeLiteralWord();
+            literalWordChecked = true;
+        }
+        return literalWord;
+    }
+    
+    private String makeLiteralWord() {
+        if (type == Type.EMOJI) {
+            return null;
+        }
+        String search = getSearch();
+        String word = search;
+        if (search.startsWith("\\Q") && search.endsWith("\\E")) {
+            word = search.substring(2, search.length() - 2);
+            if (word.contains("\\E")) {
+                return null;
+            }
+            if (!word.isEmpty() && !WHITESPACE.matcher(word).find()) {
+                return word;
+            }
+            return null;
+        }
+        if (word.isEmpty() || REGEX_SPECIAL_CHARS.matcher(word).find()) {
+            return null;
+        }
+        return word;
+    }
+    
     private void createMatcher() {
         if (matcher == null) {
-            // Use separate regex if available (e.g. for smilies)
-            String search = !StringUtil.isNullOrEmpty(regex) ? regex : code;
+            String search = getSearch();
             int flags = 0;
             
             if (type == Type.EMOJI) {
@@ -449,19 +519,6 @@ public class Emoticon {
                  */
                 search = Pattern.quote(search)+"[\uFE0E\uFE0F]?";
             } else {
-                if (search.length() < 4) {
-                    // Turn some of the "smiley" emotes back into regex (they
-                    // still seem to be parsed with the regex serverside)
-                    // This is only the fallback for smilies that still come
-                    // from the Twitch API for now
-                    search = Emoticons.toRegex(search);
-                }
-                // Any regular emotes should be separated by spaces
-                if (literal || LITERAL.contains(search)) {
-                    // Literal emotes come from a source that doesn't provide
-                    // regex, but may contain regex special characters
-                    search = Pattern.quote(search);
-                }
                 search = "(?<=^|\\s)"+search+"(?=$|\\s)";
             }
             
@@ -0,0 +1,257 @@
+
+package chatty.util.api;
+
+import chatty.User;
+import chatty.gui.emoji.EmojiTrie;
+import chatty.util.StringUtil;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+
+/**
+ * Finds the emotes of a single emote set in a message. Most emotes can only
+ * match a single whitespace-separated word, so those are looked up by word,
+ * which means the message only has to be split into words once, instead of
+ * running a regex for every single emote. Emoji are found using an
+ * {@link EmojiTrie}, which also only goes through the message once. Emotes
+ * that are an actual regex are still checked using their regex.
+ *
+ * <p>
+ * The result is the same as checking each emote's regex in the iteration order
+ * of the set the index was created from, where emotes found earlier take
+ * precedence over overlapping ones found later.
+ * </p>
+ *
+ * <p>
+ * The index is not updated when the set changes, so a new one has to be
+ * created in that case (see {@link Emoticons#getEmoticonIndex(Set)}). It
+ * should only be used from the EDT, like the emote regex.
+ * </p>
+ *
+ * @author tduva
+ */
+public class EmoticonIndex {
+
+    private final Map<String, Entry[]> byWord;
+    private final Entry[] byRegex;
+    private final EmojiTrie<Entry> emoji;
+    private final int size;
+
+    public EmoticonIndex(Collection<Emoticon> emotes) {
+        Map<String, List<Entry>> words = new HashMap<>();
+        List<Entry> regex = new ArrayList<>();
+        EmojiTrie<Entry> emojiTrie = new EmojiTrie<>();
+        int order = 0;
+        for (Emoticon emote : emotes) {
+            Entry entry = new Entry(emote, order++);
+            String word = emote.getLiteralWord();
+            if (word != null) {
+                words.computeIfAbsent(word, k -> new ArrayList<>(1)).add(entry);
+            }
+            else if (emote.type == Emoticon.Type.EMOJI
+                    && StringUtil.isNullOrEmpty(emote.regex)
+                    && !emote.code.isEmpty()) {
+                emojiTrie.add(emote.code, entry);
+            }
+            else {
+                regex.add(entry);
+            }
+        }
+        emoji = emojiTrie.size() > 0 ? emojiTrie : null;
+        byWord = new HashMap<>();
+        for (Map.Entry<String, List<Entry>> entry : words.entrySet()) {
+            byWord.put(entry.getKey(), entry.getValue().toArray(new Entry[0]));
+        }
+        byRegex = regex.toArray(new Entry[0]);
+        size = order;
+    }
+
+    /**
+     * Find emotes in the given text and send them to the listener in the
+     * order they should be added in (so that earlier ones take precedence over
+     * later overlapping ones).
+     *
+     * @param text The message text
+     * @param user The user to check {@link Emoticon#matchesUser(User, Set)}
+     * for, may be {@code null}
+     * @param accessToSets Passed to {@code matchesUser()}
+     * @param skip Return {@code true} for emotes that should not be added
+     * (e.g. ignored emotes)
+     * @param listener Receives the emotes that should be added
+     */
+    public void find(String text, User user, Set<String> accessToSets,
+            Predicate<Emoticon> skip, MatchListener listener) {
+        List<Match> matches = null;
+
+        //--------------------------
+        // Words
+        //--------------------------
+        if (!byWord.isEmpty()) {
+            int length = text.length();
+            int start = 0;
+            while (start < length) {
+                // Find start of word
+                while (start < length && isWhitespace(text.charAt(start))) {
+                    start++;
+                }
+                int end = start;
+                while (end < length && !isWhitespace(text.charAt(end))) {
+                    end++;
+                }
+                if (end > start) {
+                    Entry[] entries = byWord.get(text.substring(start, end));
+                    if (entries != null) {
+                        /**
+                         * If several emotes have the same code, any later one
+                         * would overlap the first one that is allowed, so only
+                         * that one can ever be added.
+                         */
+                        for (Entry entry : entries) {
+                            if (entry.emote.matchesUser(user, accessToSets)
+                                    && !skip.test(entry.emote)) {
+                                if (matches == null) {
+                                    matches = new ArrayList<>();
+                                }
+                                matches.add(new Match(entry, start, end - 1));
+                                break;
+                            }
+                        }
+                    }
+                }
+                start = end;
+            }
+        }
+
+        //--------------------------
+        // Emoji
+        //--------------------------
+        if (emoji != null) {
+            List<Match> emojiMatches = new ArrayList<>();
+            emoji.find(text,
+                    entry -> entry.emote.matchesUser(user, accessToSets) && !skip.test(entry.emote),
+                    (entry, start, end) -> emojiMatches.add(new Match(entry, start, end)));
+            if (!emojiMatches.isEmpty()) {
+                if (matches == null) {
+                    matches = emojiMatches;
+                }
+                else {
+                    matches.addAll(emojiMatches);
+                }
+            }
+        }
+
+        //--------------------------
+        // Regex
+        //--------------------------
+        for (Entry entry : byRegex) {
+            if (!entry.emote.matchesUser(user, accessToSets)
+                    || skip.test(entry.emote)) {
+                continue;
+            }
+            Matcher m = entry.emote.getMatcher(text);
+            while (m.find()) {
+                // For Emoji, check for text style variation selector
+                boolean textEmoji = entry.emote.type == Emoticon.Type.EMOJI && m.group().endsWith("\uFE0E");
+                if (!textEmoji) {
+                    if (matches == null) {
+                        matches = new ArrayList<>();
+                    }
+                    matches.add(new Match(entry, m.start(), m.end() - 1));
+                }
+            }
+        }
+
+        if (matches != null) {
+            if (byRegex.length > 0 || emoji != null) {
+                // Word matches can't overlap each other, so only necessary here
+                Collections.sort(matches);
+            }
+            for (Match match : matches) {
+                listener.match(match.entry.emote, match.start, match.end);
+            }
+        }
+    }
+
+    /**
+     * Same as the {@code \s} regex character class (without the
+     * {@code UNICODE_CHARACTER_CLASS} flag) used in the emote regex.
+     *
+     * @param c
+     * @return
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getRegexCount() {
+        return byRegex.length;
+    }
+
+    public int getEmojiCount() {
+        return emoji != null ? emoji.size() : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d emotes (%d words, %d emoji, %d regex)",
+                size, byWord.size(), getEmojiCount(), byRegex.length);
+    }
+
+    public interface MatchListener {
+
+        /**
+         * An emote was found.
+         *
+         * @param emote The emote
+         * @param start The start index (inclusive)
+         * @param end The end index (inclusive)
+         */
+        public void match(Emoticon emote, int start, int end);
+    }
+
+    private static class Entry {
+
+        private final Emoticon emote;
+        private final int order;
+
+        Entry(Emoticon emote, int order) {
+            this.emote = emote;
+            this.order = order;
+        }
+
+    }
+
+    private static class Match implements Comparable<Match> {
+
+        private final Entry entry;
+        private final int start;
+        private final int end;
+
+        Match(Entry entry, int start, int end) {
+            this.entry = entry;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int compareTo(Match o) {
+            int result = Integer.compare(entry.order, o.entry.order);
+            if (result == 0) {
+                result = Integer.compare(start, o.start);
+            }
+            return result;
+        }
+
+    }
+
+}
@@ -6,6 +6,7 @@ import chatty.Helper;
 import chatty.gui.emoji.EmojiUtil;
 import chatty.util.CombinedEmoticon;
 import chatty.util.CombinedIterator;
+import chatty.util.Debugging;
 import chatty.util.LogUtil;
 import chatty.util.MiscUtil;
 import chatty.util.StringUtil;
@@ -27,6 +28,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -194,6 +196,12 @@ public class Emoticons {
     
     private final EmoticonFavorites favorites = new EmoticonFavorites();
     
+    /**
+     * Indices for finding emotes in messages, for the sets returned by some of
+     * the getters. Removed when the set changes and created again when needed.
+     */
+    private final Map<Set<Emoticon>, EmoticonIndex> indices = new IdentityHashMap<>();
+    
     private EmotesetManager localEmotesetManager;
     
     private static final int DEFAULT_IMAGE_EXPIRE_MINUTES = 4*60;
@@ -211,8 +219,8 @@ public class Emoticons {
             for (Set<Emoticon> emotes : streamEmoticons.values()) {
                 removedCount += clearOldEmoticonImages(emotes, imageExpireMinutes);
             }
-            LOGGER.info(String.format("Cleared %d unused emoticon images (%dm)",
-                    removedCount, imageExpireMinutes));
+            LOGGER.info(String.format("Cleared %d unused emoticon images (%dm) %s",
+                    removedCount, imageExpireMinutes, CachedImage.getMemoryStats()));
         });
         timer.setRepeats(true);
         timer.start();
@@ -231,6 +239,8 @@ public class Emoticons {
     
     public void updateEmoticons(EmoticonUpdate update) {
         removeEmoticons(update);
+        removeIndex(usableGlobalEmotes.getTwitch());
+        removeIndex(usableGlobalEmotes.getOther());
         if (!update.emotesToAdd.isEmpty()) {
             addEmoticons(update.emotesToAdd);
         }
@@ -266,6 +276,7 @@ public class Emoticons {
             Iterator<Emoticon> it;
             if (update.roomToRemove == null) {
                 // Global Non-Twitch
+                removeIndex(otherGlobalEmotes);
                 it = otherGlobalEmotes.iterator();
             }
             else {
@@ -273,6 +284,7 @@ public class Emoticons {
                 if (!streamEmoticons.containsKey(update.roomToRemove)) {
                     return;
                 }
+                removeIndex(streamEmoticons.get(update.roomToRemove));
                 it = streamEmoticons.get(update.roomToRemove).iterator();
             }
             // Check selected for removal
@@ -341,6 +353,8 @@ public class Emoticons {
      * @param newEmoticons 
      */
     public void addEmoticons(Set<Emoticon> newEmoticons) {
+        removeIndex(usableGlobalEmotes.getTwitch());
+        removeIndex(usableGlobalEmotes.getOther());
         for (Emoticon emote : newEmoticons) {
             Set<String> channelRestrictions = emote.getStreamRestrictions();
             if (channelRestrictions != null) {
@@ -428,6 +442,7 @@ public class Emoticons {
          */
         collection.remove(emote);
         collection.add(emote);
+        removeIndex(collection);
     }
     
     /**
@@ -441,6 +456,7 @@ public class Emoticons {
     
     public void setSmilies(Set<Emoticon> emotes) {
         smilies.clear();
+        removeIndex(smilies);
         if (emotes != null) {
             smilies.addAll(emotes);
             LOGGER.info("Set " + smilies.size() + " smilies");
@@ -573,6 +589,51 @@ public class Emoticons {
         return result;
     }
     
+    /**
+     * Get an index for finding the emotes of the given set in a message. Only
+     * works for some of the sets returned by this class that rarely change and
+     * that stay the same object. The index is created the first time it's
+     * requested after the set was changed.
+     * 
+     * <p>
+     * Should only be used from the EDT.
+     * </p>
+     * 
+     * @param emotes The set, as returned by one of the getters
+     * @return The index, or {@code null} if the set is not supported
+     */
+    public EmoticonIndex getEmoticonIndex(Set<Emoticon> emotes) {
+        EmoticonIndex index = indices.get(emotes);
+        if (index == null && isIndexable(emotes)) {
+            index = new EmoticonIndex(emotes);
+            indices.put(emotes, index);
+            Debugging.println("emoteindex", "Created index: %s", index);
+        }
+        return index;
+    }
+    
+    private boolean isIndexable(Set<Emoticon> emotes) {
+        if (emotes == customEmotes
+                || emotes == emoji
+                || emotes == smilies
+                || emotes == globalTwitchEmotes
+                || emotes == otherGlobalEmotes
+                || emotes == usableGlobalEmotes.getTwitch()
+                || emotes == usableGlobalEmotes.getOther()) {
+            return true;
+        }
+        for (Set<Emoticon> streamEmotes : streamEmoticons.values()) {
+            if (emotes == streamEmotes) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private void removeIndex(Collection<Emoticon> emotes) {
+        indices.remove(emotes);
+    }
+    
     public Emoticon getCombinedEmote(List<Emoticon> emotes, CachedImage.ImageType imageType) {
         emotes = new ArrayList<>(emotes);
         String code = CombinedEmoticon.getCode(emotes);
@@ -627,6 +688,8 @@ public class Emoticons {
          */
         if (!this.localEmotesets.equals(emotesets)) {
             this.localEmotesets = emotesets;
+            removeIndex(usableGlobalEmotes.getTwitch());
+            removeIndex(usableGlobalEmotes.getOther());
             //--------------------------
             // By set
             //--------------------------
@@ -1010,6 +1073,7 @@ public class Emoticons {
     public void loadCustomEmotes() {
         customEmotes.clear();
         customEmotesById.clear();
+        removeIndex(customEmotes);
         
         Path file = Chatty.getPath(Chatty.PathType.SETTINGS).resolve("emotes.txt");
         try (BufferedReader r = Files.newBufferedReader(file, Charset.forName("UTF-8"))) {
@@ -1294,6 +1358,7 @@ public class Emoticons {
     public void addEmoji(String sourceId) {
         emoji.clear();
         emoji.addAll(EmojiUtil.makeEmoticons(sourceId));
+        removeIndex(emoji);
         Map<Pattern, String> replacements = new HashMap<>();
         for (Emoticon e : emoji) {
             if (e.stringId != null) {
@@ -2,13 +2,12 @@
 package chatty.util.api;
 
 import chatty.Chatty;
-import java.io.*;
-import java.net.HttpURLConnection;
-import java.net.SocketTimeoutException;
-import java.net.URL;
-import java.nio.charset.Charset;
+import chatty.util.SharedHttpClient;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.logging.Logger;
-import java.util.zip.GZIPInputStream;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
 
 /**
  * A request to the Twitch API that is running in a separate Thread. Does the
@@ -125,75 +124,38 @@ public class TwitchApiRequest implements Runnable {
             LOGGER.info(requestMethod + " (" + apiVersion + "): " + targetUrl);
         }
         
-        Charset charset = Charset.forName("UTF-8");
-        URL url;
-        HttpURLConnection connection = null;
-
         try {
-            url = new URL(targetUrl);
-            connection = (HttpURLConnection)url.openConnection();
-            connection.setConnectTimeout(CONNECT_TIMEOUT);
-            connection.setReadTimeout(READ_TIMEOUT);
+            HttpUriRequestBase request = new HttpUriRequestBase(requestMethod, new URI(targetUrl));
         
             // Request properties
             if (apiVersion != null) {
-                connection.setRequestProperty("Accept", "application/vnd.twitchtv."+apiVersion+"+json");
+                request.addHeader("Accept", "application/vnd.twitchtv."+apiVersion+"+json");
             }
-            connection.setRequestProperty("Accept-Encoding", "gzip");
-            connection.setRequestProperty("Client-ID", CLIENT_ID);
+            request.addHeader("Client-ID", CLIENT_ID);
             // Add token if necessary
             if (token != null) {
-                connection.setRequestProperty("Authorization", "OAuth "+token);
+                request.addHeader("Authorization", "OAuth "+token);
             }
             
-            connection.setRequestMethod(requestMethod);
             if (data != null) {
                 // Send data if necessary
-                connection.setRequestProperty("Content-Type", contentType);
-                connection.setDoOutput(true);
-                try (OutputStreamWriter out = new OutputStreamWriter(connection.getOutputStream(), charset)) {
-                    out.write(data);
-                }
+                request.setEntity(SharedHttpClient.createEntity(data, contentType));
                 LOGGER.info("Sending data: "+data);
             }
-
-            
             
-            encoding = connection.getContentEncoding();
-            //System.out.println(connection.getHeaderFields());
-            
-            // Read response
-            InputStream input = connection.getInputStream();
-            if ("gzip".equals(connection.getContentEncoding())) {
-                input = new GZIPInputStream(input);
-            }
-
-            StringBuilder response;
-            try (BufferedReader reader
-                    = new BufferedReader(new InputStreamReader(input, charset))) {
-                String line;
-                response = new StringBuilder();
-                while ((line = reader.readLine()) != null) {
-                    response.append(line);
+            return SharedHttpClient.execute(request, CONNECT_TIMEOUT, READ_TIMEOUT, (response, encoding) -> {
+                this.encoding = encoding;
+                responseCode = response.getCode();
+                String text = SharedHttpClient.readText(response);
+                if (responseCode >= 400) {
+                    error = "Server returned HTTP response code: "+responseCode;
+                    return null;
                 }
-            }
-            
-            return response.toString();
-        } catch (SocketTimeoutException ex) {
-            error = ex.toString();
-            return null;
-        } catch (IOException ex) {
+                return text;
+            });
+        } catch (IOException | URISyntaxException ex) {
             error = ex.toString();
             return null;
-        } finally {
-            if (connection != null) {
-                try {
-                    responseCode = connection.getResponseCode();
-                } catch (IOException ex) {
-//                    LOGGER.warning("IOException2: " + ex);
-                }
-                connection.disconnect();
-            }
         }
     }
     
@@ -32,6 +32,7 @@ public class ChatLog {
     
     private Timestamp timestamp;
     private final CustomCommand messageTemplate;
+    private final boolean messageTemplateHasTimestamp;
     
     private final Map<String, Compact> compactForChannels;
     
@@ -54,7 +55,10 @@ public class ChatLog {
             String logSplit = settings.getString("logSplit");
             boolean logSubdirectories = settings.getBoolean("logSubdirectories");
             boolean lockFiles = settings.getBoolean("logLockFiles");
-            this.log = new LogManager(path, logSplit, logSubdirectories, lockFiles);
+            long flushDelay = settings.getLong("logFlushDelay");
+            int flushLines = (int) settings.getLong("logFlushLines");
+            this.log = new LogManager(path, logSplit, logSubdirectories, lockFiles,
+                    flushDelay, flushLines);
         }
         compactForChannels = new HashMap<>();
         try {
@@ -71,6 +75,7 @@ public class ChatLog {
             c = CustomCommand.parse(settings.getStringDefault("logMessageTemplate"));
         }
         this.messageTemplate = c;
+        this.messageTemplateHasTimestamp = c.getIdentifiersWithPrefix("").contains("timestamp");
     }
     
     /**
@@ -129,12 +134,17 @@ public class ChatLog {
      */
     public void message(String channel, User user, String message, boolean action, String includedChannel) {
         if (isSettingEnabled("logMessage") && isChanEnabled(channel)) {
+            // Only create timestamp if it can actually be output
+            String timestampValue = null;
+            if (messageTemplateHasTimestamp) {
+                timestampValue = timestamp(user.getRoom(), includedChannel, false);
+            }
             Parameters param = messageParam(
                             user,
                             message,
                             action,
                             settings,
-                            timestamp(user.getRoom(), includedChannel, false));
+                            timestampValue);
             String line = messageTemplate.replace(param);
             if (line != null && !line.isEmpty()) {
                 writeLine(channel, line);
@@ -34,6 +34,12 @@ public class LogFile {
      */
     private static final int MAX_ATTEMPTS = 3;
 
+    /**
+     * Size of the write buffer, so several lines can usually be written at
+     * once.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     /**
      * Write buffer for the LogFile instance.
      */
@@ -102,7 +108,9 @@ public class LogFile {
     }
 
     /**
-     * Attempt to write a new line to the LogFile.
+     * Attempt to write a new line to the LogFile. The line is only buffered,
+     * so {@link #flush()} has to be called to actually write it to the file
+     * (closing the file also flushes it).
      *
      * @param line The message to be written to the file.
      * @return Returns true if the message is successfully logged.
@@ -116,6 +124,25 @@ public class LogFile {
         try {
             writer.write(line);
             writer.newLine();
+            return true;
+        } catch (IOException ex) {
+            LOGGER.warning("Log: Error writing to " + file + " (" + ex.getLocalizedMessage() + ")");
+            close();
+            return false;
+        }
+    }
+
+    /**
+     * Write all buffered lines to the file.
+     *
+     * @return Returns true if the lines were successfully written.
+     */
+    public boolean flush() {
+        if (!valid) {
+            return false;
+        }
+
+        try {
             writer.flush();
             return true;
         } catch (IOException ex) {
@@ -164,12 +191,12 @@ public class LogFile {
             if (lockFile) {
                 FileLock lock = channel.tryLock();
                 if (lock != null) {
-                    writer = new BufferedWriter(Channels.newWriter(channel, CHARSET));
+                    writer = new BufferedWriter(Channels.newWriter(channel, CHARSET), BUFFER_SIZE);
                     valid = true;
                     return true;
                 }
             } else {
-                writer = new BufferedWriter(Channels.newWriter(channel, CHARSET));
+                writer = new BufferedWriter(Channels.newWriter(channel, CHARSET), BUFFER_SIZE);
                 valid = true;
                 return true;
             }
@@ -18,7 +18,12 @@ public class LogManager {
   
     private static final Logger LOGGER = Logger.getLogger(LogManager.class.getName());
     
-    private static final int QUEUE_CAPACITY = 100;
+    /**
+     * Large enough to hold a lot of lines if writing is slow for a while (the
+     * writer retrieves all available lines at once, so it should usually be
+     * mostly empty).
+     */
+    private static final int QUEUE_CAPACITY = 100000;
     private static final int MAX_WAIT = 10*1000;
     
     private final AtomicInteger errors = new AtomicInteger();
@@ -27,13 +32,13 @@ public class LogManager {
     private final Thread writerThread;
 
     public LogManager(Path path, String splitLogs, boolean useSubdirectories,
-            boolean lockFiles) {
+            boolean lockFiles, long flushDelay, int flushLines) {
         path.toFile().mkdirs();
         if (!path.toFile().exists()) {
             LOGGER.warning("Log: Failed to create path: "+path);
         }
         this.queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
-        this.writerThread = new Thread(new LogWriter(queue, path, splitLogs, useSubdirectories, lockFiles), "LogWriter");
+        this.writerThread = new Thread(new LogWriter(queue, path, splitLogs, useSubdirectories, lockFiles, flushDelay, flushLines), "LogWriter");
     }
     
     public void start() {
@@ -59,12 +64,19 @@ public class LogManager {
     }
 
     
+    /**
+     * Add a line to be written. If the queue is full the line is dropped, this
+     * never blocks, since it is usually called from the EDT.
+     * 
+     * @param channel The channel (determines the file)
+     * @param line The line to write
+     */
     public void writeLine(String channel, String line) {
-        boolean added = queue.offer(new LogItem(channel, line));
-        if (!added) {
+        LogItem item = new LogItem(channel, line);
+        if (!queue.offer(item)) {
             int current = errors.incrementAndGet();
-            if (current % 20 == 0) {
-                LOGGER.warning("Log: Failed writing "+errors+" lines (queue full)");
+            if (current == 1 || current % 20 == 0) {
+                LOGGER.warning("Log: Failed writing "+current+" lines (queue full)");
             }
         }
     }
@@ -3,17 +3,27 @@ package chatty.util.chatlog;
 
 import java.nio.file.Path;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 /**
  * Handles writing the log files. Retrieves data from a queue and manages files
  * to write the log into.
+ * 
+ * <p>
+ * All items currently in the queue are retrieved and written at once, but the
+ * files are only flushed when enough lines have been written or after a delay
+ * since the first unflushed line (group commit), so that many lines arriving
+ * at once don't each cause a separate write to the disk.
+ * </p>
  *
  * @author tduva
  */
@@ -25,14 +35,22 @@ public class LogWriter implements Runnable {
 
     private static final int STATS_INTERVAL = 25000;
     private static final int STATS_TIME_INTERVAL = 15 * 60 * 1000;
+    
+    /**
+     * Maximum number of items to retrieve from the queue at once.
+     */
+    private static final int MAX_BATCH = 1000;
 
     private final Map<String, LogFile> files = new HashMap<>();
     private final Set<String> errors = new HashSet<>();
+    private final Set<String> unflushedChannels = new HashSet<>();
     private final BlockingQueue<LogItem> queue;
     private final Path path;
     private final String splitLogs;
     private final boolean useSubdirectories;
     private final boolean lockFiles;
+    private final long flushDelay;
+    private final int flushLines;
 
     private long addedQueueSize;
     private int addedQueueSizeCount;
@@ -40,38 +58,72 @@ public class LogWriter implements Runnable {
     private long lastStatsTime;
     private int maxQueueSize;
     private int totalLines;
+    private int statsLines;
+    private int maxBatchSize;
+    private int flushCount;
+    private long flushLatency;
+    private long maxFlushLatency;
+    
+    private int unflushedLines;
+    private long firstUnflushedTime;
 
+    /**
+     * Create a new writer.
+     * 
+     * @param queue The queue to retrieve items from
+     * @param path The base path for the log files
+     * @param splitLogs Whether to split logs (never, daily, weekly, monthly)
+     * @param useSubdirectories Whether to add a directory for each channel
+     * @param lockFiles Whether to lock the log files
+     * @param flushDelay How long (in milliseconds) written lines may stay
+     * buffered at most, 0 to flush after every batch
+     * @param flushLines How many lines may be buffered at most
+     */
     public LogWriter(BlockingQueue<LogItem> queue, Path path, String splitLogs,
-            boolean useSubdirectories, boolean lockFiles) {
+            boolean useSubdirectories, boolean lockFiles,
+            long flushDelay, int flushLines) {
         this.queue = queue;
         this.path = path;
         this.splitLogs = splitLogs;
         this.useSubdirectories = useSubdirectories;
         this.lockFiles = lockFiles;
+        this.flushDelay = Math.max(flushDelay, 0);
+        this.flushLines = Math.max(flushLines, 1);
     }
 
     @Override
     public void run() {
+        List<LogItem> batch = new ArrayList<>();
         boolean run = true;
         try {
             while (run) {
                 //System.out.println("Waiting for a new item..");
-                LogItem item = queue.take();
-                stats(queue.size());
-                if (item.channel == null) {
-                    if (item.message == null) {
-                        outputStats();
-                        run = false;
-                        closeAllFiles();
-                    } else {
-                        // Can't close any files here because it would
-                        // remove an item during iteration
-                        for (String channel : files.keySet()) {
-                            handleMessage(channel, item.message);
-                        }
+                LogItem first;
+                if (unflushedLines > 0) {
+                    long remaining = flushDelay - (System.currentTimeMillis() - firstUnflushedTime);
+                    first = remaining > 0 ? queue.poll(remaining, TimeUnit.MILLISECONDS) : null;
+                    if (first == null) {
+                        // Nothing new in time, so write what's there
+                        flushAll();
+                        continue;
                     }
                 } else {
-                    handleMessage(item.channel, item.message);
+                    first = queue.take();
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH - 1);
+                stats(queue.size(), batch.size());
+                for (LogItem item : batch) {
+                    if (!handleItem(item)) {
+                        run = false;
+                        break;
+                    }
+                }
+                batch.clear();
+                if (run && unflushedLines > 0
+                        && (unflushedLines >= flushLines
+                            || System.currentTimeMillis() - firstUnflushedTime >= flushDelay)) {
+                    flushAll();
                 }
             }
         } catch (InterruptedException ex) {
@@ -80,6 +132,49 @@ public class LogWriter implements Runnable {
             Thread.currentThread().interrupt();
         }
     }
+    
+    /**
+     * Handle a single item from the queue.
+     * 
+     * @param item The item
+     * @return false if the writer should stop, true otherwise
+     */
+    private boolean handleItem(LogItem item) {
+        if (item.channel == null) {
+            if (item.message == null) {
+                outputStats();
+                closeAllFiles();
+                return false;
+            } else {
+                // Can't close any files here because it would
+                // remove an item during iteration
+                for (String channel : files.keySet()) {
+                    handleMessage(channel, item.message);
+                }
+            }
+        } else {
+            handleMessage(item.channel, item.message);
+        }
+        return true;
+    }
+    
+    /**
+     * Write all buffered lines to the files.
+     */
+    private void flushAll() {
+        for (String channel : unflushedChannels) {
+            LogFile file = files.get(channel);
+            if (file != null && file.isValid() && !file.flush()) {
+                fileError(channel);
+            }
+        }
+        long latency = System.currentTimeMillis() - firstUnflushedTime;
+        flushCount++;
+        flushLatency += latency;
+        maxFlushLatency = Math.max(maxFlushLatency, latency);
+        unflushedChannels.clear();
+        unflushedLines = 0;
+    }
 
     private void closeAllFiles() {
         for (String channel : files.keySet()) {
@@ -102,6 +197,13 @@ public class LogWriter implements Runnable {
         if (file == null || !file.write(line)) {
             fileError(channel);
         }
+        else {
+            if (unflushedLines == 0) {
+                firstUnflushedTime = System.currentTimeMillis();
+            }
+            unflushedLines++;
+            unflushedChannels.add(channel);
+        }
     }
 
     private LogFile getFile(String channel) {
@@ -232,27 +334,40 @@ public class LogWriter implements Runnable {
         return dateTimeFormat.format(cal.getTime());
     }
 
-    private void stats(int size) {
+    private void stats(int size, int batchSize) {
         addedQueueSize += size;
         addedQueueSizeCount++;
-        totalLines++;
+        totalLines += batchSize;
+        statsLines += batchSize;
         if (maxQueueSize < size) {
             maxQueueSize = size;
         }
+        if (maxBatchSize < batchSize) {
+            maxBatchSize = batchSize;
+        }
         long lastStatsAgo = System.currentTimeMillis() - lastStatsTime;
-        if (addedQueueSizeCount > STATS_INTERVAL || lastStatsAgo > STATS_TIME_INTERVAL) {
+        if (statsLines > STATS_INTERVAL || lastStatsAgo > STATS_TIME_INTERVAL) {
             outputStats();
         }
     }
 
     private void outputStats() {
         long avg = addedQueueSizeCount > 0 ? addedQueueSize / addedQueueSizeCount : 0;
+        long avgBatch = addedQueueSizeCount > 0 ? statsLines / addedQueueSizeCount : 0;
+        long avgFlushLatency = flushCount > 0 ? flushLatency / flushCount : 0;
         LOGGER.info("Log: total: " + totalLines + " / queue size (avg: " + avg + ", max: " + maxQueueSize
-                + ") / errors: " + errorCount);
+                + ") / batch size (avg: " + avgBatch + ", max: " + maxBatchSize
+                + ") / flushes: " + flushCount + " (latency avg: " + avgFlushLatency + "ms, max: " + maxFlushLatency
+                + "ms) / errors: " + errorCount);
         addedQueueSize = 0;
         addedQueueSizeCount = 0;
         errorCount = 0;
         maxQueueSize = 0;
+        statsLines = 0;
+        maxBatchSize = 0;
+        flushCount = 0;
+        flushLatency = 0;
+        maxFlushLatency = 0;
         lastStatsTime = System.currentTimeMillis();
     }
 
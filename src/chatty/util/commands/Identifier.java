@@ -31,7 +31,7 @@ class Identifier implements Item {
     @Override
     public String replace(Parameters parameters) {
         String value = parameters.get(name);
-        if (value == null && name.startsWith("_") || parameters.hasKey("-presets-")) {
+        if (value == null && name.startsWith("_") || parameters.hasFlag("-presets-")) {
             Object o = parameters.getObject(name);
             CustomCommand command = null;
             if (o instanceof CustomCommand) {
@@ -44,6 +44,23 @@ class If implements Item {
         return output;
     }
 
+    @Override
+    public boolean append(Parameters parameters, StringBuilder b) {
+        String value = identifier.replace(parameters);
+        if (value == null) {
+            return false;
+        }
+        Items output = !value.isEmpty() ? output1 : output2;
+        if (output == null) {
+            return !isRequired;
+        }
+        int length = b.length();
+        if (!output.append(parameters, b)) {
+            return false;
+        }
+        return !isRequired || b.length() > length;
+    }
+
     @Override
     public String toString() {
         return "If " + identifier + " ? " + output1 + " : " + output2;
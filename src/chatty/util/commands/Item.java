@@ -29,6 +29,26 @@ interface Item {
      */
     public String replace(Parameters parameters);
 
+    /**
+     * Append the text with any special tokens replaced to the given
+     * StringBuilder, the same as {@link #replace(Parameters)} would return.
+     * Items containing other Items may override this to append directly,
+     * instead of creating a String for each of them.
+     *
+     * @param parameters
+     * @param b The StringBuilder to append to
+     * @return false if a required parameter was not found (in which case
+     * something may already have been appended), true otherwise
+     */
+    public default boolean append(Parameters parameters, StringBuilder b) {
+        String replaced = replace(parameters);
+        if (replaced == null) {
+            return false;
+        }
+        b.append(replaced);
+        return true;
+    }
+
     /**
      * Returns all identifiers that start with the given prefix (can be empty to
      * return all).
@@ -52,14 +52,20 @@ class Items implements Item {
     @Override
     public String replace(Parameters parameters) {
         StringBuilder b = new StringBuilder();
+        if (!append(parameters, b)) {
+            return null;
+        }
+        return b.toString();
+    }
+
+    @Override
+    public boolean append(Parameters parameters, StringBuilder b) {
         for (Item item : collection) {
-            String replaced = item.replace(parameters);
-            if (replaced == null) {
-                return null;
+            if (!item.append(parameters, b)) {
+                return false;
             }
-            b.append(replaced);
         }
-        return b.toString();
+        return true;
     }
 
     @Override
@@ -23,6 +23,12 @@ class Literal implements Item {
         return literal;
     }
 
+    @Override
+    public boolean append(Parameters parameters, StringBuilder b) {
+        b.append(literal);
+        return true;
+    }
+
     @Override
     public String toString() {
         return "'" + literal + "'";
@@ -1,7 +1,6 @@
 
 package chatty.util.commands;
 
-import chatty.Room;
 import chatty.User;
 import chatty.util.StringUtil;
 import chatty.util.api.StreamInfo;
@@ -10,6 +9,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Allows adding values for use in Custom Commands replacements.
@@ -69,6 +69,19 @@ public class Parameters {
         return get(key) != null;
     }
     
+    /**
+     * Check if a String parameter with the given key is set. Same as
+     * hasKey(String) for keys that none of the object based parameters use,
+     * like "-presets-" or the escape settings, but faster, since those are
+     * checked for a lot of items when replacing.
+     * 
+     * @param key
+     * @return 
+     */
+    synchronized boolean hasFlag(String key) {
+        return parameters.get(key) != null;
+    }
+    
     /**
      * Check that all of the given parameters are not null or empty (this
      * includes ones that are based on objects such as "user" and "localUser",
@@ -218,49 +231,46 @@ public class Parameters {
         return parameters.toString();
     }
     
+    /**
+     * The values getUserParameter() returns, by name.
+     */
+    private static final Map<String, Function<User, String>> USER_PARAMETERS = new HashMap<>();
+    
+    static {
+        USER_PARAMETERS.put("nick", User::getRegularDisplayNick);
+        USER_PARAMETERS.put("user-id", User::getId);
+        USER_PARAMETERS.put("display-nick", User::getDisplayNick);
+        USER_PARAMETERS.put("custom-nick", User::getCustomNick);
+        USER_PARAMETERS.put("full-nick", User::getFullNick);
+        USER_PARAMETERS.put("special-nick", user -> !user.hasRegularDisplayNick() ? "true" : null);
+        // Special nick (with spaces or localized) includes the regular one
+        USER_PARAMETERS.put("display-nick2", user -> user.hasRegularDisplayNick()
+                ? user.getDisplayNick()
+                : user.getDisplayNick()+" ("+user.getRegularDisplayNick()+")");
+        USER_PARAMETERS.put("full-nick2", user -> user.hasRegularDisplayNick()
+                ? user.getFullNick()
+                : user.getFullNick()+" ("+user.getRegularDisplayNick()+")");
+        USER_PARAMETERS.put("twitch-badge-info", user -> user.getTwitchBadges() != null
+                ? user.getTwitchBadges().toString() : null);
+        USER_PARAMETERS.put("twitch-badges", user -> user.getTwitchBadges() != null
+                ? Usericon.makeBadgeInfo(user.getTwitchBadges()) : null);
+        USER_PARAMETERS.put("user-channel", user -> user.getRoom() != null
+                ? user.getRoom().getChannel() : null);
+        USER_PARAMETERS.put("user-stream", user -> user.getRoom() != null
+                ? user.getRoom().getStream() : null);
+        USER_PARAMETERS.put("user-stream-id", user -> user.getRoom() != null
+                ? user.getRoom().getStreamId() : null);
+    }
+    
     private static String getUserParameter(String name, User user) {
         if (user == null) {
             return null;
         }
-        switch (name) {
-            case "nick": return user.getRegularDisplayNick();
-            case "user-id": return user.getId();
-            case "display-nick": return user.getDisplayNick();
-            case "custom-nick": return user.getCustomNick();
-            case "full-nick": return user.getFullNick();
-            case "special-nick": return !user.hasRegularDisplayNick() ? "true" : null;
-        }
-        
-        if (user.hasRegularDisplayNick()) {
-            switch (name) {
-                case "display-nick2": return user.getDisplayNick();
-                case "full-nick2": return user.getFullNick();
-            }
-        }
-        else {
-            // Special nick (with spaces or localized)
-            switch (name) {
-                case "display-nick2": return user.getDisplayNick()+" ("+user.getRegularDisplayNick()+")";
-                case "full-nick2": return user.getFullNick()+" ("+user.getRegularDisplayNick()+")";
-            }
-        }
-        
-        if (user.getTwitchBadges() != null) {
-            switch (name) {
-                case "twitch-badge-info": return user.getTwitchBadges().toString();
-                case "twitch-badges": return Usericon.makeBadgeInfo(user.getTwitchBadges());
-            }
-        }
-        
-        if (user.getRoom() != null) {
-            Room room = user.getRoom();
-            switch (name) {
-                case "user-channel": return room.getChannel();
-                case "user-stream": return room.getStream();
-                case "user-stream-id": return room.getStreamId();
-            }
+        Function<User, String> function = USER_PARAMETERS.get(name);
+        if (function == null) {
+            return null;
         }
-        return null;
+        return function.apply(user);
     }
     
     private static String getStreamInfoParameter(String name, StreamInfo streamInfo) {
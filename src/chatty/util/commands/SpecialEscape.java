@@ -22,15 +22,24 @@ public class SpecialEscape implements Item {
     @Override
     public String replace(Parameters parameters) {
         String result = item.replace(parameters);
-        if (parameters.get(Helper.ESCAPE_FOR_CHAIN_COMMAND) != null && result != null) {
+        if (parameters.hasFlag(Helper.ESCAPE_FOR_CHAIN_COMMAND) && result != null) {
             result = Helper.escapeForChainCommand(result);
         }
-        if (parameters.get(Helper.ESCAPE_FOR_FOREACH_COMMAND) != null && result != null) {
+        if (parameters.hasFlag(Helper.ESCAPE_FOR_FOREACH_COMMAND) && result != null) {
             result = Helper.escapeForForeachCommand(result);
         }
         return result;
     }
 
+    @Override
+    public boolean append(Parameters parameters, StringBuilder b) {
+        if (parameters.hasFlag(Helper.ESCAPE_FOR_CHAIN_COMMAND)
+                || parameters.hasFlag(Helper.ESCAPE_FOR_FOREACH_COMMAND)) {
+            return Item.super.append(parameters, b);
+        }
+        return item.append(parameters, b);
+    }
+
     @Override
     public Set<String> getIdentifiersWithPrefix(String prefix) {
         return item.getIdentifiersWithPrefix(prefix);
@@ -10,7 +10,10 @@ import chatty.util.api.Emoticon;
 import chatty.util.api.EmoticonUpdate;
 import chatty.util.api.TwitchApi;
 import chatty.util.api.usericons.UsericonFactory;
+import chatty.util.ffz.FrankerFaceZParsing.EmotesResponse;
 import chatty.util.settings.Settings;
+import java.io.IOException;
+import java.io.Reader;
 import java.util.*;
 import java.util.logging.Logger;
 import org.json.simple.JSONObject;
@@ -182,18 +185,54 @@ public class FrankerFaceZ {
         UrlRequest request = new UrlRequest();
         request.setLabel("FFZ/"+stream);
         request.setUrl(url);
-        request.async((result, responseCode) -> {
-            if (Integer.toString(responseCode).startsWith("4")) {
-                RetryManager.getInstance().setNotFound(url);
-            }
-            else if (responseCode != 200 && result == null) {
-                RetryManager.getInstance().setError(url);
-            }
-            else {
-                RetryManager.getInstance().setSuccess(url);
-            }
-            parseResult(type, stream, id, result);
-        });
+        if (type == Type.FEATURE_FRIDAY && id == null) {
+            // Response of the first request having only the info which channel
+            request.async((result, responseCode) -> {
+                updateRetry(url, responseCode, result != null);
+                if (result != null) {
+                    handleFeatureFriday(result);
+                }
+            });
+        }
+        else {
+            request.asyncParsed(reader -> parseEmotes(type, stream, reader), (result, responseCode) -> {
+                updateRetry(url, responseCode, result != null);
+                handleResult(type, stream, result);
+            });
+        }
+    }
+    
+    private static void updateRetry(String url, int responseCode, boolean hasResult) {
+        if (Integer.toString(responseCode).startsWith("4")) {
+            RetryManager.getInstance().setNotFound(url);
+        }
+        else if (responseCode != 200 && !hasResult) {
+            RetryManager.getInstance().setError(url);
+        }
+        else {
+            RetryManager.getInstance().setSuccess(url);
+        }
+    }
+    
+    /**
+     * Parse the emotes of several types of API requests, while reading the
+     * response.
+     * 
+     * @param type The type of request
+     * @param stream The stream (null for some types)
+     * @param reader The JSON
+     * @return The parsed emotes (and room info)
+     * @throws IOException If reading fails
+     */
+    private static EmotesResponse parseEmotes(Type type, String stream, Reader reader) throws IOException {
+        if (type == Type.GLOBAL) {
+            return FrankerFaceZParsing.parseGlobalEmotes(reader);
+        }
+        else if (type == Type.ROOM) {
+            // If type is ROOM, stream should be available
+            return FrankerFaceZParsing.parseRoomEmotes(reader, stream);
+        }
+        return FrankerFaceZParsing.parseSetEmotes(reader, Emoticon.SubType.FEATURE_FRIDAY, null);
     }
     
     /**
@@ -221,54 +260,42 @@ public class FrankerFaceZ {
     }
     
     /**
-     * Parse the result of several types of API requests.
+     * Handle the parsed result of several types of API requests.
      * 
      * @param type The type of request
      * @param stream The stream (null for some types), just used for info here
-     * @param id The id of the resource that was requested, depending on the
-     * type (e.g. room id or emote set)
-     * @param result The result JSON, may be null if the request failed
+     * @param result The parsed emotes, may be null if the request failed
      */
-    private void parseResult(Type type, String stream, String id, String result) {
+    private void handleResult(Type type, String stream, EmotesResponse result) {
         if (result == null) {
             return;
         }
-        if (type == Type.FEATURE_FRIDAY && id == null) {
-            // Response of the first request having only the info which channel
-            handleFeatureFriday(result);
-            return;
-        }
         
         // Determine whether these emotes should be global
         final boolean global = type == Type.GLOBAL || type == Type.FEATURE_FRIDAY;
         String globalText = global ? "global" : "local";
         
-        Set<Emoticon> emotes = new HashSet<>();
+        Set<Emoticon> emotes = result.emotes;
         List<Usericon> usericons = new ArrayList<>();
         
-        // Parse depending on type
-        if (type == Type.GLOBAL) {
-            emotes = FrankerFaceZParsing.parseGlobalEmotes(result);
-        } else if (type == Type.ROOM) {
-            // If type is ROOM, stream should be available
-            emotes = FrankerFaceZParsing.parseRoomEmotes(result, stream);
-            addRoomBadgeUsernames(stream, FrankerFaceZParsing.parseRoomBadges(result));
-            String modIconUrl = FrankerFaceZParsing.parseCustomBadge(result, stream, "mod_urls", "1");
-            String modIconUrl2 = FrankerFaceZParsing.parseCustomBadge(result, stream, "mod_urls", "2");
+        // Additional info depending on type
+        if (type == Type.ROOM) {
+            addRoomBadgeUsernames(stream, FrankerFaceZParsing.parseRoomBadges(result.room));
+            String modIconUrl = FrankerFaceZParsing.parseCustomBadge(result.room, "mod_urls", "1");
+            String modIconUrl2 = FrankerFaceZParsing.parseCustomBadge(result.room, "mod_urls", "2");
             if (modIconUrl != null) {
                 // With added color
                 usericons.add(UsericonFactory.createTwitchLikeIcon(Usericon.Type.MOD,
                         stream, modIconUrl, modIconUrl2, Usericon.SOURCE_FFZ, "Moderator (FFZ)"));
             }
-            String vipIconUrl = FrankerFaceZParsing.parseCustomBadge(result, stream, "vip_badge", "1");
-            String vipIconUrl2 = FrankerFaceZParsing.parseCustomBadge(result, stream, "vip_badge", "2");
+            String vipIconUrl = FrankerFaceZParsing.parseCustomBadge(result.room, "vip_badge", "1");
+            String vipIconUrl2 = FrankerFaceZParsing.parseCustomBadge(result.room, "vip_badge", "2");
             if (vipIconUrl != null) {
                 // Just the badge, with no added color
                 usericons.add(UsericonFactory.createIconFromUrl(Usericon.Type.VIP,
                         stream, vipIconUrl, vipIconUrl2, Usericon.SOURCE_FFZ, null, "VIP (FFZ)"));
             }
         } else if (type == Type.FEATURE_FRIDAY) {
-            emotes = FrankerFaceZParsing.parseSetEmotes(result, Emoticon.SubType.FEATURE_FRIDAY, null);
             for (Emoticon emote : emotes) {
                 if (featureFridayChannel != null) {
                     emote.setStream(featureFridayChannel);
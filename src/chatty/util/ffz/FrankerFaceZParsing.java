@@ -1,10 +1,15 @@
 
 package chatty.util.ffz;
 
+import chatty.util.JSONStream;
 import chatty.util.JSONUtil;
 import chatty.util.api.Emoticon;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
@@ -22,28 +27,36 @@ public class FrankerFaceZParsing {
     
     private static final Logger LOGGER = Logger.getLogger(FrankerFaceZParsing.class.getName());
     
+    /**
+     * The emote lists are parsed one emote at a time while reading. Other
+     * than that only the set titles and the (small) room info are kept.
+     */
+    private static final JSONStream GLOBAL_EMOTES = new JSONStream("sets", JSONStream.ANY_KEY, "emoticons")
+            .value("sets", JSONStream.ANY_KEY, "title")
+            .value("default_sets");
+    private static final JSONStream ROOM_EMOTES = new JSONStream("sets", JSONStream.ANY_KEY, "emoticons")
+            .value("sets", JSONStream.ANY_KEY, "title")
+            .value("room");
+    private static final JSONStream SET_EMOTES = new JSONStream("set", "emoticons")
+            .value("set", "title");
+    
     /**
      * Parses the mod/VIP badge url.
      * 
      * Request: /room/:room
      * 
-     * @param json
-     * @param stream
+     * @param room The "room" object
      * @param type Which key to look up the badge URLs under
      * @param factor
      * @return The URL to the badge image, or null if none was found
      */
-    public static String parseCustomBadge(String json, String stream, String type, String factor) {
-        try {
-            JSONParser parser = new JSONParser();
-            JSONObject o = (JSONObject)parser.parse(json);
-            JSONObject room = (JSONObject)o.get("room");
-            Object badgeUrls = room.get(type);
-            if (badgeUrls instanceof JSONObject) {
-                return JSONUtil.getString((JSONObject) badgeUrls, factor);
-            }
-        } catch (ParseException | ClassCastException | NullPointerException ex) {
-            
+    public static String parseCustomBadge(JSONObject room, String type, String factor) {
+        if (room == null) {
+            return null;
+        }
+        Object badgeUrls = room.get(type);
+        if (badgeUrls instanceof JSONObject) {
+            return JSONUtil.getString((JSONObject) badgeUrls, factor);
         }
         return null;
     }
@@ -53,24 +66,22 @@ public class FrankerFaceZParsing {
      * 
      * Request: /set/global
      * 
-     * @param json
-     * @return 
+     * @param reader The JSON
+     * @return The emotes of the first default set, may be incomplete if the
+     * JSON is invalid
+     * @throws IOException If reading fails
      */
-    public static Set<Emoticon> parseGlobalEmotes(String json) {
-        try {
-            JSONParser parser = new JSONParser();
-            JSONObject o = (JSONObject)parser.parse(json);
-            JSONArray defaultSets = (JSONArray)o.get("default_sets");
-            JSONObject sets = (JSONObject)o.get("sets");
-            for (Object setObject : defaultSets) {
-                int set = ((Number)setObject).intValue();
-                JSONObject setData = (JSONObject)sets.get(String.valueOf(set));
-                return parseEmoteSet(setData, null, Emoticon.SubType.REGULAR);
+    public static EmotesResponse parseGlobalEmotes(Reader reader) throws IOException {
+        EmoteSets sets = parseEmoteSets(GLOBAL_EMOTES, reader, null, Emoticon.SubType.REGULAR);
+        if (sets.defaultSets != null) {
+            for (Object setObject : sets.defaultSets) {
+                if (setObject instanceof Number) {
+                    int set = ((Number) setObject).intValue();
+                    return new EmotesResponse(sets.getEmotes(String.valueOf(set)), null);
+                }
             }
-        } catch (ParseException | ClassCastException | NullPointerException ex) {
-            LOGGER.warning("Error parsing global FFZ emotes: "+ex);
         }
-        return new HashSet<>();
+        return new EmotesResponse(new HashSet<>(), null);
     }
     
     /**
@@ -78,26 +89,137 @@ public class FrankerFaceZParsing {
      * 
      * Request: /room/:room
      * 
-     * @param json The JSON to parse
+     * @param reader The JSON
      * @param stream
-     * @return Set of emotes, can be empty if there are no emotes or an error
-     * occured
+     * @return The emotes of the room's set, can be empty if there are no emotes
+     * or an error occured, and the "room" object (may be null)
+     * @throws IOException If reading fails
+     */
+    public static EmotesResponse parseRoomEmotes(Reader reader, String stream) throws IOException {
+        EmoteSets sets = parseEmoteSets(ROOM_EMOTES, reader, stream, Emoticon.SubType.REGULAR);
+        Set<Emoticon> emotes = new HashSet<>();
+        if (sets.room != null && sets.room.get("set") instanceof Number) {
+            int set = ((Number) sets.room.get("set")).intValue();
+            emotes = sets.getEmotes(String.valueOf(set));
+        }
+        return new EmotesResponse(emotes, sets.room);
+    }
+    
+    /**
+     * Parses the emotes of the set request.
+     * 
+     * Request: /set/:id
+     * 
+     * @param reader The JSON
+     * @param subType
+     * @param room
+     * @return The emotes, may be incomplete if the JSON is invalid
+     * @throws IOException If reading fails
      */
-    public static Set<Emoticon> parseRoomEmotes(String json, String stream) {
+    public static EmotesResponse parseSetEmotes(Reader reader, Emoticon.SubType subType,
+            String room) throws IOException {
+        EmoteSets sets = parseEmoteSets(SET_EMOTES, reader, room, subType);
+        return new EmotesResponse(sets.getEmotes(EmoteSets.SINGLE_SET), null);
+    }
+    
+    private static EmoteSets parseEmoteSets(JSONStream stream, Reader reader,
+            String streamRestriction, Emoticon.SubType subType) throws IOException {
+        EmoteSets result = new EmoteSets(streamRestriction, subType);
         try {
-            JSONParser parser = new JSONParser();
-            JSONObject o = (JSONObject)parser.parse(json);
-            JSONObject room = (JSONObject)o.get("room");
-            // Room ID (name) may not be correct if name changed
-            String roomId = (String)room.get("id");
-            int set = ((Number)room.get("set")).intValue();
-            JSONObject sets = (JSONObject)o.get("sets");
-            JSONObject setData = (JSONObject)sets.get(String.valueOf(set));
-            return parseEmoteSet(setData, stream, Emoticon.SubType.REGULAR);
-        } catch (ParseException | ClassCastException | NullPointerException ex) {
+            stream.parseWithPaths(reader, result);
+        }
+        catch (ParseException | RuntimeException ex) {
             LOGGER.warning("Error parsing FFZ emotes: "+ex);
         }
-        return new HashSet<>();
+        return result;
+    }
+    
+    /**
+     * The emotes of a response, along with the "room" object for room
+     * requests.
+     */
+    public static class EmotesResponse {
+        
+        public final Set<Emoticon> emotes;
+        public final JSONObject room;
+        
+        EmotesResponse(Set<Emoticon> emotes, JSONObject room) {
+            this.emotes = emotes;
+            this.room = room;
+        }
+        
+    }
+    
+    /**
+     * Collects the parsed emotes by set, as well as the values needed to
+     * select the set.
+     */
+    private static class EmoteSets implements JSONStream.PathListener {
+        
+        /**
+         * The set id used for the set request, which only contains one set.
+         */
+        private static final String SINGLE_SET = "";
+        
+        private final String streamRestriction;
+        private final Emoticon.SubType subType;
+        private final Map<String, Set<Emoticon>> emotes = new HashMap<>();
+        private final Map<String, String> titles = new HashMap<>();
+        private JSONObject room;
+        private JSONArray defaultSets;
+        
+        EmoteSets(String streamRestriction, Emoticon.SubType subType) {
+            this.streamRestriction = streamRestriction;
+            this.subType = subType;
+        }
+        
+        @Override
+        public void element(List<String> path, Object element) {
+            String key = path.get(0);
+            if (key.equals("room")) {
+                if (element instanceof JSONObject) {
+                    room = (JSONObject) element;
+                }
+            }
+            else if (key.equals("default_sets")) {
+                if (element instanceof JSONArray) {
+                    defaultSets = (JSONArray) element;
+                }
+            }
+            else {
+                // "sets" -> id -> "emoticons"/"title" or "set" -> ...
+                String set = path.size() == 3 ? path.get(1) : SINGLE_SET;
+                if (path.get(path.size() - 1).equals("title")) {
+                    if (element instanceof String) {
+                        titles.put(set, (String) element);
+                    }
+                }
+                else if (element instanceof JSONObject) {
+                    Emoticon emote = parseEmote((JSONObject) element, streamRestriction, null, subType);
+                    if (emote != null) {
+                        emotes.computeIfAbsent(set, k -> new HashSet<>()).add(emote);
+                    }
+                }
+            }
+        }
+        
+        /**
+         * Get the emotes of the given set, with the set title added as info.
+         * 
+         * @param set The set id
+         * @return The emotes, may be empty
+         */
+        Set<Emoticon> getEmotes(String set) {
+            Set<Emoticon> result = emotes.getOrDefault(set, new HashSet<>());
+            String title = titles.get(set);
+            if (title != null) {
+                for (Emoticon emote : result) {
+                    emote.addInfos(Collections.singleton(title));
+                }
+            }
+            return result;
+        }
+        
     }
     
     /**
@@ -281,16 +403,16 @@ public class FrankerFaceZParsing {
      * Parse the badges contained in the single room response. Currently only
      * used to retrieve bot names.
      * 
-     * @param json
+     * @param room The "room" object
      * @return A map with badge id as key and names as value (never null, may be
      * empty)
      */
-    public static Map<String, Set<String>> parseRoomBadges(String json) {
+    public static Map<String, Set<String>> parseRoomBadges(JSONObject room) {
         Map<String, Set<String>> result = new HashMap<>();
+        if (room == null) {
+            return result;
+        }
         try {
-            JSONParser parser = new JSONParser();
-            JSONObject o = (JSONObject)parser.parse(json);
-            JSONObject room = (JSONObject)o.get("room");
             JSONObject badges = (JSONObject)room.get("user_badges");
             for (Object key : badges.keySet()) {
                 Object value = badges.get(key);
@@ -18,6 +18,17 @@ public interface AnimatedImage {
     public String getName();
     public int getPreferredPauseFrame();
     
+    /**
+     * The approximate number of bytes used to store this image (not
+     * including the buffer the frames are decoded into).
+     * 
+     * @return 
+     */
+    public default long getMemorySize() {
+        Dimension size = getSize();
+        return (long) getFrameCount() * size.width * size.height * 4;
+    }
+    
     public static void setAnimationPause(int state) {
         AnimatedImageSource.ANIMATION_PAUSE = state;
     }
@@ -30,7 +30,7 @@ public class AnimatedImageSource implements ImageProducer {
     
     private int[] pixels;
     private int currentFrame = -1;
-    private Thread thread;
+    private boolean scheduled;
     private ElapsedTime noConsumersTime;
     private boolean errorOccured;
     
@@ -58,7 +58,7 @@ public class AnimatedImageSource implements ImageProducer {
         consumers.add(ic);
         initConsumer(ic);
         sendFrame(ic);
-        startThread();
+        startAnimation();
     }
     
     @Override
@@ -86,60 +86,58 @@ public class AnimatedImageSource implements ImageProducer {
     
     public static volatile int ANIMATION_PAUSE = -1;
     
-    private void startThread() {
+    private void startAnimation() {
         if (errorOccured) {
             return;
         }
-        if (thread == null || !thread.isAlive()) {
-            thread = new Thread(() -> {
-                do {
-                    if (isActive()) {
-                        nextFrame();
-                    }
-                    else {
-                        // Animation is paused, switch frame if necessary
-                        int pauseFrame = 0;
-                        switch (ANIMATION_PAUSE) {
-                            case 0:
-                                pauseFrame = 0;
-                                break;
-                            case 1:
-                                pauseFrame = currentFrame;
-                                break;
-                            case 2:
-                                pauseFrame = image.getPreferredPauseFrame();
-                                break;
-                        }
-                        
-                        // If it hadn't played yet could be -1 from currentFrame
-                        if (pauseFrame < 0) {
-                            pauseFrame = 0;
-                        }
-                        
-                        if (pauseFrame != currentFrame || !hasPixels()) {
-                            currentFrame = pauseFrame - 1;
-                            nextFrame();
-                        }
-                    }
-                    try {
-                        Thread.sleep(getDelay());
-                    }
-                    catch (InterruptedException ex) {
-                        // Do nothing
-                    }
-                    if (checkStopThread() || Thread.interrupted()) {
-                        threadStopped();
-                        return;
-                    }
-                } while (true);
-            }, "AnimatedImage"+(image.getName() != null ? "-"+image.getName() : ""));
-            thread.setDaemon(true);
-            // ImageFetcher is setting a lower priority, so may make sense?
-            thread.setPriority(2);
-            thread.start();
+        if (!scheduled) {
+            scheduled = true;
+            AnimationScheduler.get().schedule(this::update);
         }
     }
     
+    /**
+     * Called by the scheduler when the next frame is due.
+     * 
+     * @return The delay until the next update, or -1 if no more updates are
+     * necessary (no consumers or an error occured)
+     */
+    private synchronized int update() {
+        if (checkStop()) {
+            stopped();
+            return -1;
+        }
+        if (isActive()) {
+            nextFrame();
+        }
+        else {
+            // Animation is paused, switch frame if necessary
+            int pauseFrame = 0;
+            switch (ANIMATION_PAUSE) {
+                case 0:
+                    pauseFrame = 0;
+                    break;
+                case 1:
+                    pauseFrame = currentFrame;
+                    break;
+                case 2:
+                    pauseFrame = image.getPreferredPauseFrame();
+                    break;
+            }
+
+            // If it hadn't played yet could be -1 from currentFrame
+            if (pauseFrame < 0) {
+                pauseFrame = 0;
+            }
+
+            if (pauseFrame != currentFrame || !hasPixels()) {
+                currentFrame = pauseFrame - 1;
+                nextFrame();
+            }
+        }
+        return getDelay();
+    }
+    
     private synchronized int getDelay() {
         return image.getDelay(currentFrame);
     }
@@ -154,11 +152,11 @@ public class AnimatedImageSource implements ImageProducer {
     
     /**
      * Check if enough time has passed with no consumers registered for the
-     * thread to stop.
+     * animation to stop.
      * 
      * @return 
      */
-    private synchronized boolean checkStopThread() {
+    private synchronized boolean checkStop() {
         if (errorOccured) {
             return true;
         }
@@ -172,8 +170,8 @@ public class AnimatedImageSource implements ImageProducer {
         return noConsumersTime.secondsElapsed(INACTIVITY_SECONDS);
     }
     
-    private synchronized void threadStopped() {
-        thread = null;
+    private synchronized void stopped() {
+        scheduled = false;
         pixels = null;
     }
     
@@ -204,6 +202,7 @@ public class AnimatedImageSource implements ImageProducer {
         for (ImageConsumer ic : consumers) {
             sendFrame(ic);
         }
+        AnimationScheduler.get().frameProduced();
     }
     
     /**
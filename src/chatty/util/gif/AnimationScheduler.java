@@ -0,0 +1,218 @@
+
+package chatty.util.gif;
+
+import chatty.util.Debugging;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Advances animations on a few shared threads, instead of each animation
+ * having it's own thread sleeping between frames.
+ *
+ * <p>
+ * Each thread has a queue of animations ordered by when the next frame is due.
+ * All animations that are due are updated together, then scheduled again for
+ * their next frame. The next frame is scheduled relative to when the frame was
+ * due (not when it was done), so delays don't add up over time.
+ * </p>
+ *
+ * @author tduva
+ */
+public class AnimationScheduler {
+
+    private static final Logger LOGGER = Logger.getLogger(AnimationScheduler.class.getName());
+
+    /**
+     * Shortest delay between frames, so that a single animation with a delay
+     * of 0 can't keep the thread busy.
+     */
+    private static final int MIN_DELAY = 10;
+
+    private static final long STATS_OUTPUT_DELAY = 5000;
+
+    private static final AnimationScheduler INSTANCE = new AnimationScheduler(
+            "AnimationScheduler",
+            Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)));
+
+    public static AnimationScheduler get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Something to animate.
+     */
+    public interface Animation {
+
+        /**
+         * Update the animation, called when it's due.
+         *
+         * @return The number of milliseconds until it should be updated
+         * again, or -1 if it should not be updated anymore
+         */
+        public int update();
+    }
+
+    private final String name;
+    private final Worker[] workers;
+    private final AtomicInteger nextWorker = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong frames = new AtomicLong();
+
+    private long statsFrames;
+    private long statsTime = System.currentTimeMillis();
+
+    AnimationScheduler(String name, int threads) {
+        this.name = name;
+        this.workers = new Worker[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Worker(name + "-" + i);
+        }
+    }
+
+    /**
+     * Start updating the given animation, with the first update as soon as
+     * possible. The animation should not already be scheduled.
+     *
+     * @param animation
+     */
+    public void schedule(Animation animation) {
+        active.incrementAndGet();
+        int index = Math.floorMod(nextWorker.getAndIncrement(), workers.length);
+        workers[index].add(new Task(animation, System.nanoTime()));
+    }
+
+    /**
+     * Count a frame that was sent to consumers, for the stats.
+     */
+    public void frameProduced() {
+        frames.incrementAndGet();
+    }
+
+    /**
+     * The number of animations currently scheduled.
+     *
+     * @return
+     */
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    public synchronized String getStats() {
+        long now = System.currentTimeMillis();
+        long currentFrames = frames.get();
+        long seconds = Math.max(1, (now - statsTime) / 1000);
+        long fps = (currentFrames - statsFrames) / seconds;
+        statsFrames = currentFrames;
+        statsTime = now;
+        int threads = 0;
+        for (Worker worker : workers) {
+            if (worker.isStarted()) {
+                threads++;
+            }
+        }
+        return String.format("%s threads: %d active: %d fps: %d",
+                name, threads, active.get(), fps);
+    }
+
+    private void debugStats() {
+        if (Debugging.isEnabled("animation")
+                && Debugging.millisecondsElapsedLenient("animation"+name, STATS_OUTPUT_DELAY)) {
+            Debugging.printlnTimed("animation"+name, getStats());
+        }
+    }
+
+    private static class Task implements Delayed {
+
+        private final Animation animation;
+        private long due;
+
+        Task(Animation animation, long due) {
+            this.animation = animation;
+            this.due = due;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(due - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            return Long.compare(due, ((Task) o).due);
+        }
+
+    }
+
+    private class Worker {
+
+        private final String name;
+        private final DelayQueue<Task> queue = new DelayQueue<>();
+        private Thread thread;
+
+        Worker(String name) {
+            this.name = name;
+        }
+
+        synchronized void add(Task task) {
+            queue.add(task);
+            if (thread == null) {
+                thread = new Thread(this::run, name);
+                thread.setDaemon(true);
+                // ImageFetcher is setting a lower priority, so may make sense?
+                thread.setPriority(2);
+                thread.start();
+            }
+        }
+
+        synchronized boolean isStarted() {
+            return thread != null;
+        }
+
+        private void run() {
+            List<Task> due = new ArrayList<>();
+            while (true) {
+                try {
+                    due.add(queue.take());
+                }
+                catch (InterruptedException ex) {
+                    continue;
+                }
+                // Update everything that is due at the same time
+                queue.drainTo(due);
+                long now = System.nanoTime();
+                for (Task task : due) {
+                    int delay;
+                    try {
+                        delay = task.animation.update();
+                    }
+                    catch (Exception ex) {
+                        LOGGER.warning("Error updating animation: "+ex);
+                        delay = -1;
+                    }
+                    if (delay < 0) {
+                        active.decrementAndGet();
+                    }
+                    else {
+                        long delayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(delay, MIN_DELAY));
+                        task.due += delayNanos;
+                        if (task.due < now) {
+                            // Too far behind, don't try to catch up
+                            task.due = now + delayNanos;
+                        }
+                        queue.add(task);
+                    }
+                }
+                due.clear();
+                debugStats();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,105 @@
+
+package chatty.util.gif;
+
+import chatty.util.Debugging;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A small cache of recently decoded frames, shared by all images, so that the
+ * same frame doesn't have to be decoded again when it is requested several
+ * times in a short time (e.g. when several image sources animate the same
+ * image or an animation is restarted).
+ *
+ * @author tduva
+ */
+class DecodedFrameCache {
+
+    private static final int STATS_OUTPUT_DELAY = 10*1000;
+
+    /**
+     * Ordered from least to most recently used.
+     */
+    private static final LinkedHashMap<ListAnimatedImageFrame, int[]> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    private static long budget = 16*1024*1024;
+    private static long bytes;
+    private static long hits;
+    private static long misses;
+
+    /**
+     * Set the maximum number of bytes used for decoded frames.
+     *
+     * @param bytes
+     */
+    public static synchronized void setBudget(long bytes) {
+        budget = bytes;
+        removeOld();
+    }
+
+    /**
+     * Copy the cached pixels of the given frame into {@code pixels}.
+     *
+     * @param frame
+     * @param pixels
+     * @return true if the frame was cached, false otherwise
+     */
+    public static synchronized boolean get(ListAnimatedImageFrame frame, int[] pixels) {
+        int[] cached = cache.get(frame);
+        if (cached == null || cached.length != pixels.length) {
+            misses++;
+            return false;
+        }
+        hits++;
+        System.arraycopy(cached, 0, pixels, 0, pixels.length);
+        outputStats();
+        return true;
+    }
+
+    /**
+     * Add a copy of the decoded pixels of the given frame. Frames that would
+     * take up too much of the cache are not added.
+     *
+     * @param frame
+     * @param pixels
+     */
+    public static synchronized void put(ListAnimatedImageFrame frame, int[] pixels) {
+        long size = pixels.length * 4L;
+        if (size > budget / 16) {
+            return;
+        }
+        int[] previous = cache.put(frame, pixels.clone());
+        if (previous != null) {
+            bytes -= previous.length * 4L;
+        }
+        bytes += size;
+        removeOld();
+        outputStats();
+    }
+
+    private static void removeOld() {
+        Iterator<Map.Entry<ListAnimatedImageFrame, int[]>> it = cache.entrySet().iterator();
+        while (bytes > budget && it.hasNext()) {
+            bytes -= it.next().getValue().length * 4L;
+            it.remove();
+        }
+    }
+
+    public static synchronized String getStats() {
+        return String.format("[DecodedFrames] %d frames, %.1f/%.0f MB, hits: %d, misses: %d",
+                cache.size(),
+                bytes / 1024.0 / 1024.0,
+                budget / 1024.0 / 1024.0,
+                hits,
+                misses);
+    }
+
+    private static void outputStats() {
+        if (Debugging.isEnabled("memorybudget")
+                && Debugging.millisecondsElapsedLenient("decodedframes", STATS_OUTPUT_DELAY)) {
+            Debugging.printlnTimed("decodedframes", getStats());
+        }
+    }
+
+}
@@ -0,0 +1,223 @@
+
+package chatty.util.gif;
+
+import chatty.util.MemoryBudget;
+import com.pngencoder.PngEncoder;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Creates the frames of a ListAnimatedImage, storing the pixels of all frames
+ * of the image in the same way.
+ *
+ * <p>
+ * How the frames are stored is chosen when the encoder is created, based on how
+ * much memory the image would take uncompressed and how much memory is already
+ * used by uncompressed images. Small images can be stored as-is, which needs no
+ * decoding at all. Larger images store only the pixels that changed compared to
+ * the previous frame, which is fast to decode as long as the frames are
+ * requested in order (which they usually are). Everything else is compressed
+ * as PNG, which needs the least memory.
+ * </p>
+ *
+ * @author tduva
+ */
+public class FrameEncoder {
+
+    public enum Mode {
+        /**
+         * The pixels as-is.
+         */
+        RAW,
+        /**
+         * Runs of pixels that changed compared to the previous frame.
+         */
+        DELTA,
+        /**
+         * PNG compressed.
+         */
+        PNG
+    }
+
+    /**
+     * Images up to this size (uncompressed) may be stored as RAW.
+     */
+    private static final int RAW_MAX_BYTES = 256*1024;
+
+    /**
+     * Images up to this size (uncompressed) may be stored as DELTA.
+     */
+    private static final int DELTA_MAX_BYTES = 16*1024*1024;
+
+    /**
+     * Keeps track of how much memory images stored as RAW or DELTA currently
+     * use (only for counting, nothing is evicted).
+     */
+    private static final MemoryBudget<ListAnimatedImage> UNCOMPRESSED = new MemoryBudget<>("Uncompressed Frames", 0, image -> {});
+
+    private static volatile long uncompressedBudget = 64*1024*1024;
+
+    /**
+     * Set how much memory can be used by images that are not stored as PNG.
+     * Only affects images created afterwards.
+     *
+     * @param bytes The number of bytes
+     */
+    public static void setUncompressedBudget(long bytes) {
+        uncompressedBudget = bytes;
+    }
+
+    /**
+     * Create an encoder, choosing the mode based on the size of the image.
+     *
+     * @param width The width of the frames
+     * @param height The height of the frames
+     * @param frameCount The number of frames that will be added
+     * @return
+     */
+    public static FrameEncoder create(int width, int height, int frameCount) {
+        return new FrameEncoder(chooseMode(width, height, frameCount), width, height);
+    }
+
+    static Mode chooseMode(int width, int height, int frameCount) {
+        long bytes = (long) width * height * 4 * frameCount;
+        long available = uncompressedBudget - UNCOMPRESSED.getBytes();
+        if (bytes <= RAW_MAX_BYTES && bytes <= available) {
+            return Mode.RAW;
+        }
+        // Delta frames are usually much smaller, but this is just an estimate
+        if (bytes <= DELTA_MAX_BYTES && bytes / 4 <= available) {
+            return Mode.DELTA;
+        }
+        return Mode.PNG;
+    }
+
+    /**
+     * Count an image towards the memory used by uncompressed images, until it
+     * is garbage collected.
+     *
+     * @param image
+     * @param bytes
+     */
+    static void track(ListAnimatedImage image, long bytes) {
+        UNCOMPRESSED.add(image, bytes);
+    }
+
+    public static String getStats() {
+        return UNCOMPRESSED.getStats();
+    }
+
+    private final Mode mode;
+    private final int width;
+    private final int height;
+    private int[] previous;
+
+    public FrameEncoder(Mode mode, int width, int height) {
+        this.mode = mode;
+        this.width = width;
+        this.height = height;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Create the next frame. For the DELTA mode it is expected that frames are
+     * added in order.
+     *
+     * @param image The image, must have the size the encoder was created with
+     * @param delay The delay of the frame
+     * @return
+     * @throws IOException
+     */
+    public ListAnimatedImageFrame encode(BufferedImage image, int delay) throws IOException {
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+        int visiblePixelCount = 0;
+        for (int pixel : pixels) {
+            if ((pixel & 0xff000000) != 0) {
+                visiblePixelCount++;
+            }
+        }
+        switch (mode) {
+            case RAW:
+                return new ListAnimatedImageFrame(mode, pixels, null, delay, visiblePixelCount);
+            case DELTA:
+                if (previous == null) {
+                    // First frame based on fully transparent pixels
+                    previous = new int[pixels.length];
+                }
+                int[] delta = encodeDelta(previous, pixels);
+                previous = pixels;
+                return new ListAnimatedImageFrame(mode, delta, null, delay, visiblePixelCount);
+            default:
+                byte[] compressed;
+                try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+                    new PngEncoder().withBufferedImage(image).withCompressionLevel(1).toStream(baos);
+                    compressed = baos.toByteArray();
+                }
+                return new ListAnimatedImageFrame(mode, null, compressed, delay, visiblePixelCount);
+        }
+    }
+
+    /**
+     * Stores the runs of pixels that differ from the previous pixels, as the
+     * number of unchanged pixels to skip, followed by the number of changed
+     * pixels and those pixels.
+     *
+     * @param previous
+     * @param pixels
+     * @return
+     */
+    static int[] encodeDelta(int[] previous, int[] pixels) {
+        int[] result = new int[16];
+        int length = 0;
+        int pos = 0;
+        while (pos < pixels.length) {
+            int skipStart = pos;
+            while (pos < pixels.length && pixels[pos] == previous[pos]) {
+                pos++;
+            }
+            if (pos == pixels.length) {
+                break;
+            }
+            int changedStart = pos;
+            // Single unchanged pixels are included, since a new run costs more
+            while (pos < pixels.length
+                    && (pixels[pos] != previous[pos]
+                        || (pos + 1 < pixels.length && pixels[pos + 1] != previous[pos + 1]))) {
+                pos++;
+            }
+            int changed = pos - changedStart;
+            if (length + 2 + changed > result.length) {
+                result = Arrays.copyOf(result, Math.max(result.length * 2, length + 2 + changed));
+            }
+            result[length++] = changedStart - skipStart;
+            result[length++] = changed;
+            System.arraycopy(pixels, changedStart, result, length, changed);
+            length += changed;
+        }
+        return Arrays.copyOf(result, length);
+    }
+
+    /**
+     * Apply the delta to pixels containing the previous frame.
+     *
+     * @param delta
+     * @param pixels
+     */
+    static void applyDelta(int[] delta, int[] pixels) {
+        int pos = 0;
+        int i = 0;
+        while (i < delta.length) {
+            pos += delta[i++];
+            int changed = delta[i++];
+            System.arraycopy(delta, i, pixels, pos, changed);
+            i += changed;
+            pos += changed;
+        }
+    }
+
+}
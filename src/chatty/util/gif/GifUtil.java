@@ -177,14 +177,18 @@ public class GifUtil {
         Dimension actualBaseSize = request.getCorrectedSizeFromImage(gif.getFrame(0));
         Dimension scaledSize = request.getScaledSizeIfNecessary(actualBaseSize);
         List<ListAnimatedImageFrame> frames = new ArrayList<>();
+        FrameEncoder encoder = null;
         for (int i = 0; i < gif.getFrameCount(); i++) {
             BufferedImage image = gif.getFrame(i);
             if (scaledSize != null) {
                 image = resize(image, scaledSize.width, scaledSize.height);
             }
             size = new Dimension(image.getWidth(), image.getHeight());
+            if (encoder == null) {
+                encoder = FrameEncoder.create(size.width, size.height, gif.getFrameCount());
+            }
             int delay = capDelay(gif.getDelay(i));
-            frames.add(new ListAnimatedImageFrame(image, delay));
+            frames.add(encoder.encode(image, delay));
         }
         ImageIcon icon = new ImageIcon(new ListAnimatedImage(frames, size.width, size.height, name).createImage());
         icon.setDescription("GIF");
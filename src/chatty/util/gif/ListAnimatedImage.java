@@ -4,11 +4,13 @@ package chatty.util.gif;
 import java.awt.Dimension;
 import java.awt.Image;
 import java.awt.Toolkit;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * An implementation of AnimatedImage that stores the frames in a list, with
- * the pixels compressed as a PNG to save space.
+ * the pixels stored as chosen by the FrameEncoder the frames were created with.
  * 
  * @author tduva
  */
@@ -18,6 +20,14 @@ public class ListAnimatedImage implements AnimatedImage {
     private final Dimension size;
     private final String name;
     private final int preferredPauseFrame;
+    private final boolean delta;
+    
+    /**
+     * The array and frame that was last decoded, for DELTA frames. The array
+     * is owned by the caller, so it shouldn't be kept from being collected.
+     */
+    private WeakReference<int[]> lastPixels;
+    private int lastFrame = -1;
     
     public ListAnimatedImage(List<ListAnimatedImageFrame> frames, int width, int height, String name) {
         this.frames = frames;
@@ -42,18 +52,47 @@ public class ListAnimatedImage implements AnimatedImage {
         else {
             this.preferredPauseFrame = mostVisibleFrame;
         }
+        
+        delta = !frames.isEmpty() && frames.get(0).getMode() == FrameEncoder.Mode.DELTA;
+        if (!frames.isEmpty() && frames.get(0).getMode() != FrameEncoder.Mode.PNG) {
+            FrameEncoder.track(this, getMemorySize());
+        }
     }
     
     /**
-     * Update the pixels in the given array with that frame. Not thread safe.
+     * Update the pixels in the given array with that frame.
+     * 
+     * <p>
+     * DELTA frames only contain the changes to the previous frame, so if the
+     * given array doesn't contain the previous frame (e.g. another array is
+     * used or a frame is skipped), all frames up to the requested one have to
+     * be applied.
+     * </p>
      * 
      * @param frame
      * @param pixels
      * @throws Exception 
      */
     @Override
-    public void getFrame(int frame, int[] pixels) throws Exception {
-        frames.get(frame).getImage(pixels);
+    public synchronized void getFrame(int frame, int[] pixels) throws Exception {
+        if (!delta) {
+            frames.get(frame).getImage(pixels);
+            return;
+        }
+        int from = frame;
+        if (lastPixels == null || lastPixels.get() != pixels || lastFrame != frame - 1) {
+            Arrays.fill(pixels, 0);
+            from = 0;
+        }
+        // In case of an error the pixels aren't in a known state
+        lastFrame = -1;
+        for (int i = from; i <= frame; i++) {
+            frames.get(i).getImage(pixels);
+        }
+        if (lastPixels == null || lastPixels.get() != pixels) {
+            lastPixels = new WeakReference<>(pixels);
+        }
+        lastFrame = frame;
     }
 
     @Override
@@ -81,6 +120,15 @@ public class ListAnimatedImage implements AnimatedImage {
         return preferredPauseFrame;
     }
     
+    @Override
+    public long getMemorySize() {
+        long result = 0;
+        for (ListAnimatedImageFrame frame : frames) {
+            result += frame.getCompressedSize();
+        }
+        return result;
+    }
+    
     public Image createImage() {
         return Toolkit.getDefaultToolkit().createImage(new AnimatedImageSource(this));
     }
@@ -1,59 +1,78 @@
 
 package chatty.util.gif;
 
-import com.pngencoder.PngEncoder;
-import java.awt.image.BufferedImage;
+import chatty.util.gif.FrameEncoder.Mode;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 
 /**
- * A single frame of a ListAnimatedImage. The pixel data is compressed in the
- * PNG format. Decoding the pixel data on each frame may cause higher CPU usage
- * than just storing the entire frame uncompressed, however the difference seems
- * fairly small. It might make sense to make compression optional though.
+ * A single frame of a ListAnimatedImage. Depending on the mode chosen by the
+ * FrameEncoder the pixel data is stored as-is, as the changes to the previous
+ * frame, or compressed in the PNG format.
  * 
  * @author tduva
  */
 public class ListAnimatedImageFrame {
     
+    private final Mode mode;
+    private final int[] data;
     private final byte[] compressed;
     private final int delay;
-    private final int width;
-    private final int height;
     private final int visiblePixelCount;
     
-    public ListAnimatedImageFrame(BufferedImage image, int delay) throws IOException {
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            new PngEncoder().withBufferedImage(image).withCompressionLevel(1).toStream(baos);
-            compressed = baos.toByteArray();
-        }
+    /**
+     * Should be created through a FrameEncoder.
+     * 
+     * @param mode
+     * @param data The pixels (RAW) or changes (DELTA)
+     * @param compressed The PNG data (PNG)
+     * @param delay
+     * @param visiblePixelCount 
+     */
+    ListAnimatedImageFrame(Mode mode, int[] data, byte[] compressed, int delay, int visiblePixelCount) {
+        this.mode = mode;
+        this.data = data;
+        this.compressed = compressed;
         this.delay = delay;
-        this.width = image.getWidth();
-        this.height = image.getHeight();
-        
-        // Determine frame "visibility"
-        int transparentPixelCount = 0;
-        for (int x = 0; x < image.getWidth(); x++) {
-            for (int y = 0; y < image.getHeight(); y++) {
-                int pixel = image.getRGB(x, y);
-                if ((pixel & 0xff000000) == 0) {
-                    transparentPixelCount++;
-                }
-            }
-        }
-        this.visiblePixelCount = width * height - transparentPixelCount;
+        this.visiblePixelCount = visiblePixelCount;
+    }
+    
+    public Mode getMode() {
+        return mode;
     }
     
     /**
-     * Fill the given pixels array with the decoded pixels.
+     * Fill the given pixels array with the decoded pixels. For the DELTA mode
+     * the array has to contain the previous frame (or be fully transparent for
+     * the first frame).
      * 
      * @param pixels
      * @throws IOException 
      */
     public void getImage(int[] pixels) throws IOException {
-        PNGDecoder decoder = new PNGDecoder(new ByteArrayInputStream(compressed));
-        decoder.decode(new ARGBBuffer(pixels), width * 4, PNGDecoder.Format.RGBA);
+        switch (mode) {
+            case RAW:
+                System.arraycopy(data, 0, pixels, 0, pixels.length);
+                break;
+            case DELTA:
+                FrameEncoder.applyDelta(data, pixels);
+                break;
+            default:
+                if (!DecodedFrameCache.get(this, pixels)) {
+                    PNGDecoder decoder = new PNGDecoder(new ByteArrayInputStream(compressed));
+                    decoder.decode(new ARGBBuffer(pixels), decoder.getWidth() * 4, PNGDecoder.Format.RGBA);
+                    DecodedFrameCache.put(this, pixels);
+                }
+        }
+    }
+    
+    /**
+     * The number of bytes the frame is stored in.
+     * 
+     * @return 
+     */
+    public int getCompressedSize() {
+        return compressed != null ? compressed.length : data.length * 4;
     }
     
     public int getDelay() {
@@ -87,12 +87,13 @@ public class Overlay {
                     int[] pixels = new int[icon.getIconWidth() * icon.getIconHeight()];
                     AnimatedImage anim = ((AnimatedImageSource) icon.getImage().getSource()).getAnimatedImage();
                     List<ListAnimatedImageFrame> frames = new ArrayList<>();
+                    FrameEncoder encoder = FrameEncoder.create(width, height, anim.getFrameCount());
                     for (int i = 0; i < anim.getFrameCount(); i++) {
                         BufferedImage bi = getImage(pixels, anim, i);
                         frames.add(createFrame(bi,
                                 bi.getWidth(), bi.getHeight(),
                                 width, height, offset, oh,
-                                anim.getDelay(i)));
+                                anim.getDelay(i), encoder));
                     }
                     images.add(new ListAnimatedImage(frames, width, height, anim.getName()));
                 }
@@ -104,7 +105,7 @@ public class Overlay {
                     frames.add(createFrame(icon.getImage(),
                             icon.getIconWidth(), icon.getIconHeight(),
                             width, height, offset, oh,
-                            Integer.MAX_VALUE));
+                            Integer.MAX_VALUE, FrameEncoder.create(width, height, 1)));
                     images.add(new ListAnimatedImage(frames, width, height, "Static Image"));
                 }
             }
@@ -132,7 +133,7 @@ public class Overlay {
     private static ListAnimatedImageFrame createFrame(Image image,
             int imgWidth, int imgHeight,
             int targetWidth, int targetHeight, int offset, int oh,
-            int delay) throws IOException {
+            int delay, FrameEncoder encoder) throws IOException {
         BufferedImage result = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_ARGB);
         Graphics2D g = result.createGraphics();
         g.drawImage(image,
@@ -140,7 +141,7 @@ public class Overlay {
                 (targetHeight - imgHeight) / 2 + offset + oh,
                 null);
         g.dispose();
-        return new ListAnimatedImageFrame(result, delay);
+        return encoder.encode(result, delay);
     }
     
     private static boolean containsAnimatedImageSource(LinkedHashMap<ImageIcon, Integer> overlay) {
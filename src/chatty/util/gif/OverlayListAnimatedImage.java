@@ -132,6 +132,15 @@ public class OverlayListAnimatedImage implements AnimatedImage {
         return mainImage.getSize();
     }
 
+    @Override
+    public long getMemorySize() {
+        long result = (long) buffer.length * size.width * size.height * 4;
+        for (ListAnimatedImage image : images) {
+            result += image.getMemorySize();
+        }
+        return result;
+    }
+
     @Override
     public String getName() {
         return name;
@@ -0,0 +1,172 @@
+
+package chatty.util.irc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads CRLF terminated lines from a stream of UTF-8 encoded bytes.
+ *
+ * <p>
+ * Reads as many bytes as are available at once and searches for the line
+ * boundaries in the bytes, so each line is decoded only once, instead of going
+ * through a Reader char by char. This is possible because in UTF-8 the bytes
+ * of CR and LF never appear as part of another character.
+ * </p>
+ *
+ * <p>
+ * Like the previous char based reading, lines only end at CRLF and any other
+ * CR or LF characters are removed from the line.
+ * </p>
+ *
+ * <p>
+ * If reading throws an exception (e.g. a timeout), any data already read
+ * stays buffered, so reading can just be continued. Not thread-safe.
+ * </p>
+ *
+ * @author tduva
+ */
+public class IrcLineReader {
+
+    private static final int DEFAULT_BUFFER_SIZE = 16*1024;
+
+    private final InputStream in;
+
+    private byte[] buffer;
+
+    /**
+     * Start of the data not yet returned as line.
+     */
+    private int start;
+
+    /**
+     * End of the data read into the buffer.
+     */
+    private int end;
+
+    /**
+     * Data before this has already been searched for line endings.
+     */
+    private int scanned;
+
+    /**
+     * Whether a CR or LF that should be removed was found in the current line.
+     */
+    private boolean lineHasLinebreakChars;
+
+    public IrcLineReader(InputStream in) {
+        this(in, DEFAULT_BUFFER_SIZE);
+    }
+
+    public IrcLineReader(InputStream in, int bufferSize) {
+        this.in = in;
+        this.buffer = new byte[Math.max(bufferSize, 2)];
+    }
+
+    /**
+     * Get the next line, blocking until one is available.
+     *
+     * @return The line (without CR/LF), or null if the end of the stream was
+     * reached (any incomplete last line is discarded)
+     * @throws IOException If reading from the stream throws it
+     */
+    public String readLine() throws IOException {
+        while (true) {
+            String line = findLine();
+            if (line != null) {
+                return line;
+            }
+            if (!fill()) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Search the buffered data for the next line.
+     *
+     * @return The line, or null if no complete line is buffered
+     */
+    private String findLine() {
+        byte[] b = buffer;
+        for (int i = scanned; i < end; i++) {
+            byte c = b[i];
+            if (c == '\r') {
+                if (i + 1 == end) {
+                    // Check again when it's known what follows
+                    scanned = i;
+                    return null;
+                }
+                if (b[i + 1] != '\n') {
+                    lineHasLinebreakChars = true;
+                }
+            }
+            else if (c == '\n') {
+                if (i > start && b[i - 1] == '\r') {
+                    String line = decode(start, i - 1);
+                    start = i + 1;
+                    scanned = start;
+                    lineHasLinebreakChars = false;
+                    return line;
+                }
+                lineHasLinebreakChars = true;
+            }
+        }
+        scanned = end;
+        return null;
+    }
+
+    private String decode(int from, int to) {
+        if (!lineHasLinebreakChars) {
+            return new String(buffer, from, to - from, StandardCharsets.UTF_8);
+        }
+        // Rare, so just remove them
+        byte[] filtered = new byte[to - from];
+        int length = 0;
+        for (int i = from; i < to; i++) {
+            byte c = buffer[i];
+            if (c != '\r' && c != '\n') {
+                filtered[length++] = c;
+            }
+        }
+        return new String(filtered, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read more data into the buffer, making room if necessary.
+     *
+     * @return false if the end of the stream was reached
+     * @throws IOException
+     */
+    private boolean fill() throws IOException {
+        if (start == end) {
+            // Everything returned, so just start at the front again
+            start = 0;
+            end = 0;
+            scanned = 0;
+        }
+        if (end == buffer.length) {
+            if (start > 0) {
+                // Move incomplete line to the front
+                System.arraycopy(buffer, start, buffer, 0, end - start);
+                end -= start;
+                scanned -= start;
+                start = 0;
+            }
+            else {
+                // Line longer than the buffer
+                byte[] larger = new byte[buffer.length * 2];
+                System.arraycopy(buffer, 0, larger, 0, end);
+                buffer = larger;
+            }
+        }
+        int read = in.read(buffer, end, buffer.length - end);
+        if (read == -1) {
+            return false;
+        }
+        end += read;
+        return true;
+    }
+
+}
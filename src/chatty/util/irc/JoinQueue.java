@@ -0,0 +1,235 @@
+
+package chatty.util.irc;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Queue for channels to join, which sends as many channels as allowed by the
+ * join rate limit together in one comma-separated JOIN.
+ *
+ * <p>
+ * The rate limit is a number of channels per time window, where each channel
+ * sent can be used again once the time window has passed since it was sent
+ * (so after a pause a full batch can be sent immediately, while with a lot of
+ * channels they are spread out as required).
+ * </p>
+ *
+ * @author tduva
+ */
+public class JoinQueue {
+
+    private static final Logger LOGGER = Logger.getLogger(JoinQueue.class.getName());
+
+    /**
+     * Maximum length of the channels parameter of a single JOIN, so it stays
+     * well below the IRC line length limit.
+     */
+    private static final int MAX_LENGTH = 450;
+
+    private final JoinSender sender;
+    private final int limit;
+    private final long window;
+
+    private final Set<String> pending = new LinkedHashSet<>();
+
+    /**
+     * When channels were sent (one entry per channel), oldest first.
+     */
+    private final ArrayDeque<Long> sent = new ArrayDeque<>();
+
+    /**
+     * When channels were added, for channels that haven't been joined yet.
+     */
+    private final Map<String, Long> added = new HashMap<>();
+
+    private int joinsSent;
+    private int linesSent;
+    private int joined;
+    private long joinTimeTotal;
+    private long joinTimeMax;
+
+    /**
+     * Create a new queue object and start it.
+     *
+     * @param sender Sends the JOIN for a batch of channels
+     * @param limit How many channels may be joined in the time window
+     * @param window The time window in milliseconds
+     * @return
+     */
+    public static JoinQueue create(JoinSender sender, int limit, long window) {
+        JoinQueue q = new JoinQueue(sender, limit, window);
+        q.start();
+        return q;
+    }
+
+    JoinQueue(JoinSender sender, int limit, long window) {
+        this.sender = sender;
+        this.limit = limit;
+        this.window = window;
+    }
+
+    private void start() {
+        Thread thread = new Thread(this::run, "JoinQueue");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Adds a channel to the queue, unless it already is in it.
+     *
+     * @param channel The channel, with leading #
+     */
+    public synchronized void add(String channel) {
+        if (pending.add(channel)) {
+            if (!added.containsKey(channel)) {
+                added.put(channel, System.currentTimeMillis());
+            }
+            notifyAll();
+        }
+    }
+
+    /**
+     * Removes all channels that haven't been sent yet. The rate limit still
+     * applies to channels that have already been sent.
+     */
+    public synchronized void clear() {
+        pending.clear();
+        added.clear();
+    }
+
+    /**
+     * Should be called when a channel has been joined (the JOIN of the local
+     * user has been received), to record how long it took.
+     *
+     * @param channel The channel
+     */
+    public synchronized void joined(String channel) {
+        Long start = added.remove(channel);
+        if (start != null) {
+            long time = System.currentTimeMillis() - start;
+            joined++;
+            joinTimeTotal += time;
+            joinTimeMax = Math.max(joinTimeMax, time);
+        }
+    }
+
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * How long to wait until the next batch can be sent.
+     *
+     * @param now The current time in milliseconds
+     * @return 0 if a batch can be sent now, -1 if there is nothing to send,
+     * otherwise the time in milliseconds
+     */
+    synchronized long getWaitTime(long now) {
+        if (pending.isEmpty()) {
+            return -1;
+        }
+        removeExpired(now);
+        if (sent.size() < limit) {
+            return 0;
+        }
+        return Math.max(1, sent.peekFirst() + window - now);
+    }
+
+    /**
+     * Removes the next batch of channels from the queue, as many as the rate
+     * limit currently allows and fit into one JOIN.
+     *
+     * @param now The current time in milliseconds
+     * @return The channels, may be empty
+     */
+    synchronized List<String> poll(long now) {
+        removeExpired(now);
+        List<String> result = new ArrayList<>();
+        int length = 0;
+        Iterator<String> it = pending.iterator();
+        while (it.hasNext() && sent.size() < limit) {
+            String channel = it.next();
+            if (!result.isEmpty() && length + 1 + channel.length() > MAX_LENGTH) {
+                break;
+            }
+            length += (result.isEmpty() ? 0 : 1) + channel.length();
+            result.add(channel);
+            sent.addLast(now);
+            it.remove();
+        }
+        if (!result.isEmpty()) {
+            joinsSent += result.size();
+            linesSent++;
+        }
+        return result;
+    }
+
+    private void removeExpired(long now) {
+        while (!sent.isEmpty() && now - sent.peekFirst() >= window) {
+            sent.removeFirst();
+        }
+    }
+
+    private void run() {
+        while (true) {
+            List<String> batch;
+            try {
+                synchronized (this) {
+                    long wait;
+                    while ((wait = getWaitTime(System.currentTimeMillis())) != 0) {
+                        wait(wait == -1 ? 0 : wait);
+                    }
+                    batch = poll(System.currentTimeMillis());
+                }
+            }
+            catch (InterruptedException ex) {
+                LOGGER.warning("JoinQueue Thread interrupted.");
+                break;
+            }
+            if (!batch.isEmpty()) {
+                try {
+                    sender.join(batch);
+                }
+                catch (Exception ex) {
+                    LOGGER.warning("Error sending JOIN: " + ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Statistics about the joins since the queue was created.
+     *
+     * @return A single line of text
+     */
+    public synchronized String getStats() {
+        return String.format(Locale.ROOT,
+                "%d joins in %d JOINs, %d joined (avg %.1fs, max %.1fs), %d pending",
+                joinsSent,
+                linesSent,
+                joined,
+                joined > 0 ? joinTimeTotal / (double) joined / 1000 : 0,
+                joinTimeMax / 1000.0,
+                pending.size());
+    }
+
+    public interface JoinSender {
+
+        /**
+         * Send the JOIN for the given channels.
+         *
+         * @param channels The channels (at least one)
+         */
+        void join(List<String> channels);
+    }
+
+}
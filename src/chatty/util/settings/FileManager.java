@@ -4,8 +4,9 @@ package chatty.util.settings;
 import chatty.util.DateTime;
 import chatty.util.MiscUtil;
 import chatty.util.settings.FileManager.SaveResult.CancelReason;
-import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.file.FileVisitOption;
 import java.nio.file.FileVisitResult;
@@ -15,6 +16,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -25,6 +29,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -52,6 +57,7 @@ public class FileManager {
     private final Map<String, FileSettings> files = new HashMap<>();
     private final Set<String> backupLoaded = new HashSet<>();
     private final Map<String, String> knownContent = new HashMap<>();
+    private final Map<String, SaveStats> stats = new TreeMap<>();
     private final Path basePath;
     private final Path backupPath;
     
@@ -79,7 +85,25 @@ public class FileManager {
     }
     
     public synchronized SaveResult save(String id, String content, boolean force) {
+        return save(id, content, force, -1);
+    }
+    
+    /**
+     * Save the content to the file with the given id.
+     * 
+     * @param id The file id
+     * @param content The content, or null to remove the file
+     * @param force Write even if the content is known or a backup was loaded
+     * @param serializeTime How long it took to create the content (in
+     * nanoseconds), only for the stats, -1 if unknown
+     * @return The result
+     */
+    public synchronized SaveResult save(String id, String content, boolean force, long serializeTime) {
         SaveResult.Builder result = new SaveResult.Builder(id);
+        SaveStats fileStats = getStats(id);
+        if (serializeTime >= 0) {
+            fileStats.serializeTime = serializeTime;
+        }
         FileSettings fileSettings = files.get(id);
         if (savingPaused) {
             result.setCancelled(CancelReason.SAVING_PAUSED);
@@ -111,13 +135,16 @@ public class FileManager {
                 }
             }
             else {
-                saveToFile(target, content); // IOException
+                long start = System.nanoTime();
+                int bytes = saveToFile(target, content); // IOException
+                fileStats.written(bytes, System.nanoTime() - start);
                 result.setWritten(target);
             }
             // Only count as written if no exception was thrown
             knownContent.put(id, content);
         }
         catch (IOException ex) {
+            fileStats.errors++;
             result.setWriteError(ex);
         }
 
@@ -134,6 +161,38 @@ public class FileManager {
         return result.make();
     }
     
+    /**
+     * For files that are not saved because nothing changed since the last
+     * save, so they don't have to be turned into a String first.
+     * 
+     * @param id The file id
+     * @return The result, cancelled with {@link CancelReason#NOT_CHANGED}
+     */
+    public synchronized SaveResult notChanged(String id) {
+        getStats(id).notChanged++;
+        return new SaveResult.Builder(id).setCancelled(CancelReason.NOT_CHANGED).make();
+    }
+    
+    private SaveStats getStats(String id) {
+        return stats.computeIfAbsent(id, k -> new SaveStats());
+    }
+    
+    /**
+     * Information about the files saved this session, one line for each file.
+     * 
+     * @return 
+     */
+    public synchronized String getStats() {
+        StringBuilder b = new StringBuilder();
+        for (Map.Entry<String, SaveStats> entry : stats.entrySet()) {
+            if (b.length() > 0) {
+                b.append("\n");
+            }
+            b.append(entry.getKey()).append(": ").append(entry.getValue());
+        }
+        return b.toString();
+    }
+    
     /**
      * Load the contents from the file with the given id.
      * 
@@ -157,7 +216,17 @@ public class FileManager {
         return new String(Files.readAllBytes(file), CHARSET);
     }
     
-    private void saveToFile(Path file, String content) throws IOException {
+    /**
+     * Write the content to a temporary file, which is synced to the disk and
+     * then moved to the target file, so there should always be either the
+     * previous or the new complete file.
+     * 
+     * @param file The target file
+     * @param content The content
+     * @return The number of bytes written
+     * @throws IOException 
+     */
+    private int saveToFile(Path file, String content) throws IOException {
         LOGGER.info("Saving contents to file: " + file);
         try {
             Files.createDirectories(file.getParent());
@@ -168,10 +237,16 @@ public class FileManager {
         }
         try {
             Path tempFile = file.resolveSibling(file.getFileName().toString() + "-temp");
-            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, CHARSET)) {
-                writer.write(content);
+            ByteBuffer data = CHARSET.encode(content);
+            int bytes = data.remaining();
+            try (FileChannel channel = FileChannel.open(tempFile, CREATE, TRUNCATE_EXISTING, WRITE)) {
+                while (data.hasRemaining()) {
+                    channel.write(data);
+                }
+                channel.force(true);
             }
             MiscUtil.moveFile(tempFile, file);
+            return bytes;
         }
         catch (IOException ex) {
             LOGGER.warning("Error saving file: " + ex);
@@ -555,7 +630,7 @@ public class FileManager {
     public static class SaveResult {
         
         public enum CancelReason {
-            BACKUP_LOADED, INVALID_ID, KNOWN_CONTENT, SAVING_PAUSED, INVALID_CONTENT, INVALID
+            BACKUP_LOADED, INVALID_ID, KNOWN_CONTENT, NOT_CHANGED, SAVING_PAUSED, INVALID_CONTENT, INVALID
         }
         
         private static class Builder {
@@ -636,6 +711,33 @@ public class FileManager {
         
     }
     
+    private static class SaveStats {
+        
+        private int writes;
+        private int notChanged;
+        private int errors;
+        private long bytesWritten;
+        private int lastBytes;
+        private long serializeTime;
+        private long writeTime;
+        
+        private void written(int bytes, long time) {
+            writes++;
+            bytesWritten += bytes;
+            lastBytes = bytes;
+            writeTime = time;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%d writes (%d bytes total, last %d bytes, serialize %.1fms, write %.1fms), %d not changed, %d errors",
+                    writes, bytesWritten, lastBytes,
+                    serializeTime / 1000000.0, writeTime / 1000000.0,
+                    notChanged, errors);
+        }
+        
+    }
+    
     public static class FileContentInfo {
         
         public final boolean isValid;
@@ -38,6 +38,18 @@ public class Settings {
     private final Set<String> files = new HashSet<>();
     private final Set<String> fileLoaded = new HashSet<>();
     
+    /**
+     * Names of settings that changed since the last save, for each file. Files
+     * that have never been saved are always saved.
+     */
+    private final Map<String, Set<String>> changedSettings = new HashMap<>();
+    private final Set<String> filesSaved = new HashSet<>();
+    
+    /**
+     * Only one save at a time, so files are written in the correct order.
+     */
+    private final Object SAVE_LOCK = new Object();
+    
     private static final Logger LOGGER = Logger.getLogger(Settings.class.getName());
     
     public Settings(String path, FileManager fileManager) {
@@ -231,6 +243,9 @@ public class Settings {
             } else {
                 changed = setting.setValue(value);
             }
+            if (changed) {
+                markChanged(settingName);
+            }
         }
         if (changed) {
             settingChanged(settingName,type,value);
@@ -372,6 +387,9 @@ public class Settings {
             boolean changed = !settingMap.equals(map);
             settingMap.clear();
             settingMap.putAll(map);
+            if (changed) {
+                markChanged(settingName);
+            }
             return changed;
         }
     }
@@ -405,6 +423,7 @@ public class Settings {
     public void mapPut(String settingName, Object key, Object value) {
         synchronized(LOCK) {
             getMapInternal(settingName).put(key, value);
+            markChanged(settingName);
         }
     }
     
@@ -420,6 +439,7 @@ public class Settings {
     public void mapClear(String settingName) {
         synchronized(LOCK) {
             getMapInternal(settingName).clear();
+            markChanged(settingName);
         }
     }
     
@@ -436,7 +456,11 @@ public class Settings {
      */
     public Object mapRemove(String settingName, Object key) {
         synchronized (LOCK) {
-            return getMapInternal(settingName).remove(key);
+            Object removed = getMapInternal(settingName).remove(key);
+            if (removed != null) {
+                markChanged(settingName);
+            }
+            return removed;
         }
     }
     
@@ -490,6 +514,7 @@ public class Settings {
             Collection settingList = (Collection) get(settingName, Setting.LIST);
             settingList.clear();
             settingList.addAll(list);
+            markChanged(settingName);
         }
     }
     
@@ -519,19 +544,25 @@ public class Settings {
      */
     public boolean listRemove(String settingName, Object value) {
         synchronized(LOCK) {
-            return getListInternal(settingName).remove(value);
+            boolean removed = getListInternal(settingName).remove(value);
+            if (removed) {
+                markChanged(settingName);
+            }
+            return removed;
         }
     }
     
     public void listAdd(String settingName, Object value) {
         synchronized(LOCK) {
             getListInternal(settingName).add(value);
+            markChanged(settingName);
         }
     }
     
     public void listClear(String settingName) {
         synchronized(LOCK) {
             getListInternal(settingName).clear();
+            markChanged(settingName);
         }
     }
     
@@ -549,6 +580,7 @@ public class Settings {
             Collection settingList = getListInternal(settingName);
             if (!settingList.contains(value)) {
                 settingList.add(value);
+                markChanged(settingName);
                 return true;
             }
             return false;
@@ -580,6 +612,20 @@ public class Settings {
         return (Collection) get(settingName, Setting.LIST);
     }
     
+    /**
+     * Remember that the setting changed, so that the file it is saved to is
+     * written the next time the settings are saved. Must be synchronized on
+     * LOCK.
+     * 
+     * @param settingName 
+     */
+    private void markChanged(String settingName) {
+        Setting setting = settings.get(settingName);
+        if (setting != null && setting.allowedToSave()) {
+            changedSettings.computeIfAbsent(setting.getFile(), k -> new TreeSet<>()).add(settingName);
+        }
+    }
+    
     /**
      * Manually set a List or Map setting as changed, since those can't properly
      * detect it themselves.
@@ -587,6 +633,9 @@ public class Settings {
      * @param settingName 
      */
     public void setSettingChanged(String settingName) {
+        synchronized(LOCK) {
+            markChanged(settingName);
+        }
         if (isListSetting(settingName)) {
             settingChanged(settingName, Setting.LIST, getList(settingName));
         } else if (isMapSetting(settingName)) {
@@ -1016,32 +1065,54 @@ public class Settings {
     }
     
     /**
-     * Turns all settings into a JSON String.
+     * Copies all settings of the given file, so they can be turned into JSON
+     * without holding the lock. Must be synchronized on LOCK.
      * 
-     * @return The JSON
+     * @param file The file id
+     * @return The settings, or null if there are none for this file
      */
-    private String settingsToJson(String file) {
+    private JSONObject settingsToJsonObject(String file) {
         JSONObject obj = new JSONObject();
         
         Set<Map.Entry<String,Setting>> set = settings.entrySet();
         for (Entry<String,Setting> entry : set) {
             Setting setting = entry.getValue();
             if (setting.allowedToSave() && setting.getFile().equals(file)) {
-                String key = entry.getKey();
-                Object value = setting.getValue();
-                
-                // JSON Simple only supports List in this version
-                if (value instanceof Collection) {
-                    value = new ArrayList((Collection)value);
-                }
-                obj.put(key, value);
+                obj.put(entry.getKey(), copyValue(setting.getValue()));
             }
         }
         
         if (obj.isEmpty()) {
             return null;
         }
-        return obj.toJSONString();
+        return obj;
+    }
+    
+    /**
+     * Copies Collections and Maps, including the ones nested in them, since
+     * they may be modified while the copy is turned into JSON. Other values
+     * are immutable and returned as they are.
+     * 
+     * @param value The setting value
+     * @return The copied value
+     */
+    private static Object copyValue(Object value) {
+        // JSON Simple only supports List in this version
+        if (value instanceof Collection) {
+            List<Object> result = new ArrayList<>();
+            for (Object item : (Collection<?>) value) {
+                result.add(copyValue(item));
+            }
+            return result;
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> result = new HashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                result.put(entry.getKey(), copyValue(entry.getValue()));
+            }
+            return result;
+        }
+        return value;
     }
     
     /**
@@ -1132,20 +1203,59 @@ public class Settings {
     public List<SaveResult> saveSettingsToJson(boolean force) {
         List<SaveResult> result = new ArrayList<>();
         aboutToSaveSettings();
-        synchronized(LOCK) {
+        synchronized(SAVE_LOCK) {
             System.out.println("Saving settings to JSON.");
-            result.add(saveSettingsToJson(defaultFile, force));
-            for (String fileName : files) {
-                result.add(saveSettingsToJson(fileName, force));
+            List<String> allFiles = new ArrayList<>();
+            allFiles.add(defaultFile);
+            allFiles.addAll(files);
+            
+            /**
+             * Only copy the settings of changed files while holding the lock,
+             * turning them into JSON and writing the file can be done after,
+             * so other threads can continue to use settings in the meantime.
+             */
+            Map<String, JSONObject> toSave = new LinkedHashMap<>();
+            Map<String, Set<String>> changed = new HashMap<>();
+            synchronized(LOCK) {
+                for (String fileName : allFiles) {
+                    if (force || !filesSaved.contains(fileName)
+                            || changedSettings.containsKey(fileName)) {
+                        toSave.put(fileName, settingsToJsonObject(fileName));
+                        Set<String> names = changedSettings.remove(fileName);
+                        changed.put(fileName, names != null ? names : new TreeSet<>());
+                    }
+                }
+            }
+            
+            for (String fileName : allFiles) {
+                if (!toSave.containsKey(fileName)) {
+                    result.add(fileManager.notChanged(fileName));
+                    continue;
+                }
+                SaveResult fileResult = saveSettingsToJson(fileName, toSave.get(fileName), force);
+                result.add(fileResult);
+                synchronized(LOCK) {
+                    if (fileResult.written || fileResult.removed
+                            || fileResult.cancelReason == SaveResult.CancelReason.KNOWN_CONTENT) {
+                        filesSaved.add(fileName);
+                    }
+                    else {
+                        // Try again next time
+                        for (String name : changed.get(fileName)) {
+                            markChanged(name);
+                        }
+                    }
+                }
             }
         }
         return result;
     }
     
-    private SaveResult saveSettingsToJson(String fileName, boolean force) {
-        String json = settingsToJson(fileName);
-        SaveResult result = fileManager.save(fileName, json, force);
-        return result;
+    private SaveResult saveSettingsToJson(String fileName, JSONObject obj, boolean force) {
+        long start = System.nanoTime();
+        String json = obj != null ? obj.toJSONString() : null;
+        long serializeTime = System.nanoTime() - start;
+        return fileManager.save(fileName, json, force, serializeTime);
     }
 
     /**
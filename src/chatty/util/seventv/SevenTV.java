@@ -4,6 +4,7 @@ package chatty.util.seventv;
 import chatty.Helper;
 import chatty.util.Debugging;
 import chatty.util.EmoticonListener;
+import chatty.util.JSONStream;
 import chatty.util.JSONUtil;
 import chatty.util.MiscUtil;
 import chatty.util.RetryManager;
@@ -12,6 +13,8 @@ import chatty.util.UrlRequest;
 import chatty.util.api.Emoticon;
 import chatty.util.api.EmoticonUpdate;
 import chatty.util.api.TwitchApi;
+import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -19,7 +22,7 @@ import java.util.Set;
 import java.util.logging.Logger;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
 
 /**
  *
@@ -29,7 +32,14 @@ public class SevenTV {
     
     private static final Logger LOGGER = Logger.getLogger(SevenTV.class.getName());
     
-    private static enum Type {
+    /**
+     * The emote objects are parsed one by one while reading, the "owner"
+     * objects (user info) in them are not used.
+     */
+    private static final JSONStream GLOBAL_EMOTES = new JSONStream("emotes").skip("owner");
+    private static final JSONStream CHANNEL_EMOTES = new JSONStream("emote_set", "emotes").skip("owner");
+    
+    static enum Type {
         GLOBAL, CHANNEL
     }
     
@@ -93,25 +103,24 @@ public class SevenTV {
         UrlRequest request = new UrlRequest();
         request.setLabel("SevenTV/"+stream);
         request.setUrl(url);
-        request.async((result, responseCode) -> {
+        request.asyncParsed(reader -> parseEmoteList(type, stream, reader), (emotes, responseCode) -> {
             if (Integer.toString(responseCode).startsWith("4")) {
                 RetryManager.getInstance().setNotFound(url);
             }
-            else if (responseCode != 200 && result == null) {
+            else if (responseCode != 200 && emotes == null) {
                 RetryManager.getInstance().setError(url);
             }
             else {
                 RetryManager.getInstance().setSuccess(url);
             }
-            parseResult(type, stream, result);
+            handleResult(type, stream, emotes);
         });
     }
     
-    private void parseResult(Type type, String stream, String json) {
-        if (json == null) {
+    private void handleResult(Type type, String stream, Set<Emoticon> emotes) {
+        if (emotes == null) {
             return;
         }
-        Set<Emoticon> emotes = parseEmoteList(type, stream, json);
         LOGGER.info(String.format("|[SevenTV] (%s): %d emotes received.",
                 stream, emotes.size()));
         
@@ -123,34 +132,35 @@ public class SevenTV {
         listener.receivedEmoticons(updateBuilder.build());
     }
     
-    private Set<Emoticon> parseEmoteList(Type type, String stream, String json) {
+    /**
+     * Parse the emotes from the emote set (global) or user (channel) JSON.
+     * 
+     * @param type
+     * @param stream
+     * @param reader The JSON
+     * @return The emotes, may be incomplete if the JSON is invalid
+     * @throws IOException If reading fails
+     */
+    static Set<Emoticon> parseEmoteList(Type type, String stream, Reader reader) throws IOException {
         Set<Emoticon> result = new HashSet<>();
         try {
-            JSONParser parser = new JSONParser();
-            JSONObject root = (JSONObject) parser.parse(json);
-            JSONObject set = root;
-            if (type == Type.CHANNEL) {
-                set = (JSONObject) root.get("emote_set");
-            }
-            if (set != null) {
-                JSONArray emotes = (JSONArray) set.get("emotes");
-                for (Object o : emotes) {
-                    if (o instanceof JSONObject) {
-                        Emoticon emote = parseEmote(stream, (JSONObject) o);
-                        if (emote != null) {
-                            result.add(emote);
-                        }
+            JSONStream emotes = type == Type.CHANNEL ? CHANNEL_EMOTES : GLOBAL_EMOTES;
+            emotes.parse(reader, o -> {
+                if (o instanceof JSONObject) {
+                    Emoticon emote = parseEmote(stream, (JSONObject) o);
+                    if (emote != null) {
+                        result.add(emote);
                     }
                 }
-            }
+            });
         }
-        catch (Exception ex) {
+        catch (ParseException | RuntimeException ex) {
             LOGGER.warning("Error parsing SevenTV emote list: "+ex);
         }
         return result;
     }
     
-    private Emoticon parseEmote(String stream, JSONObject emoteObject) {
+    static Emoticon parseEmote(String stream, JSONObject emoteObject) {
         try {
             String id = JSONUtil.getString(emoteObject, "id");
             String code = JSONUtil.getString(emoteObject, "name");
@@ -194,7 +204,7 @@ public class SevenTV {
         }
     }
     
-    private List<File> getFiles(JSONObject host) {
+    private static List<File> getFiles(JSONObject host) {
         String baseUrl = JSONUtil.getString(host, "url");
         if (baseUrl == null) {
             return null;
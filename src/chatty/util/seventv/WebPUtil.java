@@ -5,6 +5,7 @@ import chatty.Helper;
 import chatty.util.ImageCache.ImageRequest;
 import chatty.util.ImageCache.ImageResult;
 import chatty.util.MiscUtil;
+import chatty.util.gif.FrameEncoder;
 import chatty.util.gif.GifUtil;
 import chatty.util.gif.ListAnimatedImage;
 import chatty.util.gif.ListAnimatedImageFrame;
@@ -137,13 +138,17 @@ public class WebPUtil {
             }
             else {
                 List<ListAnimatedImageFrame> frames = new ArrayList<>();
+                FrameEncoder encoder = null;
                 for (WebPImageFrame frame : img.frames) {
                     BufferedImage image = frame.img;
                     if (scaledSize != null) {
                         image = GifUtil.resize(image, scaledSize.width, scaledSize.height);
                     }
                     size = new Dimension(image.getWidth(), image.getHeight());
-                    frames.add(new ListAnimatedImageFrame(image, frame.delay));
+                    if (encoder == null) {
+                        encoder = FrameEncoder.create(size.width, size.height, img.frames.size());
+                    }
+                    frames.add(encoder.encode(image, frame.delay));
                 }
                 ImageIcon icon = new ImageIcon(
                         new ListAnimatedImage(
@@ -2,7 +2,12 @@
 package chatty;
 
 import chatty.util.settings.Settings;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -60,4 +65,91 @@ public class AddressbookTest {
         assertEquals(ab.get("abc").getCategories(), categories);
         assertEquals(ab.getEntries().size(), 1);
     }
+    
+    @Test
+    public void testNamesByCategory() {
+        ab.add("abc", "a,b");
+        ab.add("def", "b");
+        ab.add("ghi", "");
+        assertEquals(set("abc", "def"), ab.getNamesByCategory("b"));
+        assertEquals(set("abc", "def"), ab.getNamesByCategory("B"));
+        assertEquals(set("abc"), ab.getNamesByCategory("a"));
+        assertEquals(set(), ab.getNamesByCategory("c"));
+        assertEquals(set(), ab.getNamesByCategory(null));
+        
+        ab.remove("abc", "b");
+        assertEquals(set("def"), ab.getNamesByCategory("b"));
+        assertTrue(ab.hasCategory("abc", "a"));
+        assertFalse(ab.hasCategory("abc", "b"));
+        
+        assertEquals(1, ab.renameCategory("a", "c"));
+        assertEquals(set(), ab.getNamesByCategory("a"));
+        assertEquals(set("abc"), ab.getNamesByCategory("c"));
+        
+        ab.add("ghi", "b");
+        assertEquals(2, ab.removeCategory("b"));
+        assertEquals(set(), ab.getNamesByCategory("b"));
+        
+        ab.remove("abc");
+        assertEquals(set(), ab.getNamesByCategory("c"));
+        assertEquals(2, ab.getNumEntries());
+    }
+    
+    @Test
+    public void testJournal() throws IOException {
+        Path dir = Files.createTempDirectory("addressbookTest");
+        String fileName = dir.resolve("addressbook").toString();
+        Path journal = dir.resolve("addressbook-journal");
+        Settings settings = new Settings("", null);
+        settings.addBoolean("abSaveOnChange", true);
+        Addressbook ab = new Addressbook(fileName, null, settings);
+        
+        ab.add("abc", "a");
+        ab.add("def", "b");
+        ab.saveToFile();
+        assertFalse(Files.exists(journal));
+        
+        // Changes are only appended to the journal
+        ab.add("abc", "c");
+        ab.remove("def");
+        ab.add("ghi", "");
+        assertEquals(Arrays.asList("set abc a,c", "remove def", "set ghi "),
+                Files.readAllLines(journal, StandardCharsets.UTF_8));
+        assertEquals(Arrays.asList("abc a", "def b"),
+                sorted(Files.readAllLines(dir.resolve("addressbook"), StandardCharsets.UTF_8)));
+        
+        // File and journal loaded together
+        Addressbook ab2 = new Addressbook(fileName, null, settings);
+        ab2.loadFromFile();
+        assertEquals(lines(ab), lines(ab2));
+        assertEquals(set("abc"), ab2.getNamesByCategory("c"));
+        
+        // Compacted
+        ab.saveToFile();
+        assertFalse(Files.exists(journal));
+        assertEquals(Arrays.asList("abc a,c", "ghi "),
+                sorted(Files.readAllLines(dir.resolve("addressbook"), StandardCharsets.UTF_8)));
+        
+        Files.delete(dir.resolve("addressbook"));
+        Files.delete(dir);
+    }
+    
+    private static Set<String> set(String... values) {
+        return new HashSet<>(Arrays.asList(values));
+    }
+    
+    private static List<String> sorted(List<String> values) {
+        List<String> result = new ArrayList<>(values);
+        result.sort(null);
+        return result;
+    }
+    
+    private static List<String> lines(Addressbook ab) {
+        List<String> result = new ArrayList<>();
+        for (AddressbookEntry entry : ab.getEntries()) {
+            result.add(Addressbook.makeLine(entry));
+        }
+        return sorted(result);
+    }
+    
 }
@@ -5,6 +5,7 @@ import chatty.Addressbook;
 import chatty.Room;
 import chatty.User;
 import chatty.User.UserSettings;
+import chatty.gui.Highlighter.Blacklist;
 import chatty.gui.Highlighter.HighlightItem;
 import chatty.gui.Highlighter.HighlightItem.Type;
 import chatty.gui.Highlighter.Match;
@@ -18,6 +19,9 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -1640,4 +1644,176 @@ public class HighlighterTest {
         updateFalse(msgsUser, "!bot", "msgs:\"mtype:outer\",\"abc2\" !bot");
     }
     
+    @Test
+    public void testRequiredText() {
+        assertRequiredText("abc", false, "abc");
+        assertRequiredText("abc", false, "w:abc");
+        assertRequiredText("abc", false, "start:abc");
+        assertRequiredText("abc", false, "startw:abc");
+        assertRequiredText("abc", false, "text:abc");
+        assertRequiredText("abc", false, "msgw:abc");
+        assertRequiredText("abc", false, "chan:test w:abc");
+        assertRequiredText("Abc", true, "cs:Abc");
+        assertRequiredText("Abc", true, "wcs:Abc");
+        assertRequiredText("Abc", true, "msgcs:Abc");
+        assertRequiredText("a.c", false, "a.c");
+        assertRequiredText(null, false, "reg:abc");
+        assertRequiredText(null, false, "re*:abc");
+        assertRequiredText(null, false, "!w:abc");
+        assertRequiredText(null, false, "+w:abc");
+        assertRequiredText(null, false, "chan:test");
+    }
+    
+    private static void assertRequiredText(String expected, boolean caseSensitive, String item) {
+        HighlightItem hlItem = new HighlightItem(item);
+        assertEquals(expected, hlItem.getRequiredText());
+        if (expected != null) {
+            assertEquals(caseSensitive, hlItem.requiredTextIsCaseSensitive());
+        }
+    }
+    
+    @Test
+    public void testPrefilter() {
+        List<HighlightItem> items = new ArrayList<>();
+        items.add(new HighlightItem("w:abc"));
+        items.add(new HighlightItem("cs:Abc"));
+        items.add(new HighlightItem("reg:a.c"));
+        items.add(new HighlightItem("start:\u00DF"));
+        items.add(new HighlightItem("text:\u00B5m"));
+        items.add(new HighlightItem("c"));
+        Highlighter.Prefilter prefilter = new Highlighter.Prefilter(items);
+        assertEquals("{0, 2, 5}", prefilter.getCandidates("xabcx").toString());
+        assertEquals("{0, 1, 2, 5}", prefilter.getCandidates("Abc").toString());
+        assertEquals("{2}", prefilter.getCandidates("").toString());
+        assertEquals("{2, 4}", prefilter.getCandidates("\u039Cm").toString());
+        assertEquals("{2, 3}", prefilter.getCandidates("\u1E9E").toString());
+    }
+    
+    @Test
+    public void testPrefilterAllMatches() {
+        update("w:abc", "cs:Abc", "reg:x", "start:a", "nope", "yz");
+        highlighter.setIncludeAllTextMatches(true);
+        try {
+            assertTrue(highlighter.check(user, "Abc abc x yz"));
+            assertEquals(3, highlighter.getLastMatchItems().size());
+            assertEquals("w:abc", highlighter.getLastMatchItem().getRaw());
+            assertEquals("[0-3, 4-7, 8-9, 10-12]", highlighter.getLastTextMatches().toString());
+        }
+        finally {
+            highlighter.setIncludeAllTextMatches(false);
+        }
+        assertTrue(highlighter.check(user, "xAbc"));
+        assertEquals("cs:Abc", highlighter.getLastMatchItem().getRaw());
+        assertFalse(highlighter.check(user, "nop"));
+    }
+    
+    /**
+     * Check that the prefilter doesn't change the result.
+     */
+    @Test
+    public void testPrefilterSameResult() {
+        List<String> items = Arrays.asList(
+                "w:abc", "wcs:Abc", "cs:ABC", "start:hello", "startw:hi",
+                "text:\u00DF", "msgw:test", "chan:testchannel w:chan",
+                "reg:a+b", "!w:nope", "user:testUser2 xyz", "Yz", "w:\u00B5");
+        String[] texts = new String[]{
+            "", "abc", "ABC", "Abc", "abcd", "hello there", "hi there",
+            "hit", "\u1E9E", "TEST", "chan", "aab", "nope xyz", "xYz",
+            "\u039C", "say hi"};
+        Highlighter withPrefilter = new Highlighter("test");
+        Highlighter withoutPrefilter = new Highlighter("test");
+        withoutPrefilter.setPrefilterEnabled(false);
+        for (boolean all : new boolean[]{false, true}) {
+            withPrefilter.setIncludeAllTextMatches(all);
+            withoutPrefilter.setIncludeAllTextMatches(all);
+            // Each item on it's own and all items together
+            List<List<String>> itemLists = new ArrayList<>();
+            for (String item : items) {
+                itemLists.add(Arrays.asList(item));
+            }
+            itemLists.add(items);
+            for (List<String> itemList : itemLists) {
+                withPrefilter.update(itemList);
+                withoutPrefilter.update(itemList);
+                for (String text : texts) {
+                    for (User checkUser : new User[]{user, user2}) {
+                        String message = itemList+" / "+text+" / "+checkUser+" / "+all;
+                        boolean expected = withoutPrefilter.check(checkUser, text);
+                        assertEquals(message, expected, withPrefilter.check(checkUser, text));
+                        if (expected) {
+                            assertEquals(message, getRaw(withoutPrefilter.getLastMatchItems()), getRaw(withPrefilter.getLastMatchItems()));
+                            assertEquals(message, String.valueOf(withoutPrefilter.getLastTextMatches()), String.valueOf(withPrefilter.getLastTextMatches()));
+                        }
+                    }
+                }
+            }
+        }
+    }
+    
+    @Test
+    public void testMatchResult() throws Exception {
+        Highlighter hl = new Highlighter("test");
+        hl.update(Arrays.asList("color:red w:abc", "cs:Abc", "start:x"));
+        HighlightResult result = hl.match(Type.REGULAR, "x Abc", -1, -1, null, null, user, null, MsgTags.EMPTY, false);
+        assertTrue(result.matched());
+        assertEquals("color:red w:abc", result.getItem().getRaw());
+        assertEquals(Color.RED, result.getColor());
+        assertEquals("[2-5]", result.getTextMatches().toString());
+        assertEquals(1, result.getItems().size());
+        // Doesn't change the state used by check()
+        assertNull(hl.getLastMatchItem());
+        
+        result = hl.match(Type.REGULAR, "y", -1, -1, null, null, user, null, MsgTags.EMPTY, false);
+        assertFalse(result.matched());
+        assertSame(HighlightResult.NO_MATCH, result);
+        assertNull(result.getColor());
+        
+        // Check from several threads at the same time
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String text = i % 2 == 0 ? "abc "+i : "Abc"+i;
+                String expected = i % 2 == 0 ? "color:red w:abc" : "cs:Abc";
+                futures.add(executor.submit(() -> {
+                    HighlightResult r = hl.match(Type.REGULAR, text, -1, -1, null, null, user, null, MsgTags.EMPTY, false);
+                    return r.matched() && r.getItem().getRaw().equals(expected);
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertTrue(future.get());
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+    
+    @Test
+    public void testMatchInfo() {
+        HighlightItem item = new HighlightItem("chan:#other abc");
+        HighlightItem.MatchInfo info = new HighlightItem.MatchInfo();
+        assertFalse(item.matches(Type.ANY, "abc", -1, -1, null, "#test", null, null, null, MsgTags.EMPTY, info));
+        assertTrue(info.getFailedReason(), info.getFailedReason().startsWith("One of channels"));
+
+        info = new HighlightItem.MatchInfo();
+        assertTrue(item.matchesTextOnly("abc", null, info));
+        assertNull(info.getFailedReason());
+        assertFalse(info.hasMatchingError());
+
+        HighlightItem blacklistItem = new HighlightItem("abc");
+        Blacklist blacklist = new Blacklist(Type.ANY, "abc", -2, -2, null, null, null, null, MsgTags.EMPTY, Arrays.asList(blacklistItem));
+        info = new HighlightItem.MatchInfo();
+        assertFalse(item.matchesTextOnly("abc", blacklist, info));
+        assertEquals("Blacklist prevented text match", info.getFailedReason());
+    }
+
+    private static List<String> getRaw(List<HighlightItem> items) {
+        List<String> result = new ArrayList<>();
+        for (HighlightItem item : items) {
+            result.add(item.getRaw());
+        }
+        return result;
+    }
+    
 }
@@ -0,0 +1,170 @@
+
+package chatty.gui;
+
+import chatty.Room;
+import chatty.User;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import javax.swing.JList;
+import javax.swing.ListSelectionModel;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author tduva
+ */
+public class UserlistModelTest {
+
+    @Test
+    public void testBatched() {
+        UserlistModel<User> model = new UserlistModel<>();
+        User a = new User("a", Room.EMPTY);
+        User b = new User("b", Room.EMPTY);
+        User c = new User("c", Room.EMPTY);
+        User d = new User("d", Room.EMPTY);
+        model.add(c);
+        model.add(a);
+        model.add(b);
+        assertEquals(0, model.getSize());
+        assertEquals(3, model.getPendingSize());
+        model.flush();
+        assertEquals(Arrays.asList(a, b, c), model.getData());
+
+        // Added and removed before being applied
+        model.add(d);
+        model.remove(d);
+        model.remove(b);
+        assertEquals(2, model.getPendingSize());
+        assertEquals(Arrays.asList(a, c), model.getData());
+
+        // Updated user is moved (and not added twice)
+        c.setModerator(true);
+        model.remove(c);
+        model.add(c);
+        model.add(c);
+        model.add(b);
+        assertEquals(3, model.getPendingSize());
+        assertEquals(Arrays.asList(c, a, b), model.getData());
+
+        model.clear();
+        model.add(a);
+        assertEquals(Arrays.asList(a), model.getData());
+    }
+
+    @Test
+    public void testRandom() {
+        Random random = new Random(1);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            User user = new User("user" + random.nextInt(100000), Room.EMPTY);
+            user.setSubscriber(random.nextInt(10) == 0);
+            users.add(user);
+        }
+        UserlistModel<User> model = new UserlistModel<>();
+        List<User> mirror = new ArrayList<>();
+        model.addListDataListener(new Mirror(model, mirror));
+        List<User> expected = new ArrayList<>();
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 50; i++) {
+                User user = users.get(random.nextInt(users.size()));
+                if (random.nextBoolean()) {
+                    model.add(user);
+                    if (!expected.contains(user)) {
+                        expected.add(user);
+                    }
+                }
+                else {
+                    model.remove(user);
+                    expected.remove(user);
+                }
+            }
+            Collections.sort(expected);
+            assertEquals(expected.size(), model.getPendingSize());
+            assertEquals(expected, model.getData());
+            assertEquals(expected, mirror);
+        }
+    }
+
+    @Test
+    public void testSelection() {
+        UserlistModel<User> model = new UserlistModel<>();
+        JList<User> list = new JList<>(model);
+        // Same as UserList
+        list.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        User a = new User("a", Room.EMPTY);
+        User b = new User("b", Room.EMPTY);
+        User c = new User("c", Room.EMPTY);
+        User d = new User("d", Room.EMPTY);
+        User e = new User("e", Room.EMPTY);
+        model.add(b);
+        model.add(d);
+        model.flush();
+        list.setSelectedValue(d, false);
+
+        // Inserted before and after the selected user
+        model.add(a);
+        model.add(c);
+        model.add(e);
+        model.flush();
+        assertEquals(Arrays.asList(a, b, c, d, e), model.getData());
+        assertEquals(d, list.getSelectedValue());
+
+        // Removed before the selected user
+        model.remove(a);
+        model.remove(c);
+        model.flush();
+        assertEquals(d, list.getSelectedValue());
+
+        // Removed and inserted before the selected user
+        model.remove(b);
+        model.add(a);
+        model.add(c);
+        model.flush();
+        assertEquals(Arrays.asList(a, c, d, e), model.getData());
+        assertEquals(d, list.getSelectedValue());
+    }
+
+    /**
+     * Applies the events to a separate list, to check that they describe the
+     * changes correctly.
+     */
+    private static class Mirror implements ListDataListener {
+
+        private final UserlistModel<User> model;
+        private final List<User> list;
+
+        Mirror(UserlistModel<User> model, List<User> list) {
+            this.model = model;
+            this.list = list;
+        }
+
+        @Override
+        public void intervalAdded(ListDataEvent e) {
+            for (int i = e.getIndex0(); i <= e.getIndex1(); i++) {
+                list.add(i, model.getElementAt(i));
+            }
+        }
+
+        @Override
+        public void intervalRemoved(ListDataEvent e) {
+            for (int i = e.getIndex1(); i >= e.getIndex0(); i--) {
+                list.remove(i);
+            }
+        }
+
+        @Override
+        public void contentsChanged(ListDataEvent e) {
+            for (int i = e.getIndex0(); i <= e.getIndex1(); i++) {
+                list.set(i, model.getElementAt(i));
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,63 @@
+
+package chatty.gui.components;
+
+import chatty.Room;
+import chatty.User;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author tduva
+ */
+public class UserPrefixIndexTest {
+
+    @Test
+    public void testFind() {
+        UserPrefixIndex index = new UserPrefixIndex();
+        User abc = new User("abc", Room.EMPTY);
+        User abd = new User("abd", Room.EMPTY);
+        User b = new User("b", Room.EMPTY);
+        User localized = new User("joshi", "Jöshi", Room.EMPTY);
+        index.add(abc);
+        index.add(abd);
+        index.add(b);
+        index.add(localized);
+
+        assertEquals(Arrays.asList(abc, abd), find(index, UserPrefixIndex.Type.REGULAR, "ab"));
+        assertEquals(Arrays.asList(abd), find(index, UserPrefixIndex.Type.REGULAR, "abd"));
+        assertEquals(Arrays.asList(abc, abd, b, localized), find(index, UserPrefixIndex.Type.REGULAR, ""));
+        assertEquals(Arrays.asList(), find(index, UserPrefixIndex.Type.REGULAR, "c"));
+        assertEquals(Arrays.asList(localized), find(index, UserPrefixIndex.Type.LOCALIZED, "jö"));
+        assertEquals(Arrays.asList(), find(index, UserPrefixIndex.Type.LOCALIZED, "ab"));
+
+        // Custom name
+        b.setCustomNick("Abx");
+        assertEquals(Arrays.asList(), find(index, UserPrefixIndex.Type.CUSTOM, "ab"));
+        index.add(b);
+        assertEquals(Arrays.asList(b), find(index, UserPrefixIndex.Type.CUSTOM, "ab"));
+
+        // Changed without updating the index
+        b.setCustomNick("Cd");
+        assertEquals(Arrays.asList(), find(index, UserPrefixIndex.Type.CUSTOM, "ab"));
+        index.add(b);
+        assertEquals(Arrays.asList(b), find(index, UserPrefixIndex.Type.CUSTOM, "c"));
+
+        index.remove(abc);
+        assertEquals(Arrays.asList(abd), find(index, UserPrefixIndex.Type.REGULAR, "ab"));
+        assertEquals(3, index.size());
+        index.clear();
+        assertEquals(Arrays.asList(), find(index, UserPrefixIndex.Type.REGULAR, ""));
+        assertEquals(0, index.size());
+    }
+
+    private static List<User> find(UserPrefixIndex index, UserPrefixIndex.Type type, String prefix) {
+        List<User> result = new ArrayList<>();
+        index.find(type, prefix, result::add);
+        return result;
+    }
+
+}
@@ -0,0 +1,138 @@
+
+package chatty.gui.components.textpane;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.AttributeSet;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Element;
+import javax.swing.text.SimpleAttributeSet;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author tduva
+ */
+public class LineBatchTest {
+
+    private static final SimpleAttributeSet STYLE1 = attr("c", "1");
+    private static final SimpleAttributeSet STYLE2 = attr("c", "2");
+    private static final SimpleAttributeSet PARAGRAPH = attr("p", "x");
+    private static final SimpleAttributeSet LINE = attr("line", "y");
+
+    /**
+     * Lines are added with a leading newline (except the first), with each
+     * part in alternating styles.
+     */
+    private static final String[][] LINES = new String[][]{
+        {"abc", "def", "gh"},
+        {"ij", "", "k", "lm"},
+        {"n", "o\npq", "r"},
+        {"s"}
+    };
+
+    @Test
+    public void testSameAsInsert() throws BadLocationException {
+        MyDocument expected = new MyDocument();
+        for (int i = 0; i < LINES.length; i++) {
+            for (int j = 0; j < LINES[i].length; j++) {
+                String text = (i > 0 && j == 0 ? "\n" : "") + LINES[i][j];
+                expected.insertString(expected.getLength(), text, j % 2 == 0 ? STYLE1 : STYLE2);
+                expected.setParagraphAttributes(expected.getLength(), 1, PARAGRAPH, true);
+            }
+            expected.setParagraphAttributes(expected.getLength(), 1, LINE, false);
+        }
+
+        MyDocument doc = new MyDocument();
+        int[] events = new int[1];
+        doc.addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                events[0]++;
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+            }
+        });
+        LineBatch batch = new LineBatch();
+        for (int i = 0; i < LINES.length; i++) {
+            for (int j = 0; j < LINES[i].length; j++) {
+                String text = (i > 0 && j == 0 ? "\n" : "") + LINES[i][j];
+                batch.add(text, j % 2 == 0 ? STYLE1 : STYLE2, PARAGRAPH);
+            }
+            batch.addParagraphAttributes(LINE);
+            assertFalse(batch.isEmpty());
+            batch.apply(doc);
+            assertTrue(batch.isEmpty());
+        }
+        assertEquals(LINES.length, events[0]);
+        assertEquals(dump(expected), dump(doc));
+    }
+
+    @Test
+    public void testCopyStyle() throws BadLocationException {
+        MyDocument doc = new MyDocument();
+        LineBatch batch = new LineBatch();
+        SimpleAttributeSet style = new SimpleAttributeSet(STYLE1);
+        batch.add("abc", style, PARAGRAPH);
+        style.addAttribute("c", "2");
+        batch.add("def", style, PARAGRAPH);
+        batch.apply(doc);
+        assertEquals("1", doc.getCharacterElement(0).getAttributes().getAttribute("c"));
+        assertEquals("2", doc.getCharacterElement(3).getAttributes().getAttribute("c"));
+    }
+
+    private static SimpleAttributeSet attr(String key, String value) {
+        SimpleAttributeSet attr = new SimpleAttributeSet();
+        attr.addAttribute(key, value);
+        return attr;
+    }
+
+    /**
+     * Text and attributes of each paragraph and its leaf elements. Adjacent
+     * leaves with the same attributes are combined, since it doesn't make a
+     * difference for how the text is displayed.
+     */
+    private static String dump(MyDocument doc) throws BadLocationException {
+        StringBuilder b = new StringBuilder();
+        Element root = doc.getDefaultRootElement();
+        for (int i = 0; i < root.getElementCount(); i++) {
+            Element paragraph = root.getElement(i);
+            b.append(attributes(paragraph.getAttributes())).append("\n");
+            String previous = null;
+            for (int j = 0; j < paragraph.getElementCount(); j++) {
+                Element leaf = paragraph.getElement(j);
+                String attr = attributes(leaf.getAttributes());
+                if (!attr.equals(previous)) {
+                    b.append("\n  ").append(attr).append(" ");
+                }
+                previous = attr;
+                b.append(doc.getText(leaf.getStartOffset(), leaf.getEndOffset() - leaf.getStartOffset()).replace("\n", "\\n"));
+            }
+            b.append("\n");
+        }
+        return b.toString();
+    }
+
+    private static String attributes(AttributeSet attr) {
+        List<String> result = new ArrayList<>();
+        Enumeration<?> names = attr.getAttributeNames();
+        while (names.hasMoreElements()) {
+            Object name = names.nextElement();
+            result.add(name + "=" + attr.getAttribute(name));
+        }
+        Collections.sort(result);
+        return result.toString();
+    }
+
+}
@@ -0,0 +1,99 @@
+
+package chatty.gui.components.textpane;
+
+import chatty.Room;
+import chatty.User;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.DefaultStyledDocument;
+import javax.swing.text.Element;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author tduva
+ */
+public class SearchIndexTest {
+
+    private final DefaultStyledDocument doc = new DefaultStyledDocument();
+    private final User user = new User("abc", Room.EMPTY);
+    // Lines starting with "abc:" are from the user
+    private final SearchIndex index = new SearchIndex(doc, line -> {
+        try {
+            return doc.getText(line.getStartOffset(), 4).equals("abc:") ? user : null;
+        }
+        catch (BadLocationException ex) {
+            return null;
+        }
+    });
+
+    @Test
+    public void testSearch() throws BadLocationException {
+        print("abc: Hello World");
+        print("info: Something");
+        print("def: hello");
+        index.update();
+        // Unfinished line
+        print("abc: hel");
+
+        assertEquals(lines(0, 2, 3), find("hel"));
+        append("lo");
+        assertEquals(lines(0, 2, 3), find("HELLO"));
+        assertEquals(lines(0, 3), find("user:abc hello"));
+        assertEquals(lines(0, 3), find("user:abc"));
+        assertEquals(lines(), find("user:def"));
+        assertEquals(lines(0, 1), find("re:w.rld|^info"));
+        assertEquals(lines(), find("re:["));
+        assertEquals(lines(1), find("something"));
+
+        // Changed line
+        int start = doc.getDefaultRootElement().getElement(1).getStartOffset();
+        doc.remove(start + 6, 9);
+        doc.insertString(start + 6, "Hello", null);
+        assertEquals(lines(0, 1, 2, 3), find("hello"));
+        assertEquals(lines(), find("something"));
+
+        // Remove first lines
+        removeFirstLines(2);
+        print("abc: hello again");
+        assertEquals(lines(0, 1, 2), find("hello"));
+        assertEquals(3, index.size());
+
+        doc.remove(0, doc.getLength());
+        assertEquals(lines(), find("hello"));
+        print("hello");
+        assertEquals(lines(0), find("hello"));
+    }
+
+    private void print(String text) throws BadLocationException {
+        append((doc.getLength() > 0 ? "\n" : "") + text);
+    }
+
+    private void append(String text) throws BadLocationException {
+        doc.insertString(doc.getLength(), text, null);
+    }
+
+    private void removeFirstLines(int amount) throws BadLocationException {
+        Element last = doc.getDefaultRootElement().getElement(amount - 1);
+        doc.remove(0, last.getEndOffset());
+    }
+
+    private List<Element> find(String search) {
+        List<Element> result = new ArrayList<>();
+        for (SearchIndex.Line line : index.find(new SearchIndex.Search(search))) {
+            result.add(line.element);
+        }
+        return result;
+    }
+
+    private List<Element> lines(int... indices) {
+        List<Element> result = new ArrayList<>();
+        for (int i : indices) {
+            result.add(doc.getDefaultRootElement().getElement(i));
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,30 @@
+
+package chatty.util;
+
+import java.util.Arrays;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author tduva
+ */
+public class AhoCorasickTest {
+    
+    @Test
+    public void testFindAll() {
+        AhoCorasick ac = new AhoCorasick(Arrays.asList("he", "she", "his", "hers", "", "e", "she"));
+        assertEquals("{}", ac.findAll("").toString());
+        assertEquals("{}", ac.findAll("abc").toString());
+        assertEquals("{0, 1, 5, 6}", ac.findAll("ushe").toString());
+        assertEquals("{0, 3, 5}", ac.findAll("hers").toString());
+        assertEquals("{2}", ac.findAll("this").toString());
+        assertEquals("{0, 1, 2, 3, 5, 6}", ac.findAll("ahishers").toString());
+        assertEquals("{}", ac.findAll("HE").toString());
+        
+        AhoCorasick ac2 = new AhoCorasick(Arrays.asList("aab", "ab", "b", "abab"));
+        assertEquals("{0, 1, 2}", ac2.findAll("aaab").toString());
+        assertEquals("{1, 2, 3}", ac2.findAll("abab").toString());
+    }
+    
+}
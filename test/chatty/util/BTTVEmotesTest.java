@@ -0,0 +1,62 @@
+package chatty.util;
+
+import chatty.util.api.Emoticon;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author tduva
+ */
+public class BTTVEmotesTest {
+
+    private static final String CHANNEL = "{\"id\":\"abc\",\"bots\":[\"somebot\",\"otherbot\"],\"avatar\":\"https://example.com\","
+            + "\"channelEmotes\":[{\"id\":\"1a\",\"code\":\"ChannelEmote\",\"imageType\":\"png\",\"userId\":\"abc\"}],"
+            + "\"sharedEmotes\":[{\"id\":\"2b\",\"code\":\"SharedEmote\",\"imageType\":\"gif\",\"user\":{\"id\":\"def\",\"name\":\"creator\",\"displayName\":\"Creator\"}},"
+            + "{\"id\":\"\",\"code\":\"Invalid\"}]}";
+
+    private static final String GLOBAL = "[{\"id\":\"3c\",\"code\":\"GlobalEmote\",\"imageType\":\"png\",\"userId\":\"ghi\"},"
+            + "{\"id\":\"4d\",\"code\":\"Restricted\",\"imageType\":\"png\",\"restrictions\":{\"emoticonSet\":\"night\"}}]";
+
+    @Test
+    public void testParseChannel() throws IOException {
+        BTTVEmotes.EmoteList result = BTTVEmotes.parse(new StringReader(CHANNEL), "somechannel");
+        assertEquals(2, result.emotes.size());
+        assertEquals(2, result.bots.size());
+        assertTrue(result.bots.contains("somebot"));
+        Map<String, Emoticon> byCode = new HashMap<>();
+        for (Emoticon emote : result.emotes) {
+            byCode.put(emote.code, emote);
+        }
+        Emoticon channelEmote = byCode.get("ChannelEmote");
+        assertEquals(Emoticon.Type.BTTV, channelEmote.type);
+        assertEquals("1a", channelEmote.stringId);
+        assertEquals("somechannel", channelEmote.creator);
+        assertTrue(channelEmote.getStreamRestrictions().contains("somechannel"));
+        assertFalse(channelEmote.isAnimated());
+
+        Emoticon sharedEmote = byCode.get("SharedEmote");
+        assertEquals("creator", sharedEmote.creator);
+        assertTrue(sharedEmote.isAnimated());
+    }
+
+    @Test
+    public void testParseGlobal() throws IOException {
+        BTTVEmotes.EmoteList result = BTTVEmotes.parse(new StringReader(GLOBAL), null);
+        assertEquals(1, result.emotes.size());
+        Emoticon emote = result.emotes.iterator().next();
+        assertEquals("GlobalEmote", emote.code);
+        assertNull(emote.getStreamRestrictions());
+        assertTrue(result.bots.isEmpty());
+
+        // Wrong type of response
+        assertEquals(0, BTTVEmotes.parse(new StringReader(GLOBAL), "somechannel").emotes.size());
+        // Invalid JSON
+        assertEquals(1, BTTVEmotes.parse(new StringReader(GLOBAL.substring(0, 90)), null).emotes.size());
+    }
+
+}
@@ -0,0 +1,49 @@
+
+package chatty.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author tduva
+ */
+public class BigramSignatureTest {
+
+    @Test
+    public void testSameResult() {
+        List<String> values = new ArrayList<>(Arrays.asList(
+                "", "a", "b", "ab", "abc", "abcd", "aa", "aaaa", "night",
+                "nacht", "This is a longer message",
+                "This is a message that's longer", "abab", "baba",
+                "￿a￿", "耀老耀老"));
+        Random random = new Random(1234);
+        String chars = "abcAB ä耀￿😀";
+        for (int i = 0; i < 200; i++) {
+            int length = random.nextInt(20);
+            StringBuilder b = new StringBuilder();
+            for (int j = 0; j < length; j++) {
+                b.append(chars.charAt(random.nextInt(chars.length())));
+            }
+            values.add(b.toString());
+        }
+        for (String a : values) {
+            BigramSignature sigA = new BigramSignature(a);
+            for (String b : values) {
+                BigramSignature sigB = new BigramSignature(b);
+                String info = "'"+a+"' '"+b+"'";
+                assertEquals(info, StringUtil.getSimilarity(a, b), sigA.getSimilarity(sigB), 0);
+                assertEquals(info, StringUtil.getSimilarity2(a, b), sigA.getSimilarity2(sigB), 0);
+                for (float min : new float[]{0, 0.5f, 0.8f, 1}) {
+                    assertEquals(info, StringUtil.checkSimilarity(a, b, min, 1), sigA.checkSimilarity(sigB, min, 1), 0);
+                    assertEquals(info, StringUtil.checkSimilarity(a, b, min, 2), sigA.checkSimilarity(sigB, min, 2), 0);
+                }
+            }
+        }
+    }
+
+}
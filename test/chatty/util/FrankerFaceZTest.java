@@ -5,10 +5,13 @@ import chatty.util.ffz.FrankerFaceZParsing;
 import chatty.util.api.Emoticon;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Set;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
 import org.junit.Test;
@@ -42,6 +45,46 @@ public class FrankerFaceZTest {
         testParseEmoteError("FFZ_emote_id_string");
     }
     
+    @Test
+    public void testParseRoomEmotes() throws Exception {
+        String emote = loadJSON("FFZ_emote_regular");
+        String json = "{\"sets\":{\"1\":{\"id\":1,\"emoticons\":["+emote+"],\"title\":\"Channel: Joshimuz\"},"
+                + "\"2\":{\"id\":2,\"title\":\"Other\",\"emoticons\":["+emote+","+emote+"]}},"
+                + "\"room\":{\"id\":\"joshimuz\",\"set\":1,\"mod_urls\":{\"1\":\"https://example.com/mod\"},"
+                + "\"user_badges\":{\"2\":[\"somebot\"]}}}";
+        FrankerFaceZParsing.EmotesResponse result = FrankerFaceZParsing.parseRoomEmotes(new StringReader(json), "joshimuz");
+        assertEquals(1, result.emotes.size());
+        Emoticon parsed = result.emotes.iterator().next();
+        assertEquals("joshWASTED", parsed.code);
+        assertTrue(parsed.getStreamRestrictions().contains("joshimuz"));
+        assertEquals(Collections.singleton("Channel: Joshimuz"), parsed.getInfos());
+        assertEquals("https://example.com/mod", FrankerFaceZParsing.parseCustomBadge(result.room, "mod_urls", "1"));
+        assertNull(FrankerFaceZParsing.parseCustomBadge(result.room, "vip_badge", "1"));
+        assertEquals(Collections.singleton("somebot"), FrankerFaceZParsing.parseRoomBadges(result.room).get("2"));
+
+        // No room info
+        result = FrankerFaceZParsing.parseRoomEmotes(new StringReader("{\"sets\":{}}"), "joshimuz");
+        assertTrue(result.emotes.isEmpty());
+        assertNull(result.room);
+    }
+
+    @Test
+    public void testParseGlobalEmotes() throws Exception {
+        String emote = loadJSON("FFZ_emote_regular");
+        String json = "{\"sets\":{\"3\":{\"id\":3,\"title\":\"Global Emotes\",\"emoticons\":["+emote+"]},"
+                + "\"4\":{\"id\":4,\"emoticons\":[]}},\"default_sets\":[3],\"users\":{\"4\":[\"someone\"]}}";
+        Set<Emoticon> emotes = FrankerFaceZParsing.parseGlobalEmotes(new StringReader(json)).emotes;
+        assertEquals(1, emotes.size());
+        Emoticon parsed = emotes.iterator().next();
+        assertNull(parsed.getStreamRestrictions());
+        assertEquals(Collections.singleton("Global Emotes"), parsed.getInfos());
+
+        json = "{\"set\":{\"id\":5,\"title\":\"Event\",\"emoticons\":["+emote+"]}}";
+        emotes = FrankerFaceZParsing.parseSetEmotes(new StringReader(json), Emoticon.SubType.EVENT, null).emotes;
+        assertEquals(1, emotes.size());
+        assertEquals(Emoticon.SubType.EVENT, emotes.iterator().next().subType);
+    }
+    
     private void testParseEmoteError(String fileName) throws Exception {
         JSONParser parser = new JSONParser();
         JSONObject obj = (JSONObject) parser.parse(loadJSON(fileName));
@@ -0,0 +1,90 @@
+
+package chatty.util;
+
+import chatty.util.ImageLoader.Priority;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author tduva
+ */
+public class ImageLoaderTest {
+
+    @Test
+    public void testCoalesce() throws Exception {
+        ImageLoader<String> loader = new ImageLoader<>("Test", 2);
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<String> a = loader.load("a", Priority.VISIBLE, () -> {
+            loads.incrementAndGet();
+            await(latch);
+            return "result";
+        });
+        CompletableFuture<String> b = loader.load("a", Priority.BACKGROUND, () -> {
+            loads.incrementAndGet();
+            return "other";
+        });
+        assertSame(a, b);
+        latch.countDown();
+        assertEquals("result", a.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+
+        // Done, so loads again
+        CompletableFuture<String> c = loader.load("a", Priority.VISIBLE, () -> {
+            loads.incrementAndGet();
+            return "again";
+        });
+        assertEquals("again", c.get(5, TimeUnit.SECONDS));
+        assertEquals(2, loads.get());
+
+        // Error results in null
+        assertNull(loader.load("b", Priority.VISIBLE, () -> {
+            throw new RuntimeException("test");
+        }).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testPriority() throws Exception {
+        ImageLoader<String> loader = new ImageLoader<>("Test", 1);
+        CountDownLatch latch = new CountDownLatch(1);
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        // Occupies the only thread until the others are queued
+        loader.load("block", Priority.VISIBLE, () -> {
+            await(latch);
+            return "block";
+        });
+        loader.load("bg1", Priority.BACKGROUND, () -> add(order, "bg1"));
+        loader.load("bg2", Priority.BACKGROUND, () -> add(order, "bg2"));
+        loader.load("v1", Priority.VISIBLE, () -> add(order, "v1"));
+        // Moves the queued background request up (keeping its original order)
+        loader.load("bg2", Priority.VISIBLE, () -> add(order, "nope"));
+        assertEquals(3, loader.getQueueSize());
+        CompletableFuture<String> last = loader.load("bg3", Priority.BACKGROUND, () -> add(order, "bg3"));
+        latch.countDown();
+        last.get(5, TimeUnit.SECONDS);
+        assertEquals("[bg2, v1, bg1, bg3]", order.toString());
+    }
+
+    private static String add(List<String> order, String value) {
+        order.add(value);
+        return value;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+
+package chatty.util;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author tduva
+ */
+public class JSONStreamTest {
+
+    private static final String JSON = "{\"id\":\"1\",\"list\":[{\"a\":1}],"
+            + "\"set\":{\"other\":[1,2],\"emotes\":["
+            + "{\"id\":\"a\",\"data\":{\"owner\":{\"name\":\"x\",\"list\":[[1],{}]},\"host\":{\"files\":[{\"w\":1},{\"w\":2}]}},\"n\":null},"
+            + "\"text\","
+            + "[1,[2]],"
+            + "{}"
+            + "],\"after\":[{\"b\":2}]}}";
+
+    @Test
+    public void testPath() throws Exception {
+        List<Object> result = parse(new JSONStream("set", "emotes"), JSON);
+        List<Object> expected = new ArrayList<>();
+        for (Object o : (List) ((JSONObject) ((JSONObject) new JSONParser().parse(JSON)).get("set")).get("emotes")) {
+            expected.add(o);
+        }
+        assertEquals(expected, result);
+        assertEquals(4, result.size());
+        assertTrue(((JSONObject) result.get(0)).containsKey("n"));
+
+        assertEquals("[{\"a\":1}]", parse(new JSONStream("list"), JSON).toString());
+        assertEquals("[]", parse(new JSONStream("emotes"), JSON).toString());
+        assertEquals("[]", parse(new JSONStream("set", "other", "emotes"), JSON).toString());
+        assertEquals("[]", parse(new JSONStream("id"), JSON).toString());
+        assertEquals("[]", parse(new JSONStream(), JSON).toString());
+    }
+
+    @Test
+    public void testSkip() throws Exception {
+        List<Object> result = parse(new JSONStream("set", "emotes").skip("owner", "n"), JSON);
+        assertEquals(new JSONParser().parse("{\"id\":\"a\",\"data\":{\"host\":{\"files\":[{\"w\":1},{\"w\":2}]}}}"), result.get(0));
+        assertEquals("text", result.get(1));
+        assertEquals(4, result.size());
+    }
+
+    @Test
+    public void testRootArray() throws Exception {
+        assertEquals("[1, {\"a\":[2]}, null]", parse(new JSONStream(), "[1,{\"a\":[2]},null]").toString());
+        assertEquals("[]", parse(new JSONStream(), "[]").toString());
+        assertEquals("[]", parse(new JSONStream("a"), "[{\"a\":[1]}]").toString());
+    }
+
+    @Test
+    public void testTargets() throws Exception {
+        String json = "{\"default\":[\"2\"],\"sets\":{"
+                + "\"1\":{\"title\":\"One\",\"emotes\":[{\"a\":1},{\"a\":2}]},"
+                + "\"2\":{\"emotes\":[{\"a\":3}],\"title\":{\"b\":[1]}},"
+                + "\"3\":[{\"emotes\":[1]}]},"
+                + "\"room\":{\"set\":1,\"owner\":\"x\"}}";
+        JSONStream stream = new JSONStream("sets", JSONStream.ANY_KEY, "emotes")
+                .value("sets", JSONStream.ANY_KEY, "title")
+                .value("room")
+                .and("default")
+                .skip("owner");
+        List<String> result = new ArrayList<>();
+        stream.parseWithPaths(new StringReader(json), (path, element) -> result.add(path+"="+element));
+        assertEquals("[[default]=2, "
+                + "[sets, 1, title]=One, [sets, 1, emotes]={\"a\":1}, [sets, 1, emotes]={\"a\":2}, "
+                + "[sets, 2, emotes]={\"a\":3}, [sets, 2, title]={\"b\":[1]}, "
+                + "[room]={\"set\":1}]", result.toString());
+
+        // Value of the root and arrays not at the end of the path
+        result.clear();
+        new JSONStream("sets").value().parseWithPaths(new StringReader("[1]"), (path, element) -> result.add(path+"="+element));
+        assertEquals("[[]=[1]]", result.toString());
+        assertEquals("[]", parse(new JSONStream("sets", "3", "emotes"), json).toString());
+    }
+
+    @Test
+    public void testInvalid() throws Exception {
+        List<Object> result = new ArrayList<>();
+        try {
+            new JSONStream("a").parse(new StringReader("{\"a\":[1,}"), result::add);
+            fail("No ParseException");
+        }
+        catch (ParseException ex) {
+            // Expected
+        }
+        assertEquals(1, result.size());
+    }
+
+    private static List<Object> parse(JSONStream stream, String json) throws IOException, ParseException {
+        List<Object> result = new ArrayList<>();
+        stream.parse(new StringReader(json), result::add);
+        return result;
+    }
+
+}
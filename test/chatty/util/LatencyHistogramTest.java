@@ -0,0 +1,62 @@
+
+package chatty.util;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author tduva
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBuckets() {
+        // Every value must be within the bounds of its bucket
+        long[] values = {0, 1, 15, 16, 17, 31, 32, 33, 100, 1000, 123456789, Long.MAX_VALUE};
+        for (long value : values) {
+            int index = LatencyHistogram.getIndex(value);
+            assertTrue(value <= LatencyHistogram.getUpperBound(index));
+            if (index > 0) {
+                assertTrue(value > LatencyHistogram.getUpperBound(index - 1));
+            }
+        }
+        // Buckets must be contiguous
+        for (int i = 1; i <= LatencyHistogram.getIndex(Long.MAX_VALUE); i++) {
+            assertEquals(i, LatencyHistogram.getIndex(LatencyHistogram.getUpperBound(i - 1) + 1));
+            assertEquals(i, LatencyHistogram.getIndex(LatencyHistogram.getUpperBound(i)));
+        }
+    }
+
+    @Test
+    public void testPercentile() {
+        LatencyHistogram h = new LatencyHistogram();
+        assertEquals(0, h.getPercentile(50));
+        for (int i = 1; i <= 1000; i++) {
+            h.record(i);
+        }
+        assertEquals(1000, h.getCount());
+        assertEquals(1000, h.getMax());
+        assertEquals(500500, h.getTotal());
+        assertEquals(1000, h.getPercentile(100));
+        assertWithin(500, h.getPercentile(50));
+        assertWithin(900, h.getPercentile(90));
+        assertWithin(990, h.getPercentile(99));
+
+        LatencyHistogram other = new LatencyHistogram();
+        other.record(5000);
+        other.record(-1);
+        h.add(other);
+        assertEquals(1002, h.getCount());
+        assertEquals(5000, h.getMax());
+
+        h.reset();
+        assertEquals(0, h.getCount());
+        assertEquals(0, h.getPercentile(99));
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(actual+" not near "+expected, actual >= expected && actual <= expected * 1.125);
+    }
+
+}
@@ -0,0 +1,80 @@
+
+package chatty.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author tduva
+ */
+public class MemoryBudgetTest {
+
+    @Test
+    public void testEvict() {
+        List<String> evicted = new ArrayList<>();
+        MemoryBudget<String> budget = new MemoryBudget<>("Test", 100, evicted::add);
+        String a = "a";
+        String b = "b";
+        String c = "c";
+        MemoryBudget.Entry<String> entryA = budget.add(a, 40);
+        MemoryBudget.Entry<String> entryB = budget.add(b, 40);
+        assertEquals(80, budget.getBytes());
+        assertTrue(evicted.isEmpty());
+
+        // Used more recently than b
+        budget.touch(entryA);
+        budget.add(c, 40);
+        assertEquals("[b]", evicted.toString());
+        assertEquals(80, budget.getBytes());
+        assertEquals(2, budget.size());
+
+        // Already removed, no effect
+        budget.remove(entryB);
+        assertEquals(80, budget.getBytes());
+        budget.remove(entryA);
+        assertEquals(40, budget.getBytes());
+
+        // Added one is never evicted
+        budget.add("d", 200);
+        assertEquals("[b, c]", evicted.toString());
+        assertEquals(200, budget.getBytes());
+        assertEquals(2, budget.getEvictedCount());
+
+        budget.setBudget(0);
+        budget.add("e", 1000);
+        assertEquals(1200, budget.getBytes());
+        budget.setBudget(1100);
+        assertEquals("[b, c, d]", evicted.toString());
+        assertEquals(1000, budget.getBytes());
+    }
+
+    @Test
+    public void testShared() {
+        List<String> evicted = new ArrayList<>();
+        MemoryBudget<String> budget = new MemoryBudget<>("Test", 100, evicted::add);
+        Object image = new Object();
+        MemoryBudget.Entry<String> entryA = budget.add("a", image, 60);
+        MemoryBudget.Entry<String> entryB = budget.add("b", image, 60);
+        assertEquals(60, budget.getBytes());
+        assertEquals(2, budget.size());
+
+        // Still used by b
+        budget.remove(entryA);
+        assertEquals(60, budget.getBytes());
+        budget.add("a", image, 60);
+        assertEquals(60, budget.getBytes());
+
+        // The shared memory is only freed when all entries are evicted
+        budget.add("c", 60);
+        assertEquals("[b, a]", evicted.toString());
+        assertEquals(60, budget.getBytes());
+        assertEquals(1, budget.size());
+
+        budget.remove(entryB);
+        assertEquals(60, budget.getBytes());
+    }
+
+}
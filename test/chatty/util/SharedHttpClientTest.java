@@ -0,0 +1,138 @@
+
+package chatty.util;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Performs requests against a local HTTP server.
+ *
+ * @author tduva
+ */
+public class SharedHttpClientTest {
+
+    private HttpServer server;
+    private String base;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger received = new AtomicInteger();
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            received.incrementAndGet();
+            String path = exchange.getRequestURI().getPath();
+            byte[] body = ("Response äöü\nfor " + path).getBytes(StandardCharsets.UTF_8);
+            int code = 200;
+            if (path.startsWith("/missing")) {
+                code = 404;
+            }
+            else if (path.startsWith("/busy")) {
+                code = 503;
+                exchange.getResponseHeaders().add("Retry-After", "1");
+            }
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+                try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                    gzip.write(body);
+                }
+                body = compressed.toByteArray();
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            }
+            exchange.sendResponseHeaders(code, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        base = "http://127.0.0.1:" + server.getAddress().getPort();
+        SharedHttpClient.resetStats();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testReuse() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            String text = SharedHttpClient.execute(new HttpGet(base + "/api/test/" + i), 1000, 1000, (response, encoding) -> {
+                assertEquals(200, response.getCode());
+                assertEquals("gzip", encoding);
+                return SharedHttpClient.readText(response);
+            });
+            assertEquals("Response äöü\nfor /api/test/" + i, text);
+        }
+        assertEquals(1, clientPorts.size());
+        String stats = SharedHttpClient.getStats();
+        assertTrue(stats, stats.startsWith("5 requests, 4 on reused connections"));
+        assertTrue(stats, stats.contains("127.0.0.1/api/test: 5 requests"));
+    }
+
+    @Test
+    public void testNoRetry() throws IOException {
+        int code = SharedHttpClient.execute(new HttpGet(base + "/busy"), 1000, 1000, (response, encoding) -> {
+            return response.getCode();
+        });
+        assertEquals(503, code);
+        assertEquals(1, received.get());
+    }
+
+    @Test
+    public void testErrorStats() throws IOException {
+        for (String path : new String[]{"/api/test/a", "/api/test/b", "/missing/a/b", "/busy/a/b"}) {
+            SharedHttpClient.execute(new HttpGet(base + path), 1000, 1000, (response, encoding) -> {
+                return response.getCode();
+            });
+        }
+        // Exception in the handler
+        try {
+            SharedHttpClient.execute(new HttpGet(base + "/api/test/c"), 1000, 1000, (response, encoding) -> {
+                throw new IOException("Test");
+            });
+            fail("No IOException");
+        }
+        catch (IOException ex) {
+            // Expected
+        }
+        String stats = SharedHttpClient.getStats();
+        assertTrue(stats, stats.contains("127.0.0.1/api/test: 3 requests"));
+        assertTrue(stats, stats.contains("), 1 errors\n"));
+        assertTrue(stats, stats.contains("127.0.0.1/missing/a: 1 requests"));
+        assertTrue(stats, stats.contains("127.0.0.1/busy/a: 1 requests"));
+        assertFalse(stats, stats.contains("0 errors"));
+    }
+
+    @Test
+    public void testUrlRequest() {
+        UrlRequest request = new UrlRequest(base + "/file");
+        UrlRequest.FullResult result = request.sync();
+        assertEquals(200, result.getResponseCode());
+        assertEquals("Response äöü\nfor /file\n", result.getResult());
+
+        UrlRequest.LinesResult lines = new UrlRequest(base + "/file").syncLines();
+        assertEquals(2, lines.getResult().size());
+
+        UrlRequest.FullResult missing = new UrlRequest(base + "/missing").sync();
+        assertEquals(404, missing.getResponseCode());
+        assertNull(missing.getResult());
+        assertNotNull(missing.getError());
+    }
+
+}
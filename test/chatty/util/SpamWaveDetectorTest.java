@@ -0,0 +1,90 @@
+
+package chatty.util;
+
+import chatty.util.irc.MsgTags;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author tduva
+ */
+public class SpamWaveDetectorTest {
+
+    @Test
+    public void testSignature() {
+        assertNull(SpamWaveDetector.createSignature("ab"));
+        assertNull(SpamWaveDetector.createSignature(" a b "));
+        int[] a = SpamWaveDetector.createSignature("This is some spam message, click here");
+        int[] b = SpamWaveDetector.createSignature("this is  some spam message, CLICK here");
+        int[] c = SpamWaveDetector.createSignature("This is some spam message, click here abc");
+        int[] d = SpamWaveDetector.createSignature("Something completely different, hello chat");
+        assertEquals(1, SpamWaveDetector.estimateSimilarity(a, b), 0);
+        assertTrue(SpamWaveDetector.estimateSimilarity(a, c) > 0.7);
+        assertTrue(SpamWaveDetector.estimateSimilarity(a, d) < 0.3);
+    }
+
+    @Test
+    public void testCheck() {
+        List<String> waves = new ArrayList<>();
+        SpamWaveDetector detector = new SpamWaveDetector(null);
+        detector.setListener((channel, id, size, users, text) -> {
+            waves.add(channel+"/"+id+"/"+size+"/"+users);
+        });
+        detector.setOptions(true, 60, 3, 0.6f, 5);
+
+        // Same user doesn't count as several users
+        assertEquals(0, users(detector.check("#a", "user1", "Buy followers at example.com", sig("Buy followers at example.com"), MsgTags.EMPTY, 0)));
+        assertEquals(0, check(detector, "#a", "user1", "Buy followers at example.com", 1000));
+        assertEquals(0, check(detector, "#a", "user2", "buy followers at example.com!", 2000));
+        // Other channel
+        assertEquals(0, check(detector, "#b", "user3", "Buy followers at example.com", 2000));
+        assertEquals(3, check(detector, "#a", "user3", "Buy followers at example.com 123", 3000));
+        // Too short
+        assertEquals(0, check(detector, "#a", "user4", "Buy", 3000));
+        // Different message
+        assertEquals(0, check(detector, "#a", "user4", "Hello everyone, how is it going?", 3000));
+        assertEquals(4, check(detector, "#a", "user5", "Buy followers at example.com", 4000));
+        assertEquals("[#a/1/4/3]", waves.toString());
+
+        // Earlier messages expired, so only 3 remain
+        assertEquals(3, check(detector, "#a", "user6", "Buy followers at example.com", 62500));
+        assertEquals(0, check(detector, "#a", "user7", "Buy followers at example.com", 200000));
+        assertEquals(1, detector.getEntryCount("#a"));
+        // Channel removed after timeframe
+        assertEquals(0, detector.getEntryCount("#b"));
+
+        MsgTags tags = detector.check("#a", "user8", "Buy followers at example.com", sig("Buy followers at example.com"), MsgTags.EMPTY, 200001);
+        tags = detector.check("#a", "user9", "Buy followers at example.com", sig("Buy followers at example.com"), tags, 200002);
+        assertEquals(3, SpamWaveDetector.getClusterSize(tags));
+        assertTrue(SpamWaveDetector.getClusterId(tags) > 1);
+
+        detector.setOptions(false, 60, 3, 0.6f, 5);
+        assertEquals(0, detector.getEntryCount("#a"));
+    }
+
+    @Test
+    public void testBounded() {
+        SpamWaveDetector detector = new SpamWaveDetector(null);
+        detector.setOptions(true, 600, 2, 0.6f, 1);
+        for (int i = 0; i < 10000; i++) {
+            check(detector, "#a", "user"+i, "Spam spam spam "+i, i);
+        }
+        assertEquals(3000, detector.getEntryCount("#a"));
+    }
+
+    private static int check(SpamWaveDetector detector, String channel, String user, String text, long time) {
+        return users(detector.check(channel, user, text, sig(text), MsgTags.EMPTY, time));
+    }
+
+    private static int users(MsgTags tags) {
+        return SpamWaveDetector.getClusterUsers(tags);
+    }
+
+    private static int[] sig(String text) {
+        return SpamWaveDetector.createSignature(text);
+    }
+
+}
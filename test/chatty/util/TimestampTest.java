@@ -108,6 +108,29 @@ public class TimestampTest {
                 createStreamInfo(time, 30*HOUR+10*MINUTE));
     }
     
+    @Test
+    public void testSameSecond() {
+        ZonedDateTime datetimeDefault = ZonedDateTime.of(2022, 3, 2, 18, 3, 20, 0, ZoneId.systemDefault());
+        long time = datetimeDefault.toEpochSecond() * 1000;
+        
+        // Formatted time reused within the same second
+        Timestamp timestamp = new Timestamp("HH:mm:ss", "");
+        assertEquals("18:03:20", timestamp.make2(time, null));
+        assertEquals("18:03:20", timestamp.make2(time + 999, null));
+        assertEquals("18:03:21", timestamp.make2(time + 1000, null));
+        assertEquals("18:03:20", timestamp.make2(time, null));
+        
+        // Not reused when containing milliseconds
+        timestamp = new Timestamp("HH:mm:ss.SSS", "");
+        assertEquals("18:03:20.000", timestamp.make2(time, null));
+        assertEquals("18:03:20.500", timestamp.make2(time + 500, null));
+        
+        // Custom Command applied every time
+        timestamp = new Timestamp("HH:mm:ss###[$1]", "");
+        assertEquals("[18:03:20]", timestamp.make2(time, null));
+        assertEquals("[18:03:20]", timestamp.make2(time + 1, null));
+    }
+    
     private static void t(String input, String timezone, long time, String expected) {
         t(input, timezone, time, expected, null);
     }
@@ -0,0 +1,174 @@
+
+package chatty.util.api;
+
+import chatty.Room;
+import chatty.User;
+import chatty.gui.emoji.EmojiUtil;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author tduva
+ */
+public class EmoticonIndexTest {
+
+    @Test
+    public void testLiteralWord() {
+        assertEquals("Kappa", create("Kappa").getLiteralWord());
+        assertEquals("a.b", createLiteral("a.b").getLiteralWord());
+        assertEquals("(ditto)", createLiteral("(ditto)").getLiteralWord());
+        assertNull(create("a.b").getLiteralWord());
+        assertNull(create("Kap+a").getLiteralWord());
+        assertNull(createLiteral("a b").getLiteralWord());
+        assertNull(create(":)").getLiteralWord());
+        assertNull(new Emoticon.Builder(Emoticon.Type.EMOJI, "abc").build().getLiteralWord());
+        assertNull(new Emoticon.Builder(Emoticon.Type.TWITCH, "abcd").setRegex("ab?cd").build().getLiteralWord());
+    }
+
+    @Test
+    public void testFind() {
+        Set<Emoticon> emotes = new LinkedHashSet<>();
+        emotes.add(create("Kappa"));
+        emotes.add(createLiteral("a.b"));
+        emotes.add(create("Kap+a"));
+        emotes.add(create("abc d"));
+        emotes.add(createRestricted("Keepo", "other"));
+        emotes.add(createRestricted("Keepo", "test"));
+        emotes.add(create(":)"));
+        emotes.add(create("LUL"));
+        emotes.add(createLiteral("LUL"));
+        emotes.add(create("\\w+Hey"));
+        emotes.add(create("nope"));
+
+        User user = new User("abc", Room.createRegular("#test"));
+        Set<String> ignored = new HashSet<>(Arrays.asList("nope"));
+
+        String[] messages = new String[]{
+            "",
+            " ",
+            "Kappa",
+            " Kappa ",
+            "Kappa Kappa\tKappa",
+            "KappaKappa Kapppa Kappa",
+            "a.b axb a.b.",
+            "abc d abc dd",
+            "Keepo LUL :) :-) nope",
+            "abcHey Kappa LUL aKappa",
+            "Kappa Kappa",
+            "Kappa\u000BKappa\r\nKappa",
+        };
+        for (String message : messages) {
+            assertEquals(message, findRegex(emotes, message, user, ignored),
+                    findIndex(emotes, message, user, ignored));
+            assertEquals(message, findRegex(emotes, message, null, ignored),
+                    findIndex(emotes, message, null, ignored));
+        }
+    }
+
+    @Test
+    public void testFindEmoji() {
+        // Sorted like in Emoticons
+        Set<Emoticon> emoji = new TreeSet<>((s1, s2) -> {
+            int cmp = Integer.compare(s2.code.length(), s1.code.length());
+            return cmp != 0 ? cmp : s1.code.compareTo(s2.code);
+        });
+        emoji.addAll(EmojiUtil.makeEmoticons("twemoji"));
+        assertTrue(emoji.size() > 3000);
+
+        Set<String> ignored = new HashSet<>(Arrays.asList("\uD83D\uDE03"));
+        String[] messages = new String[]{
+            "",
+            "Kappa",
+            "\uD83D\uDE00",
+            "abc\uD83D\uDE00\uD83D\uDE00 \uD83D\uDE01",
+            // Ignored
+            "\uD83D\uDE03 \uD83D\uDE00",
+            // Variation selectors
+            "\u2764\uFE0F \u2764 \u2764\uFE0E \u263A\uFE0E\u263A",
+            // Keycap
+            "#\uFE0F\u20E3 # 1\uFE0F\u20E3",
+            // Skin tone
+            "\uD83D\uDC4D\uD83C\uDFFD \uD83D\uDC4D \uD83C\uDFFD",
+            // ZWJ sequences
+            "\uD83D\uDC68\u200D\uD83D\uDC69\u200D\uD83D\uDC67\u200D\uD83D\uDC66 \uD83D\uDC68\u200D",
+            "\uD83E\uDDCD\uD83C\uDFFB\u200D\u2640\uFE0F\uD83E\uDDCD\uD83C\uDFFB\u200D\u2640",
+            // Flags
+            "\uD83C\uDDE9\uD83C\uDDEA \uD83C\uDDE9 \uD83C\uDDE9\uD83C\uDDEA\uD83C\uDDE9\uD83C\uDDEA",
+            "\uD83C\uDFF4\uDB40\uDC67\uDB40\uDC62\uDB40\uDC65\uDB40\uDC6E\uDB40\uDC67\uDB40\uDC7F",
+        };
+        for (String message : messages) {
+            assertEquals(message, findRegex(emoji, message, null, ignored),
+                    findIndex(emoji, message, null, ignored));
+        }
+    }
+
+    /**
+     * Same as how emotes were found before the index was added.
+     */
+    private static List<String> findRegex(Set<Emoticon> emotes, String text, User user, Set<String> ignored) {
+        TreeMap<Integer, Integer> ranges = new TreeMap<>();
+        List<String> result = new ArrayList<>();
+        for (Emoticon emote : emotes) {
+            if (!emote.matchesUser(user, null) || ignored.contains(emote.code)) {
+                continue;
+            }
+            Matcher m = emote.getMatcher(text);
+            while (m.find()) {
+                // For Emoji, check for text style variation selector
+                boolean textEmoji = emote.type == Emoticon.Type.EMOJI && m.group().endsWith("\uFE0E");
+                if (!textEmoji) {
+                    add(ranges, result, emote, m.start(), m.end() - 1);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static List<String> findIndex(Set<Emoticon> emotes, String text, User user, Set<String> ignored) {
+        TreeMap<Integer, Integer> ranges = new TreeMap<>();
+        List<String> result = new ArrayList<>();
+        new EmoticonIndex(emotes).find(text, user, null,
+                emote -> ignored.contains(emote.code),
+                (emote, start, end) -> add(ranges, result, emote, start, end));
+        return result;
+    }
+
+    private static void add(TreeMap<Integer, Integer> ranges, List<String> result, Emoticon emote, int start, int end) {
+        if (!inRanges(start, ranges) && !inRanges(end, ranges)) {
+            ranges.put(start, end);
+            result.add(start+"-"+end+":"+emote.code+"/"+emote.getStreamRestrictions()+"/"+emote.literal);
+        }
+    }
+
+    private static boolean inRanges(int index, TreeMap<Integer, Integer> ranges) {
+        for (int start : ranges.keySet()) {
+            if (index >= start && index <= ranges.get(start)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Emoticon create(String code) {
+        return new Emoticon.Builder(Emoticon.Type.TWITCH, code).build();
+    }
+
+    private static Emoticon createLiteral(String code) {
+        return new Emoticon.Builder(Emoticon.Type.BTTV, code).setLiteral(true).build();
+    }
+
+    private static Emoticon createRestricted(String code, String stream) {
+        return new Emoticon.Builder(Emoticon.Type.FFZ, code).addStreamRestriction(stream).build();
+    }
+
+}
@@ -0,0 +1,76 @@
+package chatty.util.chatlog;
+
+import chatty.util.chatlog.LogWriter.LogItem;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author tduva
+ */
+public class LogWriterTest {
+
+    @Test
+    public void testWriteLines() throws Exception {
+        Path dir = Files.createTempDirectory("chattylogtest");
+        try {
+            BlockingQueue<LogItem> queue = new LinkedBlockingQueue<>();
+            // Long delay, so the lines are only flushed when closing
+            Thread thread = new Thread(new LogWriter(queue, dir, "never", false, false, 60000, 100000));
+            thread.start();
+
+            List<String> expectedA = new ArrayList<>();
+            List<String> expectedB = new ArrayList<>();
+            for (int i = 0; i < 5000; i++) {
+                String line = "line " + i;
+                if (i % 3 == 0) {
+                    queue.put(new LogItem("#b", line));
+                    expectedB.add(line);
+                }
+                else {
+                    queue.put(new LogItem("#a", line));
+                    expectedA.add(line);
+                }
+                if (i % 1000 == 0) {
+                    // Some lines in separate batches
+                    Thread.sleep(20);
+                }
+            }
+            // Close
+            queue.put(new LogItem(null, null));
+            thread.join(10000);
+            assertFalse(thread.isAlive());
+
+            assertEquals(expectedA, readLines(dir.resolve("#a.log")));
+            assertEquals(expectedB, readLines(dir.resolve("#b.log")));
+        }
+        finally {
+            for (File file : dir.toFile().listFiles()) {
+                file.delete();
+            }
+            dir.toFile().delete();
+        }
+    }
+
+    /**
+     * Read the lines of the log file, without the lines added when opening
+     * and closing the file.
+     */
+    private static List<String> readLines(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertTrue(lines.get(0).startsWith("# Log started: "));
+        assertTrue(lines.get(lines.size() - 2).startsWith("# Log closed: "));
+        assertEquals("-", lines.get(lines.size() - 1));
+        return lines.subList(1, lines.size() - 2);
+    }
+
+}
@@ -287,6 +287,27 @@ public class CustomCommandTest {
         }
     }
     
+    @Test
+    public void testLogTemplate() {
+        CustomCommand c = CustomCommand.parse("$if(timestamp,$(timestamp) )<$(full-nick2)>$if(action,*) $(msg)");
+        assertTrue(c.getIdentifiersWithPrefix("").contains("timestamp"));
+        assertTrue(c.getIdentifiersWithPrefix("").contains("msg"));
+        assertFalse(c.getIdentifiersWithPrefix("").contains("nick"));
+        
+        Parameters parameters = Parameters.create("");
+        parameters.put("msg", "abc");
+        assertEquals("<> abc", c.replace(parameters));
+        parameters.put("timestamp", "[12:00]");
+        parameters.put("action", "true");
+        assertEquals("[12:00] <>* abc", c.replace(parameters));
+        
+        // Required output
+        c = CustomCommand.parse("a $$if(1,$2) b");
+        assertEquals(null, c.replace(Parameters.create("")));
+        assertEquals(null, c.replace(Parameters.create("1")));
+        assertEquals("a 2 b", c.replace(Parameters.create("1 2")));
+    }
+    
     @Test
     public void testRandom() {
         CustomCommand random1 = CustomCommand.parse("$rand($1,b,c)");
@@ -374,6 +395,11 @@ public class CustomCommandTest {
         Helper.addUserParameters(user, null, null, parameters);
         
         assertEquals("UserName UserName @UserName UserName  UserName @UserName id", command.replace(parameters));
+        
+        user = new User("username", Room.createRegularWithId("#test", "123"));
+        parameters = Parameters.create("");
+        Helper.addUserParameters(user, null, null, parameters);
+        assertEquals("#test test 123", CustomCommand.parse("$(user-channel) $(user-stream) $(user-stream-id)").replace(parameters));
     }
     
     @Test
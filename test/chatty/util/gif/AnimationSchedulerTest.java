@@ -0,0 +1,61 @@
+
+package chatty.util.gif;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author tduva
+ */
+public class AnimationSchedulerTest {
+
+    @Test
+    public void testSchedule() throws InterruptedException {
+        AnimationScheduler scheduler = new AnimationScheduler("test", 2);
+        int count = 10;
+        CountDownLatch done = new CountDownLatch(count);
+        AtomicInteger updates = new AtomicInteger();
+        for (int i = 0; i < count; i++) {
+            AtomicInteger frames = new AtomicInteger();
+            scheduler.schedule(() -> {
+                updates.incrementAndGet();
+                if (frames.incrementAndGet() == 5) {
+                    done.countDown();
+                    return -1;
+                }
+                return 20;
+            });
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        // Removed from the count after the last update returned
+        for (int i = 0; i < 100 && scheduler.getActiveCount() > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(count * 5, updates.get());
+        assertEquals(0, scheduler.getActiveCount());
+        assertTrue(scheduler.getStats().startsWith("test threads: 2 active: 0"));
+    }
+
+    @Test
+    public void testDelay() throws InterruptedException {
+        AnimationScheduler scheduler = new AnimationScheduler("test", 1);
+        CountDownLatch done = new CountDownLatch(1);
+        long start = System.currentTimeMillis();
+        AtomicInteger frames = new AtomicInteger();
+        scheduler.schedule(() -> {
+            if (frames.incrementAndGet() == 4) {
+                done.countDown();
+                return -1;
+            }
+            return 50;
+        });
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        // Three delays between the four updates
+        assertTrue(System.currentTimeMillis() - start >= 150);
+    }
+
+}
@@ -0,0 +1,88 @@
+
+package chatty.util.gif;
+
+import chatty.util.gif.FrameEncoder.Mode;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author tduva
+ */
+public class FrameEncoderTest {
+
+    private static final int WIDTH = 20;
+    private static final int HEIGHT = 10;
+
+    @Test
+    public void testDelta() {
+        Random random = new Random(1);
+        int[] previous = new int[100];
+        for (int i = 0; i < 200; i++) {
+            int[] pixels = previous.clone();
+            int changes = random.nextInt(50);
+            for (int c = 0; c < changes; c++) {
+                pixels[random.nextInt(pixels.length)] = random.nextInt();
+            }
+            int[] delta = FrameEncoder.encodeDelta(previous, pixels);
+            int[] result = previous.clone();
+            FrameEncoder.applyDelta(delta, result);
+            assertArrayEquals(pixels, result);
+            previous = pixels;
+        }
+        assertEquals(0, FrameEncoder.encodeDelta(previous, previous.clone()).length);
+    }
+
+    @Test
+    public void testModes() throws Exception {
+        List<BufferedImage> images = createImages(8);
+        for (Mode mode : Mode.values()) {
+            FrameEncoder encoder = new FrameEncoder(mode, WIDTH, HEIGHT);
+            List<ListAnimatedImageFrame> frames = new ArrayList<>();
+            for (BufferedImage image : images) {
+                frames.add(encoder.encode(image, 100));
+            }
+            ListAnimatedImage anim = new ListAnimatedImage(frames, WIDTH, HEIGHT, mode.name());
+            // In order, looping
+            int[] pixels = new int[WIDTH * HEIGHT];
+            for (int i = 0; i < images.size() * 2; i++) {
+                int frame = i % images.size();
+                anim.getFrame(frame, pixels);
+                assertTrue(mode.name(), Arrays.equals(getPixels(images.get(frame)), pixels));
+            }
+            // Skipping frames and switching arrays
+            int[] other = new int[WIDTH * HEIGHT];
+            for (int frame : new int[]{5, 2, 3, 7, 0}) {
+                anim.getFrame(frame, other);
+                assertTrue(mode.name(), Arrays.equals(getPixels(images.get(frame)), other));
+                anim.getFrame(frame, pixels);
+                assertTrue(mode.name(), Arrays.equals(getPixels(images.get(frame)), pixels));
+            }
+        }
+    }
+
+    private static List<BufferedImage> createImages(int count) {
+        List<BufferedImage> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+            // Moving square on transparent background
+            for (int x = i; x < i + 5; x++) {
+                for (int y = 2; y < 7; y++) {
+                    image.setRGB(x, y, 0xFF000000 | (i * 30 << 8));
+                }
+            }
+            result.add(image);
+        }
+        return result;
+    }
+
+    private static int[] getPixels(BufferedImage image) {
+        return image.getRGB(0, 0, WIDTH, HEIGHT, null, 0, WIDTH);
+    }
+
+}
@@ -0,0 +1,164 @@
+
+package chatty.util.irc;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author tduva
+ */
+public class IrcLineReaderTest {
+
+    @Test
+    public void testLines() throws IOException {
+        assertEquals("[a, b]", read("a\r\nb\r\n", 2));
+        assertEquals("[a, ]", read("a\r\n\r\nb", 2));
+        assertEquals("[ab, cd]", read("a\rb\r\nc\nd\r\n", 2));
+        assertEquals("[a]", read("a\r\r\n", 2));
+        assertEquals("[äöü 😀, Kappa]", read("äöü 😀\r\nKappa\r\n", 2));
+        assertEquals("[]", read("abc", 2));
+    }
+
+    @Test
+    public void testSameAsReader() throws IOException {
+        Random random = new Random(123);
+        String chars = "ab :;@\r\n\r\nä😀";
+        for (int i = 0; i < 500; i++) {
+            StringBuilder b = new StringBuilder();
+            int length = random.nextInt(200);
+            for (int j = 0; j < length; j++) {
+                b.append(chars.charAt(random.nextInt(chars.length())));
+            }
+            String input = b.toString();
+            assertEquals(input, readOld(input), read(input, 2 + random.nextInt(20)));
+        }
+    }
+
+    @Test
+    public void testTimeout() throws IOException {
+        byte[] data = "abc\r\ndef\r\nlong line that doesn't fit\r\n".getBytes(StandardCharsets.UTF_8);
+        // Throws every other read, returning at most 3 bytes otherwise
+        InputStream in = new InputStream() {
+
+            int pos;
+            boolean fail;
+
+            @Override
+            public int read() throws IOException {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                fail = !fail;
+                if (fail) {
+                    throw new InterruptedIOException("timeout");
+                }
+                if (pos == data.length) {
+                    return -1;
+                }
+                int count = Math.min(Math.min(len, 3), data.length - pos);
+                System.arraycopy(data, pos, b, off, count);
+                pos += count;
+                return count;
+            }
+        };
+        IrcLineReader reader = new IrcLineReader(in, 4);
+        List<String> lines = new ArrayList<>();
+        while (true) {
+            try {
+                String line = reader.readLine();
+                if (line == null) {
+                    break;
+                }
+                lines.add(line);
+            }
+            catch (InterruptedIOException ex) {
+                // Continue
+            }
+        }
+        assertEquals("[abc, def, long line that doesn't fit]", lines.toString());
+    }
+
+    private static String read(String input, int bufferSize) throws IOException {
+        IrcLineReader reader = new IrcLineReader(new ChunkedInputStream(input.getBytes(StandardCharsets.UTF_8)), bufferSize);
+        List<String> lines = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lines.add(line);
+        }
+        return lines.toString();
+    }
+
+    /**
+     * How lines were read before.
+     */
+    private static String readOld(String input) throws IOException {
+        BufferedReader in = new BufferedReader(new InputStreamReader(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8));
+        List<String> lines = new ArrayList<>();
+        StringBuilder b = new StringBuilder();
+        boolean previousWasCR = false;
+        int c;
+        while ((c = in.read()) != -1) {
+            if (c == '\r') {
+                previousWasCR = true;
+            }
+            else if (c == '\n') {
+                if (previousWasCR) {
+                    lines.add(b.toString());
+                    b.setLength(0);
+                    previousWasCR = false;
+                }
+            }
+            else {
+                b.append((char) c);
+                previousWasCR = false;
+            }
+        }
+        return lines.toString();
+    }
+
+    /**
+     * Returns data in chunks of varying sizes, like a socket might.
+     */
+    private static class ChunkedInputStream extends InputStream {
+
+        private final Random random = new Random(42);
+        private final byte[] data;
+        private int pos;
+
+        ChunkedInputStream(byte[] data) {
+            this.data = data;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return pos < data.length ? data[pos++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (pos == data.length) {
+                return -1;
+            }
+            int count = Math.min(Math.min(len, 1 + random.nextInt(7)), data.length - pos);
+            System.arraycopy(data, pos, b, off, count);
+            pos += count;
+            return count;
+        }
+
+    }
+
+}
@@ -0,0 +1,57 @@
+
+package chatty.util.irc;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author tduva
+ */
+public class JoinQueueTest {
+
+    @Test
+    public void testRateLimit() {
+        JoinQueue q = new JoinQueue(null, 3, 1000);
+        assertEquals(-1, q.getWaitTime(0));
+        for (int i = 0; i < 5; i++) {
+            q.add("#c" + i);
+        }
+        q.add("#c0");
+        assertEquals(5, q.getPendingCount());
+
+        assertEquals(0, q.getWaitTime(0));
+        assertEquals(Arrays.asList("#c0", "#c1", "#c2"), q.poll(0));
+        assertEquals(1000, q.getWaitTime(0));
+        assertEquals(Collections.emptyList(), q.poll(500));
+
+        assertEquals(0, q.getWaitTime(1000));
+        assertEquals(Arrays.asList("#c3", "#c4"), q.poll(1000));
+        assertEquals(-1, q.getWaitTime(1000));
+
+        q.add("#c5");
+        q.add("#c6");
+        assertEquals(0, q.getWaitTime(1500));
+        assertEquals(Arrays.asList("#c5"), q.poll(1500));
+        assertEquals(500, q.getWaitTime(1500));
+        q.clear();
+        assertEquals(-1, q.getWaitTime(1500));
+        assertEquals(0, q.getPendingCount());
+    }
+
+    @Test
+    public void testLength() {
+        JoinQueue q = new JoinQueue(null, 100, 1000);
+        for (int i = 0; i < 40; i++) {
+            q.add(String.format("#channel%04d", i));
+        }
+        List<String> first = q.poll(0);
+        assertEquals(34, first.size());
+        assertTrue(String.join(",", first).length() <= 450);
+        assertEquals(6, q.poll(0).size());
+    }
+
+}
@@ -0,0 +1,114 @@
+
+package chatty.util.settings;
+
+import chatty.util.settings.FileManager.SaveResult;
+import chatty.util.settings.FileManager.SaveResult.CancelReason;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.TreeSet;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author tduva
+ */
+public class SettingsTest {
+
+    private Path dir;
+    private Settings settings;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("chatty-settings-test");
+        FileManager fileManager = new FileManager(dir, dir.resolve("backup"));
+        fileManager.add("main", "main.json", false, null);
+        fileManager.add("other", "other.json", false, null);
+        settings = new Settings("main", fileManager);
+        settings.addFile("other");
+        settings.addString("a", "1");
+        settings.addBoolean("b", false);
+        settings.addList("list", new ArrayList(), Setting.STRING);
+        settings.setFile("b", "other");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        for (String file : Arrays.asList("main.json", "other.json")) {
+            Files.deleteIfExists(dir.resolve(file));
+        }
+        Files.deleteIfExists(dir);
+    }
+
+    @Test
+    public void testChangedFiles() throws IOException {
+        // Files that have never been saved are always saved
+        List<SaveResult> result = settings.saveSettingsToJson(false);
+        assertTrue(result.get(0).written);
+        assertTrue(result.get(1).written);
+
+        result = settings.saveSettingsToJson(false);
+        assertEquals(CancelReason.NOT_CHANGED, result.get(0).cancelReason);
+        assertEquals(CancelReason.NOT_CHANGED, result.get(1).cancelReason);
+
+        settings.setBoolean("b", true);
+        result = settings.saveSettingsToJson(false);
+        assertEquals(CancelReason.NOT_CHANGED, result.get(0).cancelReason);
+        assertTrue(result.get(1).written);
+        assertEquals("{\"b\":true}", read("other.json"));
+
+        // Setting the same value doesn't count as changed
+        settings.setString("a", "1");
+        settings.setBoolean("b", true);
+        result = settings.saveSettingsToJson(false);
+        assertEquals(CancelReason.NOT_CHANGED, result.get(0).cancelReason);
+        assertEquals(CancelReason.NOT_CHANGED, result.get(1).cancelReason);
+
+        settings.listAdd("list", "abc");
+        result = settings.saveSettingsToJson(false);
+        assertTrue(result.get(0).written);
+        assertTrue(read("main.json").contains("\"list\":[\"abc\"]"));
+
+        // Force saves all files (but content is still compared)
+        result = settings.saveSettingsToJson(true);
+        assertTrue(result.get(0).written);
+        assertTrue(result.get(1).written);
+    }
+
+    @Test
+    public void testRetryAfterPaused() throws IOException {
+        settings.saveSettingsToJson(false);
+        settings.setString("a", "2");
+        settings.getFileManager().setSavingPaused(true);
+        List<SaveResult> result = settings.saveSettingsToJson(false);
+        assertEquals(CancelReason.SAVING_PAUSED, result.get(0).cancelReason);
+
+        // Change still remembered
+        settings.getFileManager().setSavingPaused(false);
+        result = settings.saveSettingsToJson(false);
+        assertTrue(result.get(0).written);
+        assertTrue(read("main.json").contains("\"a\":\"2\""));
+    }
+
+    @Test
+    public void testNestedValues() throws IOException {
+        settings.addMap("map", new HashMap(), Setting.LIST);
+        settings.mapPut("map", "key", new TreeSet<>(Arrays.asList("x", "y")));
+        settings.saveSettingsToJson(false);
+        // Nested collections are copied as well
+        assertTrue(read("main.json").contains("\"map\":{\"key\":[\"x\",\"y\"]}"));
+    }
+
+    private String read(String file) throws IOException {
+        return new String(Files.readAllBytes(dir.resolve(file)), StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,56 @@
+
+package chatty.util.seventv;
+
+import chatty.util.api.Emoticon;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author tduva
+ */
+public class SevenTVTest {
+
+    @Test
+    public void testParseEmoteList() throws IOException, URISyntaxException {
+        Path path = Paths.get(getClass().getResource("SevenTV_user").toURI());
+        String json = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+        Set<Emoticon> emotes = SevenTV.parseEmoteList(SevenTV.Type.CHANNEL, "somechannel", new StringReader(json));
+        assertEquals(2, emotes.size());
+        Map<String, Emoticon> byCode = new HashMap<>();
+        for (Emoticon emote : emotes) {
+            byCode.put(emote.code, emote);
+        }
+
+        Emoticon happy = byCode.get("peepoHappy");
+        assertEquals(Emoticon.Type.SEVENTV, happy.type);
+        assertEquals("60ae958e229664e8667aea38", happy.stringId);
+        assertEquals(28, happy.getWidth());
+        assertEquals(28, happy.getHeight());
+        assertFalse(happy.isAnimated());
+        assertFalse(happy.isZeroWidth());
+        assertTrue(happy.getStreamRestrictions().contains("somechannel"));
+        assertTrue(happy.getEmoteUrl(2, null).startsWith("https://cdn.7tv.app/emote/60ae958e229664e8667aea38/2x."));
+
+        Emoticon rain = byCode.get("RainTime");
+        assertEquals(32, rain.getWidth());
+        assertTrue(rain.isAnimated());
+        assertTrue(rain.isZeroWidth());
+
+        // Parsed as global emote set, which has the emotes at the root
+        assertEquals(0, SevenTV.parseEmoteList(SevenTV.Type.GLOBAL, null, new StringReader(json)).size());
+        // Invalid JSON
+        assertEquals(0, SevenTV.parseEmoteList(SevenTV.Type.GLOBAL, null, new StringReader("{\"emotes\":[")).size());
+    }
+
+}